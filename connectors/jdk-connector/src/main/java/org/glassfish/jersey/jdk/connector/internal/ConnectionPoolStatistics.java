@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the statistics of the connection pool of a single destination.
+ *
+ * @since 2.47
+ */
+public final class ConnectionPoolStatistics {
+
+    private final int openConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int pendingRequests;
+    private final long dispatchedRequests;
+    private final long totalWaitTime;
+    private final long maxWaitTime;
+
+    ConnectionPoolStatistics(int openConnections,
+                             int activeConnections,
+                             int idleConnections,
+                             int pendingRequests,
+                             long dispatchedRequests,
+                             long totalWaitTime,
+                             long maxWaitTime) {
+        this.openConnections = openConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.pendingRequests = pendingRequests;
+        this.dispatchedRequests = dispatchedRequests;
+        this.totalWaitTime = totalWaitTime;
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    /**
+     * Get the number of open connections, including the connections being connected.
+     *
+     * @return number of open connections.
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * Get the number of connections executing a request.
+     *
+     * @return number of active connections.
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /**
+     * Get the number of connections waiting for a request.
+     *
+     * @return number of idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Get the number of requests waiting for a connection.
+     *
+     * @return number of pending requests.
+     */
+    public int getPendingRequests() {
+        return pendingRequests;
+    }
+
+    /**
+     * Get the total number of requests that have been handed off to a connection.
+     *
+     * @return number of dispatched requests.
+     */
+    public long getDispatchedRequests() {
+        return dispatchedRequests;
+    }
+
+    /**
+     * Get the average time the dispatched requests have waited for a connection.
+     *
+     * @param unit time unit of the returned value.
+     * @return average wait time.
+     */
+    public long getAverageWaitTime(TimeUnit unit) {
+        return dispatchedRequests == 0 ? 0 : unit.convert(totalWaitTime / dispatchedRequests, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the longest time a dispatched request has waited for a connection.
+     *
+     * @param unit time unit of the returned value.
+     * @return maximal wait time.
+     */
+    public long getMaxWaitTime(TimeUnit unit) {
+        return unit.convert(maxWaitTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{"
+                + "open=" + openConnections
+                + ", active=" + activeConnections
+                + ", idle=" + idleConnections
+                + ", pending=" + pendingRequests
+                + ", dispatched=" + dispatchedRequests
+                + ", averageWaitTime=" + getAverageWaitTime(TimeUnit.MICROSECONDS) + "us"
+                + ", maxWaitTime=" + getMaxWaitTime(TimeUnit.MICROSECONDS) + "us"
+                + '}';
+    }
+}
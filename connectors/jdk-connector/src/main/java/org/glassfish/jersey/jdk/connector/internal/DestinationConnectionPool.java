@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,31 +20,53 @@ import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Pool of connections to a single destination.
+ * <p>
+ * The pool does not use any locks. The number of open connections is accounted by CAS, so that the limit of connections
+ * per destination is never exceeded. The requests are queued in the pending requests queue and a connection that has
+ * become idle is put into the idle connections queue. Both the thread that has queued a request and the thread that has
+ * released a connection then try to hand off an idle connection to a pending request, so that at least one of them sees
+ * both the request and the connection and no request is left waiting for an idle connection.
+ * </p>
+ *
  * @author Petr Janouch
  */
 class DestinationConnectionPool {
 
     private final ConnectorConfiguration configuration;
-    private final Queue<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    // LIFO, the most recently used connections are reused first and the others can time out
+    private final Deque<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
     private final Set<HttpConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
+    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedQueue<>();
     private final Map<HttpConnection, RequestRecord> requestsInProgress = new ConcurrentHashMap<>();
     private final CookieManager cookieManager;
     private final ScheduledExecutorService scheduler;
     private final ConnectionStateListener connectionStateListener;
 
-    private volatile ConnectionCloseListener connectionCloseListener;
+    private final AtomicInteger connectionCounter = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
-    private int connectionCounter = 0;
-    private boolean closed = false;
+    // statistics
+    private final LongAdder pendingCounter = new LongAdder();
+    private final LongAdder dispatchedCounter = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Math::max, 0);
+
+    private volatile ConnectionCloseListener connectionCloseListener;
 
     DestinationConnectionPool(ConnectorConfiguration configuration,
                               CookieManager cookieManager,
@@ -60,95 +82,100 @@ class DestinationConnectionPool {
     }
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
+        pendingCounter.increment();
         pendingRequests.add(new RequestRecord(httpRequest, completionHandler));
-        processPendingRequests();
-    }
-
-    private void processPendingRequests(HttpConnection connection) {
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-        /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-           while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.poll();
-            if (pendingHead == null) {
-
-                idleConnections.add(connection);
-
-                // no pending requests
-                return;
-            }
-
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+        if (!dispatch()) {
+            openConnection(httpRequest.getUri());
         }
+    }
 
-        // if there was a connection available just use it
-        requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-        connection.send(httpRequest);
+    private void release(HttpConnection connection) {
+        idleConnections.addFirst(connection);
+        dispatch();
     }
 
-    private void processPendingRequests() {
-        HttpConnection connection;
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-            /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-            while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.peek();
-            if (pendingHead == null) {
-                // no pending requests
-                return;
+    /**
+     * Hand off the idle connections to the pending requests.
+     *
+     * @return {@code false} if there is a pending request left and no idle connection to execute it.
+     */
+    private boolean dispatch() {
+        while (!pendingRequests.isEmpty()) {
+            final HttpConnection connection = idleConnections.pollFirst();
+            if (connection == null) {
+                return false;
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
-
-            connection = idleConnections.poll();
-            if (connection != null) {
-                pendingRequests.poll();
+            final RequestRecord request = pendingRequests.poll();
+            if (request == null) {
+                // another thread has taken the request, return the connection and check the pending requests again
+                idleConnections.addFirst(connection);
+                continue;
             }
-        }
 
-        if (connection != null) {
-            // if there was a connection available just use it
-            requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-            connection.send(httpRequest);
-            return;
+            execute(connection, request);
         }
+        return true;
+    }
 
-        // if there was not a connection available keep this requests in pending list and try to create a connection
-        synchronized (this) {
-            // synchronized because other thread might open/close connections, so we have to make sure we get the limits right.
+    private void execute(HttpConnection connection, RequestRecord request) {
+        pendingCounter.decrement();
+        final long waitTime = System.nanoTime() - request.created;
+        dispatchedCounter.increment();
+        totalWaitTime.add(waitTime);
+        maxWaitTime.accumulate(waitTime);
 
-            if (configuration.getMaxConnectionsPerDestination() == connectionCounter) {
+        requestsInProgress.put(connection, request);
+        connection.send(request.request);
+    }
+
+    private void openConnection(URI uri) {
+        final int maxConnections = configuration.getMaxConnectionsPerDestination();
+        int count;
+        do {
+            count = connectionCounter.get();
+            if (count >= maxConnections || closed.get()) {
                 // we are at the limit for this destination, just wait for a connection to become idle or close
                 return;
             }
+        } while (!connectionCounter.compareAndSet(count, count + 1));
 
-            // create a connection
-            connection = new HttpConnection(httpRequest.getUri(), cookieManager, configuration, scheduler,
-                    connectionStateListener);
-            connections.add(connection);
-            connectionCounter++;
+        final HttpConnection connection = new HttpConnection(uri, cookieManager, configuration, scheduler,
+                connectionStateListener);
+        connections.add(connection);
+        if (closed.get()) {
+            // the pool has been closed concurrently, it might not have seen the new connection
+            connections.remove(connection);
+            connectionCounter.decrementAndGet();
+            return;
         }
 
-        // we don't want to connect inside the synchronized block
         connection.connect();
     }
 
-    synchronized void close() {
-        if (closed) {
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
             return;
         }
 
-        closed = true;
-
         connections.forEach(HttpConnection::close);
     }
 
+    /**
+     * Get the statistics of this pool.
+     *
+     * @return pool statistics snapshot.
+     */
+    ConnectionPoolStatistics getStatistics() {
+        return new ConnectionPoolStatistics(connectionCounter.get(),
+                requestsInProgress.size(),
+                idleConnections.size(),
+                (int) pendingCounter.sum(),
+                dispatchedCounter.sum(),
+                totalWaitTime.sum(),
+                maxWaitTime.get());
+    }
+
     private RequestRecord getRequest(HttpConnection connection) {
         RequestRecord requestRecord = requestsInProgress.get(connection);
         if (requestRecord == null) {
@@ -158,8 +185,13 @@ class DestinationConnectionPool {
         return requestRecord;
     }
 
+    /**
+     * Remove the record of the request completed or failed on the connection. The record is not kept until the connection
+     * sends the next request, as the records in progress are counted as the active connections, and the records of the
+     * closed connections would never be removed.
+     */
     private RequestRecord removeRequest(HttpConnection connection) {
-        RequestRecord requestRecord = requestsInProgress.get(connection);
+        RequestRecord requestRecord = requestsInProgress.remove(connection);
         if (requestRecord == null) {
             throw new IllegalStateException("Request not found");
         }
@@ -168,26 +200,27 @@ class DestinationConnectionPool {
     }
 
     private void cleanClosedConnection(HttpConnection connection) {
-        if (closed) {
+        if (closed.get()) {
             return;
         }
 
-        RequestRecord pendingRequest;
-        synchronized (this) {
-            idleConnections.remove(connection);
-            connections.remove(connection);
-            connectionCounter--;
+        idleConnections.remove(connection);
+        if (!connections.remove(connection)) {
+            return;
+        }
+        final int count = connectionCounter.decrementAndGet();
 
-            pendingRequest = pendingRequests.peek();
-            if (pendingRequest == null) {
-                if (connectionCounter == 0) {
-                    connectionCloseListener.onLastConnectionClosed();
-                }
-                return;
+        final RequestRecord pendingRequest = pendingRequests.peek();
+        if (pendingRequest == null) {
+            if (count == 0) {
+                connectionCloseListener.onLastConnectionClosed();
             }
+            return;
         }
 
-        processPendingRequests();
+        if (!dispatch()) {
+            openConnection(pendingRequest.request.getUri());
+        }
     }
 
     private void handleIllegalStateTransition(HttpConnection.State oldState, HttpConnection.State newState) {
@@ -197,6 +230,7 @@ class DestinationConnectionPool {
     private void removeAllPendingWithError(Throwable t) {
         RequestRecord requestRecord = null;
         while ((requestRecord = pendingRequests.poll()) != null) {
+            pendingCounter.decrement();
             requestRecord.completionHandler.failed(t);
         }
     }
@@ -211,7 +245,7 @@ class DestinationConnectionPool {
                     switch (oldState) {
                         case RECEIVED:
                         case CONNECTING: {
-                            processPendingRequests(connection);
+                            release(connection);
                             return;
                         }
 
@@ -399,6 +433,7 @@ class DestinationConnectionPool {
 
         private final HttpRequest request;
         private final CompletionHandler<HttpResponse> completionHandler;
+        private final long created = System.nanoTime();
         private HttpResponse response;
 
         RequestRecord(HttpRequest request, CompletionHandler<HttpResponse> completionHandler) {
@@ -440,6 +475,11 @@ class DestinationConnectionPool {
             result = 31 * result + (secure ? 1 : 0);
             return result;
         }
+
+        @Override
+        public String toString() {
+            return (secure ? Constants.HTTPS : "http") + "://" + host + ":" + port;
+        }
     }
 
     interface ConnectionCloseListener {
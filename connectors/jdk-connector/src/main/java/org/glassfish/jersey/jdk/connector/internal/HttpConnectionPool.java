@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -85,6 +85,12 @@ class HttpConnectionPool {
         destinationConnectionPool.send(httpRequest, completionHandler);
     }
 
+    Map<String, ConnectionPoolStatistics> getStatistics() {
+        final Map<String, ConnectionPoolStatistics> statistics = new HashMap<>();
+        destinationPools.forEach((destination, pool) -> statistics.put(destination.toString(), pool.getStatistics()));
+        return statistics;
+    }
+
     synchronized void close() {
         destinationPools.values().forEach(DestinationConnectionPool::close);
     }
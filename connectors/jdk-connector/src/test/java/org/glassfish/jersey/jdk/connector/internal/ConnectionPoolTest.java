@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -66,6 +66,32 @@ public class ConnectionPoolTest extends JerseyTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void testStatistics() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            sendMessageToJersey("message " + i, latch);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        JdkConnector connector = (JdkConnector) ((ClientConfig) client().getConfiguration()).getConnector();
+        ConnectionPoolStatistics statistics = connector.getConnectionPoolStatistics()
+                .get("http://localhost:" + getBaseUri().getPort());
+        assertEquals(1, statistics.getOpenConnections());
+        assertEquals(0, statistics.getPendingRequests());
+        assertEquals(10, statistics.getDispatchedRequests());
+        assertTrue(statistics.getMaxWaitTime(TimeUnit.NANOSECONDS) >= statistics.getAverageWaitTime(TimeUnit.NANOSECONDS));
+
+        // the request is removed from the connection once the response is received, which can follow the callback
+        long deadline = System.currentTimeMillis() + 5000;
+        while (statistics.getActiveConnections() != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            statistics = connector.getConnectionPoolStatistics().get("http://localhost:" + getBaseUri().getPort());
+        }
+        assertEquals(0, statistics.getActiveConnections());
+        assertEquals(1, statistics.getIdleConnections());
+    }
+
     private void sendMessageToJersey(String message, final CountDownLatch latch) {
         target("echo").request().async().post(Entity.entity(message, MediaType.TEXT_PLAIN), new InvocationCallback<String>() {
             @Override
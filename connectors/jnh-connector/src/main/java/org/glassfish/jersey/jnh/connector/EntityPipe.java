@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Bounded pipe passing the request entity from the thread writing the entity to the HTTP client reading it.
+ * <p>
+ * The written bytes are collected into chunks. The writer is blocked when the chunks waiting to be read exceed
+ * the pipe capacity, the reader is blocked until a chunk is available. The pipe can be read only once, a request
+ * re-sent by the HTTP client (e.g. on redirect) cannot replay the entity.
+ * </p>
+ */
+final class EntityPipe {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+    private final int maxChunks;
+
+    private boolean writeClosed;
+    private boolean readOpened;
+    private IOException failure;
+
+    private final PipeOutputStream outputStream = new PipeOutputStream();
+
+    /**
+     * Create a new pipe.
+     *
+     * @param capacity approximate number of bytes buffered by the pipe.
+     */
+    EntityPipe(int capacity) {
+        this.maxChunks = Math.max(1, capacity / CHUNK_SIZE);
+    }
+
+    /**
+     * Get the stream the entity is written to.
+     *
+     * @return pipe output stream.
+     */
+    OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Get the stream the entity is read from. Each invocation returns a new stream, but only the first one reads the entity,
+     * any other fails.
+     *
+     * @return pipe input stream.
+     */
+    synchronized InputStream getInputStream() {
+        if (readOpened) {
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException(LocalizationMessages.ENTITY_STREAM_CLOSED());
+                }
+            };
+        }
+        readOpened = true;
+        return new PipeInputStream();
+    }
+
+    /**
+     * Fail the pipe. The blocked writer or reader, if any, is released and any subsequent operation fails.
+     *
+     * @param cause failure cause.
+     */
+    synchronized void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        chunks.clear();
+        notifyAll();
+    }
+
+    private synchronized void put(byte[] chunk) throws IOException {
+        while (failure == null && chunks.size() >= maxChunks) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+        if (failure != null) {
+            throw new IOException(LocalizationMessages.ENTITY_STREAM_CANCELLED(), failure);
+        }
+        chunks.add(chunk);
+        notifyAll();
+    }
+
+    private synchronized void closeWrite() {
+        writeClosed = true;
+        notifyAll();
+    }
+
+    // returns null at the end of the entity
+    private synchronized byte[] take() throws IOException {
+        while (failure == null && chunks.isEmpty() && !writeClosed) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        final byte[] chunk = chunks.poll();
+        notifyAll();
+        return chunk;
+    }
+
+    private class PipeOutputStream extends OutputStream {
+
+        private byte[] buffer;
+        private int count;
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (buffer == null) {
+                buffer = new byte[CHUNK_SIZE];
+            }
+            buffer[count++] = (byte) b;
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                if (buffer == null) {
+                    buffer = new byte[CHUNK_SIZE];
+                }
+                final int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+                if (count == buffer.length) {
+                    flushBuffer();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            flushBuffer();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                flushBuffer();
+                closeWrite();
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (count > 0) {
+                final byte[] chunk = count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+                if (chunk == buffer) {
+                    buffer = null;
+                }
+                count = 0;
+                put(chunk);
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException(LocalizationMessages.ENTITY_STREAM_CLOSED());
+            }
+        }
+    }
+
+    private class PipeInputStream extends InputStream {
+
+        private byte[] chunk;
+        private int position;
+        private boolean end;
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureChunk()) {
+                return -1;
+            }
+            final int n = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private boolean ensureChunk() throws IOException {
+            if (end) {
+                return false;
+            }
+            if (chunk == null || position == chunk.length) {
+                chunk = take();
+                position = 0;
+                if (chunk == null) {
+                    end = true;
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration options specific to the Client API that utilizes {@link JavaNetHttpConnectorProvider}.
+ *
+ * @since 2.47
+ */
+@PropertiesClass
+public final class JavaNetHttpClientProperties {
+
+    /**
+     * <p>
+     *     The preferred HTTP version, either a {@code java.net.http.HttpClient.Version} instance or its name
+     *     ({@code HTTP_2} or {@code HTTP_1_1}). When {@code HTTP_2} is preferred, the HTTP/1.1 is used for the servers
+     *     not supporting HTTP/2. The {@code https} requests negotiate HTTP/2 during the TLS handshake, the {@code http}
+     *     requests ask the server for the upgrade to HTTP/2 (h2c).
+     * </p>
+     * <p>
+     *     When not set, the {@code https} requests prefer {@code HTTP_2} and the {@code http} requests use {@code HTTP_1_1},
+     *     as not every HTTP/1.1 server reads the entity of a request asking for the h2c upgrade.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String HTTP_VERSION = "jersey.config.client.jnh.httpVersion";
+
+    /**
+     * <p>
+     *     The number of bytes of the request entity buffered between the thread writing the entity and the HTTP client
+     *     sending it. The thread writing the entity is blocked when the buffer is full.
+     * </p>
+     * <p>
+     *     The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_ENTITY_BUFFER_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String ENTITY_BUFFER_SIZE = "jersey.config.client.jnh.entityBufferSize";
+
+    /**
+     * The default value of {@link #ENTITY_BUFFER_SIZE}.
+     */
+    public static final Integer DEFAULT_ENTITY_BUFFER_SIZE = 65536;
+
+    private JavaNetHttpClientProperties() {
+        throw new AssertionError("No instances allowed.");
+    }
+}
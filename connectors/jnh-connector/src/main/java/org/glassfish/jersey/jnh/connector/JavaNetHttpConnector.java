@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.innate.ClientProxy;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.innate.VirtualThreadUtil;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * Connector based on the JDK {@link HttpClient}.
+ */
+class JavaNetHttpConnector implements Connector {
+
+    // headers the HttpClient does not allow to be set
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.add("Connection");
+        RESTRICTED_HEADERS.add("Content-Length");
+        RESTRICTED_HEADERS.add("Expect");
+        RESTRICTED_HEADERS.add("Host");
+        RESTRICTED_HEADERS.add("Upgrade");
+    }
+
+    private final HttpClient httpClient;
+    private final ExecutorService executorService;
+    private final ExecutorService entityWriterService;
+    private final int entityBufferSize;
+    private final boolean httpVersionConfigured;
+
+    JavaNetHttpConnector(Client client, Configuration config) {
+        final Map<String, Object> properties = config.getProperties();
+
+        final Integer threadPoolSize = ClientProperties.getValue(properties, ClientProperties.ASYNC_THREADPOOL_SIZE, 0);
+        executorService = threadPoolSize > 0
+                ? VirtualThreadUtil.withConfig(config).newFixedThreadPool(threadPoolSize)
+                : VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+        // the entity writers block until the HttpClient consumes the pipe, they must not take the HttpClient threads
+        entityWriterService = VirtualThreadUtil.withConfig(config).newCachedThreadPool();
+
+        entityBufferSize = ClientProperties.getValue(properties, JavaNetHttpClientProperties.ENTITY_BUFFER_SIZE,
+                JavaNetHttpClientProperties.DEFAULT_ENTITY_BUFFER_SIZE);
+
+        final Object version = properties.get(JavaNetHttpClientProperties.HTTP_VERSION);
+        httpVersionConfigured = version != null;
+
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .executor(executorService)
+                .version(httpVersion(version))
+                .followRedirects(ClientProperties.getValue(properties, ClientProperties.FOLLOW_REDIRECTS, true)
+                        ? HttpClient.Redirect.NORMAL
+                        : HttpClient.Redirect.NEVER)
+                .sslContext(client.getSslContext());
+
+        final Integer connectTimeout = ClientProperties.getValue(properties, ClientProperties.CONNECT_TIMEOUT, 0);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+
+        final Optional<ClientProxy> proxy = ClientProxy.proxyFromConfiguration(config);
+        proxy.ifPresent(clientProxy -> {
+            builder.proxy(ProxySelector.of((InetSocketAddress) clientProxy.proxy().address()));
+            if (clientProxy.userName() != null) {
+                final PasswordAuthentication authentication = new PasswordAuthentication(clientProxy.userName(),
+                        clientProxy.password() == null ? new char[0] : clientProxy.password().toCharArray());
+                builder.authenticator(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        return getRequestorType() == RequestorType.PROXY ? authentication : null;
+                    }
+                });
+            }
+        });
+
+        httpClient = builder.build();
+    }
+
+    private static HttpClient.Version httpVersion(Object version) {
+        if (version == null) {
+            return HttpClient.Version.HTTP_2;
+        } else if (version instanceof HttpClient.Version) {
+            return (HttpClient.Version) version;
+        }
+        try {
+            return HttpClient.Version.valueOf(version.toString().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ProcessingException(LocalizationMessages.WRONG_HTTP_VERSION(version), e);
+        }
+    }
+
+    @Override
+    public ClientResponse apply(ClientRequest request) {
+        try {
+            return send(request).get();
+        } catch (ExecutionException e) {
+            throw processingException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        }
+    }
+
+    @Override
+    public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
+        final CompletableFuture<ClientResponse> response;
+        try {
+            response = send(request);
+        } catch (ProcessingException e) {
+            callback.failure(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((clientResponse, th) -> {
+            if (th == null) {
+                callback.response(clientResponse);
+            } else {
+                callback.failure(processingException(th));
+            }
+        });
+    }
+
+    private CompletableFuture<ClientResponse> send(ClientRequest request) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri());
+
+        final Integer readTimeout = request.resolveProperty(ClientProperties.READ_TIMEOUT, 0);
+        if (readTimeout == null || readTimeout < 0) {
+            throw new ProcessingException(LocalizationMessages.WRONG_READ_TIMEOUT(readTimeout));
+        } else if (readTimeout > 0) {
+            builder.timeout(Duration.ofMillis(readTimeout));
+        }
+
+        final Object version = request.resolveProperty(JavaNetHttpClientProperties.HTTP_VERSION, Object.class);
+        if (version != null) {
+            builder.version(httpVersion(version));
+        } else if (!httpVersionConfigured && "http".equalsIgnoreCase(request.getUri().getScheme())) {
+            // not h2c upgrade unless asked for, HTTP/1.1 servers may not read the entity of a request asking for the upgrade
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+
+        if (!request.hasEntity()) {
+            setHeaders(request, builder);
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+            return sendAsync(request, builder.build());
+        }
+
+        final RequestEntityProcessing entityProcessing = request.resolveProperty(
+                ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.class);
+
+        if (entityProcessing == RequestEntityProcessing.BUFFERED) {
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+            request.setStreamProvider(contentLength -> entity);
+            try {
+                request.writeEntity();
+            } catch (IOException e) {
+                throw new ProcessingException(e.getMessage(), e);
+            }
+            setHeaders(request, builder);
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.ofByteArray(entity.toByteArray()));
+            return sendAsync(request, builder.build());
+        } else if (entityProcessing == null) {
+            // the Content-Length is known for the entities fitting into the buffer
+            request.enableBuffering();
+        }
+
+        // the headers are known once the entity writing is committed, i.e. after the writer interceptors were applied
+        final EntityPipe pipe = new EntityPipe(entityBufferSize);
+        final CompletableFuture<Integer> committed = new CompletableFuture<>();
+        request.setStreamProvider(contentLength -> {
+            committed.complete(contentLength);
+            return pipe.getOutputStream();
+        });
+
+        entityWriterService.execute(() -> {
+            try {
+                request.writeEntity();
+            } catch (IOException | RuntimeException e) {
+                pipe.fail(e);
+                committed.completeExceptionally(e);
+            }
+        });
+
+        final CompletableFuture<ClientResponse> response = committed.thenCompose(contentLength -> {
+            setHeaders(request, builder);
+
+            final long length = request.getLengthLong() >= 0 ? request.getLengthLong() : contentLength;
+            final HttpRequest.BodyPublisher entity = HttpRequest.BodyPublishers.ofInputStream(pipe::getInputStream);
+            builder.method(request.getMethod(), length == 0
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : length > 0 ? HttpRequest.BodyPublishers.fromPublisher(entity, length) : entity);
+
+            return sendAsync(request, builder.build());
+        });
+        // release the entity writer if the request fails before the entity is sent
+        response.whenComplete((clientResponse, th) -> {
+            if (th != null) {
+                pipe.fail(th);
+            }
+        });
+        return response;
+    }
+
+    private CompletableFuture<ClientResponse> sendAsync(ClientRequest request, HttpRequest httpRequest) {
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(httpResponse -> toClientResponse(request, httpResponse));
+    }
+
+    private static ClientResponse toClientResponse(ClientRequest request, HttpResponse<InputStream> httpResponse) {
+        final ClientResponse response = new ClientResponse(Statuses.from(httpResponse.statusCode()), request, httpResponse.uri());
+        for (final Map.Entry<String, List<String>> header : httpResponse.headers().map().entrySet()) {
+            // HTTP/2 pseudo headers
+            if (!header.getKey().startsWith(":")) {
+                response.getHeaders().addAll(header.getKey(), header.getValue());
+            }
+        }
+        response.setEntityStream(httpResponse.body());
+        return response;
+    }
+
+    private static void setHeaders(ClientRequest request, HttpRequest.Builder builder) {
+        for (final Map.Entry<String, List<String>> header : request.getStringHeaders().entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+                for (final String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+        }
+    }
+
+    private static ProcessingException processingException(Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof ProcessingException
+                ? (ProcessingException) cause
+                : new ProcessingException(cause.getMessage(), cause);
+    }
+
+    @Override
+    public String getName() {
+        return "Java HttpClient " + Runtime.version().feature();
+    }
+
+    @Override
+    public void close() {
+        entityWriterService.shutdown();
+        executorService.shutdown();
+    }
+}
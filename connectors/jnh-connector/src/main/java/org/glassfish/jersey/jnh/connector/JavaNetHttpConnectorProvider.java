@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+/**
+ * Provider for a {@link Connector} that utilizes the JDK {@code java.net.http.HttpClient} to send and receive
+ * HTTP requests and responses. The connector requires JDK 11 or newer.
+ * <p>
+ * The requests are sent asynchronously using {@code HttpClient.sendAsync}. The request entity is streamed to the HTTP client
+ * while it is being written by a {@link javax.ws.rs.ext.MessageBodyWriter} in a separate thread and the response entity is
+ * streamed to the application as the data arrive. The HTTP client negotiates HTTP/2 when supported by the server,
+ * see {@link JavaNetHttpClientProperties#HTTP_VERSION}, and multiplexes concurrent requests over the HTTP/2 connections.
+ * </p>
+ * <p>
+ * The following properties are only supported at construction of this class:
+ * </p>
+ * <ul>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#CONNECT_TIMEOUT}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#FOLLOW_REDIRECTS}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_URI}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_USERNAME}</li>
+ * <li>{@link org.glassfish.jersey.client.ClientProperties#PROXY_PASSWORD}</li>
+ * <li>{@link org.glassfish.jersey.CommonProperties#USE_VIRTUAL_THREADS}</li>
+ * <li>{@link JavaNetHttpClientProperties#HTTP_VERSION}</li>
+ * </ul>
+ * <p>
+ * The {@link org.glassfish.jersey.client.ClientProperties#READ_TIMEOUT} and {@link JavaNetHttpClientProperties#HTTP_VERSION}
+ * can be set per request. The read timeout limits the time until the response headers are received.
+ * </p>
+ * <p>
+ * The request entity smaller than {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER} is sent with
+ * the {@code Content-Length} header, larger entities are streamed. The entity is always streamed when
+ * {@link org.glassfish.jersey.client.ClientProperties#REQUEST_ENTITY_PROCESSING} is {@code CHUNKED} and it is buffered
+ * entirely when the property is {@code BUFFERED}.
+ * </p>
+ * <p>
+ * If a {@link org.glassfish.jersey.client.ClientResponse} is obtained and an entity is not read from the response then
+ * {@link org.glassfish.jersey.client.ClientResponse#close()} MUST be called after processing the response to release
+ * connection-based resources.
+ * </p>
+ * <p>
+ * The HTTP client does not allow to set the {@code Connection}, {@code Content-Length}, {@code Expect}, {@code Host} and
+ * {@code Upgrade} headers, such headers set on the request are ignored.
+ * </p>
+ *
+ * @since 2.47
+ */
+public class JavaNetHttpConnectorProvider implements ConnectorProvider {
+
+    @Override
+    public Connector getConnector(Client client, Configuration runtimeConfig) {
+        return new JavaNetHttpConnector(client, runtimeConfig);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Basic tests of the {@link JavaNetHttpConnectorProvider java.net.http connector}.
+ */
+public class JavaNetHttpConnectorTest extends JerseyTest {
+
+    private static final int LARGE_ENTITY_SIZE = 1024 * 1024;
+
+    @Path("test")
+    public static class TestResource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+
+        @POST
+        public String post(String entity) {
+            return "post:" + entity;
+        }
+
+        @GET
+        @Path("header")
+        public String header(@HeaderParam("X-Test") String header) {
+            return header;
+        }
+
+        @POST
+        @Path("length")
+        public String length(InputStream entity, @HeaderParam("Content-Length") String contentLength) throws IOException {
+            long length = 0;
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                length += read;
+            }
+            return length + ":" + contentLength;
+        }
+
+        @GET
+        @Path("large")
+        public byte[] large() {
+            final byte[] entity = new byte[LARGE_ENTITY_SIZE];
+            Arrays.fill(entity, (byte) 'a');
+            return entity;
+        }
+
+        @GET
+        @Path("missing")
+        public Response missing() {
+            return Response.status(404).header("X-Missing", "true").build();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TestResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.connectorProvider(new JavaNetHttpConnectorProvider());
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals("get", target("test").request().get(String.class));
+    }
+
+    @Test
+    public void testPost() {
+        assertEquals("post:entity", target("test").request().post(Entity.text("entity"), String.class));
+    }
+
+    @Test
+    public void testHeader() {
+        assertEquals("value", target("test/header").request().header("X-Test", "value").get(String.class));
+    }
+
+    @Test
+    public void testStatusAndResponseHeaders() {
+        try (Response response = target("test/missing").request().get()) {
+            assertEquals(404, response.getStatus());
+            assertEquals("true", response.getHeaderString("X-Missing"));
+        }
+    }
+
+    @Test
+    public void testBufferedEntityContentLength() {
+        final String result = target("test/length").request()
+                .post(Entity.entity(new byte[1000], MediaType.APPLICATION_OCTET_STREAM), String.class);
+        assertEquals("1000:1000", result);
+    }
+
+    @Test
+    public void testFullyBufferedEntity() {
+        final String result = target("test/length")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED)
+                .request()
+                .post(Entity.entity(new byte[100_000], MediaType.APPLICATION_OCTET_STREAM), String.class);
+        assertEquals("100000:100000", result);
+    }
+
+    @Test
+    public void testStreamedEntity() {
+        final StreamingOutput entity = output -> {
+            final byte[] chunk = new byte[1000];
+            for (int i = 0; i < LARGE_ENTITY_SIZE / chunk.length; i++) {
+                output.write(chunk);
+            }
+        };
+        final String result = target("test/length")
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                .request()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM), String.class);
+        assertEquals((LARGE_ENTITY_SIZE / 1000 * 1000) + ":null", result);
+    }
+
+    @Test
+    public void testEntityWriterFailure() {
+        final StreamingOutput entity = output -> {
+            output.write(new byte[100_000]);
+            throw new IOException("failure");
+        };
+        assertThrows(ProcessingException.class, () -> target("test/length").request()
+                .post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM)));
+    }
+
+    @Test
+    public void testLargeResponse() throws IOException {
+        try (Response response = target("test/large").request().get()) {
+            final InputStream entity = response.readEntity(InputStream.class);
+            final byte[] buffer = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                length += read;
+            }
+            assertEquals(LARGE_ENTITY_SIZE, length);
+        }
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        final Future<String> get = target("test").request().async().get(String.class);
+        final Future<String> post = target("test").request().async().post(Entity.text("async"), String.class);
+        assertEquals("get", get.get(10, TimeUnit.SECONDS));
+        assertEquals("post:async", post.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHttp2UpgradeWithoutEntity() {
+        final String result = target("test")
+                .property(JavaNetHttpClientProperties.HTTP_VERSION, "HTTP_2")
+                .request()
+                .get(String.class);
+        assertEquals("get", result);
+    }
+}
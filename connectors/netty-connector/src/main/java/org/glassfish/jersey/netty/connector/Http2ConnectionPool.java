@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+
+/**
+ * Pool of HTTP/2 connections. The requests are sent as streams multiplexed over the pooled connections.
+ * <p>
+ * A new connection to a destination is opened only when all the pooled connections to the destination have reached
+ * the maximal number of the concurrent streams. The limit is the lower of the configured value and the
+ * {@code SETTINGS_MAX_CONCURRENT_STREAMS} announced by the server. A connection is removed from the pool when closed or
+ * when the server sends {@code GOAWAY}.
+ * </p>
+ * <p>
+ * A destination that negotiated HTTP/1.1 instead of HTTP/2 during the TLS handshake is remembered, and the requests
+ * to such destination are not attempted over HTTP/2 any more.
+ * </p>
+ */
+final class Http2ConnectionPool {
+
+    // active stream count of a connection closed for being idle
+    private static final int CLOSED = -1;
+
+    private final ConcurrentMap<String, CopyOnWriteArrayList<Connection>> connections = new ConcurrentHashMap<>();
+    private final Set<String> http1Destinations = ConcurrentHashMap.newKeySet();
+
+    private final int maxConcurrentStreams;
+    private final ChannelHandler streamHandler;
+
+    /**
+     * Create a new pool.
+     *
+     * @param maxConcurrentStreams configured maximal number of concurrent streams per connection.
+     * @param streamHandler        handler initializing the pipeline of the opened streams.
+     */
+    Http2ConnectionPool(int maxConcurrentStreams, ChannelHandler streamHandler) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.streamHandler = streamHandler;
+    }
+
+    /**
+     * Check whether the destination negotiated HTTP/1.1 before.
+     *
+     * @param key destination key.
+     * @return {@code true} when the requests to the destination should use HTTP/1.1.
+     */
+    boolean isHttp1(String key) {
+        return http1Destinations.contains(key);
+    }
+
+    /**
+     * Open a new stream to the destination. The stream is opened on a pooled connection with a free stream slot,
+     * or on a new connection created by the given {@code connector}.
+     *
+     * @param key       destination key.
+     * @param connector creates a new connection. The connector is expected to call
+     *                  {@link Connection#negotiated(Channel, boolean)} once the protocol is known.
+     * @return new stream channel with auto read disabled, or {@code null} when the destination negotiated HTTP/1.1.
+     * @throws InterruptedException when interrupted while waiting for the connection.
+     * @throws ExecutionException   when the connection could not be established or the stream could not be opened.
+     */
+    Channel openStream(String key, Function<Connection, ChannelFuture> connector)
+            throws InterruptedException, ExecutionException {
+        final Connection connection = reserve(key, connector);
+
+        boolean opened = false;
+        try {
+            if (!connection.http2.get()) {
+                return null;
+            }
+
+            final Http2StreamChannel stream = new Http2StreamChannelBootstrap(connection.channel)
+                    .option(ChannelOption.AUTO_READ, false)
+                    .handler(streamHandler)
+                    .open()
+                    .sync()
+                    .getNow();
+            stream.closeFuture().addListener(f -> connection.release());
+            opened = true;
+            return stream;
+        } finally {
+            if (!opened) {
+                connection.release();
+            }
+        }
+    }
+
+    private Connection reserve(String key, Function<Connection, ChannelFuture> connector) {
+        while (true) {
+            final CopyOnWriteArrayList<Connection> conns =
+                    connections.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+            // the list is changed and removed from the map as empty only while holding its lock
+            synchronized (conns) {
+                if (connections.get(key) != conns) {
+                    // the list has been removed in the meantime
+                    continue;
+                }
+                for (Connection connection : conns) {
+                    if (connection.tryReserve()) {
+                        return connection;
+                    }
+                }
+
+                final Connection connection = new Connection(key);
+                connection.tryReserve();
+                conns.add(connection);
+
+                final ChannelFuture connect;
+                try {
+                    connect = connector.apply(connection);
+                } catch (RuntimeException e) {
+                    connection.failed(e);
+                    throw e;
+                }
+                connect.addListener(f -> {
+                    if (f.isSuccess()) {
+                        connect.channel().closeFuture().addListener(c -> connection.failed(new IOException("Channel closed.")));
+                    } else {
+                        connection.failed(f.cause());
+                    }
+                });
+                return connection;
+            }
+        }
+    }
+
+    private void remove(Connection connection) {
+        final CopyOnWriteArrayList<Connection> conns = connections.get(connection.key);
+        if (conns == null) {
+            return;
+        }
+        synchronized (conns) {
+            if (conns.remove(connection) && conns.isEmpty()) {
+                connections.remove(connection.key, conns);
+            }
+        }
+    }
+
+    /**
+     * A pooled HTTP/2 connection. The connection is also a handler of the connection channel pipeline that is expected
+     * to be placed after the {@link io.netty.handler.codec.http2.Http2MultiplexHandler} and an
+     * {@link io.netty.handler.timeout.IdleStateHandler} closing the connection idle with no active streams.
+     */
+    final class Connection extends ChannelInboundHandlerAdapter {
+
+        private final String key;
+        private final AtomicInteger activeStreams = new AtomicInteger();
+        private final CompletableFuture<Boolean> http2 = new CompletableFuture<>();
+
+        private volatile Channel channel;
+        private volatile boolean draining;
+
+        private Connection(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Notify the connection the protocol is known.
+         *
+         * @param channel connection channel.
+         * @param http2   {@code true} when HTTP/2 was negotiated, {@code false} when the connection uses HTTP/1.1 and
+         *                is not going to be pooled by this pool.
+         */
+        void negotiated(Channel channel, boolean http2) {
+            this.channel = channel;
+            if (!http2) {
+                draining = true;
+                http1Destinations.add(key);
+                remove(this);
+            }
+            this.http2.complete(http2);
+        }
+
+        /**
+         * Notify the connection could not be established or has been closed.
+         *
+         * @param cause failure cause.
+         */
+        void failed(Throwable cause) {
+            draining = true;
+            remove(this);
+            http2.completeExceptionally(cause);
+        }
+
+        private boolean tryReserve() {
+            while (!draining) {
+                final int active = activeStreams.get();
+                if (active == CLOSED || active >= maxStreams()) {
+                    return false;
+                }
+                if (activeStreams.compareAndSet(active, active + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void release() {
+            activeStreams.decrementAndGet();
+        }
+
+        private int maxStreams() {
+            final Channel ch = channel;
+            final Http2FrameCodec codec = ch == null ? null : ch.pipeline().get(Http2FrameCodec.class);
+            return codec == null
+                    ? maxConcurrentStreams
+                    : Math.min(maxConcurrentStreams, codec.connection().local().maxActiveStreams());
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (msg instanceof Http2GoAwayFrame) {
+                // no new streams, the active streams are completed
+                draining = true;
+                remove(this);
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                if (((IdleStateEvent) evt).state() == IdleState.ALL_IDLE && activeStreams.compareAndSet(0, CLOSED)) {
+                    draining = true;
+                    remove(this);
+                    ctx.close();
+                }
+            } else {
+                super.userEventTriggered(ctx, evt);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -64,6 +64,7 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
     private final int maxRedirects;
     private final NettyConnector connector;
     private final NettyHttpRedirectController redirectController;
+    private final int maxQueuedBytes;
 
     private NettyInputStream nis;
     private ClientResponse jerseyResponse;
@@ -72,6 +73,17 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
 
     JerseyClientHandler(ClientRequest request, CompletableFuture<ClientResponse> responseAvailable,
                         CompletableFuture<?> responseDone, Set<URI> redirectUriHistory, NettyConnector connector) {
+        this(request, responseAvailable, responseDone, redirectUriHistory, connector, 0);
+    }
+
+    /**
+     * Create a handler for a channel that does not read automatically. The handler requests reading of the response
+     * from the channel unless the given number of bytes is waiting to be consumed by the response entity stream.
+     */
+    JerseyClientHandler(ClientRequest request, CompletableFuture<ClientResponse> responseAvailable,
+                        CompletableFuture<?> responseDone, Set<URI> redirectUriHistory, NettyConnector connector,
+                        int maxQueuedBytes) {
+        this.maxQueuedBytes = maxQueuedBytes;
         this.redirectUriHistory = redirectUriHistory;
         this.jerseyRequest = request;
         this.responseAvailable = responseAvailable;
@@ -89,6 +101,10 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) {
        notifyResponse();
+
+       if (!ctx.channel().config().isAutoRead() && !responseDone.isDone() && (nis == null || !nis.suspendIfFull())) {
+          ctx.read();
+       }
     }
 
     @Override
@@ -203,7 +219,7 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             }
 
             // request entity handling.
-            nis = new NettyInputStream();
+            nis = newInputStream(ctx);
             responseDone.whenComplete((_r, th) -> nis.complete(th));
 
             jerseyResponse.setEntityStream(nis);
@@ -217,7 +233,7 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             if (content.isReadable()) {
                 content.retain();
                 if (nis == null) {
-                    nis = new NettyInputStream();
+                    nis = newInputStream(ctx);
                 }
                 nis.publish(content);
             }
@@ -229,6 +245,12 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    private NettyInputStream newInputStream(ChannelHandlerContext ctx) {
+        return ctx.channel().config().isAutoRead()
+                ? new NettyInputStream()
+                : new NettyInputStream(ctx::read, maxQueuedBytes);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, final Throwable cause) {
         responseDone.completeExceptionally(cause);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -55,6 +55,72 @@ public class NettyClientProperties {
      */
     public static final String FILTER_HEADERS_FOR_PROXY = "jersey.config.client.filter.headers.proxy";
 
+    /**
+     * <p>
+     *     Use HTTP/2 when {@code true}. The {@code https} requests negotiate HTTP/2 using ALPN and fall back to HTTP/1.1
+     *     when the server does not support HTTP/2. The {@code http} requests use HTTP/2 with prior knowledge (h2c), i.e. the
+     *     server is expected to support HTTP/2 over the cleartext connection.
+     * </p>
+     * <p>
+     *     The requests to the same destination are sent as HTTP/2 streams multiplexed over a shared connection. A new
+     *     connection is opened only when all the connections to the destination have reached
+     *     {@link #HTTP2_MAX_CONCURRENT_STREAMS the maximal number of concurrent streams}.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.47
+     */
+    public static final String HTTP2_ENABLED = "jersey.config.client.netty.http2.enabled";
+
+    /**
+     * <p>
+     *     The maximal number of concurrent HTTP/2 streams per connection. The lower of this value and the
+     *     {@code SETTINGS_MAX_CONCURRENT_STREAMS} value announced by the server is used.
+     * </p>
+     * <p>
+     *     The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.47
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "jersey.config.client.netty.http2.maxConcurrentStreams";
+
+    /**
+     * The default value of {@link #HTTP2_MAX_CONCURRENT_STREAMS}.
+     *
+     * @since 2.47
+     */
+    public static final Integer DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
+    /**
+     * <p>
+     *     The number of bytes of an HTTP/2 response entity buffered by the client before the connector stops reading
+     *     the stream. The reading is resumed as soon as the application consumes the buffered data, the HTTP/2 flow control
+     *     then slows down the server sending a response that is not read by the application.
+     * </p>
+     * <p>
+     *     The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_HTTP2_STREAM_BUFFER_SIZE}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.47
+     */
+    public static final String HTTP2_STREAM_BUFFER_SIZE = "jersey.config.client.netty.http2.streamBufferSize";
+
+    /**
+     * The default value of {@link #HTTP2_STREAM_BUFFER_SIZE}.
+     *
+     * @since 2.47
+     */
+    public static final Integer DEFAULT_HTTP2_STREAM_BUFFER_SIZE = 65536;
+
     /**
      * <p>
      *     The implementation of custom {@link NettyHttpRedirectController} redirect logic.
@@ -121,6 +187,24 @@ public class NettyClientProperties {
      */
     public static final String PRESERVE_METHOD_ON_REDIRECT = "jersey.config.client.redirect.preserve.method";
 
+    /**
+     * <p>
+     *     The Netty transport used by the connector. The supported values are {@code nio}, {@code epoll},
+     *     {@code io_uring} and {@code native}, the latter selecting the best native transport available. The native
+     *     transports require the Linux native libraries of Netty on the class path, the {@code io_uring} transport also
+     *     requires the Netty incubator io_uring transport. When the selected transport is not available, the connector
+     *     falls back to the {@code epoll} or {@code nio} transport.
+     * </p>
+     * <p>
+     *     The default value is {@code nio}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 2.47
+     * @see org.glassfish.jersey.netty.connector.internal.NettyTransport
+     */
+    public static final String TRANSPORT = "jersey.config.client.netty.transport";
 
     /**
      * This timeout is used for waiting for 100-Continue response when 100-Continue is sent by the client.
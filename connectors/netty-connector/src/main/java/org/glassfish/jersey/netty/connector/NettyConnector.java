@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -49,14 +49,14 @@ import javax.ws.rs.core.Configuration;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
@@ -69,9 +69,15 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -95,6 +101,7 @@ import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.netty.connector.internal.NettyEntityWriter;
+import org.glassfish.jersey.netty.connector.internal.NettyTransport;
 
 /**
  * Netty connector implementation.
@@ -105,6 +112,7 @@ class NettyConnector implements Connector {
 
     final ExecutorService executorService;
     final EventLoopGroup group;
+    private final NettyTransport transport;
     final Client client;
     final HashMap<String, ArrayList<Channel>> connections = new HashMap<>();
 
@@ -142,19 +150,48 @@ class NettyConnector implements Connector {
     private static final String READ_TIMEOUT_HANDLER = "read_timeout_handler";
     private static final String REQUEST_HANDLER = "request_handler";
     private static final String EXPECT_100_CONTINUE_HANDLER = "expect_100_continue_handler";
+    private static final String HTTP2_IDLE_CONNECTION_HANDLER = "http2_idle_connection_handler";
+
+    private static final ApplicationProtocolConfig HTTP2_ALPN = new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+
+    // the HTTP/2 streams exchange the same HttpObjects as the HTTP/1.1 connections
+    private static final ChannelHandler HTTP2_STREAM_INITIALIZER = new ChannelInitializer<Channel>() {
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+            ch.pipeline().addLast(new ChunkedWriteHandler());
+            ch.pipeline().addLast(new HttpContentDecompressor());
+        }
+    };
+
+    // server push is disabled, the pushed streams are not expected
+    private static final ChannelHandler HTTP2_PUSH_REJECTING_INITIALIZER = new ChannelInitializer<Channel>() {
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.close();
+        }
+    };
+
+    private final Http2ConnectionPool http2Pool; // null when HTTP/2 is not enabled
+    private final Integer http2StreamBufferSize;
 
     NettyConnector(Client client) {
 
         final Configuration configuration = client.getConfiguration();
         final Map<String, Object> properties = configuration.getProperties();
         final Object threadPoolSize = properties.get(ClientProperties.ASYNC_THREADPOOL_SIZE);
+        this.transport = NettyTransport.select(properties.get(NettyClientProperties.TRANSPORT));
 
         if (threadPoolSize != null && threadPoolSize instanceof Integer && (Integer) threadPoolSize > 0) {
             executorService = VirtualThreadUtil.withConfig(configuration).newFixedThreadPool((Integer) threadPoolSize);
-            this.group = new NioEventLoopGroup((Integer) threadPoolSize);
+            this.group = transport.newEventLoopGroup((Integer) threadPoolSize);
         } else {
             executorService = VirtualThreadUtil.withConfig(configuration).newCachedThreadPool();
-            this.group = new NioEventLoopGroup();
+            this.group = transport.newEventLoopGroup(0);
         }
 
         this.client = client;
@@ -176,6 +213,23 @@ class NettyConnector implements Connector {
         if (maxPoolSize < 0) {
             throw new ProcessingException(LocalizationMessages.WRONG_MAX_POOL_SIZE(maxPoolSize));
         }
+
+        final Integer http2MaxConcurrentStreams = ClientProperties.getValue(properties,
+                NettyClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, NettyClientProperties.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS);
+        http2StreamBufferSize = ClientProperties.getValue(properties,
+                NettyClientProperties.HTTP2_STREAM_BUFFER_SIZE, NettyClientProperties.DEFAULT_HTTP2_STREAM_BUFFER_SIZE);
+
+        if (http2MaxConcurrentStreams <= 0) {
+            throw new ProcessingException(LocalizationMessages.WRONG_HTTP_2_MAX_CONCURRENT_STREAMS(http2MaxConcurrentStreams));
+        }
+
+        if (http2StreamBufferSize <= 0) {
+            throw new ProcessingException(LocalizationMessages.WRONG_HTTP_2_STREAM_BUFFER_SIZE(http2StreamBufferSize));
+        }
+
+        http2Pool = ClientProperties.getValue(properties, NettyClientProperties.HTTP2_ENABLED, false)
+                ? new Http2ConnectionPool(http2MaxConcurrentStreams, HTTP2_STREAM_INITIALIZER)
+                : null;
     }
 
     @Override
@@ -219,7 +273,6 @@ class NettyConnector implements Connector {
         final CompletableFuture<?> responseDone = new CompletableFuture<>();
 
         final URI requestUri = jerseyRequest.getUri();
-        String host = requestUri.getHost();
         int port = requestUri.getPort() != -1 ? requestUri.getPort() : "https".equals(requestUri.getScheme()) ? 443 : 80;
 
         try {
@@ -227,122 +280,55 @@ class NettyConnector implements Connector {
                     .request(jerseyRequest).setSNIAlways(true).setSNIHostName(jerseyRequest).build();
 
             String key = requestUri.getScheme() + "://" + sslConfig.getSNIHostName() + ":" + port;
-            ArrayList<Channel> conns;
-            synchronized (connections) {
-               conns = connections.get(key);
-               if (conns == null) {
-                  conns = new ArrayList<>(0);
-                  connections.put(key, conns);
-               }
-            }
-
             Channel chan = null;
-            synchronized (conns) {
-               while (chan == null && !conns.isEmpty()) {
-                  chan = conns.remove(conns.size() - 1);
-                  try {
-                      chan.pipeline().remove(INACTIVE_POOLED_CONNECTION_HANDLER);
-                      chan.pipeline().remove(PRUNE_INACTIVE_POOL);
-                  } catch (NoSuchElementException e) {
-                      /*
-                       *  Eat it.
-                       *  It could happen that the channel was closed, pipeline cleared and
-                       *  then it will fail to remove the names with this exception.
-                       */
-                  }
-                  if (!chan.isOpen()) {
-                      chan = null;
-                  }
-               }
+            boolean http2Stream = false;
+
+            if (http2Pool != null && !http2Pool.isHttp1(key)) {
+                try {
+                    chan = http2Pool.openStream(key,
+                            connection -> connect(jerseyRequest, sslConfig, key, connection));
+                } catch (Exception e) {
+                    responseAvailable.completeExceptionally(e instanceof ExecutionException ? e.getCause() : e);
+                    return;
+                }
+                // null when the destination negotiated HTTP/1.1
+                http2Stream = chan != null;
             }
 
             if (chan == null) {
-               Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
-               Bootstrap b = new Bootstrap();
-
-               // http proxy
-               Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
-               if (!proxy.isPresent()) {
-                   proxy = ClientProxy.proxyFromProperties(requestUri);
-               }
-               proxy.ifPresent(clientProxy -> {
-                   b.resolver(NoopAddressResolverGroup.INSTANCE); // request hostname resolved by the HTTP proxy
-               });
-
-               final Optional<ClientProxy> handlerProxy = proxy;
-
-               b.group(group)
-                .channel(NioSocketChannel.class)
-                .handler(new ChannelInitializer<SocketChannel>() {
-                    @Override
-                    protected void initChannel(SocketChannel ch) throws Exception {
-                     ChannelPipeline p = ch.pipeline();
-
-                     Configuration config = jerseyRequest.getConfiguration();
-
-                     // http proxy
-                     handlerProxy.ifPresent(clientProxy -> {
-                         final URI u = clientProxy.uri();
-                         InetSocketAddress proxyAddr = new InetSocketAddress(u.getHost(),
-                                 u.getPort() == -1 ? 8080 : u.getPort());
-                         ProxyHandler proxy1 = createProxyHandler(jerseyRequest, proxyAddr,
-                                 clientProxy.userName(), clientProxy.password(), connectTimeout);
-                         p.addLast(proxy1);
-                     });
-
-                     // Enable HTTPS if necessary.
-                     if ("https".equals(requestUri.getScheme())) {
-                         // making client authentication optional for now; it could be extracted to configurable property
-                         JdkSslContext jdkSslContext = new JdkSslContext(
-                                 getSslContext(client, jerseyRequest),
-                                 true,
-                                 (Iterable) null,
-                                 IdentityCipherSuiteFilter.INSTANCE,
-                                 (ApplicationProtocolConfig) null,
-                                 ClientAuth.NONE,
-                                 (String[]) null, /* enable default protocols */
-                                 false /* true if the first write request shouldn't be encrypted */
-                         );
-
-                         final int port = requestUri.getPort();
-
-                         final SslHandler sslHandler = jdkSslContext.newHandler(
-                                 ch.alloc(), sslConfig.getSNIHostName(), port <= 0 ? 443 : port, executorService
-                         );
-                         if (ClientProperties.getValue(config.getProperties(),
-                                                       NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
-                             sslConfig.setEndpointIdentificationAlgorithm(sslHandler.engine());
-                         }
-
-                         sslConfig.setSNIServerName(sslHandler.engine());
-
-                         p.addLast(sslHandler);
-                     }
-
-                     final Integer maxHeaderSize = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_HEADER_SIZE,
-                                NettyClientProperties.DEFAULT_HEADER_SIZE);
-                     final Integer maxChunkSize = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_CHUNK_SIZE,
-                                NettyClientProperties.DEFAULT_CHUNK_SIZE);
-                     final Integer maxInitialLineLength = ClientProperties.getValue(config.getProperties(),
-                                NettyClientProperties.MAX_INITIAL_LINE_LENGTH,
-                                NettyClientProperties.DEFAULT_INITIAL_LINE_LENGTH);
-
-                     p.addLast(new HttpClientCodec(maxInitialLineLength, maxHeaderSize, maxChunkSize));
-                     p.addLast(new ChunkedWriteHandler());
-                     p.addLast(new HttpContentDecompressor());
-                    }
-                });
+                ArrayList<Channel> conns;
+                synchronized (connections) {
+                   conns = connections.get(key);
+                   if (conns == null) {
+                      conns = new ArrayList<>(0);
+                      connections.put(key, conns);
+                   }
+                }
 
-               // connect timeout
-               if (connectTimeout > 0) {
-                   b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
-               }
+                synchronized (conns) {
+                   while (chan == null && !conns.isEmpty()) {
+                      chan = conns.remove(conns.size() - 1);
+                      try {
+                          chan.pipeline().remove(INACTIVE_POOLED_CONNECTION_HANDLER);
+                          chan.pipeline().remove(PRUNE_INACTIVE_POOL);
+                      } catch (NoSuchElementException e) {
+                          /*
+                           *  Eat it.
+                           *  It could happen that the channel was closed, pipeline cleared and
+                           *  then it will fail to remove the names with this exception.
+                           */
+                      }
+                      if (!chan.isOpen()) {
+                          chan = null;
+                      }
+                   }
+                }
+            }
 
-               // Make the connection attempt.
+            if (chan == null) {
+                // Make the connection attempt.
                 try {
-                    chan = b.connect(host, port).sync().channel();
+                    chan = connect(jerseyRequest, sslConfig, key, null).sync().channel();
                 } catch (Exception e) {
                     responseAvailable.completeExceptionally(e);
                     return;
@@ -356,8 +342,10 @@ class NettyConnector implements Connector {
             // assert: it is ok to abort the entire response, if responseDone is completed exceptionally - in particular, nothing
             //         will leak
             final Channel ch = chan;
-            JerseyClientHandler clientHandler =
-                    new JerseyClientHandler(jerseyRequest, responseAvailable, responseDone, redirectUriHistory, this);
+            JerseyClientHandler clientHandler = http2Stream
+                    ? new JerseyClientHandler(jerseyRequest, responseAvailable, responseDone, redirectUriHistory, this,
+                                              http2StreamBufferSize)
+                    : new JerseyClientHandler(jerseyRequest, responseAvailable, responseDone, redirectUriHistory, this);
             final JerseyExpectContinueHandler expect100ContinueHandler = new JerseyExpectContinueHandler();
             // read timeout makes sense really as an inactivity timeout
             ch.pipeline().addLast(READ_TIMEOUT_HANDLER,
@@ -365,34 +353,27 @@ class NettyConnector implements Connector {
             ch.pipeline().addLast(EXPECT_100_CONTINUE_HANDLER, expect100ContinueHandler);
             ch.pipeline().addLast(REQUEST_HANDLER, clientHandler);
 
+            final boolean stream = http2Stream;
+            if (stream) {
+                // the stream does not read automatically, the client handler requests more data as the response is consumed
+                ch.read();
+            }
+
             responseDone.whenComplete((_r, th) -> {
+               if (stream) {
+                  // HTTP/2 stream is not reused, the connection is pooled by the HTTP/2 connection pool
+                  ch.close();
+                  if (th != null) {
+                     responseAvailable.completeExceptionally(th);
+                  }
+                  return;
+               }
+
                ch.pipeline().remove(READ_TIMEOUT_HANDLER);
                ch.pipeline().remove(clientHandler);
 
                if (th == null) {
-                  ch.pipeline().addLast(INACTIVE_POOLED_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
-                  ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool(connections, key));
-                  boolean added = true;
-                  synchronized (connections) {
-                     ArrayList<Channel> conns1 = connections.get(key);
-                     if (conns1 == null) {
-                        conns1 = new ArrayList<>(1);
-                        conns1.add(ch);
-                        connections.put(key, conns1);
-                     } else {
-                        synchronized (conns1) {
-                           if ((maxPoolSizeTotal == 0 || connections.size() < maxPoolSizeTotal) && conns1.size() < maxPoolSize) {
-                              conns1.add(ch);
-                           } else { // else do not add the Channel to the idle pool
-                              added = false;
-                           }
-                        }
-                     }
-                  }
-
-                  if (!added) {
-                      ch.close();
-                  }
+                  releaseToPool(ch, key);
                } else {
                   ch.close();
                   // if responseAvailable has been completed, no-op: jersey will encounter IOException while reading response body
@@ -511,7 +492,8 @@ class NettyConnector implements Connector {
                     entityWriter.writeAndFlush(nettyRequest);
                 }
 
-                if (HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                if (http2Stream || HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                    // the HTTP/2 stream accepts the entity as HttpContent only
                     entityWriter.write(new HttpChunkedInput(entityWriter.getChunkedInput()));
                 } else {
                     entityWriter.write(entityWriter.getChunkedInput());
@@ -531,6 +513,180 @@ class NettyConnector implements Connector {
         }
     }
 
+    /**
+     * Open a new connection to the request URI. The HTTP/1.1 connection is opened when the given {@code http2Connection}
+     * is {@code null}, otherwise the HTTP/2 connection is opened, with HTTP/1.1 fallback for the TLS connections.
+     */
+    private ChannelFuture connect(final ClientRequest jerseyRequest, final SSLParamConfigurator sslConfig, final String key,
+                                  final Http2ConnectionPool.Connection http2Connection) {
+        final URI requestUri = jerseyRequest.getUri();
+        final String host = requestUri.getHost();
+        final int port = requestUri.getPort() != -1 ? requestUri.getPort() : "https".equals(requestUri.getScheme()) ? 443 : 80;
+        final boolean secure = "https".equals(requestUri.getScheme());
+
+        Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
+        Bootstrap b = new Bootstrap();
+
+        // http proxy
+        Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
+        if (!proxy.isPresent()) {
+            proxy = ClientProxy.proxyFromProperties(requestUri);
+        }
+        proxy.ifPresent(clientProxy -> {
+            b.resolver(NoopAddressResolverGroup.INSTANCE); // request hostname resolved by the HTTP proxy
+        });
+
+        final Optional<ClientProxy> handlerProxy = proxy;
+
+        b.group(group)
+         .channel(transport.getSocketChannelClass())
+         .handler(new ChannelInitializer<SocketChannel>() {
+             @Override
+             protected void initChannel(SocketChannel ch) throws Exception {
+              ChannelPipeline p = ch.pipeline();
+
+              Configuration config = jerseyRequest.getConfiguration();
+
+              // http proxy
+              handlerProxy.ifPresent(clientProxy -> {
+                  final URI u = clientProxy.uri();
+                  InetSocketAddress proxyAddr = new InetSocketAddress(u.getHost(),
+                          u.getPort() == -1 ? 8080 : u.getPort());
+                  ProxyHandler proxy1 = createProxyHandler(jerseyRequest, proxyAddr,
+                          clientProxy.userName(), clientProxy.password(), connectTimeout);
+                  p.addLast(proxy1);
+              });
+
+              // Enable HTTPS if necessary.
+              if (secure) {
+                  // making client authentication optional for now; it could be extracted to configurable property
+                  JdkSslContext jdkSslContext = new JdkSslContext(
+                          getSslContext(client, jerseyRequest),
+                          true,
+                          (Iterable) null,
+                          IdentityCipherSuiteFilter.INSTANCE,
+                          http2Connection == null ? (ApplicationProtocolConfig) null : HTTP2_ALPN,
+                          ClientAuth.NONE,
+                          (String[]) null, /* enable default protocols */
+                          false /* true if the first write request shouldn't be encrypted */
+                  );
+
+                  final int port = requestUri.getPort();
+
+                  final SslHandler sslHandler = jdkSslContext.newHandler(
+                          ch.alloc(), sslConfig.getSNIHostName(), port <= 0 ? 443 : port, executorService
+                  );
+                  if (ClientProperties.getValue(config.getProperties(),
+                                                NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
+                      sslConfig.setEndpointIdentificationAlgorithm(sslHandler.engine());
+                  }
+
+                  sslConfig.setSNIServerName(sslHandler.engine());
+
+                  p.addLast(sslHandler);
+              }
+
+              if (http2Connection == null) {
+                  addHttp1Handlers(p, config);
+              } else if (secure) {
+                  p.addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                      @Override
+                      protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                          if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                              addHttp2Handlers(ctx.pipeline(), http2Connection);
+                              http2Connection.negotiated(ctx.channel(), true);
+                          } else {
+                              // HTTP/1.1 fallback, the connection is offered to the pending requests by the HTTP/1.1 pool
+                              addHttp1Handlers(ctx.pipeline(), config);
+                              releaseToPool(ctx.channel(), key);
+                              http2Connection.negotiated(ctx.channel(), false);
+                          }
+                      }
+
+                      @Override
+                      protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+                          http2Connection.failed(cause);
+                          super.handshakeFailure(ctx, cause);
+                      }
+                  });
+              } else {
+                  // h2c with prior knowledge
+                  addHttp2Handlers(p, http2Connection);
+              }
+             }
+         });
+
+        // connect timeout
+        if (connectTimeout > 0) {
+            b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+
+        final ChannelFuture connect = b.connect(host, port);
+        if (http2Connection != null && !secure) {
+            connect.addListener(f -> {
+                if (f.isSuccess()) {
+                    http2Connection.negotiated(connect.channel(), true);
+                }
+            });
+        }
+        return connect;
+    }
+
+    private static void addHttp1Handlers(ChannelPipeline p, Configuration config) {
+        final Integer maxHeaderSize = ClientProperties.getValue(config.getProperties(),
+                   NettyClientProperties.MAX_HEADER_SIZE,
+                   NettyClientProperties.DEFAULT_HEADER_SIZE);
+        final Integer maxChunkSize = ClientProperties.getValue(config.getProperties(),
+                   NettyClientProperties.MAX_CHUNK_SIZE,
+                   NettyClientProperties.DEFAULT_CHUNK_SIZE);
+        final Integer maxInitialLineLength = ClientProperties.getValue(config.getProperties(),
+                   NettyClientProperties.MAX_INITIAL_LINE_LENGTH,
+                   NettyClientProperties.DEFAULT_INITIAL_LINE_LENGTH);
+
+        p.addLast(new HttpClientCodec(maxInitialLineLength, maxHeaderSize, maxChunkSize));
+        p.addLast(new ChunkedWriteHandler());
+        p.addLast(new HttpContentDecompressor());
+    }
+
+    private void addHttp2Handlers(ChannelPipeline p, Http2ConnectionPool.Connection http2Connection) {
+        p.addLast(Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .build());
+        p.addLast(new Http2MultiplexHandler(HTTP2_PUSH_REJECTING_INITIALIZER));
+        p.addLast(HTTP2_IDLE_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
+        p.addLast(http2Connection);
+    }
+
+    /**
+     * Offer the connection with no pending request to the idle connection pool. The connection is closed
+     * if the pool is full.
+     */
+    private void releaseToPool(Channel ch, String key) {
+        ch.pipeline().addLast(INACTIVE_POOLED_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
+        ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool(connections, key));
+        boolean added = true;
+        synchronized (connections) {
+           ArrayList<Channel> conns1 = connections.get(key);
+           if (conns1 == null) {
+              conns1 = new ArrayList<>(1);
+              conns1.add(ch);
+              connections.put(key, conns1);
+           } else {
+              synchronized (conns1) {
+                 if ((maxPoolSizeTotal == 0 || connections.size() < maxPoolSizeTotal) && conns1.size() < maxPoolSize) {
+                    conns1.add(ch);
+                 } else { // else do not add the Channel to the idle pool
+                    added = false;
+                 }
+              }
+           }
+        }
+
+        if (!added) {
+            ch.close();
+        }
+    }
+
     /* package */ NettyEntityWriter nettyEntityWriter(ClientRequest clientRequest, Channel channel) {
         return NettyEntityWriter.getInstance(clientRequest, channel);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,8 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.netty.buffer.ByteBuf;
 
@@ -28,6 +30,13 @@ import io.netty.buffer.ByteBuf;
  * <p>
  * Converts Netty NIO buffers to an input streams and stores them in the queue,
  * waiting for Jersey to process it.
+ * <p>
+ * The stream can be created with an upper bound of the queued bytes. In such a case the producer is expected to
+ * {@link #suspendIfFull() stop reading} from the network when the bound is reached and the stream requests more data
+ * by running the given read demand callback once the reader consumed the queued buffers.
+ * <p>
+ * The reader waits for the data using a {@link ReentrantLock lock} rather than the object monitor, so that a virtual
+ * thread reading the stream is not pinned to its carrier thread while waiting.
  *
  * @author Pavel Bucek
  */
@@ -37,14 +46,35 @@ public class NettyInputStream extends InputStream {
     private Throwable cause;
 
     private final ArrayDeque<ByteBuf> isList;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
     private ByteBuf current;
     private ByteBuffer buffer;
 
     private byte[] ONE_BYTE;
     private boolean reading;
 
+    private final Runnable readDemand;
+    private final long maxQueuedBytes;
+    private long queuedBytes;
+    private boolean suspended;
+
     public NettyInputStream() {
+        this(null, 0);
+    }
+
+    /**
+     * Create a new input stream that keeps at most (approximately) the given number of bytes queued.
+     *
+     * @param readDemand     callback requesting more data from the producer, invoked when the producer has been
+     *                       {@link #suspendIfFull() suspended} and the reader consumed at least half of the queued bytes.
+     * @param maxQueuedBytes maximal number of queued bytes, unbounded when not positive.
+     * @since 2.47
+     */
+    public NettyInputStream(Runnable readDemand, long maxQueuedBytes) {
         this.isList = new ArrayDeque<>();
+        this.readDemand = readDemand;
+        this.maxQueuedBytes = maxQueuedBytes;
     }
 
     @Override
@@ -103,23 +133,56 @@ public class NettyInputStream extends InputStream {
         buffer = null;
     }
 
-    protected synchronized ByteBuffer awaitNext() {
-       while (isList.isEmpty()) {
-          if (end) {
-             return null;
-          }
+    protected ByteBuffer awaitNext() {
+       final ByteBuffer next;
+       final boolean resume;
+       lock.lock();
+       try {
+          while (isList.isEmpty()) {
+             if (end) {
+                return null;
+             }
 
-          try {
              reading = true;
-             wait();
+             available.awaitUninterruptibly();
              reading = false;
-          } catch (InterruptedException ie) {
-             // waiting uninterruptibly
           }
+
+          current = isList.poll();
+          next = current.nioBuffer().asReadOnlyBuffer();
+
+          queuedBytes -= next.remaining();
+          resume = suspended && !end && queuedBytes <= maxQueuedBytes / 2;
+          if (resume) {
+             suspended = false;
+          }
+       } finally {
+          lock.unlock();
        }
 
-       current = isList.poll();
-       return current.nioBuffer().asReadOnlyBuffer();
+       if (resume) {
+          readDemand.run();
+       }
+       return next;
+    }
+
+    /**
+     * Check whether the number of queued bytes reached the bound given in the constructor. If so, the stream
+     * remembers the producer is suspended and requests more data once the queued bytes are consumed.
+     *
+     * @return {@code true} when the producer should stop reading, {@code false} when more data can be published.
+     * @since 2.47
+     */
+    public boolean suspendIfFull() {
+       lock.lock();
+       try {
+          if (readDemand != null && maxQueuedBytes > 0 && !end && queuedBytes >= maxQueuedBytes) {
+             suspended = true;
+          }
+          return suspended;
+       } finally {
+          lock.unlock();
+       }
     }
 
     public void complete(Throwable cause) {
@@ -127,17 +190,22 @@ public class NettyInputStream extends InputStream {
        cleanup(cause != null);
     }
 
-    protected synchronized void cleanup(boolean drain) {
-       if (drain) {
-          while (!isList.isEmpty()) {
-             isList.poll().release();
+    protected void cleanup(boolean drain) {
+       lock.lock();
+       try {
+          if (drain) {
+             while (!isList.isEmpty()) {
+                isList.poll().release();
+             }
           }
-       }
 
-       end = true;
+          end = true;
 
-       if (reading) {
-          notifyAll();
+          if (reading) {
+             available.signalAll();
+          }
+       } finally {
+          lock.unlock();
        }
     }
 
@@ -146,15 +214,21 @@ public class NettyInputStream extends InputStream {
         return buffer == null ? 0 : buffer.remaining();
     }
 
-    public synchronized void publish(ByteBuf content) {
-       if (end || content.nioBuffer().remaining() == 0) {
-          content.release();
-          return;
-       }
+    public void publish(ByteBuf content) {
+       lock.lock();
+       try {
+          if (end || content.nioBuffer().remaining() == 0) {
+             content.release();
+             return;
+          }
 
-       isList.add(content);
-       if (reading) {
-          notifyAll();
+          isList.add(content);
+          queuedBytes += content.readableBytes();
+          if (reading) {
+             available.signalAll();
+          }
+       } finally {
+          lock.unlock();
        }
     }
 
@@ -165,6 +239,8 @@ public class NettyInputStream extends InputStream {
         cause = null;
         buffer = null;
         current = null;
+        queuedBytes = 0;
+        suspended = false;
 
         isList.clear();
     }
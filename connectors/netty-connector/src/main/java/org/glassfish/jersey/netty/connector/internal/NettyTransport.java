@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector.internal;
+
+import java.lang.reflect.Constructor;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.glassfish.jersey.netty.connector.LocalizationMessages;
+
+/**
+ * Netty transport, i.e. the event loop group and the channel types used by the Netty connector and container.
+ * <p>
+ * Besides the NIO transport available everywhere, the native Linux transports can be selected: {@value #EPOLL}
+ * and {@value #IO_URING}. The io_uring transport is used only when the Netty incubator io_uring transport is present
+ * on the class path. When the selected native transport is not available, the next available one is used in the order
+ * {@value #IO_URING}, {@value #EPOLL}, {@value #NIO}.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class NettyTransport {
+
+    private static final Logger LOGGER = Logger.getLogger(NettyTransport.class.getName());
+
+    /**
+     * The Java NIO transport.
+     */
+    public static final String NIO = "nio";
+    /**
+     * The Linux native epoll transport.
+     */
+    public static final String EPOLL = "epoll";
+    /**
+     * The Linux native io_uring transport from the Netty incubator.
+     */
+    public static final String IO_URING = "io_uring";
+    /**
+     * The best available native transport, or NIO if no native transport is available.
+     */
+    public static final String NATIVE = "native";
+
+    private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+    private static final NettyTransport NIO_TRANSPORT = new NettyTransport(NIO,
+            NioEventLoopGroup::new, NioSocketChannel.class, NioServerSocketChannel.class, null);
+
+    private final String name;
+    private final IntFunction<EventLoopGroup> eventLoopGroupFactory;
+    private final Class<? extends SocketChannel> socketChannelClass;
+    private final Class<? extends ServerSocketChannel> serverSocketChannelClass;
+    private final ChannelOption<Boolean> reusePortOption;
+
+    private NettyTransport(String name,
+                           IntFunction<EventLoopGroup> eventLoopGroupFactory,
+                           Class<? extends SocketChannel> socketChannelClass,
+                           Class<? extends ServerSocketChannel> serverSocketChannelClass,
+                           ChannelOption<Boolean> reusePortOption) {
+        this.name = name;
+        this.eventLoopGroupFactory = eventLoopGroupFactory;
+        this.socketChannelClass = socketChannelClass;
+        this.serverSocketChannelClass = serverSocketChannelClass;
+        this.reusePortOption = reusePortOption;
+    }
+
+    /**
+     * Select the transport by the name. The NIO transport is selected when the name is {@code null} or when
+     * the requested transport is not available.
+     *
+     * @param transport transport name, one of {@value #NIO}, {@value #EPOLL}, {@value #IO_URING}, {@value #NATIVE},
+     *                  case insensitive, or {@code null}.
+     * @return selected transport.
+     */
+    public static NettyTransport select(Object transport) {
+        if (transport == null) {
+            return NIO_TRANSPORT;
+        }
+
+        final String requested = transport.toString().trim().toLowerCase(Locale.ROOT);
+        NettyTransport selected = null;
+        switch (requested) {
+            case NATIVE:
+            case IO_URING:
+                selected = ioUring();
+                if (selected != null) {
+                    break;
+                }
+                // fall through
+            case EPOLL:
+                selected = epoll();
+                break;
+            case NIO:
+                return NIO_TRANSPORT;
+            default:
+                LOGGER.warning(LocalizationMessages.TRANSPORT_UNKNOWN(transport));
+                return NIO_TRANSPORT;
+        }
+
+        if (selected == null) {
+            selected = NIO_TRANSPORT;
+        }
+        if (!NATIVE.equals(requested) && !requested.equals(selected.name)) {
+            LOGGER.log(Level.CONFIG, LocalizationMessages.TRANSPORT_NOT_AVAILABLE(requested, selected.name));
+        }
+        return selected;
+    }
+
+    private static NettyTransport epoll() {
+        try {
+            if (!Epoll.isAvailable()) {
+                return null;
+            }
+        } catch (LinkageError e) {
+            // the epoll classes or the native library are missing
+            return null;
+        }
+        return new NettyTransport(EPOLL, EpollEventLoopGroup::new, EpollSocketChannel.class, EpollServerSocketChannel.class,
+                EpollChannelOption.SO_REUSEPORT);
+    }
+
+    // The io_uring transport is an optional dependency, accessed reflectively
+    @SuppressWarnings("unchecked")
+    private static NettyTransport ioUring() {
+        try {
+            final Class<?> ioUring = Class.forName(IO_URING_PACKAGE + "IOUring");
+            if (!(Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                return null;
+            }
+
+            final Constructor<? extends EventLoopGroup> groupConstructor =
+                    (Constructor<? extends EventLoopGroup>) Class.forName(IO_URING_PACKAGE + "IOUringEventLoopGroup")
+                            .getConstructor(int.class);
+            final Class<? extends SocketChannel> socketChannel =
+                    (Class<? extends SocketChannel>) Class.forName(IO_URING_PACKAGE + "IOUringSocketChannel");
+            final Class<? extends ServerSocketChannel> serverSocketChannel =
+                    (Class<? extends ServerSocketChannel>) Class.forName(IO_URING_PACKAGE + "IOUringServerSocketChannel");
+            final ChannelOption<Boolean> reusePort = (ChannelOption<Boolean>)
+                    Class.forName(IO_URING_PACKAGE + "IOUringChannelOption").getField("SO_REUSEPORT").get(null);
+
+            return new NettyTransport(IO_URING, threads -> {
+                try {
+                    return groupConstructor.newInstance(threads);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, socketChannel, serverSocketChannel, reusePort);
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the transport name.
+     *
+     * @return transport name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Create a new event loop group of this transport.
+     *
+     * @param threads number of threads, {@code 0} for the Netty default.
+     * @return new event loop group.
+     */
+    public EventLoopGroup newEventLoopGroup(int threads) {
+        return eventLoopGroupFactory.apply(threads);
+    }
+
+    /**
+     * Get the client socket channel class of this transport.
+     *
+     * @return socket channel class.
+     */
+    public Class<? extends SocketChannel> getSocketChannelClass() {
+        return socketChannelClass;
+    }
+
+    /**
+     * Get the server socket channel class of this transport.
+     *
+     * @return server socket channel class.
+     */
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+        return serverSocketChannelClass;
+    }
+
+    /**
+     * Check whether this transport supports {@code SO_REUSEPORT}, i.e. binding several server channels to the same port
+     * with the incoming connections balanced among them by the kernel.
+     *
+     * @return {@code true} when {@code SO_REUSEPORT} is supported.
+     */
+    public boolean isReusePortSupported() {
+        return reusePortOption != null;
+    }
+
+    /**
+     * Enable {@code SO_REUSEPORT} on the server channels created by the bootstrap.
+     *
+     * @param bootstrap server bootstrap.
+     * @throws IllegalStateException when the transport does not {@link #isReusePortSupported() support} {@code SO_REUSEPORT}.
+     */
+    public void enableReusePort(ServerBootstrap bootstrap) {
+        if (reusePortOption == null) {
+            throw new IllegalStateException(name);
+        }
+        bootstrap.option(reusePortOption, true);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
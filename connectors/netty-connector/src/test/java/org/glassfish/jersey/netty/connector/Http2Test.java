@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the HTTP/2 (h2c with prior knowledge) requests are multiplexed over shared connections.
+ */
+public class Http2Test {
+
+    private static final int LARGE_ENTITY_SIZE = 1024 * 1024;
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<ChannelHandlerContext> held = new ArrayList<>();
+    private volatile int holdUntil;
+
+    @BeforeEach
+    public void startServer() throws InterruptedException {
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        connections.incrementAndGet();
+                        ch.pipeline().addLast(Http2FrameCodecBuilder.forServer()
+                                .initialSettings(Http2Settings.defaultSettings().maxConcurrentStreams(50))
+                                .build());
+                        ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                            @Override
+                            protected void initChannel(Channel stream) {
+                                stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                                stream.pipeline().addLast(new HttpObjectAggregator(LARGE_ENTITY_SIZE));
+                                stream.pipeline().addLast(new ServerHandler());
+                            }
+                        }));
+                    }
+                })
+                .bind("localhost", 0).sync().channel();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        serverChannel.close();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    private class ServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            if (request.uri().equals("/hold")) {
+                // respond once the expected number of requests is being processed concurrently
+                synchronized (held) {
+                    held.add(ctx);
+                    if (held.size() == holdUntil) {
+                        for (ChannelHandlerContext h : held) {
+                            respond(h, Unpooled.copiedBuffer("held", StandardCharsets.US_ASCII));
+                        }
+                    }
+                }
+            } else if (request.uri().equals("/large")) {
+                respond(ctx, Unpooled.wrappedBuffer(new byte[LARGE_ENTITY_SIZE]));
+            } else {
+                respond(ctx, request.content().retain());
+            }
+        }
+
+        private void respond(ChannelHandlerContext ctx, ByteBuf content) {
+            final FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+
+    private Client client(int maxConcurrentStreams) {
+        return ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new NettyConnectorProvider())
+                .property(NettyClientProperties.HTTP2_ENABLED, true)
+                .property(NettyClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, maxConcurrentStreams)
+                .property(NettyClientProperties.HTTP2_STREAM_BUFFER_SIZE, 16 * 1024));
+    }
+
+    private String uri(String path) {
+        return "http://localhost:" + ((InetSocketAddress) serverChannel.localAddress()).getPort() + path;
+    }
+
+    @Test
+    public void testConcurrentRequestsShareConnection() throws Exception {
+        assertHeldRequests(20, 100, 1);
+    }
+
+    @Test
+    public void testMaxConcurrentStreamsOpensConnection() throws Exception {
+        assertHeldRequests(6, 3, 2);
+    }
+
+    private void assertHeldRequests(int requests, int maxConcurrentStreams, int expectedConnections) throws Exception {
+        holdUntil = requests;
+        final Client client = client(maxConcurrentStreams);
+        try {
+            final List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(client.target(uri("/hold")).request().async().get(String.class));
+            }
+            for (Future<String> response : responses) {
+                assertEquals("held", response.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(expectedConnections, connections.get());
+
+            // the streams are closed, the connection is reused
+            assertEquals("again", client.target(uri("/echo")).request().post(Entity.text("again"), String.class));
+            assertEquals(expectedConnections, connections.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testLargeResponseIsReadInParts() throws Exception {
+        final Client client = client(100);
+        try (Response response = client.target(uri("/large")).request().get()) {
+            assertEquals(200, response.getStatus());
+
+            final InputStream entity = response.readEntity(InputStream.class);
+            final byte[] buffer = new byte[4096];
+            long total = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                total += read;
+            }
+            assertEquals(LARGE_ENTITY_SIZE, total);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testChunkedRequestEntity() {
+        final Client client = client(100);
+        try {
+            final byte[] entity = new byte[100_000];
+            for (int i = 0; i < entity.length; i++) {
+                entity[i] = (byte) i;
+            }
+            final byte[] echoed = client.target(uri("/echo")).request()
+                    .post(Entity.entity(new ByteArrayInputStream(entity), "application/octet-stream"), byte[].class);
+            assertEquals(entity.length, echoed.length);
+            assertEquals(entity[entity.length - 1], echoed[echoed.length - 1]);
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.connector;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.netty.connector.internal.NettyTransport;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.epoll.Epoll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the Netty transport selection.
+ */
+public class TransportTest extends JerseyTest {
+
+    @Path("/test")
+    public static class TransportResource {
+        @GET
+        public String get() {
+            return "transport";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(TransportResource.class);
+    }
+
+    @Test
+    public void testSelect() {
+        assertEquals(NettyTransport.NIO, NettyTransport.select(null).getName());
+        assertEquals(NettyTransport.NIO, NettyTransport.select("NIO").getName());
+        assertEquals(NettyTransport.NIO, NettyTransport.select("unknown").getName());
+
+        final String expectedNative = Epoll.isAvailable() ? NettyTransport.EPOLL : NettyTransport.NIO;
+        assertEquals(expectedNative, NettyTransport.select(NettyTransport.EPOLL).getName());
+        // the io_uring transport is not on the test class path
+        assertEquals(expectedNative, NettyTransport.select(NettyTransport.IO_URING).getName());
+        assertEquals(expectedNative, NettyTransport.select(NettyTransport.NATIVE).getName());
+    }
+
+    @Test
+    public void testNio() {
+        testTransport(NettyTransport.NIO);
+    }
+
+    @Test
+    public void testEpoll() {
+        testTransport(NettyTransport.EPOLL);
+    }
+
+    @Test
+    public void testNative() {
+        testTransport(NettyTransport.NATIVE);
+    }
+
+    private void testTransport(String transport) {
+        final Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new NettyConnectorProvider())
+                .property(NettyClientProperties.TRANSPORT, transport));
+        try {
+            for (int i = 0; i < 5; i++) {
+                assertEquals("transport", client.target(getBaseUri()).path("test").request().get(String.class));
+            }
+        } finally {
+            client.close();
+        }
+    }
+}
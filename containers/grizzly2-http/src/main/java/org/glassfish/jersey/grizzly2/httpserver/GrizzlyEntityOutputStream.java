@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.grizzly2.httpserver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.io.spi.MappedFileRegionOutputStream;
+
+import org.glassfish.grizzly.http.io.OutputBuffer;
+
+/**
+ * Grizzly response entity stream writing the mapped file region buffers by the {@link OutputBuffer}.
+ */
+final class GrizzlyEntityOutputStream extends MappedFileRegionOutputStream {
+
+    private final OutputBuffer outputBuffer;
+
+    /**
+     * Create new entity stream.
+     *
+     * @param output       Grizzly response output stream.
+     * @param outputBuffer Grizzly response output buffer backing the output stream.
+     */
+    GrizzlyEntityOutputStream(final OutputStream output, final OutputBuffer outputBuffer) {
+        super(output);
+        this.outputBuffer = outputBuffer;
+    }
+
+    @Override
+    protected void writeMappedBuffer(final ByteBuffer buffer) throws IOException {
+        // the mapping remains valid as long as the buffer is referenced by the write queue
+        outputBuffer.writeByteBuffer(buffer);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 
 import org.glassfish.grizzly.http.server.HttpHandler;
@@ -288,7 +289,8 @@ public final class GrizzlyHttpServerFactory {
         final NetworkListener listener = new NetworkListener("grizzly", host, port);
         final Configuration configuration = handler != null ? handler.getConfiguration().getConfiguration() : null;
 
-        final LoomishExecutors executors = VirtualThreadUtil.withConfig(configuration, false);
+        final LoomishExecutors executors =
+                VirtualThreadUtil.withConfig(configuration, ContainerUtils.isVirtualThreadPerRequest(configuration));
         final ThreadFactory threadFactory = new ThreadFactoryBuilder()
                 .setNameFormat("grizzly-http-server-%d")
                 .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
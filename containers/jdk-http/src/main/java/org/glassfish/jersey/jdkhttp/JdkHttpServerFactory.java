@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
@@ -31,6 +32,7 @@ import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.jdkhttp.internal.LocalizationMessages;
 import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 
 import com.sun.net.httpserver.HttpContext;
@@ -240,10 +242,13 @@ public final class JdkHttpServerFactory {
             ((HttpsServer) server).setHttpsConfigurator(httpsConfigurator);
         }
 
-        server.setExecutor(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                .setNameFormat("jdk-http-server-%d")
-                .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
-                .build()));
+        final ExecutorService virtualThreadExecutor = ContainerUtils.virtualThreadPerRequestExecutor(handler.getConfiguration());
+        server.setExecutor(virtualThreadExecutor != null
+                ? virtualThreadExecutor
+                : Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                        .setNameFormat("jdk-http-server-%d")
+                        .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
+                        .build()));
         server.createContext(path, handler);
 
         final HttpServer wrapper = isHttp
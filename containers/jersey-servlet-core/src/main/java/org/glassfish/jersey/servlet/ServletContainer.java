@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -353,6 +353,10 @@ public class ServletContainer extends HttpServlet implements Filter, Container {
         if (listener != null) {
             listener.onShutdown(this);
         }
+        final WebComponent component = webComponent;
+        if (component != null) {
+            component.destroy();
+        }
     }
 
     @Override
@@ -670,7 +674,9 @@ public class ServletContainer extends HttpServlet implements Filter, Container {
         try {
             containerListener.onShutdown(this);
 
-            webComponent = new WebComponent(webComponent.webConfig, configuration);
+            final WebComponent previous = webComponent;
+            webComponent = new WebComponent(previous.webConfig, configuration);
+            previous.destroy();
             containerListener = webComponent.appHandler;
             containerListener.onReload(this);
             containerListener.onStartup(this);
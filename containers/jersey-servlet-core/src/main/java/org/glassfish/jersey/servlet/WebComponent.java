@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -75,6 +76,7 @@ import org.glassfish.jersey.server.BackgroundSchedulerLiteral;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.internal.InternalServerProperties;
 import org.glassfish.jersey.server.spi.RequestScopedInitializer;
 import org.glassfish.jersey.servlet.internal.LocalizationMessages;
@@ -120,6 +122,9 @@ public class WebComponent {
         }
     };
 
+    private static final AsyncContextDelegateProvider DEFAULT_ASYNC_DELEGATE_PROVIDER =
+            (request, response) -> DEFAULT_ASYNC_DELEGATE;
+
     private final RequestScopedInitializerProvider requestScopedInitializer;
     private final boolean requestResponseBindingExternalized;
 
@@ -143,7 +148,7 @@ public class WebComponent {
             return providers.next();
         }
 
-        return (request, response) -> DEFAULT_ASYNC_DELEGATE;
+        return DEFAULT_ASYNC_DELEGATE_PROVIDER;
     }
 
     @SuppressWarnings("JavaDoc")
@@ -257,6 +262,12 @@ public class WebComponent {
      */
     private final AsyncContextDelegateProvider asyncExtensionDelegate;
 
+    /**
+     * Executor handling each request on a new virtual thread, {@code null} unless
+     * {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} is set and the asynchronous processing is available.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
     /**
      * Flag whether query parameters should be kept as entity form params if a servlet filter consumes entity and
      * Jersey has to retrieve form params from servlet request parameters.
@@ -322,6 +333,20 @@ public class WebComponent {
                 ServerProperties.RESPONSE_SET_STATUS_OVER_SEND_ERROR, false, Boolean.class);
         this.backgroundTaskScheduler = appHandler.getInjectionManager()
                 .getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
+        // the response of a forwarding filter has to be known when the filter returns
+        this.virtualThreadExecutor = forwardOn404 || asyncExtensionDelegate == DEFAULT_ASYNC_DELEGATE_PROVIDER
+                ? null
+                : ContainerUtils.virtualThreadPerRequestExecutor(appHandler.getConfiguration());
+    }
+
+    /**
+     * Release the resources held by this web component. The requests already being handled on virtual threads
+     * are completed, new requests are not accepted by the virtual thread executor.
+     */
+    /* package */ void destroy() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
     }
 
     /**
@@ -380,11 +405,12 @@ public class WebComponent {
             final HttpServletRequest servletRequest,
             final HttpServletResponse servletResponse) throws ServletException, IOException {
 
+        final AsyncContextDelegate asyncContextDelegate = asyncExtensionDelegate.createDelegate(servletRequest, servletResponse);
         final ResponseWriter responseWriter = new ResponseWriter(
                 forwardOn404,
                 configSetStatusOverSendError,
                 servletResponse,
-                asyncExtensionDelegate.createDelegate(servletRequest, servletResponse),
+                asyncContextDelegate,
                 backgroundTaskScheduler);
 
         try {
@@ -395,7 +421,11 @@ public class WebComponent {
 
             initContainerRequest(requestContext, servletRequest, servletResponse, responseWriter);
 
-            appHandler.handle(requestContext);
+            if (virtualThreadExecutor != null && servletRequest.isAsyncSupported()) {
+                handleOnVirtualThread(requestContext, asyncContextDelegate);
+            } else {
+                appHandler.handle(requestContext);
+            }
         } catch (final HeaderValueException hve) {
             if (LOGGER.isLoggable(Level.FINE)) {
                 LOGGER.log(Level.FINE, LocalizationMessages.HEADER_VALUE_READ_FAILED(), hve);
@@ -415,6 +445,22 @@ public class WebComponent {
         return responseWriter;
     }
 
+    /**
+     * Handle the request on a new virtual thread. The servlet request is put into the asynchronous mode, which is completed
+     * by the response writer once the response is written.
+     */
+    private void handleOnVirtualThread(final ContainerRequest requestContext, final AsyncContextDelegate asyncContextDelegate) {
+        asyncContextDelegate.suspend();
+        virtualThreadExecutor.execute(() -> {
+            try {
+                appHandler.handle(requestContext);
+            } catch (final Throwable t) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.VIRTUAL_THREAD_REQUEST_FAILED(), t);
+                asyncContextDelegate.complete();
+            }
+        });
+    }
+
     /**
      * Initialize {@code ContainerRequest} instance to used to handle {@code servletRequest}.
      */
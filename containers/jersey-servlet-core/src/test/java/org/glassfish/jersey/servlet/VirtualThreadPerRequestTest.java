@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.glassfish.jersey.innate.VirtualThreadSupport;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.ContainerUtils;
+import org.glassfish.jersey.servlet.spi.AsyncContextDelegate;
+import org.glassfish.jersey.servlet.spi.AsyncContextDelegateProvider;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of the {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} property in the servlet container.
+ */
+public class VirtualThreadPerRequestTest {
+
+    @Path("/thread")
+    public static class ThreadResource {
+
+        @GET
+        public String get() {
+            return String.valueOf(VirtualThreadSupport.isVirtualThread());
+        }
+    }
+
+    private static class RecordingAsyncContextDelegateProvider implements AsyncContextDelegateProvider {
+
+        private final AtomicInteger suspended = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public AsyncContextDelegate createDelegate(final HttpServletRequest request, final HttpServletResponse response) {
+            return new AsyncContextDelegate() {
+                @Override
+                public void suspend() {
+                    suspended.incrementAndGet();
+                }
+
+                @Override
+                public void complete() {
+                    completed.countDown();
+                }
+            };
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerRequest() throws Exception {
+        final RecordingAsyncContextDelegateProvider asyncProvider = new RecordingAsyncContextDelegateProvider();
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .register(binder(asyncProvider))
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, true);
+        final boolean virtual = ContainerUtils.isVirtualThreadPerRequest(config);
+        final ServletContainer container = startContainer(config);
+        try {
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+            service(container, entity);
+
+            assertTrue(asyncProvider.completed.await(10, TimeUnit.SECONDS));
+            // the request is suspended only to be handled on a virtual thread
+            assertEquals(virtual ? 1 : 0, asyncProvider.suspended.get());
+            assertEquals(String.valueOf(virtual), new String(entity.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            container.destroy();
+        }
+    }
+
+    @Test
+    public void testPlatformThreadByDefault() throws Exception {
+        final RecordingAsyncContextDelegateProvider asyncProvider = new RecordingAsyncContextDelegateProvider();
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .register(binder(asyncProvider));
+        final ServletContainer container = startContainer(config);
+        try {
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+            service(container, entity);
+
+            assertEquals(0, asyncProvider.suspended.get());
+            assertEquals("false", new String(entity.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            container.destroy();
+        }
+    }
+
+    @Test
+    public void testDestroyShutsDownVirtualThreadExecutor() throws Exception {
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .register(binder(new RecordingAsyncContextDelegateProvider()))
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, true);
+        assumeTrue(ContainerUtils.isVirtualThreadPerRequest(config));
+
+        final ServletContainer container = startContainer(config);
+        container.destroy();
+
+        // the executor does not accept new requests once the container is destroyed
+        assertThrows(ServletException.class, () -> service(container, new ByteArrayOutputStream()));
+    }
+
+    private static AbstractBinder binder(final AsyncContextDelegateProvider asyncProvider) {
+        return new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(asyncProvider).to(AsyncContextDelegateProvider.class);
+            }
+        };
+    }
+
+    private static ServletContainer startContainer(final ResourceConfig config) throws ServletException {
+        final ServletContainer container = new ServletContainer(config);
+        container.init(proxy(ServletConfig.class, (method, args) -> {
+            switch (method) {
+                case "getServletContext":
+                    return proxy(ServletContext.class, (contextMethod, contextArgs) -> null);
+                case "getInitParameterNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return null;
+            }
+        }));
+        return container;
+    }
+
+    private static void service(final ServletContainer container, final ByteArrayOutputStream entity) throws Exception {
+        final HttpServletRequest request = proxy(HttpServletRequest.class, (method, args) -> {
+            switch (method) {
+                case "getMethod":
+                    return "GET";
+                case "getHeaderNames":
+                case "getAttributeNames":
+                    return Collections.emptyEnumeration();
+                case "isAsyncSupported":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+        final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(final int b) {
+                entity.write(b);
+            }
+        };
+        final HttpServletResponse response = proxy(HttpServletResponse.class,
+                (method, args) -> "getOutputStream".equals(method) ? outputStream : null);
+
+        container.service(URI.create("http://localhost/"), URI.create("http://localhost/thread"), request, response);
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(final Class<T> type, final Handler handler) {
+        return type.cast(Proxy.newProxyInstance(VirtualThreadPerRequestTest.class.getClassLoader(), new Class[] {type},
+                (proxy, method, args) -> {
+                    final Object result = handler.invoke(method.getName(), args);
+                    if (result == null && method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    if (result == null && method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    return result;
+                }));
+    }
+}
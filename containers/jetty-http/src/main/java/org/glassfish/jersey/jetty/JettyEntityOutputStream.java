@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jetty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.glassfish.jersey.io.spi.MappedFileRegionOutputStream;
+
+import org.eclipse.jetty.server.HttpOutput;
+
+/**
+ * Jetty response entity stream writing the mapped file region buffers by the {@link HttpOutput}.
+ */
+final class JettyEntityOutputStream extends MappedFileRegionOutputStream {
+
+    private final HttpOutput output;
+
+    /**
+     * Create new entity stream.
+     *
+     * @param output Jetty response output.
+     */
+    JettyEntityOutputStream(final HttpOutput output) {
+        super(output);
+        this.output = output;
+    }
+
+    @Override
+    protected void writeMappedBuffer(final ByteBuffer buffer) throws IOException {
+        // blocking write, the buffer is not used once written
+        output.write(buffer);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -29,6 +29,7 @@ import org.glassfish.jersey.jetty.internal.LocalizationMessages;
 import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
 import org.glassfish.jersey.server.ContainerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 
 import org.eclipse.jetty.server.Connector;
@@ -298,7 +299,8 @@ public final class JettyHttpContainerFactory {
         private final ThreadFactory threadFactory;
 
         private JettyConnectorThreadPool(Configuration configuration) {
-            final LoomishExecutors executors = VirtualThreadUtil.withConfig(configuration, false);
+            final LoomishExecutors executors =
+                    VirtualThreadUtil.withConfig(configuration, ContainerUtils.isVirtualThreadPerRequest(configuration));
             if (executors.isVirtual()) {
                 super.setMaxThreads(Integer.MAX_VALUE - 1);
             }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jetty;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Random;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the {@link File} entities written by {@link JettyEntityOutputStream} as file regions.
+ */
+public class FileEntityTest extends AbstractJettyServerTester {
+
+    private static final byte[] PREFIX = "prefix".getBytes();
+
+    private static File small;
+    private static File large;
+
+    @BeforeAll
+    public static void createFiles() throws IOException {
+        small = createFile(100);
+        large = createFile(5 * 1024 * 1024 + 17);
+    }
+
+    @AfterAll
+    public static void deleteFiles() {
+        small.delete();
+        large.delete();
+    }
+
+    private static File createFile(final int size) throws IOException {
+        final byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        final File file = File.createTempFile("jersey-file-entity", ".bin");
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    @Path("file")
+    public static class FileResource {
+
+        @GET
+        @Path("{name}")
+        public File get(@PathParam("name") final String name) {
+            return "small".equals(name) ? small : large;
+        }
+    }
+
+    public static class PrefixInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+            final OutputStream entityStream = context.getOutputStream();
+            entityStream.write(PREFIX);
+            context.proceed();
+            entityStream.write(PREFIX);
+        }
+    }
+
+    private byte[] get(final String name) {
+        final Client client = ClientBuilder.newClient();
+        try {
+            final Response response = client.target(getUri().path("file").path(name).build()).request().get();
+            assertEquals(200, response.getStatus());
+            return response.readEntity(byte[].class);
+        } finally {
+            client.close();
+        }
+    }
+
+    private static byte[] withPrefix(final File file) throws IOException {
+        final byte[] content = Files.readAllBytes(file.toPath());
+        final byte[] result = new byte[content.length + 2 * PREFIX.length];
+        System.arraycopy(PREFIX, 0, result, 0, PREFIX.length);
+        System.arraycopy(content, 0, result, PREFIX.length, content.length);
+        System.arraycopy(PREFIX, 0, result, PREFIX.length + content.length, PREFIX.length);
+        return result;
+    }
+
+    @Test
+    public void testFileEntity() throws IOException {
+        startServer(FileResource.class);
+
+        assertArrayEquals(Files.readAllBytes(small.toPath()), get("small"));
+        assertArrayEquals(Files.readAllBytes(large.toPath()), get("large"));
+    }
+
+    @Test
+    public void testFileEntityWithInterceptor() throws IOException {
+        startServer(new ResourceConfig(FileResource.class, PrefixInterceptor.class));
+
+        assertArrayEquals(withPrefix(small), get("small"));
+        assertArrayEquals(withPrefix(large), get("large"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jetty;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.glassfish.jersey.innate.VirtualThreadSupport;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.ContainerUtils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} property, which turns the Jetty thread pool
+ * into virtual threads.
+ */
+public class VirtualThreadPerRequestTest extends AbstractJettyServerTester {
+
+    @Path("/thread")
+    public static class ThreadResource {
+
+        @GET
+        public String get() {
+            return String.valueOf(VirtualThreadSupport.isVirtualThread());
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerRequest() {
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, true);
+        startServer(config);
+
+        final String virtual = ClientBuilder.newClient().target(getUri().path("thread").build()).request().get(String.class);
+        // the property is ignored when the virtual threads are not supported by the JDK
+        assertEquals(String.valueOf(ContainerUtils.isVirtualThreadPerRequest(config)), virtual);
+    }
+
+    @Test
+    public void testPlatformThreadByDefault() {
+        startServer(ThreadResource.class);
+
+        final String virtual = ClientBuilder.newClient().target(getUri().path("thread").build()).request().get(String.class);
+        assertEquals("false", virtual);
+    }
+}
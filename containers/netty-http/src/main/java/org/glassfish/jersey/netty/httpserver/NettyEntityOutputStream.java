@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+
+/**
+ * Netty response entity stream.
+ * <p>
+ * The entity bytes are written to the channel using a {@link JerseyChunkedInput} that is created lazily on the first write,
+ * so that a {@link FileRegionOutput file region} written before can be sent to the channel as a {@link DefaultFileRegion}
+ * (i.e. using {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}). File regions are not
+ * used when the channel is encrypted.
+ * </p>
+ */
+final class NettyEntityOutputStream extends OutputStream implements FileRegionOutput {
+
+    private final ChannelHandlerContext ctx;
+    private final boolean chunked;
+
+    private JerseyChunkedInput chunkedInput;
+    private boolean closed;
+
+    /**
+     * Create new entity stream.
+     *
+     * @param ctx     channel handler context.
+     * @param chunked {@code true} if the response uses the chunked transfer encoding.
+     */
+    NettyEntityOutputStream(final ChannelHandlerContext ctx, final boolean chunked) {
+        this.ctx = ctx;
+        this.chunked = chunked;
+    }
+
+    private OutputStream chunkedInput() {
+        if (chunkedInput == null) {
+            chunkedInput = new JerseyChunkedInput(ctx.channel());
+
+            if (chunked) {
+                ctx.writeAndFlush(new HttpChunkedInput(chunkedInput));
+            } else {
+                ctx.write(new HttpChunkedInput(chunkedInput)).addListener(NettyResponseWriter.FLUSH_FUTURE);
+            }
+        }
+        return chunkedInput;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        chunkedInput().write(b);
+    }
+
+    @Override
+    public void write(final byte[] b) throws IOException {
+        chunkedInput().write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        chunkedInput().write(b, off, len);
+    }
+
+    @Override
+    public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+        if (chunkedInput != null || closed
+                || ctx.executor().inEventLoop()
+                || ctx.pipeline().get(SslHandler.class) != null) {
+            return false;
+        }
+
+        // wait for the transfer, the caller closes the file channel once the method returns; the channel future
+        // is not awaited directly as it waits on the object monitor which pins a virtual thread
+        final CompletableFuture<Void> transferred = new CompletableFuture<>();
+        final ChannelFuture future = ctx.writeAndFlush(new DefaultFileRegion(channel, position, count))
+                .addListener(f -> transferred.complete(null));
+        transferred.join();
+        if (!future.isSuccess()) {
+            throw new IOException(future.cause());
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (chunkedInput != null) {
+            chunkedInput.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (chunkedInput != null) {
+            chunkedInput.close();
+        } else {
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        }
+    }
+}
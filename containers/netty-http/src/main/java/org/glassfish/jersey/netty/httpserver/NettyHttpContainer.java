@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,8 @@ import javax.ws.rs.core.Application;
 
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.spi.ExecutorServiceProvider;
 import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
@@ -36,8 +38,15 @@ class NettyHttpContainer implements Container {
 
     private volatile ApplicationHandler appHandler;
 
+    /**
+     * Executor running each request on a new virtual thread, {@code null} unless
+     * {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} is set.
+     */
+    private volatile ExecutorService virtualThreadExecutor;
+
     public NettyHttpContainer(Application application) {
         this.appHandler = new ApplicationHandler(application);
+        this.virtualThreadExecutor = ContainerUtils.virtualThreadPerRequestExecutor(appHandler.getConfiguration());
         this.appHandler.onStartup(this);
     }
 
@@ -61,17 +70,38 @@ class NettyHttpContainer implements Container {
         appHandler.onShutdown(this);
 
         appHandler = new ApplicationHandler(configuration);
+        final ExecutorService previous = virtualThreadExecutor;
+        virtualThreadExecutor = ContainerUtils.virtualThreadPerRequestExecutor(appHandler.getConfiguration());
+        shutdownVirtualThreadExecutor(previous);
         appHandler.onReload(this);
         appHandler.onStartup(this);
     }
 
     /**
-     * Get {@link java.util.concurrent.ExecutorService}.
+     * Notify the application about the container shutdown and release the resources held by the container.
+     */
+    void shutdown() {
+        appHandler.onShutdown(this);
+        shutdownVirtualThreadExecutor(virtualThreadExecutor);
+    }
+
+    private static void shutdownVirtualThreadExecutor(final ExecutorService executor) {
+        // the requests being processed are completed, the executor does not accept new requests
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Get {@link java.util.concurrent.ExecutorService} the requests are handled on.
      *
      * @return Executor service associated with this container.
      */
     ExecutorService getExecutorService() {
-        return appHandler.getInjectionManager().getInstance(ExecutorServiceProvider.class).getExecutorService();
+        final ExecutorService virtualThreadExecutor = this.virtualThreadExecutor;
+        return virtualThreadExecutor != null
+                ? virtualThreadExecutor
+                : appHandler.getInjectionManager().getInstance(ExecutorServiceProvider.class).getExecutorService();
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,10 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Application;
@@ -25,12 +28,12 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import org.glassfish.jersey.Beta;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.netty.connector.internal.NettyTransport;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.spi.ContainerProvider;
 
@@ -70,41 +73,16 @@ public class NettyHttpContainerProvider implements ContainerProvider {
                                        final boolean block)
             throws ProcessingException {
 
-        // Configure the server.
-        final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        final EventLoopGroup workerGroup = new NioEventLoopGroup();
-        final NettyHttpContainer container = new NettyHttpContainer(configuration);
-
-        try {
-            ServerBootstrap b = new ServerBootstrap();
-            b.option(ChannelOption.SO_BACKLOG, 1024);
-            b.group(bossGroup, workerGroup)
-             .channel(NioServerSocketChannel.class)
-             .childHandler(new JerseyServerInitializer(baseUri, sslContext, container, configuration));
-
-            int port = getPort(baseUri);
-
-            Channel ch = b.bind(port).sync().channel();
-
-            ch.closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
-                @Override
-                public void operationComplete(Future<? super Void> future) throws Exception {
-                    container.getApplicationHandler().onShutdown(container);
-
-                    bossGroup.shutdownGracefully();
-                    workerGroup.shutdownGracefully();
-                }
-            });
+        final Channel ch = startServer(baseUri, configuration, sslContext, false);
 
-            if (block) {
+        if (block) {
+            try {
                 ch.closeFuture().sync();
-                return ch;
-            } else {
-                return ch;
+            } catch (InterruptedException e) {
+                throw new ProcessingException(e);
             }
-        } catch (InterruptedException e) {
-            throw new ProcessingException(e);
         }
+        return ch;
     }
 
     /**
@@ -140,38 +118,77 @@ public class NettyHttpContainerProvider implements ContainerProvider {
     public static Channel createHttp2Server(final URI baseUri, final ResourceConfig configuration, SslContext sslContext) throws
             ProcessingException {
 
-        final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        final EventLoopGroup workerGroup = new NioEventLoopGroup();
+        return startServer(baseUri, configuration, sslContext, true);
+    }
+
+    private static Channel startServer(final URI baseUri, final ResourceConfig configuration, final SslContext sslContext,
+                                       final boolean http2) throws ProcessingException {
+
+        final NettyTransport transport = NettyTransport.select(configuration.getProperty(NettyServerProperties.TRANSPORT));
+        final int acceptors = transport.isReusePortSupported()
+                ? PropertiesHelper.getValue(configuration.getProperties(), NettyServerProperties.ACCEPTORS,
+                                            NettyServerProperties.DEFAULT_ACCEPTORS, null)
+                : 1;
+        if (acceptors < 1) {
+            throw new IllegalArgumentException(LocalizationMessages.WRONG_ACCEPTORS(acceptors));
+        }
+
+        // Configure the server.
+        final EventLoopGroup bossGroup = transport.newEventLoopGroup(acceptors);
+        final EventLoopGroup workerGroup = transport.newEventLoopGroup(0);
         final NettyHttpContainer container = new NettyHttpContainer(configuration);
+        final List<Channel> channels = new ArrayList<>(acceptors);
 
         try {
             ServerBootstrap b = new ServerBootstrap();
             b.option(ChannelOption.SO_BACKLOG, 1024);
+            if (acceptors > 1) {
+                transport.enableReusePort(b);
+            }
             b.group(bossGroup, workerGroup)
-             .channel(NioServerSocketChannel.class)
-             .childHandler(new JerseyServerInitializer(baseUri, sslContext, container, configuration, true));
+             .channel(transport.getServerSocketChannelClass())
+             .childHandler(new JerseyServerInitializer(baseUri, sslContext, container, configuration, http2));
 
             int port = getPort(baseUri);
 
-            Channel ch = b.bind(port).sync().channel();
+            final Channel ch = b.bind(port).sync().channel();
+            channels.add(ch);
+            // SO_REUSEPORT: additional server channels bound to the same port, closed together with the returned one;
+            // the actual port is used in case an ephemeral port was requested
+            final int boundPort = ((InetSocketAddress) ch.localAddress()).getPort();
+            for (int i = 1; i < acceptors; i++) {
+                channels.add(b.bind(boundPort).sync().channel());
+            }
 
             ch.closeFuture().addListener(new GenericFutureListener<Future<? super Void>>() {
                 @Override
                 public void operationComplete(Future<? super Void> future) throws Exception {
-                    container.getApplicationHandler().onShutdown(container);
-
-                    bossGroup.shutdownGracefully();
-                    workerGroup.shutdownGracefully();
+                    shutdown(channels, container, bossGroup, workerGroup);
                 }
             });
 
             return ch;
-
-        } catch (InterruptedException e) {
+        } catch (Exception e) {
+            // the bind failures are thrown by sync() although not declared
+            shutdown(channels, container, bossGroup, workerGroup);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
             throw new ProcessingException(e);
         }
     }
 
+    private static void shutdown(final List<Channel> channels, final NettyHttpContainer container,
+                                 final EventLoopGroup bossGroup, final EventLoopGroup workerGroup) {
+        for (Channel channel : channels) {
+            channel.close();
+        }
+        container.shutdown();
+
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+    }
+
     private static int getPort(URI uri) {
         if (uri.getPort() == -1) {
             if ("http".equalsIgnoreCase(uri.getScheme())) {
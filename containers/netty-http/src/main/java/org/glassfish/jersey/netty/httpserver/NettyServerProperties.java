@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import org.glassfish.jersey.internal.util.PropertiesClass;
+
+/**
+ * Configuration properties of the Netty server created by {@link NettyHttpContainerProvider}.
+ *
+ * @since 2.47
+ */
+@PropertiesClass
+public final class NettyServerProperties {
+
+    /**
+     * <p>
+     *     The Netty transport used by the server. The supported values are {@code nio}, {@code epoll},
+     *     {@code io_uring} and {@code native}, the latter selecting the best native transport available. The native
+     *     transports require the Linux native libraries of Netty on the class path, the {@code io_uring} transport also
+     *     requires the Netty incubator io_uring transport. When the selected transport is not available, the server
+     *     falls back to the {@code epoll} or {@code nio} transport.
+     * </p>
+     * <p>
+     *     The default value is {@code nio}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see org.glassfish.jersey.netty.connector.internal.NettyTransport
+     */
+    public static final String TRANSPORT = "jersey.config.server.netty.transport";
+
+    /**
+     * <p>
+     *     The number of server channels accepting the connections on the server port. When greater than one and
+     *     the {@link #TRANSPORT transport} supports {@code SO_REUSEPORT} (the {@code epoll} and {@code io_uring}
+     *     transports), the given number of server channels, each served by its own acceptor thread, is bound to the same
+     *     port and the kernel balances the incoming connections among them. The value is ignored by the {@code nio}
+     *     transport that always uses a single server channel.
+     * </p>
+     * <p>
+     *     The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_ACCEPTORS}.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     */
+    public static final String ACCEPTORS = "jersey.config.server.netty.acceptors";
+
+    /**
+     * The default value of {@link #ACCEPTORS}.
+     */
+    public static final int DEFAULT_ACCEPTORS = 1;
+
+    private NettyServerProperties() {
+        // prevents instantiation
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.glassfish.jersey.netty.connector.internal.NettyTransport;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import io.netty.channel.Channel;
+import io.netty.channel.epoll.Epoll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of the server channels started by {@link NettyHttpContainerProvider}.
+ */
+public class NettyHttpContainerProviderTest {
+
+    @Path("/test")
+    public static class TestResource {
+        @GET
+        public String get() {
+            return "acceptors";
+        }
+    }
+
+    @Test
+    public void testNioAcceptors() {
+        testAcceptors(NettyTransport.NIO);
+    }
+
+    @Test
+    public void testEpollAcceptors() {
+        assumeTrue(Epoll.isAvailable(), "The epoll transport is not available.");
+        testAcceptors(NettyTransport.EPOLL);
+    }
+
+    private void testAcceptors(final String transport) {
+        final ResourceConfig config = new ResourceConfig(TestResource.class)
+                .property(NettyServerProperties.TRANSPORT, transport)
+                .property(NettyServerProperties.ACCEPTORS, 4);
+
+        // the additional acceptors are bound to the port actually chosen for the first one
+        final Channel server = NettyHttpContainerProvider.createServer(URI.create("http://localhost:0/"), config, false);
+        final Client client = ClientBuilder.newClient();
+        try {
+            final int port = ((InetSocketAddress) server.localAddress()).getPort();
+            assertTrue(port > 0);
+            for (int i = 0; i < 20; i++) {
+                assertEquals("acceptors", client.target("http://localhost:" + port).path("test").request().get(String.class));
+            }
+        } finally {
+            client.close();
+            server.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void testNonPositiveAcceptors() {
+        assumeTrue(Epoll.isAvailable(), "The epoll transport is not available.");
+        final ResourceConfig config = new ResourceConfig(TestResource.class)
+                .property(NettyServerProperties.TRANSPORT, NettyTransport.EPOLL)
+                .property(NettyServerProperties.ACCEPTORS, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> NettyHttpContainerProvider.createServer(URI.create("http://localhost:0/"), config, false));
+    }
+
+    @Test
+    public void testBindFailure() throws IOException {
+        try (ServerSocket occupied = new ServerSocket(0)) {
+            final URI uri = URI.create("http://localhost:" + occupied.getLocalPort() + "/");
+
+            final ProcessingException e = assertThrows(ProcessingException.class,
+                    () -> NettyHttpContainerProvider.createServer(uri, new ResourceConfig(TestResource.class), false));
+            assertTrue(e.getCause() instanceof BindException, String.valueOf(e.getCause()));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.glassfish.jersey.innate.VirtualThreadSupport;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.ContainerUtils;
+
+import io.netty.channel.Channel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of the {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} property.
+ */
+public class VirtualThreadPerRequestTest {
+
+    @Path("/thread")
+    public static class ThreadResource {
+
+        @GET
+        public String get() {
+            return String.valueOf(VirtualThreadSupport.isVirtualThread());
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerRequest() {
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, true);
+
+        // the property is ignored when the virtual threads are not supported by the JDK
+        assertEquals(String.valueOf(ContainerUtils.isVirtualThreadPerRequest(config)), get(config));
+    }
+
+    @Test
+    public void testPlatformThreadByDefault() {
+        assertEquals("false", get(new ResourceConfig(ThreadResource.class)));
+    }
+
+    @Test
+    public void testExecutorShutdownOnReloadAndShutdown() {
+        final ResourceConfig config = new ResourceConfig(ThreadResource.class)
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, true);
+        assumeTrue(ContainerUtils.isVirtualThreadPerRequest(config));
+
+        final NettyHttpContainer container = new NettyHttpContainer(config);
+        final ExecutorService initial = container.getExecutorService();
+
+        container.reload();
+        final ExecutorService reloaded = container.getExecutorService();
+        assertNotSame(initial, reloaded);
+        assertTrue(initial.isShutdown());
+        assertFalse(reloaded.isShutdown());
+
+        container.shutdown();
+        assertTrue(reloaded.isShutdown());
+    }
+
+    private static String get(final ResourceConfig config) {
+        final Channel server = NettyHttpContainerProvider.createServer(URI.create("http://localhost:0/"), config, false);
+        final Client client = ClientBuilder.newClient();
+        try {
+            final int port = ((InetSocketAddress) server.localAddress()).getPort();
+            return client.target("http://localhost:" + port).path("thread").request().get(String.class);
+        } finally {
+            client.close();
+            server.close().syncUninterruptibly();
+        }
+    }
+}
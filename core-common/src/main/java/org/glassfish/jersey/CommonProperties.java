@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -271,6 +271,28 @@ public final class CommonProperties {
      */
     public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_SERVER = "jersey.config.server.contentLength.buffer";
 
+    /**
+     * A {@link org.glassfish.jersey.message.BufferPool} instance the buffers used to buffer the outbound message entity
+     * (see {@link #OUTBOUND_CONTENT_LENGTH_BUFFER}) are acquired from.
+     * <p>
+     * Pooling the buffers avoids allocating a new buffer for each buffered message. A pool of fixed size buffers with
+     * hit and miss statistics is provided by {@link org.glassfish.jersey.message.StripedBufferPool}; the size of its
+     * buffers should not be smaller than the configured entity buffer size.
+     * </p>
+     * The value of this property may be overridden by the client/server variant of this property by defining the suffix
+     * to this property "<tt>.server</tt>" or "<tt>.client</tt>"
+     * (<tt>{@value}.server</tt> or  <tt>{@value}.client</tt>).
+     * <p>
+     * There is no default value, the buffers are not pooled by default.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String OUTBOUND_CONTENT_LENGTH_BUFFER_POOL = "jersey.config.contentLength.buffer.pool";
+
     /**
      * Disable some of the default providers from being loaded. The following providers extend application footprint
      * by XML dependencies, which is too heavy for native image, or by AWT which may possibly be not available by JDK 11 desktop:
@@ -389,6 +411,20 @@ public final class CommonProperties {
      */
     public static String USE_VIRTUAL_THREADS = "jersey.config.threads.use.virtual";
 
+    /**
+     * <p>
+     *     Defines whether the request scope binds the current request context to the thread only for the duration of
+     *     the request processing, using {@code java.lang.ScopedValue} on JDK 21+, instead of keeping it in a thread local
+     *     variable. When used with the HK2 injection manager, the request-scoped instances are also kept in an array
+     *     indexed by a slot assigned to each request-scoped service rather than in a map per request.
+     * </p>
+     * <p>
+     *     The default is {@code false}.
+     * </p>
+     * @since 2.47
+     */
+    public static final String REQUEST_SCOPE_SCOPED_VALUES = "jersey.config.requestScope.scopedValues";
+
     /**
      * Prevent instantiation.
      */
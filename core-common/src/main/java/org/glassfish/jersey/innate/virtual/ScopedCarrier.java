@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate.virtual;
+
+/**
+ * Carries a value bound to the current thread for the duration of a task. Unlike a {@link ThreadLocal}, the value
+ * cannot be set, it is bound when the task starts and the previous value is restored when the task finishes.
+ * <p>
+ * The value is carried by a {@code java.lang.ScopedValue} on JDK 21+ when available, which is inexpensive to bind
+ * and to read on virtual threads, or by a {@link ThreadLocal} otherwise.
+ *
+ * @param <T> type of the carried value.
+ */
+public interface ScopedCarrier<T> {
+
+    /**
+     * Get the value bound to the current thread.
+     *
+     * @return the bound value or {@code null} when no value is bound.
+     */
+    T get();
+
+    /**
+     * Run the task with the value bound to the current thread.
+     *
+     * @param value the value to be bound, may be {@code null}.
+     * @param task the task to be run.
+     */
+    void run(T value, Runnable task);
+
+    /**
+     * Return true if the value is carried by a {@code java.lang.ScopedValue}.
+     *
+     * @return whether the value is carried by a scoped value.
+     */
+    boolean isScopedValue();
+
+    /**
+     * Create a new carrier backed by a {@link ThreadLocal}.
+     *
+     * @param <T> type of the carried value.
+     * @return the new carrier.
+     */
+    static <T> ScopedCarrier<T> ofThreadLocal() {
+        return new ThreadLocalCarrier<>();
+    }
+}
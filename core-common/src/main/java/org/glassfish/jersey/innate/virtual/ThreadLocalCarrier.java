@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.innate.virtual;
+
+/**
+ * {@link ScopedCarrier} backed by a {@link ThreadLocal}.
+ *
+ * @param <T> type of the carried value.
+ */
+final class ThreadLocalCarrier<T> implements ScopedCarrier<T> {
+
+    private final ThreadLocal<T> value = new ThreadLocal<>();
+
+    @Override
+    public T get() {
+        return value.get();
+    }
+
+    @Override
+    public void run(T value, Runnable task) {
+        final T oldValue = this.value.get();
+        this.value.set(value);
+        try {
+            task.run();
+        } finally {
+            if (oldValue == null) {
+                this.value.remove();
+            } else {
+                this.value.set(oldValue);
+            }
+        }
+    }
+
+    @Override
+    public boolean isScopedValue() {
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.io.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * A capability interface that the entity stream provided to Jersey can implement, noting that the stream is able
+ * to send a region of a file directly by means of the underlying transport (e.g. using
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}), without copying the file
+ * content through a Java heap buffer.
+ *
+ * <p>
+ *     Usable by the output streams returned by the {@code ContainerResponseWriter} of a container as well as by
+ *     {@link javax.ws.rs.container.ContainerResponseContext#setEntityStream(OutputStream)}. The file based entity providers
+ *     check whether the entity stream they are given implements this interface and fall back to copying the file content
+ *     when the stream does not implement the interface or does not accept the file region.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface FileRegionOutput {
+
+    /**
+     * Write the region of the file to this stream. The region is written after any bytes written to the stream so far,
+     * the stream can be written to after the region.
+     * <p>
+     * The file channel is owned by the caller, the implementation must not use the channel once the method returns.
+     * </p>
+     *
+     * @param channel  file channel to transfer the bytes from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes to transfer.
+     * @return {@code true} if the region has been written, {@code false} if the stream cannot write the region directly
+     *         and the caller is expected to write the region content using the {@link OutputStream} methods.
+     * @throws IOException if an I/O error occurs.
+     */
+    boolean writeFileRegion(FileChannel channel, long position, long count) throws IOException;
+}
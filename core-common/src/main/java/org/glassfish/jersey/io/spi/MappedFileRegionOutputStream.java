@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.io.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A base of the container entity streams that write a {@link FileRegionOutput file region} as memory mapped buffers.
+ * <p>
+ *     The file region is mapped in buffers of a bounded size and each buffer is passed to
+ *     {@link #writeMappedBuffer(ByteBuffer)}, so that the file content is not copied into a Java heap buffer. Small regions
+ *     are declined and written using the regular stream methods since mapping a file is more expensive than copying
+ *     a few bytes. The other stream methods are delegated to the underlying container stream.
+ * </p>
+ *
+ * @since 2.47
+ */
+public abstract class MappedFileRegionOutputStream extends OutputStream implements FileRegionOutput {
+
+    /**
+     * Regions smaller than this size are not mapped.
+     */
+    private static final long MIN_MAPPED_REGION_SIZE = 64 * 1024;
+    /**
+     * Maximum size of a single mapped buffer.
+     */
+    private static final long MAX_MAPPED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private final OutputStream output;
+
+    /**
+     * Create new entity stream.
+     *
+     * @param output container response stream the stream methods are delegated to.
+     */
+    protected MappedFileRegionOutputStream(final OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Write the mapped buffer of the file region after the bytes written to the container stream so far.
+     * The method is expected to block until the buffer is written or queued for writing by the container.
+     *
+     * @param buffer read-only buffer mapping a part of the file region.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected abstract void writeMappedBuffer(ByteBuffer buffer) throws IOException;
+
+    @Override
+    public void write(final int b) throws IOException {
+        output.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b) throws IOException {
+        output.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        output.write(b, off, len);
+    }
+
+    @Override
+    public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+        if (count < MIN_MAPPED_REGION_SIZE) {
+            return false;
+        }
+
+        long current = position;
+        long remaining = count;
+        while (remaining > 0) {
+            final long size = Math.min(remaining, MAX_MAPPED_BUFFER_SIZE);
+            writeMappedBuffer(channel.map(FileChannel.MapMode.READ_ONLY, current, size));
+            current += size;
+            remaining -= size;
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+/**
+ * A pool of byte array buffers used to buffer outbound message entities.
+ * <p>
+ * The pool is used when set as a value of the {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL}
+ * property. Implementations must be thread-safe, buffers are acquired and released concurrently by the threads
+ * writing the messages.
+ * </p>
+ *
+ * @see StripedBufferPool
+ * @since 2.47
+ */
+public interface BufferPool {
+
+    /**
+     * Acquire a buffer of at least the given size. The content of the returned buffer is undefined.
+     *
+     * @param size minimal size of the buffer.
+     * @return buffer of at least {@code size} bytes.
+     */
+    byte[] acquire(int size);
+
+    /**
+     * Return a buffer previously {@link #acquire(int) acquired} from the pool. The buffer must not be used
+     * by the caller after it has been released.
+     *
+     * @param buffer buffer to be returned to the pool.
+     */
+    void release(byte[] buffer);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -74,6 +74,29 @@ public final class MessageProperties {
      */
     public static final String XML_FORMAT_OUTPUT = "jersey.config.xml.formatOutput";
 
+    /**
+     * Value of the property indicates the maximal number of JAXB {@link javax.xml.bind.Marshaller marshallers} and
+     * {@link javax.xml.bind.Unmarshaller unmarshallers} kept for reuse per JAXB context cached by the JAXB-based
+     * message body readers and writers. The pools are shared by all the clients and applications, the value
+     * configured when a pool is created is used. The pooled instances are reset to their initial properties when
+     * returned to the pool. The value of {@code 0} disables the pooling, a new instance is then created for each
+     * message.
+     * <p />
+     * The default value is <code>{@value #JAXB_DEFAULT_POOL_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String JAXB_POOL_SIZE = "jersey.config.jaxb.poolSize";
+
+    /**
+     * The default maximal number ({@value}) of JAXB marshallers and unmarshallers pooled per JAXB context.
+     *
+     * @since 2.47
+     */
+    public static final int JAXB_DEFAULT_POOL_SIZE = 16;
+
     /**
      * Value of the property indicates the buffer size to be used for I/O operations
      * on byte and character streams. The property value is expected to be a positive
@@ -123,6 +146,23 @@ public final class MessageProperties {
      */
     public static final String LEGACY_WORKERS_ORDERING = "jersey.config.workers.legacyOrdering";
 
+    /**
+     * If set to {@code true}, the {@link javax.ws.rs.ext.MessageBodyReader MessageBodyReader} and
+     * {@link javax.ws.rs.ext.MessageBodyWriter MessageBodyWriter} selected for a combination of the entity type, generic type,
+     * media type and annotations is remembered and reused even if custom providers have been consulted during the selection.
+     * <p />
+     * The selection made among the providers shipped with Jersey is always remembered. Custom providers may base their
+     * {@code isReadable} / {@code isWriteable} decision on a runtime state, hence the selection made among them is remembered
+     * only when this property is enabled.
+     * <p />
+     * The default value is {@code false}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 2.47
+     */
+    public static final String CUSTOM_WORKERS_SELECTION_CACHE = "jersey.config.workers.customSelectionCache";
+
     /**
      * Prevents instantiation.
      */
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.internal.guava.Preconditions;
+
+/**
+ * Lock-free {@link BufferPool} of fixed size heap buffers (slabs).
+ * <p>
+ * The pool keeps at most {@code capacity} released slabs in an array of slots. A thread starts looking for a free
+ * (or an empty) slot at the slot derived from the thread id and probes a few subsequent slots only, so that the threads
+ * mostly do not compete for the same slots. When no slab is found, a new one is allocated. Requests for buffers larger
+ * than the slab size are not pooled.
+ * </p>
+ * <p>
+ * The pool counts the buffer acquisitions served from the pool (hits) and the acquisitions that had to allocate
+ * a new buffer (misses).
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class StripedBufferPool implements BufferPool {
+
+    private static final int MAX_PROBES = 8;
+
+    private final int slabSize;
+    private final AtomicReferenceArray<byte[]> slabs;
+    private final int probes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new pool.
+     *
+     * @param slabSize size of the pooled buffers in bytes.
+     * @param capacity maximum number of buffers kept in the pool.
+     */
+    public StripedBufferPool(final int slabSize, final int capacity) {
+        Preconditions.checkArgument(slabSize > 0, "Slab size must be positive.");
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive.");
+
+        this.slabSize = slabSize;
+        this.slabs = new AtomicReferenceArray<>(capacity);
+        this.probes = Math.min(capacity, MAX_PROBES);
+    }
+
+    @Override
+    public byte[] acquire(final int size) {
+        if (size <= slabSize) {
+            final int capacity = slabs.length();
+            int index = stripe(capacity);
+            for (int i = 0; i < probes; i++) {
+                final byte[] slab = slabs.get(index);
+                if (slab != null && slabs.compareAndSet(index, slab, null)) {
+                    hits.increment();
+                    return slab;
+                }
+                index = index + 1 == capacity ? 0 : index + 1;
+            }
+            misses.increment();
+            return new byte[slabSize];
+        }
+
+        misses.increment();
+        return new byte[size];
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        if (buffer == null || buffer.length != slabSize) {
+            return;
+        }
+
+        final int capacity = slabs.length();
+        int index = stripe(capacity);
+        for (int i = 0; i < probes; i++) {
+            if (slabs.get(index) == null && slabs.compareAndSet(index, null, buffer)) {
+                return;
+            }
+            index = index + 1 == capacity ? 0 : index + 1;
+        }
+        // pool is full around the stripe - let the buffer be garbage collected
+    }
+
+    private static int stripe(final int capacity) {
+        return (int) (Thread.currentThread().getId() % capacity);
+    }
+
+    /**
+     * Get the size of the pooled buffers.
+     *
+     * @return slab size in bytes.
+     */
+    public int getSlabSize() {
+        return slabSize;
+    }
+
+    /**
+     * Get the maximum number of buffers kept in the pool.
+     *
+     * @return pool capacity.
+     */
+    public int getCapacity() {
+        return slabs.length();
+    }
+
+    /**
+     * Get the number of buffer acquisitions served by a pooled buffer.
+     *
+     * @return pool hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of buffer acquisitions that allocated a new buffer.
+     *
+     * @return pool miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
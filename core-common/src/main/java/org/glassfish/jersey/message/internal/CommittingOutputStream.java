@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,18 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.glassfish.jersey.innate.VirtualThreadSupport;
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+import org.glassfish.jersey.message.BufferPool;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -51,15 +53,22 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * The internal buffer can be acquired from a {@link BufferPool buffer pool} using {@link #enableBuffering(int, BufferPool)}.
+ * The buffer is returned to the pool as soon as the buffered bytes are written to the adapted output stream.
+ * </p>
+ * <p>
+ * A {@link FileRegionOutput file region} that does not fit into the internal buffer is passed to the adapted output stream
+ * if the adapted output stream is able to write the file region directly, otherwise it is copied to the adapted output stream.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements FileRegionOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
-    private final boolean isVirtualThread = VirtualThreadSupport.isVirtualThread();
 
     /**
      * Null stream provider.
@@ -85,7 +94,15 @@ public final class CommittingOutputStream extends OutputStream {
     /**
      * Entity buffer.
      */
-    private ByteArrayOutputStream buffer;
+    private byte[] buffer;
+    /**
+     * Number of bytes in the entity buffer.
+     */
+    private int count;
+    /**
+     * Pool the entity buffer has been acquired from or {@code null}.
+     */
+    private BufferPool bufferPool;
     /**
      * When {@code true}, the data are written directly to output stream and not to the buffer.
      */
@@ -136,15 +153,28 @@ public final class CommittingOutputStream extends OutputStream {
      *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
      */
     public void enableBuffering(int bufferSize) {
-        Preconditions.checkState(!isCommitted && (this.buffer == null || this.buffer.size() == 0),
-                                 COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        enableBuffering(bufferSize, null);
+    }
+
+    /**
+     * Enable buffering of the serialized entity using a buffer acquired from the buffer pool.
+     *
+     * @param bufferSize size of the buffer. When the value is less or equal to zero the buffering will be disabled and {@code -1}
+     *                   will be passed to the
+     *                   {@link org.glassfish.jersey.message.internal.OutboundMessageContext.StreamProvider#getOutputStream(int) callback}.
+     * @param bufferPool pool to acquire the buffer from. When {@code null}, a new buffer is allocated.
+     * @since 2.47
+     */
+    public void enableBuffering(int bufferSize, BufferPool bufferPool) {
+        Preconditions.checkState(!isCommitted && count == 0, COMMITTING_STREAM_BUFFERING_ILLEGAL_STATE);
+        releaseBuffer();
         this.bufferSize = bufferSize;
         if (bufferSize <= 0) {
             this.directWrite = true;
-            this.buffer = null;
         } else {
             directWrite = false;
-            buffer = new ByteArrayOutputStream(bufferSize);
+            this.bufferPool = bufferPool;
+            buffer = bufferPool == null ? new byte[bufferSize] : bufferPool.acquire(bufferSize);
         }
     }
 
@@ -187,11 +217,12 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (b.length + buffer.size() > bufferSize) {
+            if (b.length + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                System.arraycopy(b, 0, buffer, count, b.length);
+                count += b.length;
             }
         }
     }
@@ -202,11 +233,12 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b, off, len);
         } else {
-            if (len + buffer.size() > bufferSize) {
+            if (len + count > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b, off, len);
             } else {
-                buffer.write(b, off, len);
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
             }
         }
     }
@@ -217,15 +249,32 @@ public final class CommittingOutputStream extends OutputStream {
             commitStream();
             adaptedOutput.write(b);
         } else {
-            if (buffer.size() + 1 > bufferSize) {
+            if (count + 1 > bufferSize) {
                 flushBuffer(false);
                 adaptedOutput.write(b);
             } else {
-                buffer.write(b);
+                buffer[count++] = (byte) b;
             }
         }
     }
 
+    @Override
+    public boolean writeFileRegion(FileChannel channel, long position, long length) throws IOException {
+        if (!directWrite) {
+            if (length <= bufferSize - count) {
+                // the region fits into the buffer, the entity size can still be measured
+                ReaderWriter.readFully(channel, position, ByteBuffer.wrap(buffer, count, (int) length));
+                count += (int) length;
+                return true;
+            }
+            flushBuffer(false);
+        }
+
+        commitStream();
+        ReaderWriter.writeTo(channel, position, length, adaptedOutput);
+        return true;
+    }
+
     /**
      * Commit the output stream.
      *
@@ -271,22 +320,26 @@ public final class CommittingOutputStream extends OutputStream {
         if (!directWrite) {
             int currentSize;
             if (endOfStream) {
-                currentSize = buffer == null ? 0 : buffer.size();
+                currentSize = count;
             } else {
                 currentSize = -1;
             }
 
             commitStream(currentSize);
-            if (buffer != null) {
-                if (isVirtualThread && adaptedOutput != null) {
-                    adaptedOutput.write(buffer.toByteArray());
-                } else {
-                    // Virtual thread in JDK 21 are blocked by synchronized writeTo
-                    // but about 10% faster than ^ without virtual threads.
-                    buffer.writeTo(adaptedOutput);
-                }
+            if (count > 0) {
+                adaptedOutput.write(buffer, 0, count);
             }
+            releaseBuffer();
+        }
+    }
+
+    private void releaseBuffer() {
+        if (bufferPool != null && buffer != null) {
+            bufferPool.release(buffer);
         }
+        buffer = null;
+        bufferPool = null;
+        count = 0;
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,8 +22,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Produces;
@@ -32,9 +34,15 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import javax.inject.Singleton;
 
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
+ * <p>
+ * When the entity stream is a {@link FileRegionOutput}, the file is passed to the stream as a file region so that
+ * the container can send the file content without copying it through the Java heap.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -82,7 +90,13 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
-        Files.copy(t.toPath(), entityStream);
+        if (entityStream instanceof FileRegionOutput) {
+            try (FileChannel channel = FileChannel.open(t.toPath(), StandardOpenOption.READ)) {
+                ReaderWriter.writeTo(channel, 0, channel.size(), entityStream);
+            }
+        } else {
+            Files.copy(t.toPath(), entityStream);
+        }
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,7 +23,6 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -387,6 +386,21 @@ public abstract class HttpHeaderReader {
         return ACCEPTABLE_MEDIA_TYPE_LIST_READER.readList(header);
     }
 
+    /**
+     * Read the {@code Accept} header value into a list of acceptable media types sorted according to their quality.
+     * <p>
+     * Unlike {@link #readAcceptMediaType(String)}, the returned list is unmodifiable and it is shared by all the readers
+     * of the same header value.
+     * </p>
+     *
+     * @param header {@code Accept} header value.
+     * @return unmodifiable list of acceptable media types.
+     * @throws ParseException in case of a header parsing error.
+     */
+    static List<AcceptableMediaType> readCachedAcceptMediaType(String header) throws ParseException {
+        return ACCEPTABLE_MEDIA_TYPE_LIST_READER.readCachedList(header);
+    }
+
     /**
      * FIXME use somewhere in production code or remove.
      */
@@ -430,6 +444,22 @@ public abstract class HttpHeaderReader {
         return ACCEPTABLE_TOKEN_LIST_READER.readList(header);
     }
 
+    /**
+     * Read the {@code Accept-Charset} or {@code Accept-Encoding} header value into a list of acceptable tokens sorted
+     * according to their quality.
+     * <p>
+     * Unlike {@link #readAcceptToken(String)}, the returned list is unmodifiable and it is shared by all the readers
+     * of the same header value.
+     * </p>
+     *
+     * @param header {@code Accept-Charset} or {@code Accept-Encoding} header value.
+     * @return unmodifiable list of acceptable tokens.
+     * @throws ParseException in case of a header parsing error.
+     */
+    static List<AcceptableToken> readCachedAcceptToken(String header) throws ParseException {
+        return ACCEPTABLE_TOKEN_LIST_READER.readCachedList(header);
+    }
+
     /**
      * TODO javadoc.
      */
@@ -437,6 +467,22 @@ public abstract class HttpHeaderReader {
         return ACCEPTABLE_LANGUAGE_TAG_LIST_READER.readList(header);
     }
 
+    /**
+     * Read the {@code Accept-Language} header value into a list of acceptable language tags sorted according
+     * to their quality.
+     * <p>
+     * Unlike {@link #readAcceptLanguage(String)}, the returned list is unmodifiable and it is shared by all the readers
+     * of the same header value.
+     * </p>
+     *
+     * @param header {@code Accept-Language} header value.
+     * @return unmodifiable list of acceptable language tags.
+     * @throws ParseException in case of a header parsing error.
+     */
+    static List<AcceptableLanguageTag> readCachedAcceptLanguage(String header) throws ParseException {
+        return ACCEPTABLE_LANGUAGE_TAG_LIST_READER.readCachedList(header);
+    }
+
     /**
      * TODO javadoc.
      */
@@ -589,10 +635,8 @@ public abstract class HttpHeaderReader {
 
     private abstract static class QualifiedListReader<T extends Qualified> extends ListReader<T> {
         @Override
-        public List<T> readList(String header) throws ParseException {
-            List<T> l = super.readList(header);
-            Collections.sort(l, comparator);
-            return l;
+        protected void prepare(List<T> list) {
+            Collections.sort(list, comparator);
         }
 
         private final Comparator<T> comparator;
@@ -635,31 +679,45 @@ public abstract class HttpHeaderReader {
         private List<T> readList(final List<T> l, final String header)
                 throws ParseException {
 
-//            List<T> list = null;
+            l.addAll(readCachedList(header));
+            return l;
+        }
+
+        /**
+         * Get the unmodifiable parsed list of the header value. The parsed lists are cached and shared,
+         * the list elements are immutable.
+         */
+        List<T> readCachedList(final String header) throws ParseException {
             List<T> list = LIST_CACHE.getIfPresent(header);
 
             if (list == null) {
-                synchronized (LIST_CACHE) {
-                    list = LIST_CACHE.getIfPresent(header);
-                    if (list == null) {
-                        HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
-                        HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
-                        list = new LinkedList<>();
-
-                        while (reader.hasNext()) {
-                            list.add(creator.create(adapter));
-                            adapter.reset();
-                            if (reader.hasNext()) {
-                                reader.next();
-                            }
-                        }
-                        LIST_CACHE.put(header, list);
+                // The cache is concurrent, parsing the same header value in parallel just yields equal lists.
+                final HttpHeaderReader reader = new HttpHeaderReaderImpl(header);
+                final HttpHeaderListAdapter adapter = new HttpHeaderListAdapter(reader);
+                final List<T> parsed = new ArrayList<>();
+
+                while (reader.hasNext()) {
+                    parsed.add(creator.create(adapter));
+                    adapter.reset();
+                    if (reader.hasNext()) {
+                        reader.next();
                     }
                 }
+                prepare(parsed);
+
+                list = Collections.unmodifiableList(parsed);
+                LIST_CACHE.put(header, list);
             }
 
-            l.addAll(list);
-            return l;
+            return list;
+        }
+
+        /**
+         * Prepare the parsed list before it is cached.
+         *
+         * @param list parsed list.
+         */
+        protected void prepare(final List<T> list) {
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -84,6 +84,8 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         }
     };
     private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
+    private static final List<AcceptableLanguageTag> WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST =
+            Collections.singletonList(new AcceptableLanguageTag("*", null));
     private static final List<AcceptableMediaType> WILDCARD_ACCEPTABLE_TYPE_SINGLETON_LIST =
             Collections.singletonList(MediaTypes.WILDCARD_ACCEPTABLE_TYPE);
 
@@ -300,6 +302,9 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         if (values.isEmpty()) {
             return "";
         }
+        if (values.size() == 1) {
+            return values.get(0);
+        }
 
         final Iterator<String> valuesIterator = values.iterator();
         StringBuilder buffer = new StringBuilder(valuesIterator.next());
@@ -409,7 +414,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
             }
 
             try {
-                return Collections.unmodifiableList(HttpHeaderReader.readAcceptMediaType(value));
+                return HttpHeaderReader.readCachedAcceptMediaType(value);
             } catch (ParseException e) {
                 throw exception(HttpHeaders.ACCEPT, value, e);
             }
@@ -426,11 +431,11 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
         final String value = getHeaderString(HttpHeaders.ACCEPT_LANGUAGE);
 
         if (value == null || value.isEmpty()) {
-            return Collections.singletonList(new AcceptableLanguageTag("*", null));
+            return WILDCARD_ACCEPTABLE_LANGUAGE_SINGLETON_LIST;
         }
 
         try {
-            return Collections.unmodifiableList(HttpHeaderReader.readAcceptLanguage(value));
+            return HttpHeaderReader.readCachedAcceptLanguage(value);
         } catch (ParseException e) {
             throw exception(HttpHeaders.ACCEPT_LANGUAGE, value, e);
         }
@@ -439,7 +444,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
     /**
      * Get the list of language tag from the "Accept-Charset" of an HTTP request.
      *
-     * @return The list of AcceptableToken. This list
+     * @return The read-only list of AcceptableToken. This list
      * is ordered with the highest quality acceptable charset occurring first.
      */
     public List<AcceptableToken> getQualifiedAcceptCharset() {
@@ -448,7 +453,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
             if (acceptCharset == null || acceptCharset.isEmpty()) {
                 return Collections.singletonList(new AcceptableToken("*"));
             }
-            return HttpHeaderReader.readAcceptToken(acceptCharset);
+            return HttpHeaderReader.readCachedAcceptToken(acceptCharset);
         } catch (java.text.ParseException e) {
             throw exception(HttpHeaders.ACCEPT_CHARSET, acceptCharset, e);
         }
@@ -457,7 +462,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
     /**
      * Get the list of language tag from the "Accept-Charset" of an HTTP request.
      *
-     * @return The list of AcceptableToken. This list
+     * @return The read-only list of AcceptableToken. This list
      * is ordered with the highest quality acceptable charset occurring first.
      */
     public List<AcceptableToken> getQualifiedAcceptEncoding() {
@@ -466,7 +471,7 @@ public abstract class InboundMessageContext extends MessageHeaderMethods impleme
             if (acceptEncoding == null || acceptEncoding.isEmpty()) {
                 return Collections.singletonList(new AcceptableToken("*"));
             }
-            return HttpHeaderReader.readAcceptToken(acceptEncoding);
+            return HttpHeaderReader.readCachedAcceptToken(acceptEncoding);
         } catch (java.text.ParseException e) {
             throw exception("Accept-Encoding", acceptEncoding, e);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import javax.ws.rs.core.MediaType;
 import javax.inject.Singleton;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.spi.HeaderDelegateProvider;
 import static org.glassfish.jersey.message.internal.Utils.throwIllegalArgumentExceptionIfNull;
 
@@ -39,6 +40,11 @@ public class MediaTypeProvider implements HeaderDelegateProvider<MediaType> {
 
     private static final String MEDIA_TYPE_IS_NULL = LocalizationMessages.MEDIA_TYPE_IS_NULL();
 
+    /**
+     * Parsed media types are immutable, the instances parsed from the same header value are shared.
+     */
+    private static final LRU<String, MediaType> MEDIA_TYPE_CACHE = LRU.create();
+
     @Override
     public boolean supports(Class<?> type) {
         return MediaType.class.isAssignableFrom(type);
@@ -63,8 +69,15 @@ public class MediaTypeProvider implements HeaderDelegateProvider<MediaType> {
 
         throwIllegalArgumentExceptionIfNull(header, MEDIA_TYPE_IS_NULL);
 
+        MediaType mediaType = MEDIA_TYPE_CACHE.getIfPresent(header);
+        if (mediaType != null) {
+            return mediaType;
+        }
+
         try {
-            return valueOf(HttpHeaderReader.newInstance(header));
+            mediaType = valueOf(HttpHeaderReader.newInstance(header));
+            MEDIA_TYPE_CACHE.put(header, mediaType);
+            return mediaType;
         } catch (ParseException ex) {
             throw new IllegalArgumentException(
                     "Error parsing media type '" + header + "'", ex);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -177,8 +177,11 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     private List<ReaderModel> readers;
     private List<WriterModel> writers;
 
-    private final Map<MediaType, List<MessageBodyReader>> readersCache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
-    private final Map<MediaType, List<MessageBodyWriter>> writersCache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
+    private final boolean cacheCustomSelection;
+
+    // immutable after initialization
+    private Map<MediaType, List<MessageBodyReader>> readersCache = Collections.emptyMap();
+    private Map<MediaType, List<MessageBodyWriter>> writersCache = Collections.emptyMap();
 
     private static final int LOOKUP_CACHE_INITIAL_CAPACITY = 32;
     private static final float LOOKUP_CACHE_LOAD_FACTOR = 0.75f;
@@ -197,6 +200,13 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     private final Map<ModelLookupKey, List<WriterModel>> mbwLookupCache = new ConcurrentHashMap<>(
             LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
 
+    // the cache is cleared once full, the size limit prevents the unbounded growth for per-call annotation values
+    private static final int SELECTION_CACHE_MAX_SIZE = 1024;
+    private final Map<WorkerLookupKey, MessageBodyReader> mbrSelectionCache = new ConcurrentHashMap<>(
+            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
+    private final Map<WorkerLookupKey, MessageBodyWriter> mbwSelectionCache = new ConcurrentHashMap<>(
+            LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
+
     /**
      * Create a new message body factory.
      *
@@ -205,6 +215,8 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     public MessageBodyFactory(Configuration configuration) {
         this.legacyProviderOrdering = configuration != null
                 && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.LEGACY_WORKERS_ORDERING));
+        this.cacheCustomSelection = configuration != null
+                && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.CUSTOM_WORKERS_SELECTION_CACHE));
     }
 
     /**
@@ -226,17 +238,19 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         if (legacyProviderOrdering) {
             readers.sort(new LegacyWorkerComparator<>(MessageBodyReader.class));
 
+            final Map<MediaType, List<MessageBodyReader>> cache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
             for (final ReaderModel model : readers) {
                 for (final MediaType mt : model.declaredTypes()) {
-                    List<MessageBodyReader> readerList = readersCache.get(mt);
+                    List<MessageBodyReader> readerList = cache.get(mt);
 
                     if (readerList == null) {
                         readerList = new ArrayList<>();
-                        readersCache.put(mt, readerList);
+                        cache.put(mt, readerList);
                     }
                     readerList.add(model.provider());
                 }
             }
+            readersCache = Collections.unmodifiableMap(cache);
         }
 
         // Initialize writers
@@ -252,17 +266,19 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         if (legacyProviderOrdering) {
             writers.sort(new LegacyWorkerComparator<>(MessageBodyWriter.class));
 
+            final Map<MediaType, List<MessageBodyWriter>> cache = new KeyComparatorHashMap<>(MEDIA_TYPE_KEY_COMPARATOR);
             for (final AbstractEntityProviderModel<MessageBodyWriter> model : writers) {
                 for (final MediaType mt : model.declaredTypes()) {
-                    List<MessageBodyWriter> writerList = writersCache.get(mt);
+                    List<MessageBodyWriter> writerList = cache.get(mt);
 
                     if (writerList == null) {
                         writerList = new ArrayList<>();
-                        writersCache.put(mt, writerList);
+                        cache.put(mt, writerList);
                     }
                     writerList.add(model.provider());
                 }
             }
+            writersCache = Collections.unmodifiableMap(cache);
         }
     }
 
@@ -512,6 +528,70 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         }
     }
 
+    /**
+     * Key of a selected worker. Annotation arrays are compared by the equality of the annotations, the arrays shared
+     * per resource method or per injection point are matched by identity first. The hash code is computed from
+     * the annotation types only to avoid the reflective annotation hash code computation on each lookup. All empty
+     * annotation arrays are considered equal.
+     */
+    private static final class WorkerLookupKey {
+
+        private final Class<?> clazz;
+        private final Type type;
+        private final MediaType mediaType;
+        private final Annotation[] annotations;
+        private final int hash;
+
+        private WorkerLookupKey(final Class<?> clazz, final Type type,
+                                final MediaType mediaType, final Annotation[] annotations) {
+            this.clazz = clazz;
+            this.type = type;
+            this.mediaType = mediaType;
+            this.annotations = annotations == null || annotations.length == 0 ? null : annotations;
+
+            int result = clazz != null ? clazz.hashCode() : 0;
+            result = 31 * result + (type != null ? type.hashCode() : 0);
+            result = 31 * result + (mediaType != null ? mediaType.hashCode() : 0);
+            if (this.annotations != null) {
+                for (final Annotation annotation : this.annotations) {
+                    result = 31 * result + annotation.annotationType().hashCode();
+                }
+            }
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final WorkerLookupKey that = (WorkerLookupKey) o;
+
+            return hash == that.hash
+                    && clazz == that.clazz
+                    && (type != null ? type.equals(that.type) : that.type == null)
+                    && (mediaType != null ? mediaType.equals(that.mediaType) : that.mediaType == null)
+                    && (annotations == that.annotations || Arrays.equals(annotations, that.annotations));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static <K, V> void cacheSelection(final Map<K, V> cache, final K key, final V selected) {
+        if (cache.size() >= SELECTION_CACHE_MAX_SIZE) {
+            // concurrent lookups may overshoot the limit slightly before the cache is cleared
+            cache.clear();
+        }
+        cache.putIfAbsent(key, selected);
+    }
+
     private static void addReaders(final List<ReaderModel> models, final Set<MessageBodyReader> readers, final boolean custom) {
         for (final MessageBodyReader provider : readers) {
             final List<MediaType> values = MediaTypes.createFrom(provider.getClass().getAnnotation(Consumes.class));
@@ -651,6 +731,18 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                                                            final List<ReaderModel> models,
                                                            final PropertiesDelegate propertiesDelegate) {
 
+        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
+        // the remembered selection would bypass the tracing of the selection process
+        final WorkerLookupKey selectionKey = tracingLogger.isLogEnabled(MsgTraceEvent.MBR_SELECTED)
+                ? null
+                : new WorkerLookupKey(c, t, mediaType, as);
+        if (selectionKey != null) {
+            final MessageBodyReader<T> cached = (MessageBodyReader<T>) mbrSelectionCache.get(selectionKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         // Ensure a parameter-less lookup type to prevent excessive memory consumption
         // reported in JERSEY-2297
         final MediaType lookupType = mediaType == null || mediaType.getParameters().isEmpty()
@@ -675,11 +767,12 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             return null;
         }
 
-        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
+        boolean cacheable = selectionKey != null;
         MessageBodyReader<T> selected = null;
         final Iterator<ReaderModel> iterator = readers.iterator();
         while (iterator.hasNext()) {
             final ReaderModel model = iterator.next();
+            cacheable &= cacheCustomSelection || !model.isCustom();
             if (model.isReadable(c, t, as, mediaType)) {
                 selected = (MessageBodyReader<T>) model.provider();
                 tracingLogger.log(MsgTraceEvent.MBR_SELECTED, selected);
@@ -695,6 +788,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             }
         }
 
+        if (cacheable && selected != null) {
+            cacheSelection(mbrSelectionCache, selectionKey, selected);
+        }
         return selected;
     }
 
@@ -770,6 +866,18 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                                                            final MediaType mediaType,
                                                            final List<WriterModel> models,
                                                            final PropertiesDelegate propertiesDelegate) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
+        // the remembered selection would bypass the tracing of the selection process
+        final WorkerLookupKey selectionKey = tracingLogger.isLogEnabled(MsgTraceEvent.MBW_SELECTED)
+                ? null
+                : new WorkerLookupKey(c, t, mediaType, as);
+        if (selectionKey != null) {
+            final MessageBodyWriter<T> cached = (MessageBodyWriter<T>) mbwSelectionCache.get(selectionKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         // Ensure  a parameter-less lookup type to prevent excessive memory consumption
         // reported in JERSEY-2297
         final MediaType lookupType = mediaType == null || mediaType.getParameters().isEmpty()
@@ -795,11 +903,12 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             return null;
         }
 
-        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
+        boolean cacheable = selectionKey != null;
         MessageBodyWriter<T> selected = null;
         final Iterator<WriterModel> iterator = writers.iterator();
         while (iterator.hasNext()) {
             final WriterModel model = iterator.next();
+            cacheable &= cacheCustomSelection || !model.isCustom();
             if (model.isWriteable(c, t, as, mediaType)) {
                 selected = (MessageBodyWriter<T>) model.provider();
                 tracingLogger.log(MsgTraceEvent.MBW_SELECTED, selected);
@@ -815,6 +924,9 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             }
         }
 
+        if (cacheable && selected != null) {
+            cacheSelection(mbwSelectionCache, selectionKey, selected);
+        }
         return selected;
     }
 
@@ -18,8 +18,10 @@ package org.glassfish.jersey.message.internal;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 
 /**
  * A {@code "dev/null"} output stream - an output stream implementation that discards all the
@@ -31,7 +33,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
  * @author Miroslav Fuksa
  * @author Marek Potociar
  */
-public class NullOutputStream extends OutputStream {
+public class NullOutputStream extends OutputStream implements FileRegionOutput {
 
     private boolean isClosed;
 
@@ -50,6 +52,12 @@ public class NullOutputStream extends OutputStream {
         }
     }
 
+    @Override
+    public boolean writeFileRegion(FileChannel channel, long position, long count) throws IOException {
+        checkClosed();
+        return true;
+    }
+
     @Override
     public void flush() throws IOException {
         checkClosed();
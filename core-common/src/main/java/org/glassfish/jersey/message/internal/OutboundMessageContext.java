@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -47,6 +47,7 @@ import org.glassfish.jersey.internal.util.collection.LazyValue;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.io.spi.FlushedCloseable;
+import org.glassfish.jersey.message.BufferPool;
 
 /**
  * Base outbound message context implementation.
@@ -502,7 +503,8 @@ public class OutboundMessageContext extends MessageHeaderMethods implements Safe
 
     /**
      * Enable a buffering of serialized entity. The buffering will be configured from configuration. The property
-     * determining the size of the buffer is {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER}.
+     * determining the size of the buffer is {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER}, the buffer is acquired
+     * from the {@link CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER_POOL buffer pool} if configured.
      * </p>
      * The buffering functionality is by default disabled and could be enabled by calling this method. In this case
      * this method must be called before first bytes are written to the {@link #getEntityStream() entity stream}.
@@ -512,11 +514,10 @@ public class OutboundMessageContext extends MessageHeaderMethods implements Safe
     public void enableBuffering(Configuration configuration) {
         final Integer bufferSize = CommonProperties.getValue(configuration.getProperties(),
                 configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, Integer.class);
-        if (bufferSize != null) {
-            committingOutputStream.enableBuffering(bufferSize);
-        } else {
-            committingOutputStream.enableBuffering();
-        }
+        final BufferPool bufferPool = CommonProperties.getValue(configuration.getProperties(),
+                configuration.getRuntimeType(), CommonProperties.OUTBOUND_CONTENT_LENGTH_BUFFER_POOL, BufferPool.class);
+        committingOutputStream.enableBuffering(
+                bufferSize != null ? bufferSize : CommittingOutputStream.DEFAULT_BUFFER_SIZE, bufferPool);
     }
 
     /**
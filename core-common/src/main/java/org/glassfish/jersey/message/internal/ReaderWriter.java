@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,12 +17,15 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
@@ -37,6 +40,7 @@ import javax.ws.rs.core.MediaType;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.message.MessageProperties;
 
 /**
@@ -100,6 +104,58 @@ public final class ReaderWriter {
         }
     }
 
+    /**
+     * Write a region of a file to an output stream.
+     * <p>
+     * The region is passed to the output stream if the stream is a {@link FileRegionOutput} accepting the region,
+     * otherwise the region is copied to the output stream using positional reads of the file channel.
+     * </p>
+     *
+     * @param channel  the file channel to read from.
+     * @param position position of the first byte of the region in the file.
+     * @param count    number of bytes to write.
+     * @param out      the output stream to write to.
+     * @throws IOException if there is an error reading or writing bytes or the file ends before the end of the region.
+     * @since 2.47
+     */
+    public static void writeTo(FileChannel channel, long position, long count, OutputStream out) throws IOException {
+        if (out instanceof FileRegionOutput && ((FileRegionOutput) out).writeFileRegion(channel, position, count)) {
+            return;
+        }
+
+        final byte[] data = new byte[(int) Math.min(count, BUFFER_SIZE)];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        long current = position;
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(remaining, data.length));
+            readFully(channel, current, buffer);
+            out.write(data, 0, buffer.position());
+            current += buffer.position();
+            remaining -= buffer.position();
+        }
+    }
+
+    /**
+     * Fill the remaining space of the buffer with the bytes of the file channel starting at the given position.
+     *
+     * @param channel  the file channel to read from.
+     * @param position file position to start reading at.
+     * @param buffer   the buffer to fill.
+     * @throws IOException if there is an error reading bytes or the file ends before the buffer is filled.
+     */
+    static void readFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new EOFException(LocalizationMessages.FILE_REGION_TRUNCATED());
+            }
+            current += read;
+        }
+    }
+
     /**
      * Read characters from an input stream and write them to an output stream.
      *
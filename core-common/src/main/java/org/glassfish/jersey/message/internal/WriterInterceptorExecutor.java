@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -40,6 +41,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
@@ -251,7 +253,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      * {@link javax.ws.rs.ext.MessageBodyWriter}s should not close the given {@link java.io.OutputStream stream}. This output
      * stream makes sure that the stream is not closed even if MBW tries to do it.
      */
-    private static class UnCloseableOutputStream extends OutputStream {
+    private static class UnCloseableOutputStream extends OutputStream implements FileRegionOutput {
 
         private final OutputStream original;
         private final MessageBodyWriter writer;
@@ -276,6 +278,12 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             original.write(b, off, len);
         }
 
+        @Override
+        public boolean writeFileRegion(final FileChannel channel, final long position, final long count) throws IOException {
+            return original instanceof FileRegionOutput
+                    && ((FileRegionOutput) original).writeFileRegion(channel, position, count);
+        }
+
         @Override
         public void flush() throws IOException {
             original.flush();
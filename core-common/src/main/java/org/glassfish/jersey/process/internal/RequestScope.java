@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,12 +20,16 @@ import java.util.concurrent.Callable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.innate.VirtualThreadSupport;
+import org.glassfish.jersey.innate.virtual.ScopedCarrier;
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.Errors;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.Producer;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 
 import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
 
@@ -96,6 +100,12 @@ import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
  * which may change it's state during each request-scoped task execution for
  * which this scope context is used.
  * </p>
+ * <p>
+ * The current scope context is held in a thread local variable by default. When the request scope is
+ * {@link #useScopedValues() switched to the scoped values}, the current scope context is bound to the thread
+ * only for the duration of the task, by a {@code java.lang.ScopedValue} where available, which is inexpensive
+ * on virtual threads.
+ * </p>
  *
  * @author Marek Potociar
  * @author Miroslav Fuksa
@@ -108,6 +118,10 @@ public abstract class RequestScope {
      * A thread local copy of the current scope context.
      */
     private final ThreadLocal<RequestContext> currentRequestContext = new ThreadLocal<>();
+    /**
+     * The carrier of the current scope context used instead of the thread local when switched to the scoped values.
+     */
+    private volatile ScopedCarrier<RequestContext> scopedRequestContext;
     private volatile boolean isActive = true;
 
     public boolean isActive() {
@@ -118,6 +132,27 @@ public abstract class RequestScope {
         isActive = false;
     }
 
+    /**
+     * Switch the request scope to bind the current scope context to the thread only for the duration of the task
+     * run in the scope, using a {@code java.lang.ScopedValue} when available on JDK 21+. The request scope is expected
+     * to be switched before the first task is run in the scope.
+     *
+     * @since 2.47
+     */
+    public void useScopedValues() {
+        scopedRequestContext = VirtualThreadSupport.scopedCarrier();
+    }
+
+    /**
+     * Informs whether the request scope has been {@link #useScopedValues() switched to the scoped values}.
+     *
+     * @return {@code true} when the current scope context is bound to the thread for the duration of the task only.
+     * @since 2.47
+     */
+    public boolean isUsingScopedValues() {
+        return scopedRequestContext != null;
+    }
+
     /**
      * Get a new reference for to currently running request scope context. This call
      * prevents automatic {@link RequestContext#release() release} of the scope
@@ -149,7 +184,7 @@ public abstract class RequestScope {
     public RequestContext current() {
         checkState(isActive, "Request scope has been already shut down.");
 
-        final RequestContext scopeInstance = currentRequestContext.get();
+        final RequestContext scopeInstance = getCurrent();
         checkState(scopeInstance != null, "Not inside a request scope.");
 
         return scopeInstance;
@@ -157,7 +192,12 @@ public abstract class RequestScope {
 
     private RequestContext retrieveCurrent() {
         checkState(isActive, "Request scope has been already shut down.");
-        return currentRequestContext.get();
+        return getCurrent();
+    }
+
+    private RequestContext getCurrent() {
+        final ScopedCarrier<RequestContext> scoped = scopedRequestContext;
+        return scoped == null ? currentRequestContext.get() : scoped.get();
     }
 
     /**
@@ -225,7 +265,9 @@ public abstract class RequestScope {
      */
     protected void activate(RequestContext context, RequestContext oldContext) {
         checkState(isActive, "Request scope has been already shut down.");
-        currentRequestContext.set(context);
+        if (scopedRequestContext == null) {
+            currentRequestContext.set(context);
+        }
     }
 
     /**
@@ -234,7 +276,9 @@ public abstract class RequestScope {
      * @param context storage with request scoped objects.
      */
     protected void resume(RequestContext context) {
-        currentRequestContext.set(context);
+        if (scopedRequestContext == null) {
+            currentRequestContext.set(context);
+        }
     }
 
     /**
@@ -261,8 +305,9 @@ public abstract class RequestScope {
     public void runInScope(RequestContext context, Runnable task) {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            Errors.process(task);
+            final RequestContext referencedContext = context.getReference();
+            activate(referencedContext, oldContext);
+            process(referencedContext, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -285,7 +330,7 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            Errors.process(task);
+            process(context, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -310,8 +355,9 @@ public abstract class RequestScope {
     public <T> T runInScope(RequestContext context, Callable<T> task) throws Exception {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            return Errors.process(task);
+            final RequestContext referencedContext = context.getReference();
+            activate(referencedContext, oldContext);
+            return process(referencedContext, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -337,7 +383,7 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            return Errors.process(task);
+            return process(context, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -361,8 +407,9 @@ public abstract class RequestScope {
     public <T> T runInScope(RequestContext context, Producer<T> task) {
         final RequestContext oldContext = retrieveCurrent();
         try {
-            activate(context.getReference(), oldContext);
-            return Errors.process(task);
+            final RequestContext referencedContext = context.getReference();
+            activate(referencedContext, oldContext);
+            return process(referencedContext, task);
         } finally {
             release(context);
             resume(oldContext);
@@ -387,13 +434,74 @@ public abstract class RequestScope {
         final RequestContext context = createContext();
         try {
             activate(context, oldContext);
-            return Errors.process(task);
+            return process(context, task);
         } finally {
             release(context);
             resume(oldContext);
         }
     }
 
+    private void process(RequestContext context, Runnable task) {
+        final ScopedCarrier<RequestContext> scoped = scopedRequestContext;
+        if (scoped == null) {
+            Errors.process(task);
+        } else {
+            scoped.run(context, () -> Errors.process(task));
+        }
+    }
+
+    private <T> T process(RequestContext context, Callable<T> task) throws Exception {
+        final ScopedCarrier<RequestContext> scoped = scopedRequestContext;
+        if (scoped == null) {
+            return Errors.process(task);
+        }
+        final ScopedTask<T> scopedTask = new ScopedTask<>(task);
+        scoped.run(context, scopedTask);
+        if (scopedTask.exception != null) {
+            throw scopedTask.exception;
+        }
+        return scopedTask.result;
+    }
+
+    private <T> T process(RequestContext context, Producer<T> task) {
+        final ScopedCarrier<RequestContext> scoped = scopedRequestContext;
+        if (scoped == null) {
+            return Errors.process(task);
+        }
+        final ScopedTask<T> scopedTask = new ScopedTask<>(task);
+        scoped.run(context, scopedTask);
+        return scopedTask.result;
+    }
+
+    /**
+     * Task run with the scope context bound to the thread, keeps the result or the checked exception of the task.
+     */
+    private static final class ScopedTask<T> implements Runnable {
+
+        private final Callable<T> task;
+        private T result;
+        private Exception exception;
+
+        private ScopedTask(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (task instanceof Producer) {
+                result = Errors.process((Producer<T>) task);
+                return;
+            }
+            try {
+                result = Errors.process(task);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                exception = e;
+            }
+        }
+    }
+
     /**
      * Configurator which initializes and register {@link RequestScope} instance int {@link InjectionManager} and
      * {@link BootstrapBag}.
@@ -409,6 +517,10 @@ public abstract class RequestScope {
         @Override
         public void postInit(InjectionManager injectionManager, BootstrapBag bootstrapBag) {
             RequestScope requestScope = injectionManager.getInstance(RequestScope.class);
+            if (bootstrapBag.getConfiguration() != null && PropertiesHelper.isProperty(
+                    bootstrapBag.getConfiguration().getProperty(CommonProperties.REQUEST_SCOPE_SCOPED_VALUES))) {
+                requestScope.useScopedValues();
+            }
             bootstrapBag.setRequestScope(requestScope);
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -126,7 +126,8 @@ public final class PathPattern extends PatternWithGroups {
     public PathPattern(PathTemplate template) {
         super(postfixWithCapturingGroup(template.getPattern().getRegex()),
                 addIndexForRightHandPathCapturingGroup(template.getNumberOfRegexGroups(),
-                        template.getPattern().getGroupIndexes()));
+                        template.getPattern().getGroupIndexes()),
+                SegmentMatcher.compile(template.getTemplate(), RightHandPath.capturingZeroOrMoreSegments));
 
         this.template = template;
     }
@@ -150,7 +151,8 @@ public final class PathPattern extends PatternWithGroups {
     public PathPattern(PathTemplate template, RightHandPath rhpp) {
         super(postfixWithCapturingGroup(template.getPattern().getRegex(), rhpp),
                 addIndexForRightHandPathCapturingGroup(template.getNumberOfRegexGroups(),
-                        template.getPattern().getGroupIndexes()));
+                        template.getPattern().getGroupIndexes()),
+                SegmentMatcher.compile(template.getTemplate(), rhpp));
 
         this.template = template;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,6 +50,10 @@ public class PatternWithGroups {
      * The array of group indexes to capturing groups.
      */
     private final int[] groupIndexes;
+    /**
+     * The matcher used instead of the regular expression for simple templates or {@code null}.
+     */
+    private final SegmentMatcher segmentMatcher;
 
     /**
      * Construct an empty pattern.
@@ -58,6 +62,7 @@ public class PatternWithGroups {
         this.regex = "";
         this.regexPattern = null;
         this.groupIndexes = EMPTY_INT_ARRAY;
+        this.segmentMatcher = null;
     }
 
     /**
@@ -85,6 +90,17 @@ public class PatternWithGroups {
         this(compile(regex), groupIndexes);
     }
 
+    /**
+     * Construct a new pattern matched by the segment matcher, if not {@code null}, instead of the regular expression.
+     *
+     * @param regex          the regular expression.
+     * @param groupIndexes   the array of group indexes to capturing groups.
+     * @param segmentMatcher the matcher producing the same results as the regular expression or {@code null}.
+     */
+    PatternWithGroups(final String regex, final int[] groupIndexes, final SegmentMatcher segmentMatcher) {
+        this(compile(regex), groupIndexes, segmentMatcher);
+    }
+
     private static Pattern compile(final String regex) throws PatternSyntaxException {
         return (regex == null || regex.isEmpty()) ? null : Pattern.compile(regex);
     }
@@ -107,6 +123,19 @@ public class PatternWithGroups {
      * @throws IllegalArgumentException if the regexPattern is {@code null}.
      */
     public PatternWithGroups(final Pattern regexPattern, final int[] groupIndexes) throws IllegalArgumentException {
+        this(regexPattern, groupIndexes, null);
+    }
+
+    /**
+     * Construct a new pattern matched by the segment matcher, if not {@code null}, instead of the regular expression.
+     *
+     * @param regexPattern   the regular expression pattern.
+     * @param groupIndexes   the array of group indexes to capturing groups.
+     * @param segmentMatcher the matcher producing the same results as the regular expression or {@code null}.
+     * @throws IllegalArgumentException if the regexPattern is {@code null}.
+     */
+    PatternWithGroups(final Pattern regexPattern, final int[] groupIndexes, final SegmentMatcher segmentMatcher)
+            throws IllegalArgumentException {
         if (regexPattern == null) {
             throw new IllegalArgumentException();
         }
@@ -114,6 +143,7 @@ public class PatternWithGroups {
         this.regex = regexPattern.toString();
         this.regexPattern = regexPattern;
         this.groupIndexes = groupIndexes.clone();
+        this.segmentMatcher = segmentMatcher;
     }
 
     /**
@@ -258,8 +288,8 @@ public class PatternWithGroups {
         }
 
         // Match regular expression
-        Matcher m = regexPattern.matcher(cs);
-        if (!m.matches()) {
+        final MatchResult m = matches(cs);
+        if (m == null) {
             return null;
         }
 
@@ -267,7 +297,23 @@ public class PatternWithGroups {
             return EMPTY_STRING_MATCH_RESULT;
         }
 
-        return (groupIndexes.length > 0) ? new GroupIndexMatchResult(m) : m;
+        // the segment matcher groups are numbered the same way as the template variables
+        return (groupIndexes.length > 0 && segmentMatcher == null) ? new GroupIndexMatchResult(m) : m;
+    }
+
+    /**
+     * Match the whole char sequence either by the segment matcher or by the regular expression.
+     *
+     * @param cs the char sequence to match.
+     * @return the match result or {@code null} if no match occurs.
+     */
+    private MatchResult matches(final CharSequence cs) {
+        if (segmentMatcher != null) {
+            return segmentMatcher.match(cs);
+        }
+
+        final Matcher m = regexPattern.matcher(cs);
+        return m.matches() ? m : null;
     }
 
     /**
@@ -295,8 +341,8 @@ public class PatternWithGroups {
         }
 
         // Match the regular expression
-        Matcher m = regexPattern.matcher(cs);
-        if (!m.matches()) {
+        final MatchResult m = matches(cs);
+        if (m == null) {
             return false;
         }
 
@@ -346,8 +392,8 @@ public class PatternWithGroups {
         }
 
         // Match the regular expression
-        Matcher m = regexPattern.matcher(cs);
-        if (!m.matches()) {
+        final MatchResult m = matches(cs);
+        if (m == null) {
             return false;
         }
 
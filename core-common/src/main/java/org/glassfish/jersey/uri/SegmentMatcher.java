@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.uri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+/**
+ * Matcher of simple URI templates that scans the matched characters directly instead of using a regular expression.
+ * <p>
+ * A simple template consists of literal characters that do not need to be encoded in a URI path and of template variables
+ * {@code {name}} or {@code {name: [^/]+}}, i.e. variables matching a non-empty sequence of characters other than
+ * {@code '/'}. The matcher produces the same results as the regular expression the template is compiled to
+ * by {@link org.glassfish.jersey.uri.internal.UriTemplateParser}, including the backtracking order of the greedy
+ * variables and the optional {@link PathPattern.RightHandPath right hand path} capturing group. The groups of the returned
+ * {@link MatchResult} are numbered the same way as the groups of the regular expression.
+ * </p>
+ * <p>
+ * Any other template is not compiled by this class and has to be matched by the regular expression.
+ * </p>
+ *
+ * @since 2.47
+ */
+final class SegmentMatcher {
+
+    private static final String DEFAULT_VARIABLE_REGEX = "[^/]+";
+
+    /**
+     * Literal preceding each variable, the last literal follows the last variable.
+     */
+    private final String[] literals;
+    private final int variables;
+    private final PathPattern.RightHandPath rightHandPath;
+    private final int minLength;
+
+    private SegmentMatcher(final List<String> literals, final PathPattern.RightHandPath rightHandPath) {
+        this.literals = literals.toArray(new String[0]);
+        this.variables = this.literals.length - 1;
+        this.rightHandPath = rightHandPath;
+
+        int length = variables;
+        for (final String literal : this.literals) {
+            length += literal.length();
+        }
+        this.minLength = length;
+    }
+
+    /**
+     * Compile the template into a matcher.
+     *
+     * @param template      template to be compiled.
+     * @param rightHandPath right hand path pattern appended to the template, {@code null} if none.
+     * @return compiled matcher or {@code null} if the template is not a simple template.
+     */
+    static SegmentMatcher compile(final String template, final PathPattern.RightHandPath rightHandPath) {
+        if (template == null || template.isEmpty()) {
+            return null;
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i);
+            if (c == '{') {
+                final int end = template.indexOf('}', i);
+                if (end == -1 || !isSimpleVariable(template, i + 1, end)) {
+                    return null;
+                }
+                if (!literals.isEmpty() && literal.length() == 0) {
+                    // adjacent variables would need backtracking over the code points, not the characters
+                    return null;
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i = end + 1;
+            } else if (isLiteralCharacter(c)) {
+                literal.append(c);
+                i++;
+            } else {
+                return null;
+            }
+        }
+
+        // the trailing slash is not part of the pattern followed by a right hand path
+        if (rightHandPath != null && literal.length() > 0 && literal.charAt(literal.length() - 1) == '/') {
+            literal.setLength(literal.length() - 1);
+        }
+        literals.add(literal.toString());
+
+        return new SegmentMatcher(literals, rightHandPath);
+    }
+
+    private static boolean isSimpleVariable(final String template, final int start, final int end) {
+        // the template parser ignores white spaces in the variable declaration
+        final StringBuilder variable = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = template.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                variable.append(c);
+            }
+        }
+
+        final int colon = variable.indexOf(":");
+        final int nameEnd = colon == -1 ? variable.length() : colon;
+        if (nameEnd == 0 || !(Character.isLetterOrDigit(variable.charAt(0)) || variable.charAt(0) == '_')) {
+            return false;
+        }
+        for (int i = 1; i < nameEnd; i++) {
+            final char c = variable.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.')) {
+                return false;
+            }
+        }
+
+        return colon == -1 || DEFAULT_VARIABLE_REGEX.equals(variable.substring(colon + 1));
+    }
+
+    /**
+     * Literal characters that are neither encoded in a path template nor escaped in the template regular expression.
+     */
+    private static boolean isLiteralCharacter(final char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        switch (c) {
+            case '-':
+            case '.':
+            case '_':
+            case '~':
+            case '/':
+            case '!':
+            case '$':
+            case '&':
+            case '\'':
+            case '(':
+            case ')':
+            case '*':
+            case '+':
+            case ',':
+            case ';':
+            case '=':
+            case ':':
+            case '@':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Match the whole character sequence.
+     *
+     * @param input character sequence to be matched.
+     * @return match result or {@code null} if the input does not match.
+     */
+    MatchResult match(final CharSequence input) {
+        if (input.length() < minLength) {
+            return null;
+        }
+
+        final int groups = variables + (rightHandPath == null ? 0 : 1);
+        final int[] bounds = new int[2 * groups];
+        return match(input, 0, 0, bounds) ? new SegmentMatchResult(input, bounds) : null;
+    }
+
+    private boolean match(final CharSequence input, final int variable, int position, final int[] bounds) {
+        final String literal = literals[variable];
+        if (!regionMatches(input, position, literal)) {
+            return false;
+        }
+        position += literal.length();
+
+        if (variable == variables) {
+            return matchRightHandPath(input, position, bounds);
+        }
+
+        int max = position;
+        while (max < input.length() && input.charAt(max) != '/') {
+            max++;
+        }
+        // greedy, the longest value is tried first
+        for (int end = max; end > position; end--) {
+            bounds[2 * variable] = position;
+            bounds[2 * variable + 1] = end;
+            if (match(input, variable + 1, end, bounds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchRightHandPath(final CharSequence input, final int position, final int[] bounds) {
+        final int length = input.length();
+        if (rightHandPath == null) {
+            return position == length;
+        }
+
+        final int group = 2 * variables;
+        if (position == length) {
+            // the optional group did not participate in the match
+            bounds[group] = -1;
+            bounds[group + 1] = -1;
+            return true;
+        }
+        if (input.charAt(position) != '/') {
+            return false;
+        }
+        if (rightHandPath == PathPattern.RightHandPath.capturingZeroSegments) {
+            if (length - position != 1) {
+                return false;
+            }
+        } else {
+            for (int i = position + 1; i < length; i++) {
+                if (isLineTerminator(input.charAt(i))) {
+                    // not matched by '.'
+                    return false;
+                }
+            }
+        }
+        bounds[group] = position;
+        bounds[group + 1] = length;
+        return true;
+    }
+
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean regionMatches(final CharSequence input, final int offset, final String literal) {
+        final int length = literal.length();
+        if (offset + length > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(offset + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Match result backed by the matched character sequence and the group boundaries.
+     */
+    private static final class SegmentMatchResult implements MatchResult {
+
+        private final CharSequence input;
+        private final int[] bounds;
+
+        private SegmentMatchResult(final CharSequence input, final int[] bounds) {
+            this.input = input;
+            this.bounds = bounds;
+        }
+
+        @Override
+        public int start() {
+            return 0;
+        }
+
+        @Override
+        public int start(final int group) {
+            checkGroup(group);
+            return group == 0 ? 0 : bounds[2 * (group - 1)];
+        }
+
+        @Override
+        public int end() {
+            return input.length();
+        }
+
+        @Override
+        public int end(final int group) {
+            checkGroup(group);
+            return group == 0 ? input.length() : bounds[2 * (group - 1) + 1];
+        }
+
+        @Override
+        public String group() {
+            return input.toString();
+        }
+
+        @Override
+        public String group(final int group) {
+            final int start = start(group);
+            return start == -1 ? null : input.subSequence(start, end(group)).toString();
+        }
+
+        @Override
+        public int groupCount() {
+            return bounds.length / 2;
+        }
+
+        private void checkGroup(final int group) {
+            if (group < 0 || group > groupCount()) {
+                throw new IndexOutOfBoundsException("No group " + group);
+            }
+        }
+    }
+}
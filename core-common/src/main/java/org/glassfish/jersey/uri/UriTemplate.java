@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -30,6 +30,7 @@ import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.internal.util.collection.LRU;
 import org.glassfish.jersey.uri.internal.UriPart;
 import org.glassfish.jersey.uri.internal.UriTemplateParser;
 
@@ -43,6 +44,12 @@ import org.glassfish.jersey.uri.internal.UriTemplateParser;
 public class UriTemplate {
     private static final String[] EMPTY_VALUES = new String[0];
 
+    /**
+     * Cache of the parsed URI parts of the templates expanded by the static {@code createURI} methods
+     * and by {@link #resolveTemplateValues(UriComponent.Type, String, boolean, Map)}.
+     */
+    private static final LRU<String, List<UriPart>> EXPANSION_PLANS = LRU.create();
+
     /**
      * Order the templates according to JAX-RS specification.
      * <p>
@@ -164,6 +171,18 @@ public class UriTemplate {
      * Get all UriParts, not only the variables
      */
     private final List<UriPart> uriParts;
+
+    /**
+     * For each of the {@link #uriParts}, the index of the unique template variable in order of occurrence,
+     * or {@code -1} if the part is not a template.
+     */
+    private final int[] valueIndexes;
+
+    /**
+     * The number of unique template variables.
+     */
+    private final int numOfUniqueVariables;
+
     /**
      * The number of explicit regular expressions declared for template
      * variables.
@@ -190,6 +209,8 @@ public class UriTemplate {
         this.endsWithSlash = false;
         this.templateVariables = Collections.emptyList();
         this.uriParts = Collections.emptyList();
+        this.valueIndexes = new int[0];
+        this.numOfUniqueVariables = 0;
         this.numOfExplicitRegexes = this.numOfCharacters = this.numOfRegexGroups = 0;
     }
 
@@ -250,6 +271,23 @@ public class UriTemplate {
         this.templateVariables = Collections.unmodifiableList(templateParser.getNames());
 
         this.uriParts = templateParser.getUriParts();
+
+        this.valueIndexes = new int[uriParts.size()];
+        final Map<String, Integer> uniqueVariables = new HashMap<>();
+        for (int i = 0; i < valueIndexes.length; i++) {
+            final UriPart uriPart = uriParts.get(i);
+            if (uriPart.isTemplate()) {
+                Integer index = uniqueVariables.get(uriPart.getPart());
+                if (index == null) {
+                    index = uniqueVariables.size();
+                    uniqueVariables.put(uriPart.getPart(), index);
+                }
+                valueIndexes[i] = index;
+            } else {
+                valueIndexes[i] = -1;
+            }
+        }
+        this.numOfUniqueVariables = uniqueVariables.size();
     }
 
     /**
@@ -259,7 +297,8 @@ public class UriTemplate {
      * @return the URI pattern.
      */
     private static PatternWithGroups initUriPattern(UriTemplateParser templateParser) {
-        return new PatternWithGroups(templateParser.getPattern(), templateParser.getGroupIndexes());
+        return new PatternWithGroups(templateParser.getPattern(), templateParser.getGroupIndexes(),
+                SegmentMatcher.compile(templateParser.getTemplate(), null));
     }
 
     /**
@@ -599,6 +638,28 @@ public class UriTemplate {
      * @return the URI.
      */
     public final String createURI(final String[] values, final int offset, final int length) {
+        final int available = Math.min(length, numOfUniqueVariables);
+        boolean allValuesPresent = true;
+        for (int i = offset; i < offset + available; i++) {
+            if (values[i] == null) {
+                allValuesPresent = false;
+                break;
+            }
+        }
+
+        if (allValuesPresent) {
+            // every unique template variable consumes exactly one value, in order of occurrence
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < valueIndexes.length; i++) {
+                final int index = valueIndexes[i];
+                if (index == -1) {
+                    sb.append(uriParts.get(i).getPart());
+                } else {
+                    sb.append(index < available ? values[offset + index] : null);
+                }
+            }
+            return sb.toString();
+        }
 
         TemplateValueStrategy ns = new TemplateValueStrategy() {
             private final int lengthPlusOffset = length + offset;
@@ -636,6 +697,10 @@ public class UriTemplate {
      * @param valueStrategy      The template value producer strategy to use.
      */
     private void resolveTemplate(StringBuilder builder, TemplateValueStrategy valueStrategy) {
+        resolveTemplate(uriParts, builder, valueStrategy);
+    }
+
+    private static void resolveTemplate(List<UriPart> uriParts, StringBuilder builder, TemplateValueStrategy valueStrategy) {
         for (UriPart uriPart : uriParts) {
             if (uriPart.isTemplate()) {
                 builder.append(valueStrategy.valueFor(uriPart, uriPart.getGroup()));
@@ -906,6 +971,21 @@ public class UriTemplate {
         return string != null && !string.isEmpty();
     }
 
+    /**
+     * Get the parsed URI parts of the template, the template is parsed only once while it stays in the cache.
+     *
+     * @param template the template.
+     * @return the URI parts of the template.
+     */
+    private static List<UriPart> expansionPlan(String template) {
+        List<UriPart> uriParts = EXPANSION_PLANS.getIfPresent(template);
+        if (uriParts == null) {
+            uriParts = new UriTemplateParser(template).getUriParts();
+            EXPANSION_PLANS.put(template, uriParts);
+        }
+        return uriParts;
+    }
+
     @SuppressWarnings("unchecked")
     private static int createUriComponent(final UriComponent.Type componentType,
                                           String template,
@@ -923,7 +1003,7 @@ public class UriTemplate {
         }
 
         // Find all template variables
-        UriTemplateParser templateParser = new UriTemplateParser(template);
+        final List<UriPart> uriParts = expansionPlan(template);
 
         class ValuesFromArrayStrategy implements TemplateValueStrategy {
             private int offset = valueOffset;
@@ -944,7 +1024,7 @@ public class UriTemplate {
             }
         }
         ValuesFromArrayStrategy cs = new ValuesFromArrayStrategy();
-        new UriTemplate(templateParser).resolveTemplate(b, cs);
+        resolveTemplate(uriParts, b, cs);
 
         return cs.offset;
     }
@@ -976,7 +1056,7 @@ public class UriTemplate {
 
         StringBuilder sb = new StringBuilder();
         // Find all template variables
-        new UriTemplate(new UriTemplateParser(template)).resolveTemplate(sb, new TemplateValueStrategy() {
+        resolveTemplate(expansionPlan(template), sb, new TemplateValueStrategy() {
             @Override
             public String valueFor(UriPart templateVariable, String matchedGroup) {
 
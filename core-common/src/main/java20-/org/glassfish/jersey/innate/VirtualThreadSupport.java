@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.innate;
 
 import org.glassfish.jersey.innate.virtual.LoomishExecutors;
+import org.glassfish.jersey.innate.virtual.ScopedCarrier;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -63,6 +64,15 @@ public final class VirtualThreadSupport {
         return new NonLoomishExecutors(threadFactory);
     }
 
+    /**
+     * Create a new {@link ScopedCarrier}, backed by a {@link ThreadLocal} on this JDK.
+     * @param <T> type of the carried value.
+     * @return the new {@link ScopedCarrier} instance.
+     */
+    public static <T> ScopedCarrier<T> scopedCarrier() {
+        return ScopedCarrier.ofThreadLocal();
+    }
+
     private static final class NonLoomishExecutors implements LoomishExecutors {
         private final ThreadFactory threadFactory;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,7 +17,11 @@
 package org.glassfish.jersey.innate;
 
 import org.glassfish.jersey.innate.virtual.LoomishExecutors;
+import org.glassfish.jersey.innate.virtual.ScopedCarrier;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -64,6 +68,16 @@ public final class VirtualThreadSupport {
         return allow ? new Java21LoomishExecutors(threadFactory) : new NonLoomishExecutors(threadFactory);
     }
 
+    /**
+     * Create a new {@link ScopedCarrier}, backed by a {@code java.lang.ScopedValue} when the scoped values are available
+     * and by a {@link ThreadLocal} otherwise.
+     * @param <T> type of the carried value.
+     * @return the new {@link ScopedCarrier} instance.
+     */
+    public static <T> ScopedCarrier<T> scopedCarrier() {
+        return ScopedValueCarrier.AVAILABLE ? new ScopedValueCarrier<>() : ScopedCarrier.ofThreadLocal();
+    }
+
     private static class NonLoomishExecutors implements LoomishExecutors {
         private final ThreadFactory threadFactory;
 
@@ -120,4 +134,92 @@ public final class VirtualThreadSupport {
             return true;
         }
     }
+
+    /**
+     * {@link ScopedCarrier} backed by a {@code java.lang.ScopedValue}. The scoped value is accessed by method handles,
+     * the API is a preview API up to JDK 24 and only the methods that did not change since JDK 21 are used.
+     */
+    private static final class ScopedValueCarrier<T> implements ScopedCarrier<T> {
+        private static final MethodHandle NEW_INSTANCE;
+        private static final MethodHandle WHERE;
+        private static final MethodHandle RUN;
+        private static final MethodHandle IS_BOUND;
+        private static final MethodHandle GET;
+        private static final boolean AVAILABLE;
+
+        static {
+            MethodHandle newInstance = null;
+            MethodHandle where = null;
+            MethodHandle run = null;
+            MethodHandle isBound = null;
+            MethodHandle get = null;
+            boolean available = false;
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                final Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                final Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                newInstance = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                        .asType(MethodType.methodType(Object.class));
+                where = lookup.findStatic(scopedValue, "where", MethodType.methodType(carrier, scopedValue, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                        .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                isBound = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+                get = lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+
+                // the preview API of JDK 21 - 24 may refuse to work without the preview features enabled
+                final Object probe = (Object) newInstance.invokeExact();
+                run.invokeExact((Object) where.invokeExact(probe, (Object) Boolean.TRUE), (Runnable) () -> { });
+                available = true;
+            } catch (Throwable t) {
+                available = false;
+            }
+            NEW_INSTANCE = newInstance;
+            WHERE = where;
+            RUN = run;
+            IS_BOUND = isBound;
+            GET = get;
+            AVAILABLE = available;
+        }
+
+        private final Object scopedValue;
+
+        private ScopedValueCarrier() {
+            try {
+                scopedValue = (Object) NEW_INSTANCE.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+            try {
+                return (boolean) IS_BOUND.invokeExact(scopedValue) ? (T) (Object) GET.invokeExact(scopedValue) : null;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        public void run(T value, Runnable task) {
+            try {
+                RUN.invokeExact((Object) WHERE.invokeExact(scopedValue, (Object) value), task);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        public boolean isScopedValue() {
+            return true;
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests sharing of the parsed header values by {@link HttpHeaderReader}.
+ */
+public class HttpHeaderReaderTest {
+
+    private static final String ACCEPT = "text/plain;q=0.5, text/html, application/json;q=0.8";
+
+    @Test
+    public void testCachedAcceptMediaTypeIsSortedAndShared() throws ParseException {
+        final List<AcceptableMediaType> first = HttpHeaderReader.readCachedAcceptMediaType(ACCEPT);
+        final List<AcceptableMediaType> second = HttpHeaderReader.readCachedAcceptMediaType(new String(ACCEPT));
+
+        assertSame(first, second);
+        assertEquals(MediaType.TEXT_HTML_TYPE, new MediaType(first.get(0).getType(), first.get(0).getSubtype()));
+        assertEquals("json", first.get(1).getSubtype());
+        assertEquals("plain", first.get(2).getSubtype());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+
+    @Test
+    public void testAcceptMediaTypeIsModifiableCopy() throws ParseException {
+        final List<AcceptableMediaType> cached = HttpHeaderReader.readCachedAcceptMediaType(ACCEPT);
+        final List<AcceptableMediaType> copy = HttpHeaderReader.readAcceptMediaType(ACCEPT);
+
+        assertNotSame(cached, copy);
+        assertEquals(cached, copy);
+
+        copy.clear();
+        assertEquals(3, HttpHeaderReader.readAcceptMediaType(ACCEPT).size());
+    }
+
+    @Test
+    public void testCachedAcceptLanguageAndToken() throws ParseException {
+        final List<AcceptableLanguageTag> languages = HttpHeaderReader.readCachedAcceptLanguage("en;q=0.5, cs");
+        assertEquals("cs", languages.get(0).getTag());
+        assertSame(languages, HttpHeaderReader.readCachedAcceptLanguage("en;q=0.5, cs"));
+
+        final List<AcceptableToken> tokens = HttpHeaderReader.readCachedAcceptToken("gzip;q=0.1, deflate");
+        assertEquals("deflate", tokens.get(0).getToken());
+        assertSame(tokens, HttpHeaderReader.readCachedAcceptToken("gzip;q=0.1, deflate"));
+    }
+
+    @Test
+    public void testMediaTypeShared() {
+        final MediaTypeProvider provider = new MediaTypeProvider();
+        final MediaType mediaType = provider.fromString("application/xml;charset=UTF-8");
+
+        assertEquals("UTF-8", mediaType.getParameters().get("charset"));
+        assertSame(mediaType, provider.fromString("application/xml;charset=UTF-8"));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.uri;
+
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests {@link SegmentMatcher} produces the same results as the regular expression of the template.
+ */
+public class SegmentMatcherTest {
+
+    private static final String[] SIMPLE_TEMPLATES = new String[] {
+            "/",
+            "a",
+            "/a/b/c",
+            "/a/b/c/",
+            "{a}",
+            "/{a}",
+            "/{a}/",
+            "/a/{b}/c",
+            "/{a}/{b}/{c}",
+            "/{ a : [^/]+ }/b",
+            "/{a}.{b}",
+            "/{a}-x-{b}/{a}",
+            "/a;b=c/{d}",
+            "/files/{name}.txt",
+    };
+
+    private static final String[] COMPLEX_TEMPLATES = new String[] {
+            "/{a:.+}",
+            "/{a:\\d+}",
+            "/{a}{b}",
+            "/a b/{c}",
+            "/a%20b/{c}",
+            "/a?b",
+            "/{a: [^/]*}",
+    };
+
+    private static final String[] PATHS = new String[] {
+            "",
+            "/",
+            "a",
+            "/a",
+            "/a/",
+            "/a/b",
+            "/a/b/c",
+            "/a/b/c/",
+            "/a/b/c/d",
+            "/a/b/c/d/e",
+            "/a/x/c",
+            "/a/x/c/",
+            "/a/x/c/d",
+            "/x.y",
+            "/x.y.z",
+            "/x.y.z/",
+            "/x.y/a/b",
+            "/u-x-v/u",
+            "/u-x-v-x-w/u-x-v",
+            "/a;b=c/d",
+            "/files/readme.txt",
+            "/files/read.me.txt/",
+            "/files/.txt",
+            "/a/\n",
+            "/a/b\nc",
+            "//",
+            "///a",
+    };
+
+    private static final PathPattern.RightHandPath[] RIGHT_HAND_PATHS = new PathPattern.RightHandPath[] {
+            PathPattern.RightHandPath.capturingZeroOrMoreSegments,
+            PathPattern.RightHandPath.capturingZeroSegments,
+    };
+
+    @Test
+    public void testSimpleTemplatesAreCompiled() {
+        for (final String template : SIMPLE_TEMPLATES) {
+            assertNotNull(SegmentMatcher.compile(new PathTemplate(template).getTemplate(), null), template);
+        }
+    }
+
+    @Test
+    public void testComplexTemplatesAreNotCompiled() {
+        for (final String template : COMPLEX_TEMPLATES) {
+            assertNull(SegmentMatcher.compile(new PathTemplate(template).getTemplate(), null), template);
+        }
+    }
+
+    @Test
+    public void testPathPatternMatching() {
+        for (final String template : SIMPLE_TEMPLATES) {
+            for (final PathPattern.RightHandPath rhp : RIGHT_HAND_PATHS) {
+                final PathPattern pattern = new PathPattern(new PathTemplate(template), rhp);
+                final SegmentMatcher matcher = SegmentMatcher.compile(pattern.getTemplate().getTemplate(), rhp);
+                assertNotNull(matcher, template);
+
+                final Pattern regex = Pattern.compile(pattern.getRegex());
+                for (final String path : PATHS) {
+                    assertSameResult(template + " " + rhp + " " + path, regex.matcher(path), matcher.match(path));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUriTemplateMatching() {
+        for (final String template : SIMPLE_TEMPLATES) {
+            final UriTemplate uriTemplate = new UriTemplate(template);
+            final SegmentMatcher matcher = SegmentMatcher.compile(uriTemplate.getTemplate(), null);
+            assertNotNull(matcher, template);
+
+            final Pattern regex = Pattern.compile(uriTemplate.getPattern().getRegex());
+            for (final String path : PATHS) {
+                assertSameResult(template + " " + path, regex.matcher(path), matcher.match(path));
+            }
+        }
+    }
+
+    private static void assertSameResult(final String message, final Matcher expected, final MatchResult actual) {
+        if (!expected.matches()) {
+            assertNull(actual, message);
+            return;
+        }
+
+        assertNotNull(actual, message);
+        assertEquals(expected.groupCount(), actual.groupCount(), message);
+        for (int i = 0; i <= expected.groupCount(); i++) {
+            assertEquals(expected.group(i), actual.group(i), message + " group " + i);
+            assertEquals(expected.start(i), actual.start(i), message + " start " + i);
+            assertEquals(expected.end(i), actual.end(i), message + " end " + i);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2018 Payara Foundation and/or its affiliates.
  *
  * This program and the accompanying materials are made available under the
@@ -71,10 +71,7 @@ import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.ManagedObjectsFinalizer;
 import org.glassfish.jersey.model.internal.RankedComparator;
 import org.glassfish.jersey.model.internal.RankedProvider;
-import org.glassfish.jersey.process.internal.ChainableStage;
 import org.glassfish.jersey.process.internal.RequestScope;
-import org.glassfish.jersey.process.internal.Stage;
-import org.glassfish.jersey.process.internal.Stages;
 import org.glassfish.jersey.server.internal.JerseyRequestTimeoutHandler;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
@@ -84,11 +81,13 @@ import org.glassfish.jersey.server.internal.inject.ValueParamProviderConfigurato
 import org.glassfish.jersey.server.internal.monitoring.ApplicationEventImpl;
 import org.glassfish.jersey.server.internal.monitoring.CompositeApplicationEventListener;
 import org.glassfish.jersey.server.internal.monitoring.MonitoringContainerListener;
+import org.glassfish.jersey.server.internal.process.PipelineStage;
 import org.glassfish.jersey.server.internal.process.ReferencesInitializer;
 import org.glassfish.jersey.server.internal.process.RequestProcessingConfigurator;
-import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContextReference;
+import org.glassfish.jersey.server.internal.process.RequestProcessingPipeline;
 import org.glassfish.jersey.server.internal.routing.Routing;
+import org.glassfish.jersey.server.internal.routing.RoutingCache;
 import org.glassfish.jersey.server.model.ComponentModelValidator;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.model.ModelValidationException;
@@ -316,6 +315,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
         }
 
         CompositeApplicationEventListener compositeListener = null;
+        RoutingCache routingCache = null;
 
         Errors.mark(); // mark begin of validation phase
         try {
@@ -348,6 +348,11 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
             ServerExecutorProvidersConfigurator executorProvidersConfigurator = new ServerExecutorProvidersConfigurator();
             executorProvidersConfigurator.init(injectionManager, bootstrapBag);
 
+            routingCache = RoutingCache.create(runtimeConfig);
+            if (routingCache != null) {
+                injectionManager.register(Bindings.service(routingCache).to(RoutingCache.class));
+            }
+
             injectionManager.completeRegistration();
 
             bootstrapConfigurators.forEach(configurator -> configurator.postInit(injectionManager, bootstrapBag));
@@ -390,7 +395,7 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
         final ContainerFilteringStage preMatchRequestFilteringStage = new ContainerFilteringStage(
                 processingProviders.getPreMatchFilters(),
                 processingProviders.getGlobalResponseFilters());
-        final ChainableStage<RequestProcessingContext> routingStage =
+        final PipelineStage routingStage =
                 Routing.forModel(bootstrapBag.getResourceModel().getRuntimeResourceModel())
                     .resourceContext(bootstrapBag.getResourceContext())
                     .configuration(runtimeConfig)
@@ -400,7 +405,8 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
                     .createService(serviceType -> Injections.getOrCreate(injectionManager, serviceType))
                     .processingProviders(processingProviders)
                     .resourceMethodInvokerBuilder(bootstrapBag.getResourceMethodInvokerBuilder())
-                    .buildStage();
+                    .routingCache(routingCache)
+                    .buildPipelineStage();
         /*
          *  Root linear request acceptor. This is the main entry point for the whole request processing.
          */
@@ -410,15 +416,15 @@ public final class ApplicationHandler implements ContainerLifecycleListener {
         final ReferencesInitializer referencesInitializer = new ReferencesInitializer(injectionManager,
                 () -> injectionManager.getInstance(RequestProcessingContextReference.class));
 
-        final Stage<RequestProcessingContext> rootStage = Stages
-                .chain(referencesInitializer)
+        final RequestProcessingPipeline pipeline = RequestProcessingPipeline.builder()
+                .to(referencesInitializer)
                 .to(preMatchRequestFilteringStage)
                 .to(routingStage)
                 .to(resourceFilteringStage)
-                .build(Routing.matchedEndpointExtractor());
+                .build();
 
         ServerRuntime serverRuntime = ServerRuntime.createServerRuntime(
-                injectionManager, bootstrapBag, rootStage, compositeListener, processingProviders);
+                injectionManager, bootstrapBag, pipeline, compositeListener, processingProviders);
 
         // Inject instances.
         ComponentBag componentBag = runtimeConfig.getComponentBag();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,10 +22,17 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.Collections;
-import java.util.concurrent.BlockingDeque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.inject.Provider;
 import javax.ws.rs.container.ConnectionCallback;
@@ -40,6 +47,13 @@ import org.glassfish.jersey.server.internal.process.MappableException;
 /**
  * Used for sending messages in "typed" chunks. Useful for long running processes,
  * which needs to produce partial responses.
+ * <p>
+ * By default, each chunk is flushed to the client as soon as it has been written. A chunked output
+ * {@link Builder#batched(int, long, TimeUnit) built in the batched mode} uses a lock-free queue instead, the chunks
+ * queued by the producers are written by a single thread at a time and flushed together once per batch. The producers
+ * can check whether the queue has grown over the {@link Builder#backpressureThreshold(int) backpressure threshold}
+ * using {@link #isBackpressured()}.
+ * </p>
  *
  * @param <T> chunk type.
  * @author Pavel Bucek
@@ -48,9 +62,10 @@ import org.glassfish.jersey.server.internal.process.MappableException;
  */
 // TODO:  something like prequel/sequel - usable for EventChannelWriter and XML related writers
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ChunkedOutput.class.getName());
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
-    private final BlockingDeque<T> queue;
+    private final Queue<T> queue;
     private final byte[] chunkDelimiter;
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Object lock = new Object();
@@ -68,13 +83,28 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
     private volatile ContainerRequest requestContext;
     private volatile ContainerResponse responseContext;
     private volatile ConnectionCallback connectionCallback;
+    private volatile ScheduledExecutorService scheduler;
+
+    private final int backpressureThreshold;
+    // the following fields are used in the batched mode exclusively
+    private final boolean batched;
+    private final int maxBatchBytes;
+    private final long maxBatchLatencyNanos;
+    // number of the queued chunks
+    private final AtomicInteger pending = new AtomicInteger();
+    // number of the drain requests, the thread incrementing the value from zero drains the queue
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // the following fields are accessed by the draining thread only
+    private CountingOutputStream countingStream;
+    private boolean batchStarted;
+    private long batchStartNanos;
 
     /**
      * Create new {@code ChunkedOutput}.
      */
     protected ChunkedOutput() {
-        this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        this(new Builder<>());
     }
 
     /**
@@ -84,17 +114,12 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      */
     protected ChunkedOutput(Builder<T> builder) {
         super();
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
-        if (builder.chunkDelimiter != null) {
-            this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
-            System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
+        queue = createQueue(builder);
+        chunkDelimiter = copyDelimiter(builder.chunkDelimiter);
+        backpressureThreshold = builder.backpressureThreshold;
+        batched = builder.batched;
+        maxBatchBytes = builder.maxBatchBytes;
+        maxBatchLatencyNanos = builder.maxBatchLatencyNanos;
         if (builder.asyncContextProvider != null) {
             this.asyncContext = builder.asyncContextProvider.get();
         }
@@ -107,18 +132,12 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      */
     private ChunkedOutput(TypedBuilder<T> builder) {
         super(builder.chunkType);
-
-        if (builder.queueCapacity > 0) {
-            queue = new LinkedBlockingDeque<>(builder.queueCapacity);
-        } else {
-            queue = new LinkedBlockingDeque<>();
-        }
-        if (builder.chunkDelimiter != null) {
-            this.chunkDelimiter = new byte[builder.chunkDelimiter.length];
-            System.arraycopy(builder.chunkDelimiter, 0, this.chunkDelimiter, 0, builder.chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
+        queue = createQueue(builder);
+        chunkDelimiter = copyDelimiter(builder.chunkDelimiter);
+        backpressureThreshold = builder.backpressureThreshold;
+        batched = builder.batched;
+        maxBatchBytes = builder.maxBatchBytes;
+        maxBatchLatencyNanos = builder.maxBatchLatencyNanos;
         if (builder.asyncContextProvider != null) {
             this.asyncContext = builder.asyncContextProvider.get();
         }
@@ -130,9 +149,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param chunkType chunk type. Must not be {code null}.
      */
     public ChunkedOutput(final Type chunkType) {
-        super(chunkType);
-        this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        queue = new LinkedBlockingDeque<>();
+        this(new TypedBuilder<T>(chunkType));
     }
 
     /**
@@ -142,13 +159,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final byte[] chunkDelimiter) {
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(chunkDelimiter, null);
     }
 
     /**
@@ -158,15 +169,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final byte[] chunkDelimiter, Provider<AsyncContext> asyncContextProvider) {
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-
-        this.asyncContext = asyncContextProvider == null ? null : asyncContextProvider.get();
-        queue = new LinkedBlockingDeque<>();
+        this(new Builder<T>().chunkDelimiter(chunkDelimiter).asyncContextProvider(asyncContextProvider));
     }
 
     /**
@@ -177,14 +180,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     public ChunkedOutput(final Type chunkType, final byte[] chunkDelimiter) {
-        super(chunkType);
-        if (chunkDelimiter.length > 0) {
-            this.chunkDelimiter = new byte[chunkDelimiter.length];
-            System.arraycopy(chunkDelimiter, 0, this.chunkDelimiter, 0, chunkDelimiter.length);
-        } else {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(typedBuilder(chunkType, chunkDelimiter));
     }
 
     /**
@@ -194,12 +190,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     protected ChunkedOutput(final String chunkDelimiter) {
-        if (chunkDelimiter.isEmpty()) {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
-        } else {
-            this.chunkDelimiter = chunkDelimiter.getBytes();
-        }
-        queue = new LinkedBlockingDeque<>();
+        this(chunkDelimiter.getBytes());
     }
 
     /**
@@ -210,13 +201,32 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @since 2.4.1
      */
     public ChunkedOutput(final Type chunkType, final String chunkDelimiter) {
-        super(chunkType);
-        if (chunkDelimiter.isEmpty()) {
-            this.chunkDelimiter = ZERO_LENGTH_DELIMITER;
+        this(chunkType, chunkDelimiter.getBytes());
+    }
+
+    private static <T> TypedBuilder<T> typedBuilder(final Type chunkType, final byte[] chunkDelimiter) {
+        final TypedBuilder<T> builder = new TypedBuilder<>(chunkType);
+        builder.chunkDelimiter(chunkDelimiter);
+        return builder;
+    }
+
+    private static <T> Queue<T> createQueue(final Builder<T> builder) {
+        if (builder.batched) {
+            return new ConcurrentLinkedQueue<>();
+        } else if (builder.queueCapacity > 0) {
+            return new LinkedBlockingDeque<>(builder.queueCapacity);
         } else {
-            this.chunkDelimiter = chunkDelimiter.getBytes();
+            return new LinkedBlockingDeque<>();
         }
-        queue = new LinkedBlockingDeque<>();
+    }
+
+    private static byte[] copyDelimiter(final byte[] chunkDelimiter) {
+        if (chunkDelimiter == null || chunkDelimiter.length == 0) {
+            return ZERO_LENGTH_DELIMITER;
+        }
+        final byte[] copy = new byte[chunkDelimiter.length];
+        System.arraycopy(chunkDelimiter, 0, copy, 0, chunkDelimiter.length);
+        return copy;
     }
 
     /**
@@ -250,17 +260,38 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
 
         if (chunk != null) {
-            try {
-                queue.put(chunk);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IOException(e);
+            if (batched) {
+                queue.offer(chunk);
+                pending.incrementAndGet();
+            } else {
+                try {
+                    ((BlockingQueue<T>) queue).put(chunk);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
             }
         }
 
         flushQueue();
     }
 
+    /**
+     * Check whether the number of chunks waiting to be written has reached the
+     * {@link Builder#backpressureThreshold(int) backpressure threshold}. Producers are expected to slow down
+     * (or to skip non-essential chunks) while the chunked output is backpressured.
+     *
+     * @return {@code true} if the backpressure threshold is set and the number of the queued chunks has reached it,
+     *         {@code false} otherwise.
+     * @since 2.47
+     */
+    public boolean isBackpressured() {
+        if (backpressureThreshold <= 0) {
+            return false;
+        }
+        return (batched ? pending.get() : queue.size()) >= backpressureThreshold;
+    }
+
     protected void flushQueue() throws IOException {
         if (resumed.compareAndSet(false, true) && asyncContext != null) {
             asyncContext.resume(this);
@@ -270,6 +301,11 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             return;
         }
 
+        if (batched) {
+            flushBatches();
+            return;
+        }
+
         Exception ex = null;
         try {
             requestScope.runInScope(requestScopeContext, new Callable<Void>() {
@@ -304,42 +340,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                                 touchingEntityStream = true;
                             }
 
-                            final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
-
-                            //noinspection ArrayEquality
-                            if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
-                                // if the chunked output is configured with a custom delimiter, use it
-                                writtenStream.write(chunkDelimiter);
-                            }
-
-                            // flush the chunk (some writers do it, but some don't)
-                            writtenStream.flush();
-
-                            if (origStream != writtenStream) {
-                                // if MBW replaced the stream, let's make sure to set it in the response context.
-                                responseContext.setEntityStream(writtenStream);
-                            }
-                        } catch (final IOException | UncheckedIOException ioe) {
-                            connectionCallback.onDisconnect(asyncContext);
-                            throw ioe;
-                        } catch (final MappableException mpe) {
-                            if (mpe.getCause() instanceof IOException || mpe.getCause() instanceof UncheckedIOException) {
-                                connectionCallback.onDisconnect(asyncContext);
-                            }
-                            throw mpe;
+                            writeChunk(t, true);
                         } finally {
                             synchronized (lock) {
                                 touchingEntityStream = false;
@@ -405,6 +406,170 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    /**
+     * Serialize the chunk into the response entity stream.
+     *
+     * @param t     chunk to be written.
+     * @param flush if {@code true}, the entity stream is flushed once the chunk is written.
+     */
+    private void writeChunk(final T t, final boolean flush) throws IOException {
+        try {
+            final OutputStream origStream = responseContext.getEntityStream();
+            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
+                    t,
+                    t.getClass(),
+                    getType(),
+                    responseContext.getEntityAnnotations(),
+                    responseContext.getMediaType(),
+                    responseContext.getHeaders(),
+                    requestContext.getPropertiesDelegate(),
+                    origStream,
+                    // The output stream stored in the response context for this chunked output
+                    // is already intercepted as a whole (if there are any interceptors);
+                    // no need to intercept the individual chunks.
+                    Collections.<WriterInterceptor>emptyList());
+
+            //noinspection ArrayEquality
+            if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
+                // if the chunked output is configured with a custom delimiter, use it
+                writtenStream.write(chunkDelimiter);
+            }
+
+            if (flush) {
+                // flush the chunk (some writers do it, but some don't)
+                writtenStream.flush();
+            }
+
+            if (origStream != writtenStream) {
+                // if MBW replaced the stream, let's make sure to set it in the response context.
+                responseContext.setEntityStream(writtenStream);
+            }
+        } catch (final IOException | UncheckedIOException ioe) {
+            connectionCallback.onDisconnect(asyncContext);
+            throw ioe;
+        } catch (final MappableException mpe) {
+            if (mpe.getCause() instanceof IOException || mpe.getCause() instanceof UncheckedIOException) {
+                connectionCallback.onDisconnect(asyncContext);
+            }
+            throw mpe;
+        }
+    }
+
+    /**
+     * Drain the queue in the batched mode.
+     * <p>
+     * The thread that increments the drain request count from zero becomes the only thread writing to the entity stream,
+     * the other threads just increment the count to make the draining thread poll the queue again. Once the chunked output
+     * is closed (or fails), the count is never decremented back to zero, so that no other thread touches the entity stream.
+     * </p>
+     */
+    private void flushBatches() throws IOException {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        Exception ex = null;
+        boolean close = false;
+        try {
+            close = requestScope.runInScope(requestScopeContext, (Callable<Boolean>) this::drainBatches);
+        } catch (final Exception e) {
+            closed = true;
+            close = true;
+            ex = e;
+            onClose(e);
+        } finally {
+            if (close) {
+                try {
+                    responseContext.close();
+                } catch (final Exception e) {
+                    ex = ex == null ? e : ex;
+                }
+
+                requestScopeContext.release();
+
+                if (ex instanceof IOException) {
+                    //noinspection ThrowFromFinallyBlock
+                    throw (IOException) ex;
+                } else if (ex instanceof RuntimeException) {
+                    //noinspection ThrowFromFinallyBlock
+                    throw (RuntimeException) ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the queued chunks, flushing the entity stream once per batch.
+     *
+     * @return {@code true} if the response should be closed, {@code false} otherwise.
+     */
+    private boolean drainBatches() throws IOException {
+        int missed = 1;
+        while (true) {
+            // remember the closed flag before polling the queue, so that the last chunk is not missed
+            final boolean shouldClose = closed;
+
+            T t;
+            while ((t = queue.poll()) != null) {
+                pending.decrementAndGet();
+                if (!batchStarted) {
+                    batchStarted = true;
+                    batchStartNanos = System.nanoTime();
+                }
+
+                writeChunk(t, false);
+
+                if (maxBatchBytes > 0 && countingStream.count >= maxBatchBytes) {
+                    flushBatch();
+                }
+            }
+
+            if (shouldClose) {
+                if (batchStarted) {
+                    flushBatch();
+                }
+                return true;
+            }
+
+            if (batchStarted) {
+                final long remaining = maxBatchLatencyNanos - (System.nanoTime() - batchStartNanos);
+                if (remaining <= 0 || scheduler == null) {
+                    flushBatch();
+                } else if (flushScheduled.compareAndSet(false, true)) {
+                    scheduler.schedule(this::flushLatentBatch, remaining, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            missed = drainRequests.addAndGet(-missed);
+            if (missed == 0) {
+                return false;
+            }
+        }
+    }
+
+    private void flushBatch() throws IOException {
+        final OutputStream entityStream = responseContext.getEntityStream();
+        try {
+            entityStream.flush();
+        } catch (final IOException | UncheckedIOException ioe) {
+            connectionCallback.onDisconnect(asyncContext);
+            throw ioe;
+        }
+        responseContext.commitStream();
+
+        countingStream.count = 0;
+        batchStarted = false;
+    }
+
+    private void flushLatentBatch() {
+        flushScheduled.set(false);
+        try {
+            flushQueue();
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), e);
+        }
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -462,13 +627,20 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
      * @param requestContext           request context.
      * @param responseContext          response context.
      * @param connectionCallbackRunner connection callback.
+     * @param scheduler                scheduler used to flush the batches in the batched mode.
      * @throws IOException when encountered any problem during serializing or writing a chunk.
      */
     void setContext(final RequestScope requestScope,
                     final RequestContext requestScopeContext,
                     final ContainerRequest requestContext,
                     final ContainerResponse responseContext,
-                    final ConnectionCallback connectionCallbackRunner) throws IOException {
+                    final ConnectionCallback connectionCallbackRunner,
+                    final ScheduledExecutorService scheduler) throws IOException {
+        if (batched) {
+            countingStream = new CountingOutputStream(responseContext.getEntityStream());
+            responseContext.setEntityStream(countingStream);
+        }
+        this.scheduler = scheduler;
         this.requestScope = requestScope;
         this.requestScopeContext = requestScopeContext;
         this.requestContext = requestContext;
@@ -477,6 +649,42 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         flushQueue();
     }
 
+    /**
+     * Entity stream counting the bytes written since the last flush of a batch.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        // accessed by the draining thread only
+        private long count;
+
+        private CountingOutputStream(final OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
     /**
      * Builder that allows to create a new ChunkedOutput based on the given configuration options.
      *
@@ -486,6 +694,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         byte[] chunkDelimiter;
         int queueCapacity = -1;
         Provider<AsyncContext> asyncContextProvider;
+        boolean batched;
+        int maxBatchBytes;
+        long maxBatchLatencyNanos;
+        int backpressureThreshold;
 
         private Builder() {
             // hide constructor
@@ -511,6 +723,46 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             return this;
         }
 
+        /**
+         * Enable the batched mode.
+         * <p>
+         * In the batched mode, the chunks are queued in a lock-free queue and written by one thread at a time. The entity
+         * stream is not flushed after each chunk; the chunks written in a batch are flushed together once
+         * {@code maxBatchBytes} bytes have been written or, when the queue is empty, once the first chunk of the batch
+         * has waited for {@code maxBatchLatency}. The queue is not bounded in the batched mode, the
+         * {@link #queueCapacity(int) queue capacity} is ignored; use {@link #backpressureThreshold(int)} and
+         * {@link ChunkedOutput#isBackpressured()} to throttle the producers instead.
+         * </p>
+         *
+         * @param maxBatchBytes   number of bytes after which the batch is flushed even if more chunks are queued;
+         *                        when less or equal to zero, the batch is flushed only once the queue is empty.
+         * @param maxBatchLatency maximum time the first chunk of a batch waits for the flush once the queue is empty;
+         *                        when less or equal to zero, the batch is flushed as soon as the queue is empty.
+         * @param unit            time unit of the {@code maxBatchLatency}.
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> batched(int maxBatchBytes, long maxBatchLatency, TimeUnit unit) {
+            this.batched = true;
+            this.maxBatchBytes = maxBatchBytes;
+            this.maxBatchLatencyNanos = Math.max(0, unit.toNanos(maxBatchLatency));
+            return this;
+        }
+
+        /**
+         * Set the number of queued chunks from which the chunked output reports to be
+         * {@link ChunkedOutput#isBackpressured() backpressured}.
+         *
+         * @param backpressureThreshold the backpressure threshold; when less or equal to zero (default), the chunked output
+         *                              never reports to be backpressured.
+         * @return builder
+         * @since 2.47
+         */
+        public Builder<Y> backpressureThreshold(int backpressureThreshold) {
+            this.backpressureThreshold = backpressureThreshold;
+            return this;
+        }
+
         /**
          * Set the async context provider.
          * @param asyncContextProvider the async context provider
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,9 @@
 package org.glassfish.jersey.server;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
@@ -31,6 +34,7 @@ import org.glassfish.jersey.process.internal.Stages;
 import org.glassfish.jersey.server.internal.ServerTraceEvent;
 import org.glassfish.jersey.server.internal.process.Endpoint;
 import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.internal.process.PipelineStage;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 
@@ -41,10 +45,15 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
  * @author Marek Potociar
  * @author Martin Matula
  */
-class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingContext> {
+class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingContext> implements PipelineStage {
 
     private final Iterable<RankedProvider<ContainerRequestFilter>> requestFilters;
     private final Iterable<RankedProvider<ContainerResponseFilter>> responseFilters;
+    /**
+     * Global request filters sorted once, used as they are whenever there are no name-bound filters to merge them with.
+     */
+    private final Iterable<ContainerRequestFilter> sortedRequestFilters;
+    private final Iterable<ContainerResponseFilter> sortedResponseFilters;
 
     /**
      * Create a new container filtering stage specifying global request and response filters. This stage class
@@ -66,11 +75,23 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
 
         this.requestFilters = requestFilters;
         this.responseFilters = responseFilters;
+        this.sortedRequestFilters = unmodifiable(
+                Providers.sortRankedProviders(new RankedComparator<ContainerRequestFilter>(), requestFilters));
+        this.sortedResponseFilters = responseFilters == null ? null : unmodifiable(Providers.sortRankedProviders(
+                new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), responseFilters));
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Continuation<RequestProcessingContext> apply(RequestProcessingContext context) {
+        final Endpoint abortEndpoint = process(context);
+        return abortEndpoint != null
+                ? Continuation.of(context, Stages.asStage(abortEndpoint))
+                : Continuation.of(context, getDefaultNext());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Endpoint process(RequestProcessingContext context) {
         Iterable<ContainerRequestFilter> sortedRequestFilters;
         final boolean postMatching = responseFilters == null;
 
@@ -79,12 +100,17 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         final TracingLogger tracingLogger = TracingLogger.getInstance(request);
         if (postMatching) {
             // post-matching
-            final ArrayList<Iterable<RankedProvider<ContainerRequestFilter>>> rankedProviders =
-                    new ArrayList<>(2);
-            rankedProviders.add(requestFilters);
-            rankedProviders.add(request.getRequestFilters());
-            sortedRequestFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerRequestFilter>(), rankedProviders);
+            final Iterable<RankedProvider<ContainerRequestFilter>> boundFilters = request.getRequestFilters();
+            if (isEmpty(boundFilters)) {
+                sortedRequestFilters = this.sortedRequestFilters;
+            } else {
+                final ArrayList<Iterable<RankedProvider<ContainerRequestFilter>>> rankedProviders =
+                        new ArrayList<>(2);
+                rankedProviders.add(requestFilters);
+                rankedProviders.add(boundFilters);
+                sortedRequestFilters = Providers.mergeAndSortRankedProviders(
+                        new RankedComparator<ContainerRequestFilter>(), rankedProviders);
+            }
 
             context.monitoringEventBuilder().setContainerRequestFilters(sortedRequestFilters);
             context.triggerEvent(RequestEvent.Type.REQUEST_MATCHED);
@@ -92,8 +118,8 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         } else {
             // pre-matching (response filter stage is pushed in pre-matching phase, so that if pre-matching filter
             // throws exception, response filters get still invoked)
-            context.push(new ResponseFilterStage(context, responseFilters, tracingLogger));
-            sortedRequestFilters = Providers.sortRankedProviders(new RankedComparator<ContainerRequestFilter>(), requestFilters);
+            context.push(new ResponseFilterStage(context, responseFilters, sortedResponseFilters, tracingLogger));
+            sortedRequestFilters = this.sortedRequestFilters;
         }
 
         final TracingLogger.Event summaryEvent =
@@ -116,14 +142,12 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
                 final Response abortResponse = request.getAbortResponse();
                 if (abortResponse != null) {
                     // abort accepting & return response
-                    return Continuation.of(context, Stages.asStage(
-                            new Endpoint() {
-                                @Override
-                                public ContainerResponse apply(
-                                        final RequestProcessingContext requestContext) {
-                                    return new ContainerResponse(requestContext.request(), abortResponse);
-                                }
-                            }));
+                    return new Endpoint() {
+                        @Override
+                        public ContainerResponse apply(final RequestProcessingContext requestContext) {
+                            return new ContainerResponse(requestContext.request(), abortResponse);
+                        }
+                    };
                 }
             }
         } finally {
@@ -133,31 +157,50 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
             tracingLogger.logDuration(summaryEvent, timestamp, processedCount);
         }
 
-        return Continuation.of(context, getDefaultNext());
+        return null;
+    }
+
+    private static boolean isEmpty(final Iterable<?> iterable) {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).isEmpty() : !iterable.iterator().hasNext();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterable<T> unmodifiable(final Iterable<T> iterable) {
+        return iterable instanceof List ? Collections.unmodifiableList((List<T>) iterable) : iterable;
     }
 
     private static class ResponseFilterStage extends AbstractChainableStage<ContainerResponse> {
         // TODO remove the field - processing context should be made available on the response chain directly.
         private final RequestProcessingContext processingContext;
         private final Iterable<RankedProvider<ContainerResponseFilter>> filters;
+        private final Iterable<ContainerResponseFilter> sortedFilters;
         private final TracingLogger tracingLogger;
 
         private ResponseFilterStage(final RequestProcessingContext processingContext,
                                     final Iterable<RankedProvider<ContainerResponseFilter>> filters,
+                                    final Iterable<ContainerResponseFilter> sortedFilters,
                                     final TracingLogger tracingLogger) {
             this.processingContext = processingContext;
             this.filters = filters;
+            this.sortedFilters = sortedFilters;
             this.tracingLogger = tracingLogger;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public Continuation<ContainerResponse> apply(ContainerResponse responseContext) {
-            final ArrayList<Iterable<RankedProvider<ContainerResponseFilter>>> rankedProviders = new ArrayList<>(2);
-            rankedProviders.add(filters);
-            rankedProviders.add(responseContext.getRequestContext().getResponseFilters());
-            Iterable<ContainerResponseFilter> sortedResponseFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), rankedProviders);
+            final Iterable<RankedProvider<ContainerResponseFilter>> boundFilters =
+                    responseContext.getRequestContext().getResponseFilters();
+            final Iterable<ContainerResponseFilter> sortedResponseFilters;
+            if (isEmpty(boundFilters)) {
+                sortedResponseFilters = sortedFilters;
+            } else {
+                final ArrayList<Iterable<RankedProvider<ContainerResponseFilter>>> rankedProviders = new ArrayList<>(2);
+                rankedProviders.add(filters);
+                rankedProviders.add(boundFilters);
+                sortedResponseFilters = Providers.mergeAndSortRankedProviders(
+                        new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), rankedProviders);
+            }
 
             final ContainerRequest request = responseContext.getRequestContext();
             processingContext.monitoringEventBuilder().setContainerResponseFilters(sortedResponseFilters);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -760,6 +760,95 @@ public final class ServerProperties {
     public static final String UNWRAP_COMPLETION_STAGE_IN_WRITER_ENABLE =
             "jersey.config.server.unwrap.completion.stage.writer.enable";
 
+    /**
+     * If {@code true} then Jersey caches the results of the request routing. The routing result (matched resource method,
+     * matched templates and selected response media type candidate) is cached for a combination of the request method,
+     * request path, {@code Content-Type} and {@code Accept} headers and replayed for subsequent requests with the same
+     * combination, skipping the path matching and the resource method selection.
+     * <p>
+     * Requests matched through a sub-resource locator are never cached as the routing depends on the returned sub-resource.
+     * Requests with tracing enabled are routed without the cache. The hit, miss and eviction counts are available through
+     * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics#getRoutingCacheStatistics()}.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #ROUTING_CACHE_SIZE
+     * @since 2.47
+     */
+    public static final String ROUTING_CACHE_ENABLED = "jersey.config.server.routing.cache.enabled";
+
+    /**
+     * An integer value that defines the maximum number of entries in the routing cache enabled by
+     * {@link #ROUTING_CACHE_ENABLED}. When the cache is full, an existing entry is evicted for every new entry.
+     * <p>
+     * The default value is {@value #ROUTING_CACHE_DEFAULT_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #ROUTING_CACHE_ENABLED
+     * @since 2.47
+     */
+    public static final String ROUTING_CACHE_SIZE = "jersey.config.server.routing.cache.size";
+
+    /**
+     * The default routing cache size ({@value}).
+     *
+     * @see #ROUTING_CACHE_SIZE
+     * @since 2.47
+     */
+    public static final int ROUTING_CACHE_DEFAULT_SIZE = 1024;
+
+    /**
+     * If {@code true} then the resource methods are invoked by the Java reflection.
+     * <p>
+     * By default, a resource method invoked by the default invocation handler is bound, when the resource model is built,
+     * to an invoker generated by the {@link java.lang.invoke.LambdaMetafactory} or to a
+     * {@link java.lang.invoke.MethodHandle method handle}, which avoid the reflective access checks and argument
+     * unpacking of the {@link java.lang.reflect.Method#invoke(Object, Object...)}. The methods the invoker cannot be
+     * generated for are invoked by the reflection regardless of this property. The resource methods invoked by a custom
+     * {@link org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider invocation handler} are not
+     * affected.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    public static final String RESOURCE_METHOD_GENERATED_INVOKERS_DISABLE =
+            "jersey.config.server.resource.generatedInvokers.disable";
+
+    /**
+     * If {@code true} then the built-in containers handle each request on a new virtual thread.
+     * <p>
+     * The Grizzly and Jetty HTTP containers use a virtual thread per task worker pool, the JDK HTTP and Netty containers
+     * dispatch each request to a new virtual thread and the servlet container dispatches each request to a new virtual
+     * thread in the asynchronous mode when the servlet supports the asynchronous processing and Jersey is not used as
+     * a filter forwarding on 404. The property is ignored when the virtual threads are not supported by the JDK (prior
+     * JDK 21).
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see org.glassfish.jersey.CommonProperties#USE_VIRTUAL_THREADS
+     * @since 2.47
+     */
+    public static final String VIRTUAL_THREAD_PER_REQUEST = "jersey.config.server.virtualThreadPerRequest";
+
     /**
      * JVM argument to define the value of
      * {@link org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants#COLLISION_BUFFER_POWER}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -61,8 +61,6 @@ import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.internal.util.Closure;
 import org.glassfish.jersey.internal.util.Producer;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
-import org.glassfish.jersey.internal.util.collection.Ref;
-import org.glassfish.jersey.internal.util.collection.Refs;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.message.internal.MessageBodyProviderNotFoundException;
@@ -82,6 +80,7 @@ import org.glassfish.jersey.server.internal.monitoring.RequestEventImpl;
 import org.glassfish.jersey.server.internal.process.Endpoint;
 import org.glassfish.jersey.server.internal.process.MappableException;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+import org.glassfish.jersey.server.internal.process.RequestProcessingPipeline;
 import org.glassfish.jersey.server.internal.routing.UriRoutingContext;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
@@ -104,7 +103,7 @@ import static org.glassfish.jersey.server.AsyncContext.State.SUSPENDED;
  */
 public class ServerRuntime {
 
-    private final Stage<RequestProcessingContext> requestProcessingRoot;
+    private final RequestProcessingPipeline requestProcessingPipeline;
     private final ProcessingProviders processingProviders;
 
     private final InjectionManager injectionManager;
@@ -131,7 +130,7 @@ public class ServerRuntime {
     static ServerRuntime createServerRuntime(
             InjectionManager injectionManager,
             ServerBootstrapBag bootstrapBag,
-            Stage<RequestProcessingContext> processingRoot,
+            RequestProcessingPipeline processingPipeline,
             ApplicationEventListener eventListener,
             ProcessingProviders processingProviders) {
 
@@ -142,7 +141,7 @@ public class ServerRuntime {
                 () -> injectionManager.getInstance(ExecutorService.class, ManagedAsyncExecutorLiteral.INSTANCE);
 
         return new ServerRuntime(
-                processingRoot,
+                processingPipeline,
                 processingProviders,
                 injectionManager,
                 scheduledExecutorServiceSupplier,
@@ -154,7 +153,7 @@ public class ServerRuntime {
                 bootstrapBag.getConfiguration());
     }
 
-    private ServerRuntime(final Stage<RequestProcessingContext> requestProcessingRoot,
+    private ServerRuntime(final RequestProcessingPipeline requestProcessingPipeline,
                           final ProcessingProviders processingProviders,
                           final InjectionManager injectionManager,
                           final ScheduledExecutorService backgroundScheduler,
@@ -164,7 +163,7 @@ public class ServerRuntime {
                           final ApplicationEventListener applicationEventListener,
                           final ExternalRequestScope externalScope,
                           final Configuration configuration) {
-        this.requestProcessingRoot = requestProcessingRoot;
+        this.requestProcessingPipeline = requestProcessingPipeline;
         this.processingProviders = processingProviders;
         this.injectionManager = injectionManager;
 
@@ -244,16 +243,13 @@ public class ServerRuntime {
                             OutboundJaxrsResponse.Builder.setBaseUri(uriToUse);
                         }
 
-                        final Ref<Endpoint> endpointRef = Refs.emptyRef();
-                        final RequestProcessingContext data = Stages.process(context, requestProcessingRoot, endpointRef);
-
-                        final Endpoint endpoint = endpointRef.get();
+                        final Endpoint endpoint = requestProcessingPipeline.process(context);
                         if (endpoint == null) {
                             // not found
                             throw new NotFoundException();
                         }
 
-                        final ContainerResponse response = endpoint.apply(data);
+                        final ContainerResponse response = endpoint.apply(context);
 
                         if (!asyncResponderHolder.isAsync()) {
                             responder.process(response);
@@ -700,7 +696,8 @@ public class ServerRuntime {
                                     runtime.requestScope.referenceCurrent(),
                                     request,
                                     response,
-                                    connectionCallbackRunner);
+                                    connectionCallbackRunner,
+                                    runtime.backgroundScheduler);
                         } catch (final IOException ex) {
                             LOGGER.log(Level.SEVERE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), ex);
                             close = true;
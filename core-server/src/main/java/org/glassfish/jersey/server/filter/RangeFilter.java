@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import javax.annotation.Priority;
+
+import org.glassfish.jersey.message.internal.HttpHeaderReader;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+
+/**
+ * Container response filter that serves byte ranges of {@link File}, {@link Path} and {@code byte[]} response entities.
+ * <p>
+ * The filter processes the {@code Range} header of {@code GET} requests answered with a {@code 200 OK} response
+ * containing one of the supported entities. A single satisfiable range is sent as a {@code 206 Partial Content} response
+ * with the {@code Content-Range} header, multiple ranges are sent as a {@code multipart/byteranges} response. When none
+ * of the requested ranges can be satisfied, a {@code 416 Range Not Satisfiable} response is returned. The requested
+ * ranges are ignored and the whole entity is sent if the {@code If-Range} request header does not match the entity tag
+ * or the last modification date of the response, if the {@code Range} header cannot be parsed or if it requests more
+ * than <tt>{@value #MAX_RANGES}</tt> ranges. The filter also adds the {@code Accept-Ranges: bytes} header to all the
+ * responses with a supported entity.
+ * </p>
+ * <p>
+ * The file ranges are written using positional reads of a {@link FileChannel}, or passed to the container as file
+ * regions when the container is able to send a file region directly (see
+ * {@link org.glassfish.jersey.io.spi.FileRegionOutput}).
+ * </p>
+ * <p>
+ * Ranges of responses with a {@code Content-Encoding} (e.g. set by {@link EncodingFilter}) are not supported.
+ * </p>
+ *
+ * @since 2.47
+ */
+@Priority(Priorities.ENTITY_CODER) // must go after EncodingFilter (if present)
+public final class RangeFilter implements ContainerResponseFilter {
+
+    /**
+     * Maximum number of ranges served in a single response.
+     */
+    public static final int MAX_RANGES = 16;
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String BYTES_UNIT = "bytes";
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final AtomicInteger BOUNDARY_COUNTER = new AtomicInteger();
+
+    @Override
+    public void filter(final ContainerRequestContext request, final ContainerResponseContext response) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod())
+                || response.getStatus() != Response.Status.OK.getStatusCode()
+                || !response.hasEntity()) {
+            return;
+        }
+
+        final Object entity = response.getEntity();
+        final long length = getLength(entity);
+        if (length < 0 || response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        response.getHeaders().putSingle(ACCEPT_RANGES, BYTES_UNIT);
+
+        final String rangeHeader = request.getHeaderString(RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request.getHeaderString(IF_RANGE), response)) {
+            return;
+        }
+
+        final List<ByteRange> ranges = parseRanges(rangeHeader, length);
+        if (ranges == null) {
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(RANGE_NOT_SATISFIABLE);
+            response.setEntity(null);
+            response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+            response.getHeaders().putSingle(CONTENT_RANGE, BYTES_UNIT + " */" + length);
+            return;
+        }
+
+        final MediaType mediaType = response.getMediaType();
+        final RangesOutput output;
+        final MediaType outputType;
+        if (ranges.size() == 1) {
+            output = new RangesOutput(entity, ranges, length, null, null);
+            outputType = mediaType;
+            response.getHeaders().putSingle(CONTENT_RANGE, ranges.get(0).toContentRange(length));
+        } else {
+            final String boundary = "Boundary_" + BOUNDARY_COUNTER.incrementAndGet() + '_'
+                    + Integer.toHexString(ThreadLocalRandom.current().nextInt());
+            output = new RangesOutput(entity, ranges, length, boundary, mediaType);
+            outputType = new MediaType("multipart", "byteranges", Collections.singletonMap("boundary", boundary));
+        }
+
+        response.setStatus(Response.Status.PARTIAL_CONTENT.getStatusCode());
+        response.setEntity(output, response.getEntityAnnotations(), outputType);
+    }
+
+    /**
+     * Get the length of the entity.
+     *
+     * @param entity response entity.
+     * @return entity length or {@code -1} if ranges of the entity are not supported.
+     */
+    private static long getLength(final Object entity) throws IOException {
+        if (entity instanceof byte[]) {
+            return ((byte[]) entity).length;
+        }
+
+        final Path path = toPath(entity);
+        if (path == null || !Files.isRegularFile(path)) {
+            return -1;
+        }
+        return Files.size(path);
+    }
+
+    private static Path toPath(final Object entity) {
+        if (entity instanceof File) {
+            return ((File) entity).toPath();
+        } else if (entity instanceof Path) {
+            return (Path) entity;
+        }
+        return null;
+    }
+
+    /**
+     * Check whether the {@code If-Range} precondition allows sending the requested ranges.
+     *
+     * @param ifRange  {@code If-Range} header value or {@code null}.
+     * @param response response context.
+     * @return {@code true} if the ranges can be sent, {@code false} if the whole entity must be sent.
+     */
+    private static boolean ifRangeMatches(final String ifRange, final ContainerResponseContext response) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        final String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            // strong comparison, weak entity tags never match
+            final EntityTag entityTag = response.getEntityTag();
+            return entityTag != null
+                    && !entityTag.isWeak()
+                    && !value.startsWith("W/")
+                    && value.equals(entityTag.toString());
+        }
+
+        final Date lastModified = response.getLastModified();
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            // HTTP dates have a resolution of seconds
+            return HttpHeaderReader.readDate(value).getTime() / 1000 == lastModified.getTime() / 1000;
+        } catch (final ParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parse the {@code Range} header value.
+     *
+     * @param value  {@code Range} header value.
+     * @param length entity length.
+     * @return satisfiable ranges (empty if none of the ranges is satisfiable) or {@code null} if the header value
+     *         is not valid or the ranges should be ignored.
+     */
+    static List<ByteRange> parseRanges(final String value, final long length) {
+        final int eq = value.indexOf('=');
+        if (eq < 0 || !BYTES_UNIT.equals(value.substring(0, eq).trim().toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+
+        final String[] specs = value.substring(eq + 1).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+
+        final List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (final String rawSpec : specs) {
+            final String spec = rawSpec.trim();
+            final int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+
+            final long first;
+            final long last;
+            try {
+                if (dash == 0) {
+                    // suffix range
+                    final long suffix = parsePosition(spec.substring(1));
+                    if (suffix == 0) {
+                        continue;
+                    }
+                    first = Math.max(0, length - suffix);
+                    last = length - 1;
+                } else {
+                    first = parsePosition(spec.substring(0, dash));
+                    if (dash == spec.length() - 1) {
+                        last = length - 1;
+                    } else {
+                        final long requestedLast = parsePosition(spec.substring(dash + 1));
+                        if (requestedLast < first) {
+                            return null;
+                        }
+                        last = Math.min(requestedLast, length - 1);
+                    }
+                }
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+
+            if (first < length && first <= last) {
+                ranges.add(new ByteRange(first, last));
+            }
+        }
+        return ranges;
+    }
+
+    private static long parsePosition(final String value) {
+        final String position = value.trim();
+        if (position.isEmpty() || position.charAt(0) == '+' || position.charAt(0) == '-') {
+            throw new NumberFormatException(value);
+        }
+        return Long.parseLong(position);
+    }
+
+    /**
+     * Satisfiable byte range.
+     */
+    static final class ByteRange {
+
+        private final long first;
+        private final long last;
+
+        ByteRange(final long first, final long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        long getFirst() {
+            return first;
+        }
+
+        long getLast() {
+            return last;
+        }
+
+        long getCount() {
+            return last - first + 1;
+        }
+
+        String toContentRange(final long length) {
+            return BYTES_UNIT + ' ' + first + '-' + last + '/' + length;
+        }
+    }
+
+    /**
+     * Entity writing the requested ranges of the original entity.
+     */
+    private static final class RangesOutput implements StreamingOutput {
+
+        private final Object entity;
+        private final List<ByteRange> ranges;
+        private final long length;
+        private final String boundary;
+        private final MediaType partType;
+
+        private RangesOutput(final Object entity,
+                             final List<ByteRange> ranges,
+                             final long length,
+                             final String boundary,
+                             final MediaType partType) {
+            this.entity = entity;
+            this.ranges = ranges;
+            this.length = length;
+            this.boundary = boundary;
+            this.partType = partType;
+        }
+
+        @Override
+        public void write(final OutputStream output) throws IOException {
+            if (entity instanceof byte[]) {
+                final byte[] bytes = (byte[]) entity;
+                writeRanges(output, (range) -> output.write(bytes, (int) range.getFirst(), (int) range.getCount()));
+            } else {
+                try (FileChannel channel = FileChannel.open(toPath(entity), StandardOpenOption.READ)) {
+                    writeRanges(output, (range) -> ReaderWriter.writeTo(channel, range.getFirst(), range.getCount(), output));
+                }
+            }
+        }
+
+        private void writeRanges(final OutputStream output, final RangeWriter writer) throws IOException {
+            if (boundary == null) {
+                writer.write(ranges.get(0));
+                return;
+            }
+
+            for (final ByteRange range : ranges) {
+                final StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n");
+                if (partType != null) {
+                    headers.append(HttpHeaders.CONTENT_TYPE).append(": ").append(partType).append("\r\n");
+                }
+                headers.append(CONTENT_RANGE).append(": ").append(range.toContentRange(length)).append("\r\n\r\n");
+
+                output.write(headers.toString().getBytes(StandardCharsets.US_ASCII));
+                writer.write(range);
+                output.write(CRLF);
+            }
+            output.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeWriter {
+
+        void write(ByteRange range) throws IOException;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,14 @@
 
 package org.glassfish.jersey.server.internal;
 
+import java.util.concurrent.ExecutorService;
+
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.innate.VirtualThreadSupport;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.server.ServerProperties;
+
 /**
  * Utility methods used by container implementations.
  *
@@ -89,4 +97,33 @@ public class ContainerUtils {
             return uri.substring(0, uri.indexOf("?"));
         }
     }
+
+    /**
+     * Check whether the container is expected to handle each request on a new virtual thread, i.e. whether the
+     * {@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST} property is set and the virtual threads are supported.
+     *
+     * @param configuration the application configuration, may be {@code null}.
+     * @return {@code true} if the requests are expected to be handled on virtual threads.
+     * @since 2.47
+     */
+    public static boolean isVirtualThreadPerRequest(final Configuration configuration) {
+        return configuration != null
+                && PropertiesHelper.isProperty(configuration.getProperty(ServerProperties.VIRTUAL_THREAD_PER_REQUEST))
+                && VirtualThreadSupport.allowVirtual(true).isVirtual();
+    }
+
+    /**
+     * Create an executor service running each task on a new virtual thread when the container is expected to
+     * {@link #isVirtualThreadPerRequest(Configuration) handle each request on a new virtual thread}.
+     *
+     * @param configuration the application configuration, may be {@code null}.
+     * @return new executor service or {@code null} if the requests are not expected to be handled on virtual threads.
+     * @since 2.47
+     */
+    public static ExecutorService virtualThreadPerRequestExecutor(final Configuration configuration) {
+        if (!isVirtualThreadPerRequest(configuration)) {
+            return null;
+        }
+        return VirtualThreadSupport.allowVirtual(true).newCachedThreadPool();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,24 +16,46 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import org.glassfish.jersey.server.internal.monitoring.core.AbstractSlidingWindowTimeReservoir;
-import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
-
-import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
 
 /**
  * Aggregated sliding window time reservoir stores aggregated measurements in a time window of given size. The resulting snapshot
  * provides precise data as far as the granularity of aggregating trimmer is not concerned. The granularity of the trimmer
  * determines the granularity of the data the snapshot provides. In other words, the aggregated value object is either included in
  * the resulting measurements or not depending whether it was trimmed or not.
+ * <p/>
+ * The aggregated measurements are kept in a fixed-size ring of buckets, one bucket per trimmer chunk of the window. Aggregated
+ * values trimmed for the same chunk are merged into a single bucket, a bucket of a chunk that already left the window is reused
+ * for a new chunk. Neither the update, nor the snapshot cost depends on the number of the measurements, the snapshot visits
+ * the buckets of the ring only. If the window spans more than {@value #MAX_BUCKET_COUNT} chunks, one bucket merges several
+ * consecutive chunks and the window slides by whole buckets.
  *
  * @author Stepan Vavra
  */
-class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeReservoir<AggregatedValueObject> {
+class AggregatedSlidingWindowTimeReservoir implements TimeReservoir<AggregatedValueObject> {
+
+    /**
+     * The maximal number of buckets of the ring, enough for one hour window of one second chunks.
+     */
+    private static final int MAX_BUCKET_COUNT = 4096;
 
     private final AggregatingTrimmer notifier;
 
+    private final long window;
+    private final long interval;
+    private final TimeUnit intervalUnit;
+    private final long bucketSize;
+    private final int bucketCount;
+
+    private final AtomicLong greatestTick;
+    private final AtomicLong startTick;
+    private volatile AtomicReferenceArray<Bucket> buckets;
+
     /**
      * Creates an aggregated sliding window reservoir.
      *
@@ -48,33 +70,101 @@ class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeRese
             final TimeUnit windowUnit,
             final long startTime,
             final TimeUnit startTimeUnit, final AggregatingTrimmer notifier) {
-        super(window, windowUnit, startTime, startTimeUnit);
         this.notifier = notifier;
+        this.interval = window;
+        this.intervalUnit = windowUnit;
+        this.window = windowUnit.toNanos(window);
+        final long chunkSize = Math.max(1, notifier.getChunkSize(TimeUnit.NANOSECONDS));
+        this.bucketSize = Math.max(chunkSize, (this.window + MAX_BUCKET_COUNT - 2) / (MAX_BUCKET_COUNT - 1));
+        // a closed interval of the window size spans at most (ceil(window / bucketSize) + 1) buckets
+        this.bucketCount = (int) ((this.window + bucketSize - 1) / bucketSize + 1);
+        this.startTick = new AtomicLong(startTimeUnit.toNanos(startTime));
+        this.greatestTick = new AtomicLong(startTick.get());
+
         notifier.register(this);
     }
 
     @Override
-    protected UniformTimeSnapshot snapshot(final Collection<AggregatedValueObject> values,
-                                           final long timeInterval,
-                                           final TimeUnit timeIntervalUnit,
-                                           final long time,
-                                           final TimeUnit timeUnit) {
+    public int size(final long time, final TimeUnit timeUnit) {
+        final long baselineTick = conditionallyUpdateGreatestTick(timeUnit.toNanos(time));
+        final AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring == null) {
+            return 0;
+        }
+
+        int size = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            final Bucket bucket = ring.get(i);
+            if (bucket != null && inWindow(bucket.tick, baselineTick)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void update(final AggregatedValueObject value, final long time, final TimeUnit timeUnit) {
+        final long tick = timeUnit.toNanos(time);
+        final AtomicReferenceArray<Bucket> ring = ring();
+        final long epoch = Math.floorDiv(tick, bucketSize);
+        final int index = (int) Math.floorMod(epoch, (long) bucketCount);
+
+        while (true) {
+            final Bucket current = ring.get(index);
+            final Bucket updated;
+            if (current == null || current.epoch < epoch) {
+                // empty bucket or the bucket of a chunk that is already out of the window
+                updated = new Bucket(epoch, tick, value.getMin(), value.getMax(), value.getCount(),
+                        value.getMean() * value.getCount());
+            } else if (current.epoch == epoch) {
+                updated = current.merge(tick, value);
+            } else {
+                // the chunk is older than the window of the chunk occupying the bucket
+                return;
+            }
+
+            if (ring.compareAndSet(index, current, updated)) {
+                break;
+            }
+        }
+        conditionallyUpdateGreatestTick(tick);
+    }
+
+    @Override
+    public UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long baselineTick = conditionallyUpdateGreatestTick(timeUnit.toNanos(time));
+        // the snapshot of the sliding window trims the measurements that left it before the buckets are visited
         final UniformTimeSnapshot notTrimmedMeasurementsSnapshot = notifier.getTimeReservoirNotifier()
                 .getSnapshot(time, timeUnit);
 
-        AggregatedValueObject[] arrayValues = new AggregatedValueObject[values.size()];
-        arrayValues = values.toArray(arrayValues);
         long min = Long.MAX_VALUE;
         long max = Long.MIN_VALUE;
         long count = 0;
         double meanNumerator = 0;
+        long firstTick = Long.MAX_VALUE;
 
-        for (AggregatedValueObject value : arrayValues) {
-            min = Math.min(min, value.getMin());
-            max = Math.max(max, value.getMax());
-            count += value.getCount();
-            meanNumerator += value.getCount() * value.getMean();
+        final AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring != null) {
+            for (int i = 0; i < ring.length(); i++) {
+                final Bucket bucket = ring.get(i);
+                if (bucket != null && inWindow(bucket.tick, baselineTick)) {
+                    min = Math.min(min, bucket.min);
+                    max = Math.max(max, bucket.max);
+                    count += bucket.count;
+                    meanNumerator += bucket.sum;
+                    firstTick = Math.min(firstTick, bucket.tick);
+                }
+            }
         }
+
+        // if the first update came with value lower that the 'startTick' we need to extend the window size so that the
+        // calculation depending on the actual measured interval is not unnecessary boosted
+        if (count > 0) {
+            startTick.accumulateAndGet(firstTick, Math::min);
+        }
+        // calculate the actual measured interval
+        final long timeInterval = Math.min(baselineTick - startTick.get(), window);
+
         if (notTrimmedMeasurementsSnapshot.size() > 0) {
             min = Math.min(min, notTrimmedMeasurementsSnapshot.getMin());
             max = Math.max(max, notTrimmedMeasurementsSnapshot.getMax());
@@ -83,10 +173,69 @@ class AggregatedSlidingWindowTimeReservoir extends AbstractSlidingWindowTimeRese
         }
 
         if (count == 0) {
-            return new UniformTimeSimpleSnapshot(0, 0, 0, 0, timeInterval, timeIntervalUnit);
+            return new UniformTimeSimpleSnapshot(0, 0, 0, 0, timeInterval, TimeUnit.NANOSECONDS);
         } else {
-            return new UniformTimeSimpleSnapshot(max, min, meanNumerator / count, count, timeInterval, timeIntervalUnit);
+            return new UniformTimeSimpleSnapshot(max, min, meanNumerator / count, count, timeInterval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(interval, intervalUnit);
+    }
+
+    private boolean inWindow(final long tick, final long baselineTick) {
+        return tick <= baselineTick && tick >= baselineTick - window;
+    }
+
+    private AtomicReferenceArray<Bucket> ring() {
+        AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring == null) {
+            synchronized (this) {
+                ring = buckets;
+                if (ring == null) {
+                    // the ring is allocated lazily, most of the reservoirs of a large application do not get any update
+                    buckets = ring = new AtomicReferenceArray<>(bucketCount);
+                }
+            }
         }
+        return ring;
     }
 
+    private long conditionallyUpdateGreatestTick(final long tick) {
+        return greatestTick.accumulateAndGet(tick, Math::max);
+    }
+
+    /**
+     * Immutable aggregation of the measurements of one bucket of trimmer chunks.
+     */
+    private static final class Bucket {
+
+        private final long epoch;
+        // the first chunk of the bucket
+        private final long tick;
+        private final long min;
+        private final long max;
+        private final long count;
+        private final double sum;
+
+        private Bucket(final long epoch, final long tick, final long min, final long max, final long count,
+                       final double sum) {
+            this.epoch = epoch;
+            this.tick = tick;
+            this.min = min;
+            this.max = max;
+            this.count = count;
+            this.sum = sum;
+        }
+
+        private Bucket merge(final long chunkTick, final AggregatedValueObject value) {
+            return new Bucket(epoch,
+                    Math.min(tick, chunkTick),
+                    Math.min(min, value.getMin()),
+                    Math.max(max, value.getMax()),
+                    count + value.getCount(),
+                    sum + value.getMean() * value.getCount());
+        }
+    }
 }
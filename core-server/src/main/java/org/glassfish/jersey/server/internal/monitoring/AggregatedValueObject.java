@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -64,6 +64,23 @@ class AggregatedValueObject {
         return new AggregatedValueObject(max, min, (double) sum / values.size(), values.size());
     }
 
+    /**
+     * Creates aggregated value object for monitoring statistics based on already aggregated measurements.
+     *
+     * @param max   The maximum of the values.
+     * @param min   The minimum of the values.
+     * @param sum   The sum of the values.
+     * @param count The number of the values, must be positive.
+     * @return Aggregated value object for provided arguments.
+     */
+    public static AggregatedValueObject createFromAggregates(final long max, final long min, final long sum, final long count) {
+        if (count <= 0) {
+            // aggregated objects must be created for at least one value, additionally, prevent from division by zero in the mean
+            throw new IllegalArgumentException("The count of the values must be positive");
+        }
+        return new AggregatedValueObject(max, min, (double) sum / count, count);
+    }
+
     /**
      * Creates aggregated value object for monitoring statistics based on the provided collection of values. During the
      * construction, the values collection must not be modified.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,42 +16,28 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.glassfish.jersey.internal.guava.TreeMultimap;
-import org.glassfish.jersey.server.internal.monitoring.core.SlidingWindowTrimmer;
 import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
 
-import static org.glassfish.jersey.server.internal.monitoring.core.ReservoirConstants.COLLISION_BUFFER_POWER;
-
 /**
  * An aggregating trimmer for sliding window measurements. This trimmer updates registered time reservoirs with the aggregated
- * measurements for the values it trimmed.
+ * measurements that the {@link SlidingWindowTimeReservoir sliding window reservoir} evicted from its window. The evicted
+ * measurements are assigned to "time chunks" of a given size, the registered reservoirs merge the measurements of the same
+ * chunk.
  *
  * @author Stepan Vavra
  */
-class AggregatingTrimmer implements SlidingWindowTrimmer<Long> {
+class AggregatingTrimmer {
 
     private final List<TimeReservoir<AggregatedValueObject>> aggregatedReservoirListeners = new CopyOnWriteArrayList<>();
     private TimeReservoir<Long> timeReservoirNotifier;
 
     private final long startTime;
-    private final TimeUnit startUnitTime;
     private final long chunkSize;
 
-    /**
-     * The lock that prevents other threads to trim the associated reservoir in parallel.
-     */
-    private final AtomicBoolean locked = new AtomicBoolean(false);
-
     /**
      * Creates the trimmer that updates the registered time reservoirs with the aggregated measurements for the values it
      * trimmed.
@@ -65,62 +51,24 @@ class AggregatingTrimmer implements SlidingWindowTrimmer<Long> {
                               final TimeUnit startUnitTime,
                               final long chunkTimeSize,
                               final TimeUnit chunkTimeSizeUnit) {
-        this.startTime = startTime;
-        this.startUnitTime = startUnitTime;
-        this.chunkSize = TimeUnit.NANOSECONDS.convert(chunkTimeSize, chunkTimeSizeUnit) << COLLISION_BUFFER_POWER;
+        this.startTime = startUnitTime.toNanos(startTime);
+        this.chunkSize = chunkTimeSizeUnit.toNanos(chunkTimeSize);
     }
 
-    @Override
-    public void trim(final ConcurrentNavigableMap<Long, Long> map, final long key) {
-        if (!locked.compareAndSet(false, true)) {
-            return;
-        }
-        final TreeMultimap<Long, Long> trimMultiMap = TreeMultimap.create();
-        final NavigableMap<Long, Collection<Long>> trimMap = trimMultiMap.asMap();
-
-        try {
-            final ConcurrentNavigableMap<Long, Long> headMap = map.headMap(key);
-            while (!headMap.isEmpty()) {
-                // headMap itself is being accessed with updates from other threads
-                final Map.Entry<Long, Long> entry = headMap.pollFirstEntry();
-                trimMultiMap.put(entry.getKey(), entry.getValue());
-            }
-            // now the headMap is trimmed...
-        } finally {
-            locked.set(false);
-        }
-
-        for (Map.Entry<Long, Collection<Long>> firstEntry = trimMap.firstEntry(); firstEntry != null;
-                firstEntry = trimMap.firstEntry()) {
-            long chunkLowerBound = lowerBound(firstEntry.getKey());
-            long chunkUpperBound = upperBound(chunkLowerBound, key);
-
-            // now, we need to process and then remove entries at interval [chunkLowerBound, chunkUpperBound)
-            SortedMap<Long, Collection<Long>> chunkMap = trimMap.headMap(chunkUpperBound);
-
-            final AggregatedValueObject aggregatedValueObject = AggregatedValueObject.createFromMultiValues(chunkMap.values());
-
-            // update all listening aggregated reservoirs
-            for (TimeReservoir<AggregatedValueObject> aggregatedReservoir : aggregatedReservoirListeners) {
-                aggregatedReservoir
-                        .update(aggregatedValueObject, chunkLowerBound >> COLLISION_BUFFER_POWER, TimeUnit.NANOSECONDS);
-            }
-
-            // clean up the chunk, which also removes its items from the 'trimMap'
-            chunkMap.clear();
+    /**
+     * Updates all the registered reservoirs with the measurements trimmed from the sliding window.
+     *
+     * @param aggregatedValueObject The aggregated trimmed measurements.
+     * @param time                  The time of the measurements, the measurements are assigned to the chunk of this time.
+     * @param timeUnit              The time unit of the time.
+     */
+    void trimmed(final AggregatedValueObject aggregatedValueObject, final long time, final TimeUnit timeUnit) {
+        final long chunkLowerBound = lowerBound(timeUnit.toNanos(time), startTime, chunkSize, 0);
+        for (TimeReservoir<AggregatedValueObject> aggregatedReservoir : aggregatedReservoirListeners) {
+            aggregatedReservoir.update(aggregatedValueObject, chunkLowerBound, TimeUnit.NANOSECONDS);
         }
     }
 
-    private long upperBound(final long chunkLowerBound, final long key) {
-        final long chunkUpperBoundCandidate = chunkLowerBound + chunkSize;
-        return chunkUpperBoundCandidate < key ? chunkUpperBoundCandidate : key;
-    }
-
-    private long lowerBound(final Long key) {
-        return lowerBound(key, TimeUnit.NANOSECONDS.convert(startTime, startUnitTime), chunkSize,
-                COLLISION_BUFFER_POWER);
-    }
-
     /**
      * Calculates lower bound for given key so that following conditions are true
      * <pre><ul>
@@ -156,11 +104,25 @@ class AggregatingTrimmer implements SlidingWindowTrimmer<Long> {
         aggregatedReservoirListeners.add(timeReservoirListener);
     }
 
-    @Override
+    /**
+     * Sets the reservoir that produces the data this trimmer aggregates.
+     *
+     * @param timeReservoirNotifier The sliding window reservoir that passes the trimmed measurements to this trimmer.
+     */
     public void setTimeReservoir(final TimeReservoir<Long> timeReservoirNotifier) {
         this.timeReservoirNotifier = timeReservoirNotifier;
     }
 
+    /**
+     * Get the size of one time chunk the trimmed measurements are aggregated into.
+     *
+     * @param timeUnit The time unit in which to return the chunk size.
+     * @return The chunk size.
+     */
+    long getChunkSize(final TimeUnit timeUnit) {
+        return timeUnit.convert(chunkSize, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * @return The reservoir that produces the data this trimmer aggregates and trims.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -109,7 +109,10 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
                 statBuilder.addRequest(startTime, duration);
             }
 
-            this.lastStartTime = startTime;
+            // the executions recorded by different threads are not added in the order of their start
+            if (startTime > lastStartTime) {
+                this.lastStartTime = startTime;
+            }
         }
 
         /**
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+/**
+ * Counters of the response status codes, exception mappings and resource method invocations of the processed requests.
+ * <p/>
+ * The counters are updated by the request processing threads and never block or drop an event. Every counter
+ * is a {@link LongAdder} so that the threads updating the same counter do not contend on a single memory location.
+ * The counters are never reset, {@link MonitoringStatisticsProcessor} regularly drains the increments of the response
+ * status and exception mapping counters since the last drain into the monitoring statistics builders. Draining must be
+ * done by a single thread.
+ *
+ * @see MonitoringEventListener
+ */
+final class MonitoringEventCounters {
+
+    /**
+     * Status codes below this limit are counted in an array indexed by the status code.
+     */
+    private static final int STATUS_CODE_LIMIT = 600;
+
+    private final AtomicReferenceArray<LongAdder> responseStatuses = new AtomicReferenceArray<>(STATUS_CODE_LIMIT);
+    private final ConcurrentMap<Integer, LongAdder> otherResponseStatuses = new ConcurrentHashMap<>();
+    private volatile int lastResponseStatus = -1;
+
+    private final ConcurrentMap<Class<?>, LongAdder> exceptionMapperExecutions = new ConcurrentHashMap<>();
+    private final LongAdder successfulMappings = new LongAdder();
+    private final LongAdder unsuccessfulMappings = new LongAdder();
+
+    private final ConcurrentMap<ResourceMethod, LongAdder> resourceMethodInvocations = new ConcurrentHashMap<>();
+
+    // drained totals, accessed by the draining thread only
+    private final long[] drainedResponseStatuses = new long[STATUS_CODE_LIMIT];
+    private final Map<Integer, Long> drainedOtherResponseStatuses = new HashMap<>();
+    private final Map<Class<?>, Long> drainedExceptionMapperExecutions = new HashMap<>();
+    private long drainedSuccessfulMappings;
+    private long drainedUnsuccessfulMappings;
+
+    /**
+     * Count a written response.
+     *
+     * @param status response status code.
+     */
+    void responseWritten(final int status) {
+        if (status >= 0 && status < STATUS_CODE_LIMIT) {
+            LongAdder counter = responseStatuses.get(status);
+            if (counter == null) {
+                responseStatuses.compareAndSet(status, null, new LongAdder());
+                counter = responseStatuses.get(status);
+            }
+            counter.increment();
+        } else {
+            otherResponseStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+        lastResponseStatus = status;
+    }
+
+    /**
+     * Count a finished exception mapping.
+     *
+     * @param exceptionMapper class of the exception mapper that mapped the exception or {@code null} if no mapper was found.
+     * @param success         {@code true} if the exception was successfully mapped to a response.
+     */
+    void exceptionMapped(final Class<?> exceptionMapper, final boolean success) {
+        if (exceptionMapper != null) {
+            LongAdder counter = exceptionMapperExecutions.get(exceptionMapper);
+            if (counter == null) {
+                counter = exceptionMapperExecutions.computeIfAbsent(exceptionMapper, c -> new LongAdder());
+            }
+            counter.increment();
+        }
+        (success ? successfulMappings : unsuccessfulMappings).increment();
+    }
+
+    /**
+     * Count a finished invocation of a resource method.
+     *
+     * @param resourceMethod invoked resource method.
+     */
+    void resourceMethodFinished(final ResourceMethod resourceMethod) {
+        LongAdder counter = resourceMethodInvocations.get(resourceMethod);
+        if (counter == null) {
+            counter = resourceMethodInvocations.computeIfAbsent(resourceMethod, m -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Get the total number of finished invocations of a resource method.
+     *
+     * @param resourceMethod resource method.
+     * @return number of invocations of the resource method counted so far.
+     */
+    long getResourceMethodInvocations(final ResourceMethod resourceMethod) {
+        final LongAdder counter = resourceMethodInvocations.get(resourceMethod);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Add response status codes counted since the last drain to the response statistics.
+     *
+     * @param builder response statistics builder.
+     */
+    void drainResponseStatuses(final ResponseStatisticsImpl.Builder builder) {
+        boolean drained = false;
+        for (int status = 0; status < STATUS_CODE_LIMIT; status++) {
+            final LongAdder counter = responseStatuses.get(status);
+            if (counter != null) {
+                final long total = counter.sum();
+                if (total > drainedResponseStatuses[status]) {
+                    builder.addResponseCode(status, total - drainedResponseStatuses[status]);
+                    drainedResponseStatuses[status] = total;
+                    drained = true;
+                }
+            }
+        }
+        for (final Map.Entry<Integer, LongAdder> entry : otherResponseStatuses.entrySet()) {
+            final long total = entry.getValue().sum();
+            final long previous = drainedOtherResponseStatuses.getOrDefault(entry.getKey(), 0L);
+            if (total > previous) {
+                builder.addResponseCode(entry.getKey(), total - previous);
+                drainedOtherResponseStatuses.put(entry.getKey(), total);
+                drained = true;
+            }
+        }
+
+        if (drained) {
+            builder.setLastResponseCode(lastResponseStatus);
+        }
+    }
+
+    /**
+     * Add exception mappings counted since the last drain to the exception mapper statistics.
+     *
+     * @param builder exception mapper statistics builder.
+     */
+    void drainExceptionMappings(final ExceptionMapperStatisticsImpl.Builder builder) {
+        for (final Map.Entry<Class<?>, LongAdder> entry : exceptionMapperExecutions.entrySet()) {
+            final long total = entry.getValue().sum();
+            final long previous = drainedExceptionMapperExecutions.getOrDefault(entry.getKey(), 0L);
+            if (total > previous) {
+                builder.addExceptionMapperExecution(entry.getKey(), total - previous);
+                drainedExceptionMapperExecutions.put(entry.getKey(), total);
+            }
+        }
+
+        final long successful = successfulMappings.sum();
+        if (successful > drainedSuccessfulMappings) {
+            builder.addMapping(true, successful - drainedSuccessfulMappings);
+            drainedSuccessfulMappings = successful;
+        }
+        final long unsuccessful = unsuccessfulMappings.sum();
+        if (unsuccessful > drainedUnsuccessfulMappings) {
+            builder.addMapping(false, unsuccessful - drainedUnsuccessfulMappings);
+            drainedUnsuccessfulMappings = unsuccessful;
+        }
+    }
+}
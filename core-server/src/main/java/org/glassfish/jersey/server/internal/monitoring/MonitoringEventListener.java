@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,14 +16,10 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -51,6 +47,12 @@ import org.glassfish.jersey.uri.UriTemplate;
  * This event listener must be registered as a standard provider when monitoring statistics are required
  * in the runtime.
  * </p>
+ * <p>
+ * Recording of the request events never blocks the request processing thread. Response status codes and exception
+ * mappings as well as the resource method invocations are counted in {@link MonitoringEventCounters}, the execution
+ * times of the requests are passed to the {@link MonitoringStatisticsProcessor} in a striped
+ * {@link RequestStatsRecorder recorder}. No event is ever dropped.
+ * </p>
  *
  * @author Miroslav Fuksa
  * @see MonitoringStatisticsProcessor
@@ -59,14 +61,12 @@ import org.glassfish.jersey.uri.UriTemplate;
 public final class MonitoringEventListener implements ApplicationEventListener {
 
     private static final Logger LOGGER = Logger.getLogger(MonitoringEventListener.class.getName());
-    private static final int EVENT_QUEUE_SIZE = 500_000;
 
     @Inject
     private InjectionManager injectionManager;
 
-    private final Queue<RequestStats> requestQueuedItems = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<Integer> responseStatuses = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
-    private final Queue<RequestEvent> exceptionMapperEvents = new ArrayBlockingQueue<>(EVENT_QUEUE_SIZE);
+    private final RequestStatsRecorder requestStatsRecorder = new RequestStatsRecorder();
+    private final MonitoringEventCounters eventCounters = new MonitoringEventCounters();
     private volatile MonitoringStatisticsProcessor monitoringStatisticsProcessor;
     // By default new events can arrive before MonitoringStatisticsProcessor is running.
     private final AtomicBoolean processorFailed = new AtomicBoolean(false);
@@ -79,7 +79,7 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         private final long duration;
         private final long startTime;
 
-        private TimeStats(final long startTime, final long requestDuration) {
+        TimeStats(final long startTime, final long requestDuration) {
             this.duration = requestDuration;
             this.startTime = startTime;
         }
@@ -133,8 +133,10 @@ public final class MonitoringEventListener implements ApplicationEventListener {
         private final TimeStats requestStats;
         private final MethodStats methodStats; // might be null if a method was not executed during a request
         private final String requestUri;
+        // next item in the stripe of the recorder
+        RequestStats next;
 
-        private RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri) {
+        RequestStats(final TimeStats requestStats, final MethodStats methodStats, final String requestUri) {
             this.requestStats = requestStats;
             this.methodStats = methodStats;
             this.requestUri = requestUri;
@@ -239,51 +241,42 @@ public final class MonitoringEventListener implements ApplicationEventListener {
                 case RESOURCE_METHOD_FINISHED:
                     final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
                     methodStats = new MethodStats(method, methodTimeStart, now - methodTimeStart);
+                    if (method != null && !processorFailed.get()) {
+                        eventCounters.resourceMethodFinished(method);
+                    }
                     break;
                 case EXCEPTION_MAPPING_FINISHED:
-                    if (!offer(exceptionMapperEvents, event)) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_MAPPER());
+                    if (!processorFailed.get()) {
+                        eventCounters.exceptionMapped(
+                                event.getExceptionMapper() != null ? event.getExceptionMapper().getClass() : null,
+                                event.isResponseSuccessfullyMapped());
                     }
                     break;
                 case FINISHED:
-                    if (event.isResponseWritten()) {
-                        if (!offer(responseStatuses, event.getContainerResponse().getStatus())) {
-                            LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_RESPONSE());
-                        }
+                    if (event.isResponseWritten() && !processorFailed.get()) {
+                        eventCounters.responseWritten(event.getContainerResponse().getStatus());
                     }
                     final StringBuilder sb = new StringBuilder();
-                    final List<UriTemplate> orderedTemplates =
-                            event.getUriInfo().getMatchedTemplates()
-                                 .stream()
-                                 .collect(Collectors.collectingAndThen(Collectors.toList(), uriTemplates -> {
-                                     Collections.reverse(uriTemplates);
-                                     return uriTemplates;
-                                 }));
-
-                    for (final UriTemplate uriTemplate : orderedTemplates) {
+                    final List<UriTemplate> matchedTemplates = event.getUriInfo().getMatchedTemplates();
+
+                    for (int i = matchedTemplates.size() - 1; i >= 0; i--) {
+                        final UriTemplate uriTemplate = matchedTemplates.get(i);
                         sb.append(uriTemplate.getTemplate());
                         if (!uriTemplate.endsWithSlash()) {
                             sb.append("/");
                         }
                         sb.setLength(sb.length() - 1);
                     }
-                    if (!offer(requestQueuedItems, new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
-                            methodStats, sb.toString()))) {
-                        LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_REQUEST());
+                    // Don't need to record the event when an Exception was thrown by MonitoringStatisticsProcessor
+                    if (!processorFailed.get()) {
+                        requestStatsRecorder.record(new RequestStats(new TimeStats(requestTimeStart, now - requestTimeStart),
+                                methodStats, sb.toString()));
                     }
 
             }
         }
     }
 
-    private <T> boolean offer(Queue<T> queue, T event) {
-        if (!processorFailed.get()) {
-            return queue.offer(event);
-        }
-        // Don't need to warn that the event was not queued because an Exception was thrown by MonitoringStatisticsProcessor
-        return true;
-    }
-
     /**
      * Invoked by {@link MonitoringStatisticsProcessor} when there is one exception consuming from queues.
      */
@@ -292,29 +285,20 @@ public final class MonitoringEventListener implements ApplicationEventListener {
     }
 
     /**
-     * Get the exception mapper event queue.
-     *
-     * @return Exception mapper event queue.
-     */
-    Queue<RequestEvent> getExceptionMapperEvents() {
-        return exceptionMapperEvents;
-    }
-
-    /**
-     * Get the request event queue.
+     * Get the counters of response status codes and exception mappings.
      *
-     * @return Request event queue.
+     * @return response status and exception mapping counters.
      */
-    Queue<RequestStats> getRequestQueuedItems() {
-        return requestQueuedItems;
+    MonitoringEventCounters getEventCounters() {
+        return eventCounters;
     }
 
     /**
-     * Get the queue with response status codes.
+     * Get the recorder of the request execution times.
      *
-     * @return response status queue.
+     * @return request statistics recorder.
      */
-    Queue<Integer> getResponseStatuses() {
-        return responseStatuses;
+    RequestStatsRecorder getRequestStatsRecorder() {
+        return requestStatsRecorder;
     }
 }
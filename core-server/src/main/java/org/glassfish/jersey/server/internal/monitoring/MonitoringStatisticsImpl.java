@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.glassfish.jersey.internal.util.collection.Views;
+import org.glassfish.jersey.server.internal.routing.RoutingCache;
 import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
@@ -31,6 +32,7 @@ import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
 import org.glassfish.jersey.server.monitoring.ResourceStatistics;
 import org.glassfish.jersey.server.monitoring.ResponseStatistics;
+import org.glassfish.jersey.server.monitoring.RoutingCacheStatistics;
 
 /**
  * Monitoring statistics implementation.
@@ -76,6 +78,7 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
                 = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
         private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
+        private RoutingCache routingCache;
 
         /**
          * Create a new builder.
@@ -127,6 +130,15 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return builder;
         }
 
+        /**
+         * Set the routing cache whose statistics should be included in the monitoring statistics.
+         *
+         * @param routingCache routing cache or {@code null} if the routing cache is not enabled.
+         */
+        void setRoutingCache(final RoutingCache routingCache) {
+            this.routingCache = routingCache;
+        }
+
         /**
          * Get the exception mapper statistics builder.
          *
@@ -136,6 +148,15 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return exceptionMapperStatisticsBuilder;
         }
 
+        /**
+         * Get the response statistics builder.
+         *
+         * @return Builder of internal response statistics.
+         */
+        ResponseStatisticsImpl.Builder getResponseStatisticsBuilder() {
+            return responseStatisticsBuilder;
+        }
+
         /**
          * Add global request execution.
          *
@@ -206,7 +227,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
                     responseStatisticsBuilder.build(),
-                    exceptionMapperStatisticsBuilder.build());
+                    exceptionMapperStatisticsBuilder.build(),
+                    RoutingCacheStatisticsImpl.from(routingCache));
         }
     }
 
@@ -215,17 +237,20 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     private final ExceptionMapperStatistics exceptionMapperStatistics;
     private final Map<String, ResourceStatistics> uriStatistics;
     private final Map<Class<?>, ResourceStatistics> resourceClassStatistics;
+    private final RoutingCacheStatistics routingCacheStatistics;
 
     private MonitoringStatisticsImpl(final Map<String, ResourceStatistics> uriStatistics,
                                      final Map<Class<?>, ResourceStatistics> resourceClassStatistics,
                                      final ExecutionStatistics requestStatistics,
                                      final ResponseStatistics responseStatistics,
-                                     final ExceptionMapperStatistics exceptionMapperStatistics) {
+                                     final ExceptionMapperStatistics exceptionMapperStatistics,
+                                     final RoutingCacheStatistics routingCacheStatistics) {
         this.uriStatistics = uriStatistics;
         this.resourceClassStatistics = resourceClassStatistics;
         this.requestStatistics = requestStatistics;
         this.responseStatistics = responseStatistics;
         this.exceptionMapperStatistics = exceptionMapperStatistics;
+        this.routingCacheStatistics = routingCacheStatistics;
     }
 
     @Override
@@ -263,6 +288,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         return exceptionMapperStatistics;
     }
 
+    @Override
+    public RoutingCacheStatistics getRoutingCacheStatistics() {
+        return routingCacheStatistics;
+    }
+
     @Override
     public MonitoringStatistics snapshot() {
         // snapshot is not needed, this object is loosely immutable (see javadoc of Maps getters)
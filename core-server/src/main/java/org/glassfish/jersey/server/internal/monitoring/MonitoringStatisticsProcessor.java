@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,12 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,11 +34,10 @@ import org.glassfish.jersey.server.BackgroundSchedulerLiteral;
 import org.glassfish.jersey.server.ExtendedResourceContext;
 import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
-import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.RequestStats;
+import org.glassfish.jersey.server.internal.routing.RoutingCache;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
-import org.glassfish.jersey.server.monitoring.RequestEvent;
 
 /**
  * Process events of application and request processing into
@@ -74,6 +72,7 @@ final class MonitoringStatisticsProcessor {
         this.monitoringEventListener = monitoringEventListener;
         final ResourceModel resourceModel = injectionManager.getInstance(ExtendedResourceContext.class).getResourceModel();
         this.statisticsBuilder = new MonitoringStatisticsImpl.Builder(resourceModel);
+        this.statisticsBuilder.setRoutingCache(injectionManager.getInstance(RoutingCache.class));
         this.statisticsCallbackList = injectionManager.getAllInstances(MonitoringStatisticsListener.class);
         this.scheduler =
                 injectionManager.getInstance(ScheduledExecutorService.class, BackgroundSchedulerLiteral.INSTANCE);
@@ -120,49 +119,35 @@ final class MonitoringStatisticsProcessor {
     }
 
     private void processExceptionMapperEvents() {
-        final Queue<RequestEvent> eventQueue = monitoringEventListener.getExceptionMapperEvents();
-        final FloodingLogger floodingLogger = new FloodingLogger(eventQueue);
-        RequestEvent event = null;
-        while ((event = eventQueue.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            final ExceptionMapperStatisticsImpl.Builder mapperStats = statisticsBuilder.getExceptionMapperStatisticsBuilder();
-
-            if (event.getExceptionMapper() != null) {
-                mapperStats.addExceptionMapperExecution(event.getExceptionMapper().getClass(), 1);
-            }
-
-            mapperStats.addMapping(event.isResponseSuccessfullyMapped(), 1);
-        }
+        monitoringEventListener.getEventCounters()
+                .drainExceptionMappings(statisticsBuilder.getExceptionMapperStatisticsBuilder());
     }
 
     private void processRequestItems() {
-        final Queue<MonitoringEventListener.RequestStats> requestQueuedItems = monitoringEventListener.getRequestQueuedItems();
-        final FloodingLogger floodingLogger = new FloodingLogger(requestQueuedItems);
-        RequestStats event = null;
-        while ((event = requestQueuedItems.poll()) != null) {
+        final RequestStatsRecorder recorder = monitoringEventListener.getRequestStatsRecorder();
+        final FloodingLogger floodingLogger = new FloodingLogger(recorder::pending);
+        // every drain detaches only the statistics recorded so far, the loop ends once the recording threads are outpaced
+        while (recorder.drain(this::processRequestItem) > 0) {
             floodingLogger.conditionallyLogFlooding();
-            final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
-            statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
-
-            final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
-            if (methodStat != null) {
-                final ResourceMethod method = methodStat.getMethod();
-                statisticsBuilder.addExecution(event.getRequestUri(), method,
-                        methodStat.getStartTime(), methodStat.getDuration(),
-                        requestStats.getStartTime(), requestStats.getDuration());
-            }
         }
     }
 
-    private void processResponseCodeEvents() {
-        final Queue<Integer> responseEvents = monitoringEventListener.getResponseStatuses();
-        final FloodingLogger floodingLogger = new FloodingLogger(responseEvents);
-        Integer code = null;
-        while ((code = responseEvents.poll()) != null) {
-            floodingLogger.conditionallyLogFlooding();
-            statisticsBuilder.addResponseCode(code);
+    private void processRequestItem(final MonitoringEventListener.RequestStats event) {
+        final MonitoringEventListener.TimeStats requestStats = event.getRequestStats();
+        statisticsBuilder.addRequestExecution(requestStats.getStartTime(), requestStats.getDuration());
+
+        final MonitoringEventListener.MethodStats methodStat = event.getMethodStats();
+        if (methodStat != null) {
+            final ResourceMethod method = methodStat.getMethod();
+            statisticsBuilder.addExecution(event.getRequestUri(), method,
+                    methodStat.getStartTime(), methodStat.getDuration(),
+                    requestStats.getStartTime(), requestStats.getDuration());
         }
+    }
 
+    private void processResponseCodeEvents() {
+        monitoringEventListener.getEventCounters()
+                .drainResponseStatuses(statisticsBuilder.getResponseStatisticsBuilder());
     }
 
     /**
@@ -183,11 +168,11 @@ final class MonitoringStatisticsProcessor {
     }
 
     /**
-     * Upon calling of {@link #conditionallyLogFlooding()}, flooding logger conditionally checks for the size of the associated
-     * collection and if its size increases a warning about flooding is logged.
+     * Upon calling of {@link #conditionallyLogFlooding()}, flooding logger conditionally checks for the number of pending
+     * items and if the number increases a warning about flooding is logged.
      * <p/>
-     * The purpose of this flooding logger facility is to warn about disability to decrease the size of given collection which
-     * leads to never ending looping while trying to empty that collection in a loop.
+     * The purpose of this flooding logger facility is to warn about disability to decrease the number of pending items which
+     * leads to never ending looping while trying to process all the items in a loop.
      *
      * @author Stepan Vavra
      */
@@ -196,25 +181,25 @@ final class MonitoringStatisticsProcessor {
         /** The frequency of logging a warning about the request queue being flooded. */
         private static final int FLOODING_WARNING_LOG_INTERVAL_MILLIS = 5_000;
 
-        private final Collection<?> collection;
+        private final LongSupplier pending;
         private final long startTime = System.nanoTime();
 
         private int i = 0;
-        private int lastSize;
+        private long lastSize;
 
         /**
-         * Constructs Flooding Logger and associate it with given collection.
+         * Constructs Flooding Logger and associate it with given supplier of the number of pending items.
          *
-         * @param collection The collection to associate this flooding logger with.
+         * @param pending The supplier of the number of pending items to associate this flooding logger with.
          */
-        public FloodingLogger(final Collection<?> collection) {
-            this.collection = collection;
-            this.lastSize = collection.size();
+        public FloodingLogger(final LongSupplier pending) {
+            this.pending = pending;
+            this.lastSize = pending.getAsLong();
         }
 
         /**
-         * With a frequency of {@link #FLOODING_WARNING_LOG_INTERVAL_MILLIS}, a warning about flooding is logged if the size of
-         * the associated collection is increasing.
+         * With a frequency of {@link #FLOODING_WARNING_LOG_INTERVAL_MILLIS}, a warning about flooding is logged if the number
+         * of pending items is increasing.
          */
         public void conditionallyLogFlooding() {
             // this condition prevents the log warning from being logged more frequently than
@@ -224,11 +209,12 @@ final class MonitoringStatisticsProcessor {
                 return;
             }
 
-            if (collection.size() > lastSize) {
-                LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_FLOODED(collection.size()));
+            final long size = pending.getAsLong();
+            if (size > lastSize) {
+                LOGGER.warning(LocalizationMessages.ERROR_MONITORING_QUEUE_FLOODED(size));
             }
             i++;
-            lastSize = collection.size();
+            lastSize = size;
         }
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.RequestStats;
+
+/**
+ * Striped recorder of the {@link RequestStats request statistics} of the processed requests.
+ * <p/>
+ * The recorder keeps a fixed number of stripes, at least two per available processor. A request processing thread
+ * pushes its statistics to the stripe selected by the thread id with a single compare-and-set, so the threads running
+ * on different cores do not contend on the same memory location. The stripes are unbounded lock-free stacks, no
+ * statistics are ever dropped.
+ * <p/>
+ * {@link MonitoringStatisticsProcessor} regularly {@link #drain(Consumer) drains} the stripes. Draining detaches
+ * the whole stack of a stripe at once and never blocks the recording threads. Draining must be done by a single thread.
+ *
+ * @see MonitoringEventListener
+ */
+final class RequestStatsRecorder {
+
+    private final AtomicReferenceArray<RequestStats> stripes;
+    private final int mask;
+
+    private final LongAdder recorded = new LongAdder();
+    // accessed by the draining thread only
+    private long drained;
+
+    /**
+     * Create a new recorder with the number of stripes derived from the number of available processors.
+     */
+    RequestStatsRecorder() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a new recorder.
+     *
+     * @param minStripes minimal number of stripes, rounded up to a power of two.
+     */
+    RequestStatsRecorder(final int minStripes) {
+        final int stripeCount = Integer.highestOneBit(Math.max(1, minStripes - 1)) << 1;
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * Record statistics of a processed request.
+     *
+     * @param requestStats request statistics, must not be recorded more than once.
+     */
+    void record(final RequestStats requestStats) {
+        final int stripe = stripe(Thread.currentThread().getId());
+        RequestStats head;
+        do {
+            head = stripes.get(stripe);
+            requestStats.next = head;
+        } while (!stripes.compareAndSet(stripe, head, requestStats));
+        recorded.increment();
+    }
+
+    /**
+     * Pass all the statistics recorded since the last drain to the consumer. The statistics recorded by one stripe are
+     * passed in the order in which they were recorded.
+     *
+     * @param consumer consumer of the recorded request statistics.
+     * @return number of the drained request statistics.
+     */
+    int drain(final Consumer<RequestStats> consumer) {
+        int count = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            if (stripes.get(i) == null) {
+                continue;
+            }
+            // detach the stack and reverse it to the recording order
+            RequestStats stats = stripes.getAndSet(i, null);
+            RequestStats ordered = null;
+            while (stats != null) {
+                final RequestStats next = stats.next;
+                stats.next = ordered;
+                ordered = stats;
+                stats = next;
+            }
+            while (ordered != null) {
+                final RequestStats next = ordered.next;
+                ordered.next = null;
+                consumer.accept(ordered);
+                ordered = next;
+                count++;
+            }
+        }
+        drained += count;
+        return count;
+    }
+
+    /**
+     * Get the number of the recorded statistics that have not been drained yet. The number is computed in a time
+     * proportional to the number of stripes and is only an estimate when the statistics are being recorded concurrently.
+     * Must be called by the draining thread.
+     *
+     * @return number of the statistics waiting to be drained.
+     */
+    long pending() {
+        return recorded.sum() - drained;
+    }
+
+    private int stripe(final long threadId) {
+        // spread the sequential thread ids over the stripes
+        final long hash = threadId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
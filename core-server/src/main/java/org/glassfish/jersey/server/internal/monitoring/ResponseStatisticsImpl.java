@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -43,14 +43,35 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
         private ResponseStatisticsImpl cached = null;
 
         void addResponseCode(final int responseCode) {
+            addResponseCode(responseCode, 1);
+            lastResponseCode = responseCode;
+        }
+
+        /**
+         * Add a number of responses with the same response code. The last response code is not updated.
+         *
+         * @param responseCode response status code.
+         * @param count        number of responses.
+         */
+        void addResponseCode(final int responseCode, final long count) {
             cached = null;
 
-            lastResponseCode = responseCode;
             Long currentValue = responseCodesMap.get(responseCode);
             if (currentValue == null) {
                 currentValue = 0L;
             }
-            responseCodesMap.put(responseCode, currentValue + 1);
+            responseCodesMap.put(responseCode, currentValue + count);
+        }
+
+        /**
+         * Set the last response code.
+         *
+         * @param responseCode response status code of the last written response.
+         */
+        void setLastResponseCode(final int responseCode) {
+            cached = null;
+
+            lastResponseCode = responseCode;
         }
 
         ResponseStatisticsImpl build() {
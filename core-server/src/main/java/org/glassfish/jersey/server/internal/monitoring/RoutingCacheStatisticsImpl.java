@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import org.glassfish.jersey.server.internal.routing.RoutingCache;
+import org.glassfish.jersey.server.monitoring.RoutingCacheStatistics;
+
+/**
+ * Immutable routing cache statistics.
+ */
+final class RoutingCacheStatisticsImpl implements RoutingCacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+    private final long maximumSize;
+
+    /**
+     * Create a snapshot of the routing cache statistics.
+     *
+     * @param routingCache routing cache or {@code null} if the routing cache is not enabled.
+     * @return routing cache statistics.
+     */
+    static RoutingCacheStatistics from(final RoutingCache routingCache) {
+        if (routingCache == null) {
+            return RoutingCacheStatistics.EMPTY;
+        }
+        return new RoutingCacheStatisticsImpl(
+                routingCache.getHitCount(),
+                routingCache.getMissCount(),
+                routingCache.getEvictionCount(),
+                routingCache.getSize(),
+                routingCache.getMaximumSize());
+    }
+
+    private RoutingCacheStatisticsImpl(final long hitCount, final long missCount, final long evictionCount,
+                                       final long size, final long maximumSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -14,42 +14,86 @@
  * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
  */
 
+
 package org.glassfish.jersey.server.internal.monitoring;
 
-import org.glassfish.jersey.server.internal.monitoring.core.AbstractSlidingWindowTimeReservoir;
-import org.glassfish.jersey.server.internal.monitoring.core.SlidingWindowTrimmer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
 import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
 import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeValuesSnapshot;
 
-import java.util.Collection;
-import java.util.concurrent.TimeUnit;
-
 /**
  * Sliding window time reservoir implementation that stores data of type {@link Long}.
+ * <p/>
+ * The measurements are kept in a fixed-size ring of buckets, the window is divided into {@value #WINDOW_BUCKETS} buckets
+ * (or into buckets of one nanosecond if the window is shorter). The window slides by whole buckets, so the boundary of
+ * the window is as precise as the size of one bucket. No measurement is ever dropped, a bucket keeps all the values
+ * recorded for its time slot together with their count, sum, minimum and maximum. A bucket that leaves the window is
+ * evicted and its aggregated measurements are passed to the {@link AggregatingTrimmer aggregating trimmer}, if any.
+ * <p/>
+ * The cost of a snapshot depends on the number of the buckets only, not on the number of the measurements. The values of
+ * the window are sorted lazily, when a {@link Snapshot#getValue(double) percentile} of the snapshot is requested for
+ * the first time.
  *
  * @author Stepan Vavra
  */
-class SlidingWindowTimeReservoir extends AbstractSlidingWindowTimeReservoir<Long> {
+class SlidingWindowTimeReservoir implements TimeReservoir<Long> {
 
     /**
-     * Creates a new sliding window time reservoir with the start time, specified time window and a custom trimmer.
+     * The number of buckets a window is divided into.
+     */
+    private static final int WINDOW_BUCKETS = 1000;
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+    private final AggregatingTrimmer trimmer;
+
+    private final long interval;
+    private final TimeUnit intervalUnit;
+    private final long window;
+    private final long bucketSize;
+    private final long windowBuckets;
+    private final long origin;
+
+    // the ticks are relative to the origin so that they can be compared regardless of the overflow of the absolute time
+    private final AtomicLong greatestTick = new AtomicLong();
+    private final AtomicLong startTick = new AtomicLong();
+    private volatile AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * Creates a new sliding window time reservoir with the start time, specified time window and an aggregating trimmer.
      *
      * @param window        The window of startTime.
      * @param windowUnit    The unit of {@code window}.
      * @param startTime     The start time from which this reservoir calculates measurements.
      * @param startTimeUnit The start time unit.
-     * @param trimmer       The trimmer to use for trimming, if {@code null}, default trimmer is used.
+     * @param trimmer       The trimmer to pass the evicted measurements to, if {@code null}, evicted measurements are
+     *                      discarded.
      */
     public SlidingWindowTimeReservoir(final long window,
                                       final TimeUnit windowUnit,
                                       final long startTime,
                                       final TimeUnit startTimeUnit,
-                                      final SlidingWindowTrimmer<Long> trimmer) {
-        super(window, windowUnit, startTime, startTimeUnit, trimmer);
+                                      final AggregatingTrimmer trimmer) {
+        this.trimmer = trimmer;
+        this.interval = window;
+        this.intervalUnit = windowUnit;
+        this.window = windowUnit.toNanos(window);
+        this.bucketSize = Math.max(1, this.window / WINDOW_BUCKETS);
+        this.windowBuckets = this.window / bucketSize;
+        this.origin = startTimeUnit.toNanos(startTime);
+
+        if (trimmer != null) {
+            trimmer.setTimeReservoir(this);
+        }
     }
 
     /**
-     * Creates a new sliding window time reservoir with the start time, specified time window and a default trimmer.
+     * Creates a new sliding window time reservoir with the start time and specified time window.
      *
      * @param window        The window of startTime.
      * @param windowUnit    The unit of {@code window}.
@@ -64,11 +108,276 @@ class SlidingWindowTimeReservoir extends AbstractSlidingWindowTimeReservoir<Long
     }
 
     @Override
-    protected UniformTimeSnapshot snapshot(final Collection<Long> values,
-                                           final long timeInterval,
-                                           final TimeUnit timeIntervalUnit,
-                                           final long time,
-                                           final TimeUnit timeUnit) {
-        return new UniformTimeValuesSnapshot(values, timeInterval, timeIntervalUnit);
+    public int size(final long time, final TimeUnit timeUnit) {
+        final long baselineEpoch = epoch(conditionallyUpdateGreatestTick(tick(time, timeUnit)));
+        evictExpired(baselineEpoch);
+
+        final AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring == null) {
+            return 0;
+        }
+        long size = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            final Bucket bucket = ring.get(i);
+            if (bucket != null && inWindow(bucket.epoch, baselineEpoch)) {
+                size += bucket.size();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        final long tick = tick(time, timeUnit);
+        final long epoch = epoch(tick);
+        if (epoch(conditionallyUpdateGreatestTick(tick)) - epoch > windowBuckets) {
+            // the value is already out of the window
+            trimmed(epoch, value);
+            return;
+        }
+
+        final AtomicReferenceArray<Bucket> ring = ring();
+        final int index = (int) Math.floorMod(epoch, (long) ring.length());
+        while (true) {
+            final Bucket current = ring.get(index);
+            if (current == null || current.epoch < epoch) {
+                // empty slot or the bucket of a time slot that is already out of the window
+                if (ring.compareAndSet(index, current, new Bucket(epoch)) && current != null) {
+                    evict(current);
+                }
+            } else if (current.epoch == epoch) {
+                if (current.add(value, tick)) {
+                    return;
+                }
+                // the bucket has just been evicted, retry with the bucket that replaced it
+            } else {
+                // the value is older than the window of the bucket occupying the slot
+                trimmed(epoch, value);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Snapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long baselineTick = conditionallyUpdateGreatestTick(tick(time, timeUnit));
+        final long baselineEpoch = epoch(baselineTick);
+        evictExpired(baselineEpoch);
+
+        final AtomicReferenceArray<Bucket> ring = buckets;
+        final Snapshot.Builder builder = new Snapshot.Builder(ring == null ? 0 : ring.length());
+        if (ring != null) {
+            for (int i = 0; i < ring.length(); i++) {
+                final Bucket bucket = ring.get(i);
+                if (bucket != null && inWindow(bucket.epoch, baselineEpoch)) {
+                    bucket.collect(builder);
+                }
+            }
+        }
+
+        // if the first update came with value lower that the 'startTick' we need to extend the window size so that the
+        // calculation depending on the actual measured interval is not unnecessary boosted
+        if (builder.count > 0) {
+            startTick.accumulateAndGet(builder.firstTick, Math::min);
+        }
+        // calculate the actual measured interval
+        final long timeInterval = Math.min(baselineTick - startTick.get(), window);
+
+        return builder.build(timeInterval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(interval, intervalUnit);
+    }
+
+    private long tick(final long time, final TimeUnit timeUnit) {
+        return timeUnit.toNanos(time) - origin;
+    }
+
+    private long epoch(final long tick) {
+        return Math.floorDiv(tick, bucketSize);
+    }
+
+    private boolean inWindow(final long epoch, final long baselineEpoch) {
+        return epoch <= baselineEpoch && baselineEpoch - epoch <= windowBuckets;
+    }
+
+    private long conditionallyUpdateGreatestTick(final long tick) {
+        return greatestTick.accumulateAndGet(tick, Math::max);
+    }
+
+    private AtomicReferenceArray<Bucket> ring() {
+        AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring == null) {
+            synchronized (this) {
+                ring = buckets;
+                if (ring == null) {
+                    // the ring is allocated lazily, most of the reservoirs of a large application do not get any update;
+                    // a closed interval of the window size spans (windowBuckets + 1) buckets
+                    buckets = ring = new AtomicReferenceArray<>((int) windowBuckets + 1);
+                }
+            }
+        }
+        return ring;
+    }
+
+    private void evictExpired(final long baselineEpoch) {
+        final AtomicReferenceArray<Bucket> ring = buckets;
+        if (ring == null) {
+            return;
+        }
+        for (int i = 0; i < ring.length(); i++) {
+            final Bucket bucket = ring.get(i);
+            if (bucket != null && baselineEpoch - bucket.epoch > windowBuckets && ring.compareAndSet(i, bucket, null)) {
+                evict(bucket);
+            }
+        }
+    }
+
+    private void evict(final Bucket bucket) {
+        final AggregatedValueObject aggregatedValueObject = bucket.evict();
+        if (aggregatedValueObject != null && trimmer != null) {
+            trimmer.trimmed(aggregatedValueObject, origin + bucket.epoch * bucketSize, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void trimmed(final long epoch, final long value) {
+        if (trimmer != null) {
+            trimmer.trimmed(AggregatedValueObject.createFromValues(Collections.singletonList(value)),
+                    origin + epoch * bucketSize, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The measurements of one time slot of the window.
+     * <p/>
+     * The values are appended to an array that is replaced by a larger copy when full, so that the values the snapshots
+     * already refer to are never modified. Once evicted, the bucket does not accept any more values.
+     */
+    private static final class Bucket {
+
+        private final long epoch;
+
+        private long[] values = new long[INITIAL_BUCKET_CAPACITY];
+        private int count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long firstTick = Long.MAX_VALUE;
+        private boolean evicted;
+
+        private Bucket(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private synchronized boolean add(final long value, final long tick) {
+            if (evicted) {
+                return false;
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length << 1);
+            }
+            values[count++] = value;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            firstTick = Math.min(firstTick, tick);
+            return true;
+        }
+
+        private synchronized int size() {
+            return count;
+        }
+
+        private synchronized void collect(final Snapshot.Builder builder) {
+            if (count > 0) {
+                builder.add(values, count, sum, min, max, firstTick);
+            }
+        }
+
+        private synchronized AggregatedValueObject evict() {
+            evicted = true;
+            return count == 0 ? null : AggregatedValueObject.createFromAggregates(max, min, sum, count);
+        }
+    }
+
+    /**
+     * Snapshot of the sliding window. Minimum, maximum, mean and size are aggregated from the buckets of the window,
+     * the values are merged and sorted only when a percentile is requested.
+     */
+    static final class Snapshot extends UniformTimeSimpleSnapshot {
+
+        private final long[][] values;
+        private final int[] counts;
+        private final int buckets;
+
+        private volatile UniformTimeValuesSnapshot valuesSnapshot;
+
+        private Snapshot(final Builder builder, final long timeInterval, final TimeUnit timeIntervalUnit) {
+            super(builder.count == 0 ? 0 : builder.max,
+                    builder.count == 0 ? 0 : builder.min,
+                    builder.count == 0 ? 0 : (double) builder.sum / builder.count,
+                    builder.count, timeInterval, timeIntervalUnit);
+            this.values = builder.values;
+            this.counts = builder.counts;
+            this.buckets = builder.buckets;
+        }
+
+        /**
+         * Returns the value at the given quantile.
+         *
+         * @param quantile a given quantile, in {@code [0..1]}
+         * @return the value in the distribution at {@code quantile}
+         */
+        double getValue(final double quantile) {
+            UniformTimeValuesSnapshot snapshot = valuesSnapshot;
+            if (snapshot == null) {
+                final long[] merged = new long[(int) size()];
+                int position = 0;
+                for (int i = 0; i < buckets; i++) {
+                    System.arraycopy(values[i], 0, merged, position, counts[i]);
+                    position += counts[i];
+                }
+                valuesSnapshot = snapshot = new UniformTimeValuesSnapshot(merged,
+                        getTimeInterval(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            }
+            return snapshot.getValue(quantile);
+        }
+
+        /**
+         * Collects the buckets of a snapshot.
+         */
+        private static final class Builder {
+
+            private final long[][] values;
+            private final int[] counts;
+            private int buckets;
+            private long count;
+            private long sum;
+            private long min = Long.MAX_VALUE;
+            private long max = Long.MIN_VALUE;
+            private long firstTick = Long.MAX_VALUE;
+
+            private Builder(final int capacity) {
+                this.values = new long[capacity][];
+                this.counts = new int[capacity];
+            }
+
+            private void add(final long[] bucketValues, final int bucketCount, final long bucketSum, final long bucketMin,
+                             final long bucketMax, final long bucketFirstTick) {
+                values[buckets] = bucketValues;
+                counts[buckets++] = bucketCount;
+                count += bucketCount;
+                sum += bucketSum;
+                min = Math.min(min, bucketMin);
+                max = Math.max(max, bucketMax);
+                firstTick = Math.min(firstTick, bucketFirstTick);
+            }
+
+            private Snapshot build(final long timeInterval, final TimeUnit timeIntervalUnit) {
+                return new Snapshot(this, timeInterval, timeIntervalUnit);
+            }
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2010, 2013 Coda Hale and Yammer, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -42,13 +42,29 @@ public class UniformTimeValuesSnapshot extends AbstractTimeSnapshot {
      * @param timeIntervalUnit The time unit of the time interval
      */
     public UniformTimeValuesSnapshot(Collection<Long> values, final long timeInterval, final TimeUnit timeIntervalUnit) {
+        this(toArray(values), timeInterval, timeIntervalUnit);
+    }
+
+    /**
+     * Create a new snapshot with the given values. The array is sorted in place and must not be modified afterwards.
+     *
+     * @param values           an unordered array of values in the reservoir
+     * @param timeInterval     The time interval this snapshot relates to
+     * @param timeIntervalUnit The time unit of the time interval
+     */
+    public UniformTimeValuesSnapshot(long[] values, final long timeInterval, final TimeUnit timeIntervalUnit) {
         super(timeInterval, timeIntervalUnit);
+        this.values = values;
+        Arrays.sort(this.values);
+    }
+
+    private static long[] toArray(Collection<Long> values) {
         final Object[] copy = values.toArray();
-        this.values = new long[copy.length];
+        final long[] array = new long[copy.length];
         for (int i = 0; i < copy.length; i++) {
-            this.values[i] = (Long) copy[i];
+            array[i] = (Long) copy[i];
         }
-        Arrays.sort(this.values);
+        return array;
     }
 
     /**
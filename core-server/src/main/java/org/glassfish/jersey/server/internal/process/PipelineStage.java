@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.process;
+
+/**
+ * Request processing stage executed as a step of a {@link RequestProcessingPipeline request processing pipeline}.
+ * <p>
+ * Unlike a generic {@link org.glassfish.jersey.process.internal.Stage stage}, the pipeline stage does not return
+ * a continuation. The processing context is modified in place and the stage either lets the pipeline continue with
+ * the next stage or terminates the pipeline.
+ * </p>
+ */
+public interface PipelineStage {
+
+    /**
+     * Process the request.
+     *
+     * @param context request processing context.
+     * @return {@code null} to continue with the next stage of the pipeline, an endpoint to terminate the pipeline with,
+     *         or {@link RequestProcessingPipeline#NO_ENDPOINT} to terminate the pipeline without an endpoint.
+     */
+    Endpoint process(RequestProcessingContext context);
+}
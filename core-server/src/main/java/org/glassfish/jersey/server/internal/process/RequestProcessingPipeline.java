@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.process;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Linear request processing pipeline.
+ * <p>
+ * The pipeline is assembled once from a fixed sequence of {@link PipelineStage pipeline stages} and executes
+ * them in a loop over an array, without creating any per-request continuations or stage wrappers. The pipeline
+ * terminates as soon as a stage returns an endpoint. When all the stages have been executed, the endpoint
+ * {@link org.glassfish.jersey.server.internal.routing.RoutingContext#getEndpoint() stored in the routing context}
+ * during the request routing is returned.
+ * </p>
+ */
+public final class RequestProcessingPipeline {
+
+    /**
+     * Endpoint returned by a {@link PipelineStage pipeline stage} to terminate the pipeline without an endpoint,
+     * e.g. when no resource method matches the request.
+     */
+    public static final Endpoint NO_ENDPOINT = context -> {
+        throw new IllegalStateException("No endpoint.");
+    };
+
+    private final PipelineStage[] stages;
+
+    private RequestProcessingPipeline(final PipelineStage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Start building a request processing pipeline.
+     *
+     * @return new pipeline builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Run the request through the pipeline stages.
+     *
+     * @param context request processing context.
+     * @return the endpoint that should process the request or {@code null} if there is no such endpoint.
+     */
+    public Endpoint process(final RequestProcessingContext context) {
+        for (final PipelineStage stage : stages) {
+            final Endpoint endpoint = stage.process(context);
+            if (endpoint != null) {
+                return endpoint == NO_ENDPOINT ? null : endpoint;
+            }
+        }
+        return context.routingContext().getEndpoint();
+    }
+
+    /**
+     * Request processing pipeline builder.
+     */
+    public static final class Builder {
+
+        private final List<PipelineStage> stages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a transformation function as a next stage of the pipeline. The function is expected to modify the
+         * processing context in place and return the same processing context instance.
+         *
+         * @param transformation a transformation function to be added as a next stage of the pipeline.
+         * @return updated builder instance.
+         */
+        public Builder to(final Function<RequestProcessingContext, RequestProcessingContext> transformation) {
+            final PipelineStage stage = context -> {
+                transformation.apply(context);
+                return null;
+            };
+            return to(stage);
+        }
+
+        /**
+         * Add a stage as a next stage of the pipeline.
+         *
+         * @param stage a stage to be added as a next stage of the pipeline.
+         * @return updated builder instance.
+         */
+        public Builder to(final PipelineStage stage) {
+            stages.add(stage);
+            return this;
+        }
+
+        /**
+         * Build the request processing pipeline.
+         *
+         * @return built request processing pipeline.
+         */
+        public RequestProcessingPipeline build() {
+            return new RequestProcessingPipeline(stages.toArray(new PipelineStage[0]));
+        }
+    }
+}
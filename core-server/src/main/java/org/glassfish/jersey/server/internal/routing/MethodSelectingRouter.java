@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +40,7 @@ import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -67,10 +70,15 @@ import org.glassfish.jersey.server.model.ResourceMethod;
  * method name, requested media type as well as defined resource method media type
  * capabilities.
  *
+ * The outcome of the method selection depends only on the request method and on the values of the {@code Content-Type}
+ * and {@code Accept} request headers. The selected methods are therefore remembered in a bounded negotiation table per
+ * HTTP method, keyed by the raw header values, so that requests with repeated header values are routed by a single
+ * table lookup without parsing the headers and re-running the content negotiation.
+ *
  * @author Jakub Podlesak
  * @author Marek Potociar
  */
-final class MethodSelectingRouter extends ContentTypeDeterminer implements Router {
+final class MethodSelectingRouter extends ContentTypeDeterminer implements ReplayableRouter {
 
     private static final Logger LOGGER = Logger.getLogger(MethodSelectingRouter.class.getName());
 
@@ -112,7 +120,13 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
                 }
             };
 
+    /**
+     * Maximum number of method selections remembered in a negotiation table of a single HTTP method.
+     */
+    private static final int NEGOTIATION_TABLE_SIZE = 256;
+
     private final Map<String, List<ConsumesProducesAcceptor>> consumesProducesAcceptors;
+    private final Map<String, NegotiationTable> negotiationTables;
     private final Router router;
 
     /**
@@ -149,6 +163,11 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
             Collections.sort(consumesProducesAcceptors.get(httpMethod), CONSUMES_PRODUCES_ACCEPTOR_COMPARATOR);
         }
 
+        this.negotiationTables = new HashMap<>();
+        for (final String httpMethod : httpMethods) {
+            negotiationTables.put(httpMethod, new NegotiationTable());
+        }
+
         if (!consumesProducesAcceptors.containsKey(HttpMethod.HEAD)) {
             this.router = createHeadEnrichedRouter();
         } else {
@@ -289,12 +308,114 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         }
     }
 
+    /**
+     * Routing decision of the method selecting router, i.e. the selected method together with
+     * the acceptable media types used for the selection and the response media type if it is
+     * determined by the selection already.
+     */
+    private static final class MethodSelection {
+
+        private final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected;
+        private final List<AcceptableMediaType> acceptableMediaTypes;
+        private final MediaType preSelectedResponseType;
+
+        private MethodSelection(final RequestSpecificConsumesProducesAcceptor<MethodRouting> selected,
+                                final List<AcceptableMediaType> acceptableMediaTypes) {
+            this.selected = selected;
+            this.acceptableMediaTypes = acceptableMediaTypes;
+            this.preSelectedResponseType = usePreSelectedMediaType(selected, acceptableMediaTypes)
+                    ? selected.getProduces().getCombinedType() : null;
+        }
+    }
+
+    /**
+     * Bounded table of method selections of a single HTTP method keyed by the raw values of the {@code Content-Type}
+     * and {@code Accept} request headers ({@code null} key stands for a missing header).
+     * <p>
+     * Once the table is full, no more selections are added and the requests with new header values are negotiated
+     * each time.
+     * </p>
+     */
+    private static final class NegotiationTable {
+
+        private final ConcurrentHashMap<String, Row> rows = new ConcurrentHashMap<>();
+        private final Row noContentTypeRow = new Row();
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Method selections for a single {@code Content-Type} header value.
+         */
+        private static final class Row {
+
+            private final ConcurrentHashMap<String, MethodSelection> selections = new ConcurrentHashMap<>();
+            private volatile MethodSelection noAcceptSelection;
+        }
+
+        MethodSelection get(final String contentType, final String accept) {
+            final Row row = contentType == null ? noContentTypeRow : rows.get(contentType);
+            if (row == null) {
+                return null;
+            }
+            return accept == null ? row.noAcceptSelection : row.selections.get(accept);
+        }
+
+        void put(final String contentType, final String accept, final MethodSelection selection) {
+            // the slot is reserved before the insertion so that concurrent insertions cannot exceed the size limit
+            if (!reserveSlot()) {
+                return;
+            }
+
+            final Row row = contentType == null ? noContentTypeRow : rows.computeIfAbsent(contentType, key -> new Row());
+            final boolean added;
+            if (accept == null) {
+                // racing insertions of the same key may both keep the slot, the size can only be over-counted
+                added = row.noAcceptSelection == null;
+                row.noAcceptSelection = selection;
+            } else {
+                added = row.selections.put(accept, selection) == null;
+            }
+            if (!added) {
+                size.decrementAndGet();
+            }
+        }
+
+        private boolean reserveSlot() {
+            int current;
+            do {
+                current = size.get();
+                if (current >= NEGOTIATION_TABLE_SIZE) {
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Check whether the header values can be used as a negotiation table key, i.e. the header is either
+         * missing or it has a single non-empty value.
+         */
+        static boolean isTabulated(final List<String> headerValues) {
+            if (headerValues == null || headerValues.isEmpty()) {
+                return true;
+            }
+            if (headerValues.size() > 1) {
+                return false;
+            }
+            final String value = headerValues.get(0);
+            return value != null && !value.isEmpty();
+        }
+
+        static String key(final List<String> headerValues) {
+            return headerValues == null || headerValues.isEmpty() ? null : headerValues.get(0);
+        }
+    }
+
     private Router createInternalRouter() {
         return new Router() {
 
             @Override
             public Continuation apply(RequestProcessingContext requestContext) {
-                return Continuation.of(requestContext, getMethodRouter(requestContext));
+                return getMethodRouter(requestContext);
             }
         };
     }
@@ -304,6 +425,17 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         return router.apply(requestContext);
     }
 
+    @Override
+    public Continuation replay(final RequestProcessingContext context, final Object decision) {
+        if (!consumesProducesAcceptors.containsKey(HttpMethod.HEAD)) {
+            enrichHeadRequest(context);
+        }
+
+        final MethodSelection selection = (MethodSelection) decision;
+        pushResponseMediaTypeResolver(context, selection);
+        return Continuation.of(context, selection.selected.getMethodRouting().routers, selection);
+    }
+
     private void addAllConsumesProducesCombinations(final List<ConsumesProducesAcceptor> acceptors,
                                                     final MethodRouting methodRouting) {
         final ResourceMethod resourceMethod = methodRouting.method;
@@ -400,7 +532,7 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
         return null;
     }
 
-    private List<Router> getMethodRouter(final RequestProcessingContext context) {
+    private Continuation getMethodRouter(final RequestProcessingContext context) {
         final ContainerRequest request = context.request();
         final List<ConsumesProducesAcceptor> acceptors = consumesProducesAcceptors.get(request.getMethod());
         if (acceptors == null) {
@@ -408,6 +540,30 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
                     Response.status(Status.METHOD_NOT_ALLOWED).allow(consumesProducesAcceptors.keySet()).build());
         }
 
+        final MethodSelection selection;
+        final List<String> contentTypeValues = request.getHeaders().get(HttpHeaders.CONTENT_TYPE);
+        final List<String> acceptValues = request.getHeaders().get(HttpHeaders.ACCEPT);
+        if (NegotiationTable.isTabulated(contentTypeValues) && NegotiationTable.isTabulated(acceptValues)) {
+            final NegotiationTable table = negotiationTables.get(request.getMethod());
+            final String contentType = NegotiationTable.key(contentTypeValues);
+            final String accept = NegotiationTable.key(acceptValues);
+
+            final MethodSelection tabulated = table.get(contentType, accept);
+            if (tabulated != null) {
+                selection = tabulated;
+            } else {
+                selection = negotiate(request, acceptors);
+                table.put(contentType, accept, selection);
+            }
+        } else {
+            selection = negotiate(request, acceptors);
+        }
+
+        pushResponseMediaTypeResolver(context, selection);
+        return Continuation.of(context, selection.selected.getMethodRouting().routers, selection);
+    }
+
+    private MethodSelection negotiate(final ContainerRequest request, final List<ConsumesProducesAcceptor> acceptors) {
         final List<ConsumesProducesAcceptor> satisfyingAcceptors = new LinkedList<>();
         final Set<ResourceMethod> differentInvokableMethods = Collections.newSetFromMap(new IdentityHashMap<>());
         final MediaType requestContentType = request.getMediaType();
@@ -436,39 +592,45 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
                         methodSelector.sameFitnessAcceptors);
             }
 
-            context.push(new Function<ContainerResponse, ContainerResponse>() {
-                @Override
-                public ContainerResponse apply(final ContainerResponse responseContext) {
-                    // we only need to compute and set the effective media type if:
-                    // - it hasn't been set already, and
-                    // - either there is an entity, or we are responding to a HEAD request
-                    if (responseContext.getMediaType() == null
-                            && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
-
-                        MediaType effectiveResponseType = determineResponseMediaType(
-                                responseContext.getEntityClass(),
-                                responseContext.getEntityType(),
-                                methodSelector.selected,
-                                acceptableMediaTypes);
-
-                        if (MediaTypes.isWildcard(effectiveResponseType)) {
-                            if (effectiveResponseType.isWildcardType()
-                                    || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
-                                effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-                            } else {
-                                throw new NotAcceptableException();
-                            }
+            return new MethodSelection(selected, acceptableMediaTypes);
+        }
+
+        throw new NotAcceptableException();
+    }
+
+    private void pushResponseMediaTypeResolver(final RequestProcessingContext context, final MethodSelection selection) {
+        final ContainerRequest request = context.request();
+        context.push(new Function<ContainerResponse, ContainerResponse>() {
+            @Override
+            public ContainerResponse apply(final ContainerResponse responseContext) {
+                // we only need to compute and set the effective media type if:
+                // - it hasn't been set already, and
+                // - either there is an entity, or we are responding to a HEAD request
+                if (responseContext.getMediaType() == null
+                        && ((responseContext.hasEntity() || HttpMethod.HEAD.equals(request.getMethod())))) {
+
+                    MediaType effectiveResponseType = selection.preSelectedResponseType != null
+                            ? selection.preSelectedResponseType
+                            : determineResponseMediaType(
+                                    responseContext.getEntityClass(),
+                                    responseContext.getEntityType(),
+                                    selection.selected,
+                                    selection.acceptableMediaTypes);
+
+                    if (MediaTypes.isWildcard(effectiveResponseType)) {
+                        if (effectiveResponseType.isWildcardType()
+                                || "application".equalsIgnoreCase(effectiveResponseType.getType())) {
+                            effectiveResponseType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+                        } else {
+                            throw new NotAcceptableException();
                         }
-                        responseContext.setMediaType(effectiveResponseType);
                     }
-
-                    return responseContext;
+                    responseContext.setMediaType(effectiveResponseType);
                 }
-            });
-            return selected.getMethodRouting().routers;
-        }
 
-        throw new NotAcceptableException();
+                return responseContext;
+            }
+        });
     }
 
     /**
@@ -657,21 +819,25 @@ final class MethodSelectingRouter extends ContentTypeDeterminer implements Route
 
             @Override
             public Continuation apply(final RequestProcessingContext context) {
-                final ContainerRequest request = context.request();
-                if (HttpMethod.HEAD.equals(request.getMethod())) {
-                    request.setMethodWithoutException(HttpMethod.GET);
-                    context.push(
-                            new Function<ContainerResponse, ContainerResponse>() {
-                                @Override
-                                public ContainerResponse apply(final ContainerResponse responseContext) {
-                                    responseContext.getRequestContext().setMethodWithoutException(HttpMethod.HEAD);
-                                    return responseContext;
-                                }
-                            }
-                    );
-                }
-                return Continuation.of(context, getMethodRouter(context));
+                enrichHeadRequest(context);
+                return getMethodRouter(context);
             }
         };
     }
+
+    private static void enrichHeadRequest(final RequestProcessingContext context) {
+        final ContainerRequest request = context.request();
+        if (HttpMethod.HEAD.equals(request.getMethod())) {
+            request.setMethodWithoutException(HttpMethod.GET);
+            context.push(
+                    new Function<ContainerResponse, ContainerResponse>() {
+                        @Override
+                        public ContainerResponse apply(final ContainerResponse responseContext) {
+                            responseContext.getRequestContext().setMethodWithoutException(HttpMethod.HEAD);
+                            return responseContext;
+                        }
+                    }
+            );
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,6 @@
 
 package org.glassfish.jersey.server.internal.routing;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.regex.MatchResult;
 
@@ -31,9 +30,15 @@ import org.glassfish.jersey.uri.PathPattern;
  * @author Paul Sandoz
  * @author Marek Potociar
  */
-final class PathMatchingRouter implements Router {
+final class PathMatchingRouter implements ReplayableRouter {
 
-    private final List<Route> acceptedRoutes;
+    /**
+     * Routing decision representing a request path not matched by any route.
+     */
+    private static final Object NO_MATCH = new Object();
+
+    private final Route[] acceptedRoutes;
+    private final PathMatchingTrie routingIndex;
 
     /**
      * Constructs route methodAcceptorPair that uses {@link PathPattern} instances for
@@ -43,7 +48,8 @@ final class PathMatchingRouter implements Router {
      *                 the built router is successful.
      */
     PathMatchingRouter(final List<Route> routes) {
-        this.acceptedRoutes = routes;
+        this.acceptedRoutes = routes.toArray(new Route[0]);
+        this.routingIndex = new PathMatchingTrie(routes);
     }
 
     @Override
@@ -59,11 +65,16 @@ final class PathMatchingRouter implements Router {
         MatchResult matchResultCandidate = null;
         Route acceptedRouteCandidate = null;
 
-        final Iterator<Route> iterator = acceptedRoutes.iterator();
-        while (iterator.hasNext()) {
-            final Route acceptedRoute = iterator.next();
+        // routes that cannot match the path are skipped without regex matching,
+        // unless tracing needs to report every not matched route
+        final long[] candidates = routingIndex.candidates(path);
+        final boolean traceNotMatched = tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED);
+
+        int i = traceNotMatched ? 0 : PathMatchingTrie.nextCandidate(candidates, 0);
+        while (i >= 0 && i < acceptedRoutes.length) {
+            final Route acceptedRoute = acceptedRoutes[i];
             final PathPattern routePattern = acceptedRoute.routingPattern();
-            final MatchResult matchResult = routePattern.match(path);
+            final MatchResult matchResult = routingIndex.mayMatch(candidates, i, path) ? routePattern.match(path) : null;
             if (matchResult != null) {
                 if (isLocator(acceptedRoute) && matchResultCandidate != null) {
                     // acceptedRoute matches the path but it is a locator
@@ -84,11 +95,12 @@ final class PathMatchingRouter implements Router {
             } else {
                 tracingLogger.log(ServerTraceEvent.MATCH_PATH_NOT_MATCHED, routePattern.getRegex());
             }
+            i = traceNotMatched ? i + 1 : PathMatchingTrie.nextCandidate(candidates, i + 1);
         }
 
-        if (tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_SKIPPED)) {
-            while (iterator.hasNext()) {
-                tracingLogger.log(ServerTraceEvent.MATCH_PATH_SKIPPED, iterator.next().routingPattern().getRegex());
+        if (i >= 0 && tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_SKIPPED)) {
+            for (int skipped = i + 1; skipped < acceptedRoutes.length; skipped++) {
+                tracingLogger.log(ServerTraceEvent.MATCH_PATH_SKIPPED, acceptedRoutes[skipped].routingPattern().getRegex());
             }
         }
 
@@ -99,17 +111,36 @@ final class PathMatchingRouter implements Router {
 
         if (result == null) {
             // No match
-            return Router.Continuation.of(context);
+            return Router.Continuation.of(context, (Iterable<Router>) null, NO_MATCH);
         }
 
         return result;
     }
 
+    @Override
+    public Router.Continuation replay(final RequestProcessingContext context, final Object decision) {
+        if (decision == NO_MATCH) {
+            return Router.Continuation.of(context);
+        }
+
+        final Route acceptedRoute = (Route) decision;
+        final String path = context.routingContext().getFinalMatchingGroup();
+
+        // the path is the same as the recorded one, only the matched groups need to be extracted again
+        final MatchResult matchResult = acceptedRoute.routingPattern().match(path);
+        if (matchResult == null) {
+            return apply(context);
+        }
+
+        context.routingContext().pushMatchResult(matchResult);
+        return Router.Continuation.of(context, acceptedRoute.next(), acceptedRoute);
+    }
+
     private Router.Continuation matchPathSelected(final RequestProcessingContext context, final Route acceptedRoute,
                                                   final MatchResult matchResult, final TracingLogger tracingLogger) {
         // Push match result information and rest of path to match
         context.routingContext().pushMatchResult(matchResult);
-        final Router.Continuation result = Router.Continuation.of(context, acceptedRoute.next());
+        final Router.Continuation result = Router.Continuation.of(context, acceptedRoute.next(), acceptedRoute);
 
         // tracing
         tracingLogger.log(ServerTraceEvent.MATCH_PATH_SELECTED, acceptedRoute.routingPattern().getRegex());
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Routing index over the literal path segments of an ordered list of {@link Route routes}.
+ * <p>
+ * Every route is stored in the trie node addressed by the complete literal path segments its
+ * {@link PathPattern routing pattern} starts with. Each node keeps the (pre-computed) set of routes
+ * that may possibly match a request path reaching that node, i.e. the routes stored in the node itself
+ * and in all of its ancestors. Routes starting with a template variable (or any other non-literal regular
+ * expression construct) are stored in the root node and are therefore candidates for every request path.
+ * </p>
+ * <p>
+ * The index never changes the order of the routes, so the JAX-RS matching precedence established by the
+ * runtime model builder is preserved. It only allows the {@link PathMatchingRouter} to skip the regular
+ * expression matching for routes that cannot match the request path.
+ * </p>
+ */
+final class PathMatchingTrie {
+
+    private static final String REGEX_META_CHARACTERS = "()[]{}.^$|?*+";
+    private static final String REGEX_OPTIONAL_QUANTIFIERS = "?*{";
+
+    private final Node root = new Node();
+    private final String[] literalPrefixes;
+
+    /**
+     * Build a new routing index for the given routes.
+     *
+     * @param routes routes ordered by their matching precedence.
+     */
+    PathMatchingTrie(final List<Route> routes) {
+        final int size = routes.size();
+        this.literalPrefixes = new String[size];
+
+        int i = 0;
+        for (final Route route : routes) {
+            final String regex = route.routingPattern().getRegex();
+            final int prefixEnd = literalPrefixEnd(regex);
+            final String prefix = literalPrefix(regex, prefixEnd);
+            literalPrefixes[i] = prefix;
+
+            Node node = root;
+            final String[] segments = completeSegments(prefix, isFollowedBySegmentEnd(regex, prefixEnd));
+            for (final String segment : segments) {
+                node = node.child(segment);
+            }
+            node.add(i, size);
+            i++;
+        }
+        root.complete(new long[words(size)]);
+    }
+
+    /**
+     * Get the indexes of the routes that may match the request path in the form of a bit set.
+     * <p>
+     * The returned array is shared and MUST NOT be modified.
+     * </p>
+     *
+     * @param path un-matched right-hand part of the request path.
+     * @return bit set of the candidate route indexes.
+     */
+    long[] candidates(final String path) {
+        Node node = root;
+        if (path != null) {
+            final int length = path.length();
+            int start = 0;
+            while (start < length && path.charAt(start) == '/' && node.children != null) {
+                int end = path.indexOf('/', start + 1);
+                if (end < 0) {
+                    end = length;
+                }
+                final Node child = node.children.get(path.substring(start + 1, end));
+                if (child == null) {
+                    break;
+                }
+                node = child;
+                start = end;
+            }
+        }
+        return node.candidates;
+    }
+
+    /**
+     * Check whether the route with given index is a candidate of the candidate bit set and the request path
+     * starts with the literal prefix of the route.
+     *
+     * @param candidates bit set of the candidate route indexes.
+     * @param index      route index.
+     * @param path       un-matched right-hand part of the request path.
+     * @return {@code false} if the route cannot match the path, {@code true} if the route needs to be matched.
+     */
+    boolean mayMatch(final long[] candidates, final int index, final String path) {
+        if ((candidates[index >>> 6] & (1L << index)) == 0) {
+            return false;
+        }
+        final String prefix = literalPrefixes[index];
+        return prefix.isEmpty() || (path != null && path.startsWith(prefix));
+    }
+
+    /**
+     * Get the next candidate route index.
+     *
+     * @param candidates bit set of the candidate route indexes.
+     * @param fromIndex  index to start the search from (inclusive).
+     * @return next candidate route index or {@code -1} if there is no other candidate.
+     */
+    static int nextCandidate(final long[] candidates, final int fromIndex) {
+        int u = fromIndex >>> 6;
+        if (u >= candidates.length) {
+            return -1;
+        }
+
+        long word = candidates[u] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (u << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++u == candidates.length) {
+                return -1;
+            }
+            word = candidates[u];
+        }
+    }
+
+    private static int words(final int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Get the end index of the literal prefix within the regular expression (exclusive).
+     */
+    private static int literalPrefixEnd(final String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return 0;
+        }
+
+        int i = 0;
+        final int length = regex.length();
+        while (i < length) {
+            final char c = regex.charAt(i);
+            final int next;
+            if (c == '\\') {
+                if (i + 1 >= length || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    break;
+                }
+                next = i + 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                next = i + 1;
+            }
+
+            if (next < length) {
+                final char quantifier = regex.charAt(next);
+                if (REGEX_OPTIONAL_QUANTIFIERS.indexOf(quantifier) >= 0) {
+                    // the character is optional or repeated any number of times - not a part of the literal prefix
+                    break;
+                } else if (quantifier == '+') {
+                    // the character is mandatory, but the rest is not literal anymore
+                    return next;
+                }
+            }
+            i = next;
+        }
+        return i;
+    }
+
+    private static String literalPrefix(final String regex, final int end) {
+        final StringBuilder sb = new StringBuilder(end);
+        for (int i = 0; i < end; i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                sb.append(regex.charAt(++i));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Return {@code true} if the regular expression continues only with a right-hand path pattern, i.e.
+     * the last literal segment of the literal prefix is guaranteed to be a complete path segment.
+     */
+    private static boolean isFollowedBySegmentEnd(final String regex, final int prefixEnd) {
+        final String rest = regex.substring(prefixEnd);
+        return rest.isEmpty() || "(/.*)?".equals(rest) || "(/)?".equals(rest);
+    }
+
+    private static String[] completeSegments(final String prefix, final boolean lastSegmentComplete) {
+        if (!prefix.startsWith("/")) {
+            return new String[0];
+        }
+
+        final String[] split = prefix.substring(1).split("/", -1);
+        if (lastSegmentComplete || split.length == 0) {
+            return split;
+        }
+
+        final String[] complete = new String[split.length - 1];
+        System.arraycopy(split, 0, complete, 0, complete.length);
+        return complete;
+    }
+
+    private static boolean hasTopLevelAlternation(final String regex) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> children;
+        private long[] routes;
+        private long[] candidates;
+
+        private Node child(final String segment) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        private void add(final int index, final int size) {
+            if (routes == null) {
+                routes = new long[words(size)];
+            }
+            routes[index >>> 6] |= 1L << index;
+        }
+
+        private void complete(final long[] inherited) {
+            candidates = inherited.clone();
+            if (routes != null) {
+                for (int i = 0; i < candidates.length; i++) {
+                    candidates[i] |= routes[i];
+                }
+            }
+            routes = null;
+
+            if (children != null) {
+                for (final Node child : children.values()) {
+                    child.complete(candidates);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+
+/**
+ * Router that selects the next level routers based on a (potentially expensive) routing decision. The decision is
+ * returned in the {@link Router.Continuation#decision() routing continuation} and can be replayed for another request
+ * that would lead to the same decision, without the need to repeat the selection.
+ *
+ * @see RoutingCache
+ */
+interface ReplayableRouter extends Router {
+
+    /**
+     * Replay a routing decision previously returned by {@link #apply(RequestProcessingContext)}.
+     * <p>
+     * The replay performs the same modifications of the request processing context as the original routing,
+     * and returns the same next level routers.
+     * </p>
+     *
+     * @param context  request processing context.
+     * @param decision routing decision returned from a previous {@code apply} invocation.
+     * @return a processing continuation.
+     */
+    Continuation replay(RequestProcessingContext context, Object decision);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,6 +39,7 @@ interface Router {
     public static final class Continuation {
         private final RequestProcessingContext requestProcessingContext;
         private final Iterable<Router> next;
+        private final Object decision;
 
         /**
          * Create a terminal continuation from the routed request.
@@ -79,9 +80,29 @@ interface Router {
             return new Continuation(request, Collections.singletonList(next));
         }
 
+        /**
+         * Create a continuation from the routed request, a collection of next level routers
+         * and a routing decision that can be {@link ReplayableRouter#replay replayed} later.
+         *
+         * @param request  routed request.
+         * @param next     next level routers.
+         * @param decision routing decision made by the router.
+         * @return a continuation with the supplied next level routers to be invoked
+         *         {@link #next() next} in the routing chain, the supplied routed
+         *         request and the routing decision.
+         */
+        static Continuation of(final RequestProcessingContext request, final Iterable<Router> next, final Object decision) {
+            return new Continuation(request, next, decision);
+        }
+
         private Continuation(final RequestProcessingContext request, final Iterable<Router> next) {
+            this(request, next, null);
+        }
+
+        private Continuation(final RequestProcessingContext request, final Iterable<Router> next, final Object decision) {
             this.requestProcessingContext = request;
             this.next = (next == null) ? Collections.<Router>emptyList() : next;
+            this.decision = decision;
         }
 
         /**
@@ -103,6 +124,16 @@ interface Router {
         Iterable<Router> next() {
             return next;
         }
+
+        /**
+         * Get the routing decision made by a {@link ReplayableRouter replayable router} or {@code null}
+         * if there is no decision to be replayed.
+         *
+         * @return routing decision or {@code null}.
+         */
+        Object decision() {
+            return decision;
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,6 +26,7 @@ import org.glassfish.jersey.process.internal.ChainableStage;
 import org.glassfish.jersey.process.internal.Stage;
 import org.glassfish.jersey.server.internal.JerseyResourceContext;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
+import org.glassfish.jersey.server.internal.process.PipelineStage;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
 import org.glassfish.jersey.server.model.ModelProcessor;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
@@ -81,6 +82,7 @@ public final class Routing {
         private Function<Class<?>, ?> createServiceFunction;
         private ProcessingProviders processingProviders;
         private ResourceMethodInvoker.Builder resourceMethodInvokerBuilder;
+        private RoutingCache routingCache;
 
         private Builder(RuntimeResourceModel resourceModel) {
             if (resourceModel == null) {
@@ -178,12 +180,38 @@ public final class Routing {
             return this;
         }
 
+        /**
+         * Set routing cache. If not set, the routing results are not cached.
+         *
+         * @param routingCache routing cache or {@code null}.
+         * @return updated routing builder.
+         */
+        public Builder routingCache(RoutingCache routingCache) {
+            this.routingCache = routingCache;
+            return this;
+        }
+
         /**
          * Build routing stage.
          *
          * @return routing stage for the runtime resource model.
          */
         public ChainableStage<RequestProcessingContext> buildStage() {
+            return buildRoutingStage();
+        }
+
+        /**
+         * Build routing stage to be executed as a step of a
+         * {@link org.glassfish.jersey.server.internal.process.RequestProcessingPipeline request processing pipeline}.
+         * The pipeline is terminated by the stage if no endpoint matches the request.
+         *
+         * @return routing pipeline stage for the runtime resource model.
+         */
+        public PipelineStage buildPipelineStage() {
+            return buildRoutingStage();
+        }
+
+        private RoutingStage buildRoutingStage() {
             // No L10N - internally used class
             if (resourceContext == null) {
                 throw new NullPointerException("Resource context is not set.");
@@ -220,7 +248,7 @@ public final class Routing {
                     modelProcessors,
                     createServiceFunction);
 
-            return new RoutingStage(runtimeModelBuilder.buildModel(resourceModel, false));
+            return new RoutingStage(runtimeModelBuilder.buildModel(resourceModel, false), routingCache);
         }
     }
 }
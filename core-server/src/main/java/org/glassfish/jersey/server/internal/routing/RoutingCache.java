@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.HttpHeaders;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.process.Endpoint;
+
+/**
+ * Bounded concurrent cache of request routing results.
+ * <p>
+ * A routing result is cached as a {@link Trail trail} of all the routers applied (in the order of application) while
+ * routing the request to the matched endpoint, together with the decisions of the
+ * {@link ReplayableRouter replayable routers} on the trail. The trail is
+ * keyed by the request method, request path and the {@code Content-Type} and {@code Accept} headers, i.e. by all the
+ * request data the routing decisions depend on. Trails containing a sub-resource locator are never cached.
+ * </p>
+ * <p>
+ * The cache is enabled by {@link ServerProperties#ROUTING_CACHE_ENABLED}. When the cache is full, an arbitrary entry
+ * is evicted for each new entry.
+ * </p>
+ *
+ * @see ServerProperties#ROUTING_CACHE_ENABLED
+ * @see ServerProperties#ROUTING_CACHE_SIZE
+ */
+public final class RoutingCache {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Key, Trail> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a new routing cache if enabled in the configuration.
+     *
+     * @param config application configuration.
+     * @return new routing cache or {@code null} if the routing cache is not enabled.
+     */
+    public static RoutingCache create(final Configuration config) {
+        final boolean enabled = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_CACHE_ENABLED,
+                Boolean.FALSE,
+                Boolean.class);
+        if (!enabled) {
+            return null;
+        }
+
+        final int size = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.ROUTING_CACHE_SIZE,
+                ServerProperties.ROUTING_CACHE_DEFAULT_SIZE,
+                Integer.class);
+        return size > 0 ? new RoutingCache(size) : null;
+    }
+
+    /**
+     * Create a new routing cache.
+     *
+     * @param maximumSize maximum number of cached routing results.
+     */
+    RoutingCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get the cached routing trail for the request.
+     *
+     * @param key routing cache key of the request.
+     * @return cached routing trail or {@code null} if not cached.
+     */
+    Trail get(final Key key) {
+        final Trail trail = cache.get(key);
+        if (trail == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return trail;
+    }
+
+    /**
+     * Cache the routing trail of the request.
+     *
+     * @param key   routing cache key of the request.
+     * @param trail routing trail.
+     */
+    void put(final Key key, final Trail trail) {
+        if (cache.size() >= maximumSize && !cache.containsKey(key)) {
+            final Iterator<Key> iterator = cache.keySet().iterator();
+            while (cache.size() >= maximumSize && iterator.hasNext()) {
+                if (cache.remove(iterator.next()) != null) {
+                    evictions.increment();
+                }
+            }
+        }
+        cache.put(key, trail);
+    }
+
+    /**
+     * Get the count of requests routed using a cached routing result.
+     *
+     * @return routing cache hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the count of requests routed without a cached routing result.
+     *
+     * @return routing cache miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the count of evicted routing results.
+     *
+     * @return routing cache eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the number of cached routing results.
+     *
+     * @return routing cache size.
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Get the maximum number of cached routing results.
+     *
+     * @return maximum routing cache size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Routing cache key - the request data the routing decisions depend on.
+     */
+    static final class Key {
+
+        private final String method;
+        private final String path;
+        private final String contentType;
+        private final String accept;
+        private final int hash;
+
+        /**
+         * Create a routing cache key for the request.
+         *
+         * @param request container request to be routed.
+         */
+        Key(final ContainerRequest request) {
+            this.method = request.getMethod();
+            this.path = request.getPath(false);
+            this.contentType = request.getHeaderString(HttpHeaders.CONTENT_TYPE);
+            this.accept = request.getHeaderString(HttpHeaders.ACCEPT);
+
+            int h = method.hashCode();
+            h = 31 * h + path.hashCode();
+            h = 31 * h + Objects.hashCode(contentType);
+            h = 31 * h + Objects.hashCode(accept);
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return hash == that.hash
+                    && method.equals(that.method)
+                    && path.equals(that.path)
+                    && Objects.equals(contentType, that.contentType)
+                    && Objects.equals(accept, that.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Immutable routing trail - routers applied while routing the request to the matched endpoint and their routing decisions.
+     */
+    static final class Trail {
+
+        private final Router[] routers;
+        private final Object[] decisions;
+        private final Endpoint endpoint;
+
+        /**
+         * Create a new routing trail.
+         *
+         * @param routers   routers in the order of application, the endpoint router being the last one.
+         * @param decisions routing decisions of the routers (or {@code null} for routers without a decision).
+         * @param endpoint  matched endpoint.
+         */
+        Trail(final List<Router> routers, final List<Object> decisions, final Endpoint endpoint) {
+            this.routers = routers.toArray(new Router[0]);
+            this.decisions = decisions.toArray();
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * Get the number of routers in the trail.
+         *
+         * @return trail length.
+         */
+        int length() {
+            return routers.length;
+        }
+
+        /**
+         * Get the router at the given position of the trail.
+         *
+         * @param index position in the trail.
+         * @return router.
+         */
+        Router router(final int index) {
+            return routers[index];
+        }
+
+        /**
+         * Get the routing decision of the router at the given position of the trail.
+         *
+         * @param index position in the trail.
+         * @return routing decision or {@code null}.
+         */
+        Object decision(final int index) {
+            return decisions[index];
+        }
+
+        /**
+         * Get the matched endpoint.
+         *
+         * @return matched endpoint.
+         */
+        Endpoint endpoint() {
+            return endpoint;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,17 @@
 
 package org.glassfish.jersey.server.internal.routing;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.glassfish.jersey.message.internal.TracingLogger;
 import org.glassfish.jersey.process.internal.AbstractChainableStage;
-import org.glassfish.jersey.process.internal.Stage;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.internal.ServerTraceEvent;
 import org.glassfish.jersey.server.internal.process.Endpoint;
+import org.glassfish.jersey.server.internal.process.PipelineStage;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+import org.glassfish.jersey.server.internal.process.RequestProcessingPipeline;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 
 /**
@@ -35,9 +39,10 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
  * @author Marek Potociar
  * @see MatchedEndpointExtractorStage
  */
-final class RoutingStage extends AbstractChainableStage<RequestProcessingContext> {
+final class RoutingStage extends AbstractChainableStage<RequestProcessingContext> implements PipelineStage {
 
     private final Router routingRoot;
+    private final RoutingCache routingCache;
 
     /**
      * Create a new routing stage instance.
@@ -45,7 +50,18 @@ final class RoutingStage extends AbstractChainableStage<RequestProcessingContext
      * @param routingRoot root router.
      */
      RoutingStage(final Router routingRoot) {
+        this(routingRoot, null);
+    }
+
+    /**
+     * Create a new routing stage instance.
+     *
+     * @param routingRoot  root router.
+     * @param routingCache routing cache or {@code null} if the routing results should not be cached.
+     */
+    RoutingStage(final Router routingRoot, final RoutingCache routingCache) {
         this.routingRoot = routingRoot;
+        this.routingCache = routingCache;
     }
 
     /**
@@ -57,36 +73,88 @@ final class RoutingStage extends AbstractChainableStage<RequestProcessingContext
      * a leaf stage node}, in which case the request routing is terminated and an
      * {@link org.glassfish.jersey.process.Inflector inflector} (if found) is pushed
      * to the {@link RoutingContext routing context}.
+     * <p/>
+     * If the {@link RoutingCache routing cache} is enabled, a routing trail previously
+     * recorded for the same request method, path and media type headers is replayed instead.
      */
     @Override
     public Continuation<RequestProcessingContext> apply(final RequestProcessingContext context) {
+        final RoutingResult result = route(context);
+        return Continuation.of(result.context, result.endpoint != null ? getDefaultNext() : null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Routes the request the same way as {@link #apply(RequestProcessingContext)} does and terminates
+     * the pipeline if no endpoint has been matched.
+     */
+    @Override
+    public Endpoint process(final RequestProcessingContext context) {
+        return route(context).endpoint != null ? null : RequestProcessingPipeline.NO_ENDPOINT;
+    }
+
+    private RoutingResult route(final RequestProcessingContext context) {
         final ContainerRequest request = context.request();
         context.triggerEvent(RequestEvent.Type.MATCHING_START);
 
         final TracingLogger tracingLogger = TracingLogger.getInstance(request);
         final long timestamp = tracingLogger.timestamp(ServerTraceEvent.MATCH_SUMMARY);
         try {
-            final RoutingResult result = _apply(context, routingRoot);
+            final RoutingResult result;
+            if (routingCache == null || tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_FIND)) {
+                result = _apply(context, routingRoot, null);
+            } else {
+                result = _applyCached(context);
+            }
 
-            Stage<RequestProcessingContext> nextStage = null;
             if (result.endpoint != null) {
                 context.routingContext().setEndpoint(result.endpoint);
-                nextStage = getDefaultNext();
             }
-
-            return Continuation.of(result.context, nextStage);
+            return result;
         } finally {
             tracingLogger.logDuration(ServerTraceEvent.MATCH_SUMMARY, timestamp);
         }
     }
 
+    private RoutingResult _applyCached(final RequestProcessingContext context) {
+        final RoutingCache.Key key = new RoutingCache.Key(context.request());
+        final RoutingCache.Trail cached = routingCache.get(key);
+        if (cached != null) {
+            return replay(context, cached);
+        }
+
+        final TrailRecorder recorder = new TrailRecorder();
+        final RoutingResult result = _apply(context, routingRoot, recorder);
+        if (result.endpoint != null && recorder.isCacheable()) {
+            routingCache.put(key, new RoutingCache.Trail(recorder.routers, recorder.decisions, result.endpoint));
+        }
+        return result;
+    }
+
+    private static RoutingResult replay(final RequestProcessingContext context, final RoutingCache.Trail trail) {
+        RequestProcessingContext current = context;
+        for (int i = 0; i < trail.length(); i++) {
+            final Router router = trail.router(i);
+            final Object decision = trail.decision(i);
+
+            final Router.Continuation continuation = decision == null
+                    ? router.apply(current) : ((ReplayableRouter) router).replay(current, decision);
+            current = continuation.requestContext();
+        }
+        return RoutingResult.from(current, trail.endpoint());
+    }
+
     @SuppressWarnings("unchecked")
-    private RoutingResult _apply(final RequestProcessingContext request, final Router router) {
+    private RoutingResult _apply(final RequestProcessingContext request, final Router router, final TrailRecorder recorder) {
 
         final Router.Continuation continuation = router.apply(request);
+        if (recorder != null) {
+            recorder.record(router, continuation.decision());
+        }
 
         for (Router child : continuation.next()) {
-            RoutingResult result = _apply(continuation.requestContext(), child);
+            RoutingResult result = _apply(continuation.requestContext(), child, recorder);
 
             if (result.endpoint != null) {
                 // we're done
@@ -104,6 +172,32 @@ final class RoutingStage extends AbstractChainableStage<RequestProcessingContext
         return RoutingResult.from(continuation.requestContext());
     }
 
+    /**
+     * Records all the applied routers (and their decisions) in the order of application. The routing context
+     * modifications made by the routers are never reverted, so replaying the recorded routers in the same order
+     * leads to the same routing context state.
+     */
+    private static final class TrailRecorder {
+
+        private final List<Router> routers = new ArrayList<>();
+        private final List<Object> decisions = new ArrayList<>();
+
+        private void record(final Router router, final Object decision) {
+            routers.add(router);
+            decisions.add(decision);
+        }
+
+        private boolean isCacheable() {
+            for (final Router router : routers) {
+                if (router instanceof SubResourceLocatorRouter) {
+                    // the next routers depend on the sub-resource returned by the locator
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static final class RoutingResult {
         private final RequestProcessingContext context;
         private final Endpoint endpoint;
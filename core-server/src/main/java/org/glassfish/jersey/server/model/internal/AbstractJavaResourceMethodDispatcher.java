@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -69,13 +69,23 @@ abstract class AbstractJavaResourceMethodDispatcher implements ResourceMethodDis
     AbstractJavaResourceMethodDispatcher(final Invocable resourceMethod,
                                          final InvocationHandler methodHandler,
                                          final ConfiguredValidator validator) {
-        this.method = getPublic(resourceMethod.getHandlingMethod(), resourceMethod.getDefinitionMethod());
+        this.method = getInvokedMethod(resourceMethod);
         this.methodHandler = methodHandler;
         this.resourceMethod = resourceMethod;
         this.validator = validator;
     }
 
-    private Method getPublic(Method handlingMethod, Method definitionMethod) {
+    /**
+     * Get the Java method invoked by the dispatcher of the resource method.
+     *
+     * @param resourceMethod invocable resource class Java method.
+     * @return the handling method if it is accessible, the definition method otherwise.
+     */
+    static Method getInvokedMethod(final Invocable resourceMethod) {
+        return getPublic(resourceMethod.getHandlingMethod(), resourceMethod.getDefinitionMethod());
+    }
+
+    private static Method getPublic(Method handlingMethod, Method definitionMethod) {
         if (handlingMethod == definitionMethod) {
             return handlingMethod;
         }
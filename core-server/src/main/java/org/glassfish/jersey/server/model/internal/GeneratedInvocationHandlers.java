@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Factory of {@link InvocationHandler invocation handlers} bound to a single resource Java method, which invoke
+ * the method without the reflection.
+ * <p>
+ * Methods with up to {@value #MAX_LAMBDA_ARITY} parameters are invoked through a class spun by the
+ * {@link LambdaMetafactory}, so that the resource method is called by a plain {@code invokevirtual} instruction
+ * the JIT can inline. Methods with more parameters are invoked through a {@link MethodHandle method handle}.
+ * A handler is not created (and the reflective invocation is used) for methods the handler cannot access
+ * or when the classes of the method signature are not visible to the class loader of Jersey.
+ * </p>
+ * <p>
+ * Just like the reflective invocation, the handlers wrap any exception thrown by the resource method into
+ * an {@link InvocationTargetException}. The target and the arguments not matching the method signature exactly
+ * are passed to the reflective invocation, which converts them or reports them by an {@link IllegalArgumentException}.
+ * </p>
+ */
+final class GeneratedInvocationHandlers {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedInvocationHandlers.class.getName());
+
+    /**
+     * Maximum number of the method parameters a lambda invoker is spun for.
+     */
+    static final int MAX_LAMBDA_ARITY = 3;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    @FunctionalInterface
+    interface Invoker0 {
+        Object invoke(Object target) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Invoker1 {
+        Object invoke(Object target, Object arg0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Invoker2 {
+        Object invoke(Object target, Object arg0, Object arg1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Invoker3 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface VoidInvoker0 {
+        void invoke(Object target) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface VoidInvoker1 {
+        void invoke(Object target, Object arg0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface VoidInvoker2 {
+        void invoke(Object target, Object arg0, Object arg1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface VoidInvoker3 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2) throws Throwable;
+    }
+
+    private static final Class<?>[] INVOKERS = {Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class};
+    private static final Class<?>[] VOID_INVOKERS = {
+            VoidInvoker0.class, VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class};
+
+    /**
+     * Invocation of the bound method with the arguments already resolved.
+     */
+    @FunctionalInterface
+    private interface BoundInvoker {
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+
+    private static final class BoundInvocationHandler implements InvocationHandler {
+
+        private final Method method;
+        private final BoundInvoker invoker;
+        // boxed parameter types
+        private final Class<?>[] parameterTypes;
+        private final boolean[] primitive;
+
+        private BoundInvocationHandler(final Method method, final BoundInvoker invoker) {
+            this.method = method;
+            this.invoker = invoker;
+
+            final MethodType type = MethodType.methodType(void.class, method.getParameterTypes());
+            this.parameterTypes = type.wrap().parameterArray();
+            this.primitive = new boolean[parameterTypes.length];
+            for (int i = 0; i < primitive.length; i++) {
+                primitive[i] = type.parameterType(i).isPrimitive();
+            }
+        }
+
+        @Override
+        public Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+            if (method != this.method || !accepts(target, args)) {
+                return method.invoke(target, args);
+            }
+
+            try {
+                return invoker.invoke(target, args);
+            } catch (final Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * Check that the invoker does not fail on the casts or the unboxing of the target and the arguments,
+         * so that only the exceptions thrown by the method itself are wrapped.
+         */
+        private boolean accepts(final Object target, final Object[] args) {
+            if (!method.getDeclaringClass().isInstance(target)) {
+                return false;
+            }
+            final int length = args == null ? 0 : args.length;
+            if (length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                final Object arg = args[i];
+                if (arg == null ? primitive[i] : !parameterTypes[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return method.toString();
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private GeneratedInvocationHandlers() {
+    }
+
+    /**
+     * Create an invocation handler bound to the method.
+     *
+     * @param method resource Java method to be invoked by the handler.
+     * @return invocation handler invoking the method or {@code null} if the method has to be invoked reflectively.
+     */
+    static InvocationHandler create(final Method method) {
+        final int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers)
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // e.g. a class in a package not exported by its module
+            return null;
+        }
+
+        final int arity = method.getParameterCount();
+        if (arity <= MAX_LAMBDA_ARITY && isVisible(method)) {
+            try {
+                return new BoundInvocationHandler(method, lambdaInvoker(handle, arity, method.getReturnType() == void.class));
+            } catch (final Throwable t) {
+                LOGGER.log(Level.FINE, "Unable to spin an invoker of " + method + ", using a method handle.", t);
+            }
+        }
+
+        final MethodHandle spreader = handle.asSpreader(Object[].class, arity).asType(SPREAD_TYPE);
+        return new BoundInvocationHandler(method, (target, args) -> spreader.invokeExact(target, args));
+    }
+
+    private static BoundInvoker lambdaInvoker(final MethodHandle handle, final int arity, final boolean isVoid)
+            throws Throwable {
+        final Class<?> invokerType = isVoid ? VOID_INVOKERS[arity] : INVOKERS[arity];
+        final MethodType samType = isVoid
+                ? MethodType.genericMethodType(arity + 1).changeReturnType(void.class)
+                : MethodType.genericMethodType(arity + 1);
+        // primitives are (un)boxed by the spun class
+        final MethodType instantiatedType = isVoid ? handle.type().wrap().changeReturnType(void.class) : handle.type().wrap();
+
+        final CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                "invoke",
+                MethodType.methodType(invokerType),
+                samType,
+                handle,
+                instantiatedType);
+        final Object invoker = site.getTarget().invoke();
+
+        switch (arity) {
+            case 0:
+                if (isVoid) {
+                    final VoidInvoker0 v0 = (VoidInvoker0) invoker;
+                    return (target, args) -> {
+                        v0.invoke(target);
+                        return null;
+                    };
+                }
+                final Invoker0 i0 = (Invoker0) invoker;
+                return (target, args) -> i0.invoke(target);
+            case 1:
+                if (isVoid) {
+                    final VoidInvoker1 v1 = (VoidInvoker1) invoker;
+                    return (target, args) -> {
+                        v1.invoke(target, args[0]);
+                        return null;
+                    };
+                }
+                final Invoker1 i1 = (Invoker1) invoker;
+                return (target, args) -> i1.invoke(target, args[0]);
+            case 2:
+                if (isVoid) {
+                    final VoidInvoker2 v2 = (VoidInvoker2) invoker;
+                    return (target, args) -> {
+                        v2.invoke(target, args[0], args[1]);
+                        return null;
+                    };
+                }
+                final Invoker2 i2 = (Invoker2) invoker;
+                return (target, args) -> i2.invoke(target, args[0], args[1]);
+            default:
+                if (isVoid) {
+                    final VoidInvoker3 v3 = (VoidInvoker3) invoker;
+                    return (target, args) -> {
+                        v3.invoke(target, args[0], args[1], args[2]);
+                        return null;
+                    };
+                }
+                final Invoker3 i3 = (Invoker3) invoker;
+                return (target, args) -> i3.invoke(target, args[0], args[1], args[2]);
+        }
+    }
+
+    /**
+     * The spun class is defined by the class loader of Jersey and refers to the classes of the method signature,
+     * all of them must be resolvable (to the same classes) from that class loader.
+     */
+    private static boolean isVisible(final Method method) {
+        if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        for (final Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(final Class<?> type) {
+        Class<?> c = type;
+        while (c.isArray()) {
+            c = c.getComponentType();
+        }
+        if (c.isPrimitive() || c.getClassLoader() == null) {
+            return true;
+        }
+        if (!Modifier.isPublic(c.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(c.getName(), false, GeneratedInvocationHandlers.class.getClassLoader()) == c;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
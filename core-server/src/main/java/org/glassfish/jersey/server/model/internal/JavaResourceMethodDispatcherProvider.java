@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -47,15 +47,37 @@ import org.glassfish.jersey.server.spi.internal.ValueParamProvider;
 class JavaResourceMethodDispatcherProvider implements ResourceMethodDispatcher.Provider {
 
     private final Collection<ValueParamProvider> allValueProviders;
+    private final boolean generatedInvokers;
 
     JavaResourceMethodDispatcherProvider(Collection<ValueParamProvider> allValueProviders) {
+        this(allValueProviders, true);
+    }
+
+    /**
+     * Create the provider.
+     *
+     * @param allValueProviders all value parameter providers.
+     * @param generatedInvokers if {@code true}, the resource methods invoked by the default invocation handler are invoked
+     *                          by {@link GeneratedInvocationHandlers generated invokers} instead of the reflection.
+     */
+    JavaResourceMethodDispatcherProvider(Collection<ValueParamProvider> allValueProviders, boolean generatedInvokers) {
         this.allValueProviders = allValueProviders;
+        this.generatedInvokers = generatedInvokers;
     }
 
     @Override
     public ResourceMethodDispatcher create(final Invocable resourceMethod,
-            final InvocationHandler invocationHandler,
+            InvocationHandler invocationHandler,
             final ConfiguredValidator validator) {
+        if (generatedInvokers && invocationHandler == ResourceMethodInvocationHandlerFactory.DEFAULT_HANDLER) {
+            // bind the method at the model build time, the custom invocation handlers are kept intact
+            final InvocationHandler generated =
+                    GeneratedInvocationHandlers.create(AbstractJavaResourceMethodDispatcher.getInvokedMethod(resourceMethod));
+            if (generated != null) {
+                invocationHandler = generated;
+            }
+        }
+
         final List<ParamValueFactoryWithSource<?>> valueProviders =
                 ParameterValueHelper.createValueProviders(allValueProviders, resourceMethod);
         final Class<?> returnType = resourceMethod.getHandlingMethod().getReturnType();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.BootstrapConfigurator;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.server.ServerBootstrapBag;
+import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
 import org.glassfish.jersey.server.model.ResourceMethodInvoker;
 import org.glassfish.jersey.server.spi.internal.ResourceMethodDispatcher;
@@ -44,7 +45,9 @@ public class ResourceMethodInvokerConfigurator implements BootstrapConfigurator
 
         List<ResourceMethodDispatcher.Provider> providers = Arrays.asList(
                 new VoidVoidDispatcherProvider(serverBag.getResourceContext()),
-                new JavaResourceMethodDispatcherProvider(serverBag.getValueParamProviders()));
+                new JavaResourceMethodDispatcherProvider(serverBag.getValueParamProviders(),
+                        !ServerProperties.getValue(bootstrapBag.getConfiguration().getProperties(),
+                                ServerProperties.RESOURCE_METHOD_GENERATED_INVOKERS_DISABLE, false, Boolean.class)));
 
         ResourceMethodInvoker.Builder builder = new ResourceMethodInvoker.Builder()
                 .injectionManager(injectionManager)
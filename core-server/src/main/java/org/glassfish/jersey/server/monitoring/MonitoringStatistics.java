@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -113,6 +113,20 @@ public interface MonitoringStatistics {
      */
     public ExceptionMapperStatistics getExceptionMapperStatistics();
 
+    /**
+     * Get statistics of the request routing cache. If the routing cache is not
+     * {@link org.glassfish.jersey.server.ServerProperties#ROUTING_CACHE_ENABLED enabled},
+     * all the values of the returned statistics are {@code 0}.
+     * <p/>
+     * The default implementation returns {@link RoutingCacheStatistics#EMPTY}.
+     *
+     * @return Routing cache statistics.
+     * @since 2.47
+     */
+    public default RoutingCacheStatistics getRoutingCacheStatistics() {
+        return RoutingCacheStatistics.EMPTY;
+    }
+
     /**
      * Get the immutable consistent snapshot of the monitoring statistics. Working with snapshots might
      * have negative performance impact as snapshot must be created but ensures consistency of data over time.
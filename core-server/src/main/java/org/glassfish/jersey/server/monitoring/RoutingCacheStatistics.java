@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * Monitoring statistics of the request routing cache enabled by
+ * {@link org.glassfish.jersey.server.ServerProperties#ROUTING_CACHE_ENABLED}.
+ * <p/>
+ * If the routing cache is not enabled, all the counts are {@code 0}.
+ *
+ * @see MonitoringStatistics See monitoring statistics for general details about statistics.
+ * @since 2.47
+ */
+public interface RoutingCacheStatistics {
+
+    /**
+     * Statistics of a routing cache that is not enabled, all the counts are {@code 0}.
+     */
+    RoutingCacheStatistics EMPTY = new RoutingCacheStatistics() {
+        @Override
+        public long getHitCount() {
+            return 0;
+        }
+
+        @Override
+        public long getMissCount() {
+            return 0;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return 0;
+        }
+
+        @Override
+        public long getSize() {
+            return 0;
+        }
+
+        @Override
+        public long getMaximumSize() {
+            return 0;
+        }
+    };
+
+    /**
+     * Get the count of requests routed using a cached routing result.
+     *
+     * @return Count of routing cache hits.
+     */
+    public long getHitCount();
+
+    /**
+     * Get the count of requests that were routed without finding a cached routing result.
+     *
+     * @return Count of routing cache misses.
+     */
+    public long getMissCount();
+
+    /**
+     * Get the count of routing results evicted from the cache in order to respect the maximum cache size.
+     *
+     * @return Count of evicted routing cache entries.
+     */
+    public long getEvictionCount();
+
+    /**
+     * Get the current number of routing results in the cache.
+     *
+     * @return Current routing cache size.
+     */
+    public long getSize();
+
+    /**
+     * Get the maximum number of routing results kept in the cache.
+     *
+     * @return Maximum routing cache size.
+     */
+    public long getMaximumSize();
+}
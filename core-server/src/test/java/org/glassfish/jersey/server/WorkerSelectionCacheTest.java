@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the message body writer selection remembered by the {@link MessageBodyWorkers}.
+ */
+public class WorkerSelectionCacheTest {
+
+    public static class Bean {
+    }
+
+    @Produces("text/plain")
+    public static class BeanWriter implements MessageBodyWriter<Bean> {
+
+        private final AtomicBoolean writeable = new AtomicBoolean(true);
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            calls.incrementAndGet();
+            return type == Bean.class && writeable.get();
+        }
+
+        @Override
+        public void writeTo(final Bean bean, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                            final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) {
+        }
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    private static MessageBodyWorkers workers(final ResourceConfig config) {
+        return new ApplicationHandler(config).getInjectionManager().getInstance(MessageBodyWorkers.class);
+    }
+
+    private static MessageBodyWriter<Bean> beanWriter(final MessageBodyWorkers workers) {
+        return workers.getMessageBodyWriter(Bean.class, Bean.class, new Annotation[0], MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Test
+    public void testProvidedWriterSelectionIsReused() {
+        final MessageBodyWorkers workers = workers(new ResourceConfig(Resource.class));
+        final Annotation[] annotations = Resource.class.getAnnotations();
+
+        final MessageBodyWriter<String> writer = workers.getMessageBodyWriter(
+                String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        assertSame(writer, workers.getMessageBodyWriter(String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE));
+        assertSame(writer, workers.getMessageBodyWriter(
+                String.class, String.class, new Annotation[0], MediaType.TEXT_PLAIN_TYPE));
+    }
+
+    @Test
+    public void testCustomWriterConsultedByDefault() {
+        final BeanWriter provider = new BeanWriter();
+        final MessageBodyWorkers workers = workers(new ResourceConfig(Resource.class).register(provider));
+
+        assertSame(provider, beanWriter(workers));
+        assertSame(provider, beanWriter(workers));
+        assertEquals(2, provider.calls.get());
+
+        provider.writeable.set(false);
+        assertTrue(beanWriter(workers) != provider);
+    }
+
+    @Test
+    public void testCustomWriterSelectionCached() {
+        final BeanWriter provider = new BeanWriter();
+        final MessageBodyWorkers workers = workers(new ResourceConfig(Resource.class)
+                .register(provider)
+                .property(MessageProperties.CUSTOM_WORKERS_SELECTION_CACHE, true));
+
+        assertSame(provider, beanWriter(workers));
+        assertSame(provider, beanWriter(workers));
+        assertEquals(1, provider.calls.get());
+
+        provider.writeable.set(false);
+        assertSame(provider, beanWriter(workers));
+        assertSame(provider, workers.getMessageBodyWriter(Bean.class, Bean.class, null, MediaType.TEXT_PLAIN_TYPE));
+    }
+
+    @Test
+    public void testEqualAnnotationsShareSelection() {
+        final BeanWriter provider = new BeanWriter();
+        final MessageBodyWorkers workers = workers(new ResourceConfig(Resource.class)
+                .register(provider)
+                .property(MessageProperties.CUSTOM_WORKERS_SELECTION_CACHE, true));
+
+        // each call returns a new array of the same annotations
+        assertSame(provider, workers.getMessageBodyWriter(
+                Bean.class, Bean.class, Resource.class.getAnnotations(), MediaType.TEXT_PLAIN_TYPE));
+        assertSame(provider, workers.getMessageBodyWriter(
+                Bean.class, Bean.class, Resource.class.getAnnotations(), MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(1, provider.calls.get());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link RangeFilter}.
+ */
+public class RangeFilterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final Date LAST_MODIFIED = new Date(1700000000000L);
+
+    private static File file;
+
+    @BeforeAll
+    public static void createFile() throws Exception {
+        file = File.createTempFile("jersey-range", ".txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @AfterAll
+    public static void deleteFile() {
+        file.delete();
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("bytes")
+        public Response bytes() {
+            return Response.ok(CONTENT.getBytes(StandardCharsets.US_ASCII), "text/plain")
+                    .tag("v1")
+                    .lastModified(LAST_MODIFIED)
+                    .build();
+        }
+
+        @GET
+        @Path("file")
+        public Response file() {
+            return Response.ok(file, "text/plain").build();
+        }
+
+        @GET
+        @Path("path")
+        public Response path() {
+            return Response.ok(file.toPath(), "text/plain").build();
+        }
+
+        @GET
+        @Path("string")
+        public String string() {
+            return CONTENT;
+        }
+    }
+
+    private final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class, RangeFilter.class));
+
+    private static final class Result {
+
+        private final ContainerResponse response;
+        private final String entity;
+
+        private Result(final ContainerResponse response, final String entity) {
+            this.response = response;
+            this.entity = entity;
+        }
+    }
+
+    private Result get(final String path, final String... headers) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from("/" + path, "GET");
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        final ContainerResponse response = handler.apply(builder.build(), entity).get();
+        return new Result(response, new String(entity.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testNoRange() throws Exception {
+        final Result result = get("file");
+
+        assertEquals(200, result.response.getStatus());
+        assertEquals("bytes", result.response.getHeaderString("Accept-Ranges"));
+        assertEquals(CONTENT, result.entity);
+    }
+
+    @Test
+    public void testSingleRange() throws Exception {
+        for (final String path : new String[] {"bytes", "file", "path"}) {
+            final Result result = get(path, "Range", "bytes=2-5");
+
+            assertEquals(206, result.response.getStatus(), path);
+            assertEquals("bytes 2-5/20", result.response.getHeaderString("Content-Range"), path);
+            assertEquals("text/plain", result.response.getHeaderString(HttpHeaders.CONTENT_TYPE), path);
+            assertEquals("2345", result.entity, path);
+        }
+    }
+
+    @Test
+    public void testOpenAndSuffixRanges() throws Exception {
+        Result result = get("file", "Range", "bytes=15-");
+        assertEquals("bytes 15-19/20", result.response.getHeaderString("Content-Range"));
+        assertEquals("fghij", result.entity);
+
+        result = get("file", "Range", "bytes=-3");
+        assertEquals("bytes 17-19/20", result.response.getHeaderString("Content-Range"));
+        assertEquals("hij", result.entity);
+
+        result = get("bytes", "Range", "bytes=18-100");
+        assertEquals("bytes 18-19/20", result.response.getHeaderString("Content-Range"));
+        assertEquals("ij", result.entity);
+    }
+
+    @Test
+    public void testMultipleRanges() throws Exception {
+        final Result result = get("file", "Range", "bytes=0-1, 10-11");
+
+        assertEquals(206, result.response.getStatus());
+        assertEquals("multipart", result.response.getMediaType().getType());
+        assertEquals("byteranges", result.response.getMediaType().getSubtype());
+
+        final String boundary = result.response.getMediaType().getParameters().get("boundary");
+        assertEquals("--" + boundary + "\r\n"
+                        + "Content-Type: text/plain\r\n"
+                        + "Content-Range: bytes 0-1/20\r\n"
+                        + "\r\n"
+                        + "01\r\n"
+                        + "--" + boundary + "\r\n"
+                        + "Content-Type: text/plain\r\n"
+                        + "Content-Range: bytes 10-11/20\r\n"
+                        + "\r\n"
+                        + "ab\r\n"
+                        + "--" + boundary + "--\r\n",
+                result.entity);
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        final Result result = get("bytes", "Range", "bytes=20-30");
+
+        assertEquals(416, result.response.getStatus());
+        assertEquals("bytes */20", result.response.getHeaderString("Content-Range"));
+        assertFalse(result.response.hasEntity());
+    }
+
+    @Test
+    public void testInvalidRangeIgnored() throws Exception {
+        for (final String range : new String[] {"bytes=5-2", "items=0-1", "bytes=a-b", "bytes=1"}) {
+            final Result result = get("bytes", "Range", range);
+
+            assertEquals(200, result.response.getStatus(), range);
+            assertEquals(CONTENT, result.entity, range);
+        }
+    }
+
+    @Test
+    public void testIfRange() throws Exception {
+        assertEquals(206, get("bytes", "Range", "bytes=0-1", "If-Range", new EntityTag("v1").toString()).response.getStatus());
+        assertEquals(200, get("bytes", "Range", "bytes=0-1", "If-Range", new EntityTag("v2").toString()).response.getStatus());
+        assertEquals(200, get("bytes", "Range", "bytes=0-1", "If-Range", "W/\"v1\"").response.getStatus());
+
+        final String lastModified = HttpDateFormat.getPreferredDateFormat().format(LAST_MODIFIED);
+        assertEquals(206, get("bytes", "Range", "bytes=0-1", "If-Range", lastModified).response.getStatus());
+        final String otherDate = HttpDateFormat.getPreferredDateFormat().format(new Date(0));
+        assertEquals(200, get("bytes", "Range", "bytes=0-1", "If-Range", otherDate).response.getStatus());
+    }
+
+    @Test
+    public void testUnsupportedEntity() throws Exception {
+        final Result result = get("string", "Range", "bytes=0-1");
+
+        assertEquals(200, result.response.getStatus());
+        assertNull(result.response.getHeaderString("Accept-Ranges"));
+        assertEquals(CONTENT, result.entity);
+    }
+
+    @Test
+    public void testParseRanges() {
+        final List<RangeFilter.ByteRange> ranges = RangeFilter.parseRanges("Bytes = 0-0, -5, 30-", 20);
+
+        assertEquals(2, ranges.size());
+        assertEquals(0, ranges.get(0).getLast());
+        assertEquals(15, ranges.get(1).getFirst());
+        assertTrue(RangeFilter.parseRanges("bytes=30-", 20).isEmpty());
+        assertNull(RangeFilter.parseRanges("bytes=" + String.join(",", Collections.nCopies(17, "0-1")), 20));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Assertions;
@@ -107,6 +108,26 @@ public class AggregatingTrimmerTest extends AbstractNanosReservoirTest {
         checkInNanos(aggregatedTime100nsReservoir, startTime() + 111, 0, 0, 0, 0);
     }
 
+    @Test
+    public void testAggregatedValuesOfOneChunkAreMerged() {
+        // more aggregated values for the same chunk than the collision buffer of a sliding window can hold
+        for (int i = 0; i < COLLISION_BUFFER + 10; ++i) {
+            aggregatedTime100nsReservoir.update(AggregatedValueObject.createFromValues(Arrays.asList(1L, 3L)),
+                    startTime() + 10, startUnitTime);
+        }
+        aggregatedTime100nsReservoir.update(AggregatedValueObject.createFromValues(Arrays.asList(8L)),
+                startTime() + 20, startUnitTime);
+
+        checkInNanos(aggregatedTime100nsReservoir, startTime() + 110, (COLLISION_BUFFER + 10) * 2 + 1, 1, 8,
+                ((COLLISION_BUFFER + 10) * 4 + 8d) / ((COLLISION_BUFFER + 10) * 2 + 1));
+        checkInNanos(aggregatedTime100nsReservoir, startTime() + 111, 1, 8, 8, 8);
+        // a chunk that already left the window is ignored
+        aggregatedTime100nsReservoir.update(AggregatedValueObject.createFromValues(Arrays.asList(100L)),
+                startTime() + 10, startUnitTime);
+        checkInNanos(aggregatedTime100nsReservoir, startTime() + 111, 1, 8, 8, 8);
+        checkInNanos(aggregatedTime100nsReservoir, startTime() + 121, 0, 0, 0, 0);
+    }
+
     @Test
     public void testLowerBoundFunction() {
         for (long chunkSize = 1; chunkSize < 15; ++chunkSize) {
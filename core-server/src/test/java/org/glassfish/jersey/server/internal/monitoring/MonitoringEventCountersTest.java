@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
+import org.glassfish.jersey.server.monitoring.ResponseStatistics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link MonitoringEventCounters}.
+ */
+public class MonitoringEventCountersTest {
+
+    private static class NotFoundMapper implements ExceptionMapper<NotFoundException> {
+        @Override
+        public Response toResponse(final NotFoundException exception) {
+            return Response.status(404).build();
+        }
+    }
+
+    @Test
+    public void testResponseStatusesDrainedIncrementally() {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final ResponseStatisticsImpl.Builder builder = new ResponseStatisticsImpl.Builder();
+
+        counters.drainResponseStatuses(builder);
+        assertNull(builder.build().getLastResponseCode());
+
+        counters.responseWritten(200);
+        counters.responseWritten(200);
+        counters.responseWritten(404);
+        counters.responseWritten(799);
+        counters.drainResponseStatuses(builder);
+
+        ResponseStatistics statistics = builder.build();
+        assertEquals(2L, statistics.getResponseCodes().get(200));
+        assertEquals(1L, statistics.getResponseCodes().get(404));
+        assertEquals(1L, statistics.getResponseCodes().get(799));
+        assertEquals(799, statistics.getLastResponseCode());
+
+        counters.responseWritten(200);
+        counters.drainResponseStatuses(builder);
+        counters.drainResponseStatuses(builder);
+
+        statistics = builder.build();
+        assertEquals(3L, statistics.getResponseCodes().get(200));
+        assertEquals(1L, statistics.getResponseCodes().get(404));
+        assertEquals(200, statistics.getLastResponseCode());
+    }
+
+    @Test
+    public void testExceptionMappingsDrainedIncrementally() {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final ExceptionMapperStatisticsImpl.Builder builder = new ExceptionMapperStatisticsImpl.Builder();
+
+        counters.exceptionMapped(NotFoundMapper.class, true);
+        counters.exceptionMapped(NotFoundMapper.class, true);
+        counters.exceptionMapped(null, false);
+        counters.drainExceptionMappings(builder);
+
+        ExceptionMapperStatistics statistics = builder.build();
+        assertEquals(2L, statistics.getExceptionMapperExecutions().get(NotFoundMapper.class));
+        assertEquals(2, statistics.getSuccessfulMappings());
+        assertEquals(1, statistics.getUnsuccessfulMappings());
+        assertEquals(3, statistics.getTotalMappings());
+
+        counters.exceptionMapped(NotFoundMapper.class, false);
+        counters.drainExceptionMappings(builder);
+
+        statistics = builder.build();
+        assertEquals(3L, statistics.getExceptionMapperExecutions().get(NotFoundMapper.class));
+        assertEquals(2, statistics.getSuccessfulMappings());
+        assertEquals(2, statistics.getUnsuccessfulMappings());
+        assertEquals(4, statistics.getTotalMappings());
+    }
+
+    @Test
+    public void testResourceMethodInvocationsCounted() {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final Resource.Builder resourceBuilder = Resource.builder("counted");
+        resourceBuilder.addMethod("GET").handledBy(containerRequestContext -> "get");
+        resourceBuilder.addMethod("POST").handledBy(containerRequestContext -> "post");
+        final List<ResourceMethod> methods = resourceBuilder.build().getResourceMethods();
+        final ResourceMethod first = methods.get(0);
+        final ResourceMethod second = methods.get(1);
+
+        assertEquals(0, counters.getResourceMethodInvocations(first));
+
+        counters.resourceMethodFinished(first);
+        counters.resourceMethodFinished(first);
+        counters.resourceMethodFinished(second);
+
+        assertEquals(2, counters.getResourceMethodInvocations(first));
+        assertEquals(1, counters.getResourceMethodInvocations(second));
+    }
+
+    @Test
+    public void testConcurrentUpdatesAreNotLost() throws InterruptedException {
+        final MonitoringEventCounters counters = new MonitoringEventCounters();
+        final ResponseStatisticsImpl.Builder builder = new ResponseStatisticsImpl.Builder();
+        final int threads = 4;
+        final int updates = 50_000;
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < updates; j++) {
+                    counters.responseWritten(j % 2 == 0 ? 200 : 500);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        start.countDown();
+        boolean alive = true;
+        while (alive) {
+            // drain concurrently with the updates
+            counters.drainResponseStatuses(builder);
+            alive = false;
+            for (final Thread writer : writers) {
+                writer.join(1);
+                alive |= writer.isAlive();
+            }
+        }
+        counters.drainResponseStatuses(builder);
+
+        final ResponseStatistics statistics = builder.build();
+        assertEquals(threads * updates / 2, statistics.getResponseCodes().get(200).longValue());
+        assertEquals(threads * updates / 2, statistics.getResponseCodes().get(500).longValue());
+        assertTrue(statistics.getLastResponseCode() == 200 || statistics.getLastResponseCode() == 500);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.RequestStats;
+import org.glassfish.jersey.server.internal.monitoring.MonitoringEventListener.TimeStats;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link RequestStatsRecorder}.
+ */
+public class RequestStatsRecorderTest {
+
+    private static RequestStats stats(final long startTime, final String uri) {
+        return new RequestStats(new TimeStats(startTime, 1), null, uri);
+    }
+
+    @Test
+    public void testDrainInRecordingOrder() {
+        final RequestStatsRecorder recorder = new RequestStatsRecorder(4);
+        for (int i = 0; i < 10; i++) {
+            recorder.record(stats(i, "/a"));
+        }
+        assertEquals(10, recorder.pending());
+
+        final List<Long> startTimes = new ArrayList<>();
+        assertEquals(10, recorder.drain(stats -> startTimes.add(stats.getRequestStats().getStartTime())));
+        assertEquals(10, startTimes.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, startTimes.get(i).longValue());
+        }
+        assertEquals(0, recorder.pending());
+        assertEquals(0, recorder.drain(stats -> startTimes.add(-1L)));
+        assertEquals(10, startTimes.size());
+    }
+
+    @Test
+    public void testConcurrentRecordsAreNotLost() throws InterruptedException {
+        final RequestStatsRecorder recorder = new RequestStatsRecorder(2);
+        final int threads = 8;
+        final int records = 100_000;
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final String uri = "/" + i;
+            final Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < records; j++) {
+                    recorder.record(stats(j, uri));
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        final Map<String, Long> lastStartTimes = new HashMap<>();
+        final long[] drained = new long[1];
+        start.countDown();
+        boolean alive = true;
+        while (alive) {
+            // drain concurrently with the records
+            recorder.drain(stats -> {
+                final long startTime = stats.getRequestStats().getStartTime();
+                final Long last = lastStartTimes.put(stats.getRequestUri(), startTime);
+                assertTrue(last == null || last < startTime, "The records of one thread must be drained in order.");
+                drained[0]++;
+            });
+            alive = false;
+            for (final Thread writer : writers) {
+                writer.join(1);
+                alive |= writer.isAlive();
+            }
+        }
+        recorder.drain(stats -> drained[0]++);
+
+        assertEquals(threads * records, drained[0]);
+        assertEquals(0, recorder.pending());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -125,31 +125,29 @@ public class SlidingWindowTimeReservoirTest extends AbstractNanosReservoirTest {
 
     /**
      * This test exhaustively verifies the sliding window time reservoir. Step by step, basically all its capabilities are
-     * thoroughly tested.
+     * thoroughly tested. More values than the former collision buffer could hold are put at the same time to verify that no
+     * value is ever thrown away.
      */
     private void testExhaustiveRequestsAtTheSameTime(final long now) {
         final SlidingWindowTimeReservoir reservoir = slidingWindowTimeReservoir(now);
+        final int count = COLLISION_BUFFER + 1;
 
-        // put multiple requests at the beginning so that even the COLLISION_BUFFER bounds is tested
-        for (int i = 0; i < COLLISION_BUFFER; ++i) {
+        // put multiple requests at the beginning
+        for (int i = 0; i < count; ++i) {
             reservoirUpdateInNanos(reservoir, 10, now);
         }
-        // add one more request which should not fit into the collision buffer and will be thrown away
-        reservoirUpdateInNanos(reservoir, 999999, now);
 
         // check again at 'now + 5' before we add more values
-        checkInNanos(reservoir, now + 5, COLLISION_BUFFER, 10, 10, 10, 5);
+        checkInNanos(reservoir, now + 5, count, 10, 10, 10, 5);
 
         // put multiple requests in the middle of the window
-        for (int i = 0; i < COLLISION_BUFFER; ++i) {
+        for (int i = 0; i < count; ++i) {
             reservoirUpdateInNanos(reservoir, 10, now + 5);
         }
-        // add one more request which should not fit into the collision buffer and will be thrown away
-        reservoirUpdateInNanos(reservoir, 999999, now + 5);
 
         for (int i = 0; i <= 5; ++i) {
             // all the snapshots in past will return the same value as at 'now + 5'
-            checkInNanos(reservoir, now + i, COLLISION_BUFFER * 2, 10, 10, 10, 5);
+            checkInNanos(reservoir, now + i, count * 2, 10, 10, 10, 5);
         }
 
         // add a value in past, at 'now + 1', this will also help us test that we trim the reservoir correctly
@@ -157,43 +155,99 @@ public class SlidingWindowTimeReservoirTest extends AbstractNanosReservoirTest {
 
         for (int i = 0; i <= 5; ++i) {
             // all the snapshots in past will return the same value as at 'now + 5'
-            checkInNanos(reservoir, now + i, COLLISION_BUFFER * 2 + 1, 10, 10, 10, 5);
+            checkInNanos(reservoir, now + i, count * 2 + 1, 10, 10, 10, 5);
         }
 
         // put multiple requests at the end of the window
-        for (int i = 0; i < COLLISION_BUFFER; ++i) {
+        for (int i = 0; i < count; ++i) {
             reservoirUpdateInNanos(reservoir, 10, now + 10);
         }
-        // add one more request which should not fit into the collision buffer and will be thrown away
-        reservoirUpdateInNanos(reservoir, 999999, now + 10);
 
-        checkInNanos(reservoir, now + 10, COLLISION_BUFFER * 3 + 1, 10, 10, 10);
+        checkInNanos(reservoir, now + 10, count * 3 + 1, 10, 10, 10);
 
         // at 'now + 11' all the requests from 'now' should be gone
-        checkInNanos(reservoir, now + 11, COLLISION_BUFFER * 2 + 1, 10, 10, 10);
+        checkInNanos(reservoir, now + 11, count * 2 + 1, 10, 10, 10);
 
-        // these values (from 'now') don't even fit into the reservoir, all the values will be thrown away
-        for (int i = 0; i < COLLISION_BUFFER + 1; ++i) {
+        // these values (from 'now') already left the window, they are not added at all
+        for (int i = 0; i < count; ++i) {
             reservoirUpdateInNanos(reservoir, 999999, now);
         }
 
         // check again at 'now + 11' to prove that values at 'now' weren't added at all
-        checkInNanos(reservoir, now + 11, COLLISION_BUFFER * 2 + 1, 10, 10, 10);
+        checkInNanos(reservoir, now + 11, count * 2 + 1, 10, 10, 10);
 
         // at 'now + 12' the one additional request we added is gone
-        checkInNanos(reservoir, now + 12, COLLISION_BUFFER * 2, 10, 10, 10);
+        checkInNanos(reservoir, now + 12, count * 2, 10, 10, 10);
 
         // at 'now + 15' it's the same as at 'now + 1'
-        checkInNanos(reservoir, now + 15, COLLISION_BUFFER * 2, 10, 10, 10);
+        checkInNanos(reservoir, now + 15, count * 2, 10, 10, 10);
 
         // at 'now + 16' the values from 'now + 5' are gone
-        checkInNanos(reservoir, now + 16, COLLISION_BUFFER, 10, 10, 10);
+        checkInNanos(reservoir, now + 16, count, 10, 10, 10);
 
         // at 'now + 20' it's the the same as at 'now + 16'
-        checkInNanos(reservoir, now + 20, COLLISION_BUFFER, 10, 10, 10);
+        checkInNanos(reservoir, now + 20, count, 10, 10, 10);
 
         // at 'now + 21' all the requests are gone
         checkInNanos(reservoir, now + 21, 0, 0, 0, 0);
     }
 
+    @Test
+    public void testPercentilesZeroTime() {
+        testPercentiles(0);
+    }
+
+    @Test
+    public void testPercentilesMaxTime() {
+        testPercentiles(Long.MAX_VALUE - 5);
+    }
+
+    private void testPercentiles(final long now) {
+        final SlidingWindowTimeReservoir reservoir = slidingWindowTimeReservoir(now);
+
+        // the values of one time slot are recorded in a random order
+        for (int i = 100; i > 0; --i) {
+            reservoirUpdateInNanos(reservoir, i, now + i % 3);
+        }
+        for (int i = 1; i <= 100; ++i) {
+            reservoirUpdateInNanos(reservoir, 100 + i, now + 9);
+        }
+
+        SlidingWindowTimeReservoir.Snapshot snapshot = reservoir.getSnapshot(now + 10, TimeUnit.NANOSECONDS);
+        assertEquals(200, snapshot.size());
+        assertEquals(1, snapshot.getValue(0), DELTA);
+        assertEquals(100.5, snapshot.getValue(0.5), DELTA);
+        assertEquals(190.95, snapshot.getValue(0.95), DELTA);
+        assertEquals(200, snapshot.getValue(1), DELTA);
+
+        // the values from 'now' are gone, only the multiples of 3 were recorded at 'now'
+        snapshot = reservoir.getSnapshot(now + 11, TimeUnit.NANOSECONDS);
+        assertEquals(200 - 33, snapshot.size());
+        assertEquals(1, snapshot.getValue(0), DELTA);
+        assertEquals(200, snapshot.getValue(1), DELTA);
+
+        snapshot = reservoir.getSnapshot(now + 13, TimeUnit.NANOSECONDS);
+        assertEquals(100, snapshot.size());
+        assertEquals(101, snapshot.getValue(0), DELTA);
+        assertEquals(150.5, snapshot.getValue(0.5), DELTA);
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByLaterUpdates() {
+        final SlidingWindowTimeReservoir reservoir = slidingWindowTimeReservoir(0);
+        for (int i = 0; i < COLLISION_BUFFER; ++i) {
+            reservoirUpdateInNanos(reservoir, 10, 5);
+        }
+        final SlidingWindowTimeReservoir.Snapshot snapshot = reservoir.getSnapshot(5, TimeUnit.NANOSECONDS);
+
+        // grow the bucket the snapshot refers to
+        for (int i = 0; i < COLLISION_BUFFER; ++i) {
+            reservoirUpdateInNanos(reservoir, 20, 5);
+        }
+
+        assertEquals(COLLISION_BUFFER, snapshot.size());
+        assertEquals(10, snapshot.getValue(1), DELTA);
+        assertEquals(COLLISION_BUFFER * 2, reservoir.getSnapshot(5, TimeUnit.NANOSECONDS).size());
+    }
+
 }
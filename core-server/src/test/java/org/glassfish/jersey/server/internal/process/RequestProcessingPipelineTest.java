@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.process;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.internal.routing.UriRoutingContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link RequestProcessingPipeline} unit tests.
+ */
+public class RequestProcessingPipelineTest {
+
+    private final Endpoint endpoint = context -> new ContainerResponse(context.request(), Response.ok().build());
+
+    private RequestProcessingContext context;
+    private List<String> executed;
+
+    @BeforeEach
+    public void setUp() {
+        final ContainerRequest request = RequestContextBuilder.from("/test", "GET").build();
+        context = new RequestProcessingContext(null, request, new UriRoutingContext(request), null, null);
+        executed = new ArrayList<>();
+    }
+
+    private PipelineStage stage(final String name, final Endpoint result) {
+        return context -> {
+            executed.add(name);
+            return result;
+        };
+    }
+
+    @Test
+    public void testRoutedEndpoint() {
+        final PipelineStage routing = context -> {
+            executed.add("routing");
+            context.routingContext().setEndpoint(endpoint);
+            return null;
+        };
+        final RequestProcessingPipeline pipeline = RequestProcessingPipeline.builder()
+                .to(stage("a", null))
+                .to(routing)
+                .to(stage("b", null))
+                .build();
+
+        assertSame(endpoint, pipeline.process(context));
+        assertEquals(3, executed.size());
+        assertEquals("b", executed.get(2));
+    }
+
+    @Test
+    public void testTransformation() {
+        final Function<RequestProcessingContext, RequestProcessingContext> transformation = context -> {
+            executed.add("transformation");
+            return context;
+        };
+        final RequestProcessingPipeline pipeline = RequestProcessingPipeline.builder()
+                .to(transformation)
+                .to(stage("a", null))
+                .build();
+
+        assertNull(pipeline.process(context));
+        assertEquals(2, executed.size());
+        assertEquals("transformation", executed.get(0));
+    }
+
+    @Test
+    public void testTerminatingEndpoint() {
+        final RequestProcessingPipeline pipeline = RequestProcessingPipeline.builder()
+                .to(stage("a", endpoint))
+                .to(stage("b", null))
+                .build();
+
+        assertSame(endpoint, pipeline.process(context));
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testNoEndpoint() {
+        context.routingContext().setEndpoint(endpoint);
+        final RequestProcessingPipeline pipeline = RequestProcessingPipeline.builder()
+                .to(stage("a", RequestProcessingPipeline.NO_ENDPOINT))
+                .to(stage("b", null))
+                .build();
+
+        assertNull(pipeline.process(context));
+        assertEquals(1, executed.size());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the method selections remembered by {@link MethodSelectingRouter} are reused only for requests
+ * with the same content negotiation headers.
+ */
+public class MethodSelectionTableTest {
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Produces("text/plain")
+        public String plain() {
+            return "plain";
+        }
+
+        @GET
+        @Produces({"text/html", "application/xhtml+xml"})
+        public String html() {
+            return "html";
+        }
+
+        @POST
+        @Consumes("text/plain")
+        public String consumePlain(final String entity) {
+            return "plain:" + entity;
+        }
+
+        @POST
+        @Consumes("application/xml")
+        public String consumeXml(final String entity) {
+            return "xml:" + entity;
+        }
+    }
+
+    private final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class));
+
+    private ContainerResponse get(final String... accept) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from("/", "GET");
+        for (final String value : accept) {
+            builder.header(HttpHeaders.ACCEPT, value);
+        }
+        return handler.apply(builder.build()).get();
+    }
+
+    private ContainerResponse post(final String contentType) throws Exception {
+        final ContainerRequest request = RequestContextBuilder.from("/", "POST")
+                .entity("e")
+                .type(contentType)
+                .build();
+        return handler.apply(request).get();
+    }
+
+    @Test
+    public void testRepeatedAcceptHeaders() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = get("text/plain");
+            assertEquals("plain", response.getEntity());
+            assertEquals(MediaType.TEXT_PLAIN_TYPE, response.getMediaType());
+
+            response = get("text/html;q=0.9, text/plain;q=0.8");
+            assertEquals("html", response.getEntity());
+            assertEquals(MediaType.TEXT_HTML_TYPE, response.getMediaType());
+
+            response = get("application/xhtml+xml");
+            assertEquals("html", response.getEntity());
+            assertEquals(MediaType.APPLICATION_XHTML_XML_TYPE, response.getMediaType());
+
+            assertEquals(406, get("image/png").getStatus());
+        }
+    }
+
+    @Test
+    public void testMultipleAcceptHeaders() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            final ContainerResponse response = get("text/plain;q=0.5", "text/html");
+            assertEquals("html", response.getEntity());
+            assertEquals(MediaType.TEXT_HTML_TYPE, response.getMediaType());
+        }
+    }
+
+    @Test
+    public void testRepeatedContentTypeHeaders() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("plain:e", post("text/plain").getEntity());
+            assertEquals("xml:e", post("application/xml").getEntity());
+            assertEquals(415, post("image/png").getStatus());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.glassfish.jersey.uri.PathPattern;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PathMatchingTrie} unit tests.
+ */
+public class PathMatchingTrieTest {
+
+    private static final PathPattern[] PATTERNS = new PathPattern[] {
+            PathPattern.asClosed(new PathPattern("/users")),          // 0
+            new PathPattern("/users/{id}"),                           // 1
+            new PathPattern("/users"),                                // 2
+            new PathPattern("/orders/{id: [0-9]+}/items"),            // 3
+            new PathPattern("/{any}"),                                // 4
+            new PathPattern("/or{suffix}"),                           // 5
+            PathPattern.OPEN_ROOT_PATH_PATTERN,                       // 6
+            PathPattern.END_OF_PATH_PATTERN                           // 7
+    };
+
+    private static PathMatchingTrie trie() {
+        final List<Route> routes = new ArrayList<>();
+        for (final PathPattern pattern : PATTERNS) {
+            routes.add(Route.of(pattern, Collections.emptyList()));
+        }
+        return new PathMatchingTrie(routes);
+    }
+
+    private static List<Integer> candidates(final PathMatchingTrie trie, final String path) {
+        final long[] candidates = trie.candidates(path);
+        final List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < PATTERNS.length; i++) {
+            if (trie.mayMatch(candidates, i, path)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testCandidatesAreSupersetOfMatches() {
+        final PathMatchingTrie trie = trie();
+        final String[] paths = {"", "/", "/users", "/users/", "/users/1", "/users/1/x", "/usersX", "/orders/12/items",
+                "/orders", "/other", "/x/y", null};
+
+        for (final String path : paths) {
+            final List<Integer> candidates = candidates(trie, path);
+            for (int i = 0; i < PATTERNS.length; i++) {
+                if (PATTERNS[i].match(path) != null) {
+                    assertTrue(candidates.contains(i), "Pattern " + PATTERNS[i].getRegex() + " skipped for " + path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLiteralSegmentsNarrowCandidates() {
+        final PathMatchingTrie trie = trie();
+
+        final List<Integer> users = candidates(trie, "/users/1");
+        assertTrue(users.contains(1));
+        assertTrue(users.contains(2));
+        assertFalse(users.contains(3));
+        assertFalse(users.contains(5));
+
+        final List<Integer> orders = candidates(trie, "/orders/12/items");
+        assertTrue(orders.contains(3));
+        assertTrue(orders.contains(5));
+        assertFalse(orders.contains(0));
+        assertFalse(orders.contains(1));
+    }
+
+    @Test
+    public void testNextCandidatePreservesOrder() {
+        final long[] candidates = new long[2];
+        candidates[0] = (1L << 3) | (1L << 63);
+        candidates[1] = 1L << 1;
+
+        assertEquals(3, PathMatchingTrie.nextCandidate(candidates, 0));
+        assertEquals(63, PathMatchingTrie.nextCandidate(candidates, 4));
+        assertEquals(65, PathMatchingTrie.nextCandidate(candidates, 64));
+        assertEquals(-1, PathMatchingTrie.nextCandidate(candidates, 66));
+        assertEquals(-1, PathMatchingTrie.nextCandidate(candidates, 128));
+    }
+}
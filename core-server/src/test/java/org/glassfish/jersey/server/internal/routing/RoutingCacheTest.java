@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the routing results are replayed correctly from the {@link RoutingCache routing cache}.
+ */
+public class RoutingCacheTest {
+
+    @Path("users")
+    public static class UsersResource {
+
+        @GET
+        @Produces("text/plain")
+        public String plain() {
+            return "plain";
+        }
+
+        @GET
+        @Produces("text/html")
+        public String html() {
+            return "html";
+        }
+
+        @GET
+        @Path("{id}")
+        public String user(@PathParam("id") final String id) {
+            return "user-" + id;
+        }
+
+        @Path("sub")
+        public SubResource sub() {
+            return new SubResource();
+        }
+    }
+
+    public static class SubResource {
+
+        @GET
+        public String get() {
+            return "sub";
+        }
+    }
+
+    private static ApplicationHandler createHandler(final int size) {
+        return new ApplicationHandler(new ResourceConfig(UsersResource.class)
+                .property(ServerProperties.ROUTING_CACHE_ENABLED, true)
+                .property(ServerProperties.ROUTING_CACHE_SIZE, size));
+    }
+
+    private static ContainerResponse apply(final ApplicationHandler handler, final String method, final String uri,
+                                           final String accept) throws Exception {
+        final RequestContextBuilder builder = RequestContextBuilder.from(uri, method);
+        if (accept != null) {
+            builder.accept(accept);
+        }
+        return handler.apply(builder.build()).get();
+    }
+
+    private static RoutingCache cache(final ApplicationHandler handler) {
+        return handler.getInjectionManager().getInstance(RoutingCache.class);
+    }
+
+    @Test
+    public void testCachedNegotiation() throws Exception {
+        final ApplicationHandler handler = createHandler(16);
+
+        for (int i = 0; i < 3; i++) {
+            ContainerResponse response = apply(handler, "GET", "/users", "text/html");
+            assertEquals("html", response.getEntity());
+            assertEquals(MediaType.TEXT_HTML_TYPE, response.getMediaType());
+
+            response = apply(handler, "GET", "/users", "text/plain");
+            assertEquals("plain", response.getEntity());
+            assertEquals(MediaType.TEXT_PLAIN_TYPE, response.getMediaType());
+        }
+
+        assertEquals(2, cache(handler).getMissCount());
+        assertEquals(4, cache(handler).getHitCount());
+        assertEquals(2, cache(handler).getSize());
+    }
+
+    @Test
+    public void testCachedPathParameters() throws Exception {
+        final ApplicationHandler handler = createHandler(16);
+
+        assertEquals("user-1", apply(handler, "GET", "/users/1", null).getEntity());
+        assertEquals("user-2", apply(handler, "GET", "/users/2", null).getEntity());
+        assertEquals("user-1", apply(handler, "GET", "/users/1", null).getEntity());
+
+        assertEquals(1, cache(handler).getHitCount());
+    }
+
+    @Test
+    public void testCachedHead() throws Exception {
+        final ApplicationHandler handler = createHandler(16);
+
+        for (int i = 0; i < 2; i++) {
+            final ContainerResponse response = apply(handler, "HEAD", "/users/1", null);
+            assertEquals(200, response.getStatus());
+            assertEquals("HEAD", response.getRequestContext().getMethod());
+        }
+
+        assertEquals(1, cache(handler).getHitCount());
+    }
+
+    @Test
+    public void testLocatorNotCached() throws Exception {
+        final ApplicationHandler handler = createHandler(16);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("sub", apply(handler, "GET", "/users/sub", null).getEntity());
+        }
+
+        assertEquals(0, cache(handler).getHitCount());
+        assertEquals(0, cache(handler).getSize());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        final ApplicationHandler handler = createHandler(2);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("user-" + i, apply(handler, "GET", "/users/" + i, null).getEntity());
+        }
+
+        assertEquals(2, cache(handler).getSize());
+        assertEquals(3, cache(handler).getEvictionCount());
+    }
+
+    @Test
+    public void testNotAcceptableNotCached() throws Exception {
+        final ApplicationHandler handler = createHandler(16);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(406, apply(handler, "GET", "/users", "application/xml").getStatus());
+        }
+
+        assertEquals(0, cache(handler).getSize());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertNull(cache(new ApplicationHandler(new ResourceConfig(UsersResource.class))));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.model.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the resource method invocation by the {@link GeneratedInvocationHandlers generated invocation handlers}.
+ */
+public class GeneratedInvocationHandlersTest {
+
+    public static class Target {
+
+        private final List<Object> calls = new ArrayList<>();
+
+        public String none() {
+            return "none";
+        }
+
+        public int increment(final int value) {
+            return value + 1;
+        }
+
+        public void record(final String value, final long number) {
+            calls.add(value);
+            calls.add(number);
+        }
+
+        public String concat(final String a, final boolean b, final Integer c) {
+            return a + b + c;
+        }
+
+        public long sum(final int a, final int b, final int c, final int d, final int e) {
+            return a + b + c + d + e;
+        }
+
+        public void fail(final String message) throws Exception {
+            throw new Exception(message);
+        }
+
+        public static Target create() {
+            return new Target();
+        }
+    }
+
+    static class Hidden {
+
+        public String get() {
+            return "hidden";
+        }
+    }
+
+    private static Object invoke(final String name, final Object target, final Object... args) throws Throwable {
+        Method method = null;
+        for (final Method m : Target.class.getMethods()) {
+            if (m.getName().equals(name)) {
+                method = m;
+            }
+        }
+        final InvocationHandler handler = GeneratedInvocationHandlers.create(method);
+        assertNotNull(handler);
+        return handler.invoke(target, method, args);
+    }
+
+    @Test
+    public void testInvocation() throws Throwable {
+        final Target target = new Target();
+
+        assertEquals("none", invoke("none", target));
+        assertEquals(43, invoke("increment", target, 42));
+        assertNull(invoke("record", target, "a", 7L));
+        assertEquals("atrue1", invoke("concat", target, "a", true, 1));
+        assertEquals(15L, invoke("sum", target, 1, 2, 3, 4, 5));
+
+        assertEquals(2, target.calls.size());
+        assertEquals("a", target.calls.get(0));
+        assertEquals(7L, target.calls.get(1));
+    }
+
+    @Test
+    public void testExceptionWrapped() {
+        final InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> invoke("fail", new Target(), "failed"));
+        assertEquals("failed", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testIllegalArguments() throws Throwable {
+        final Target target = new Target();
+
+        assertThrows(IllegalArgumentException.class, () -> invoke("increment", target, "42"));
+        assertThrows(IllegalArgumentException.class, () -> invoke("increment", target, (Object) null));
+        assertThrows(IllegalArgumentException.class, () -> invoke("increment", target, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> invoke("none", new Object()));
+        assertThrows(NullPointerException.class, () -> invoke("none", null));
+        // widening conversion as done by the reflective invocation
+        assertNull(invoke("record", target, "a", 7));
+        assertEquals(7L, target.calls.get(1));
+    }
+
+    @Test
+    public void testOtherMethodInvokedReflectively() throws Throwable {
+        final Method none = Target.class.getMethod("none");
+        final Method increment = Target.class.getMethod("increment", int.class);
+
+        final InvocationHandler handler = GeneratedInvocationHandlers.create(none);
+        assertEquals(1, handler.invoke(new Target(), increment, new Object[] {0}));
+    }
+
+    @Test
+    public void testInaccessibleMethod() throws Exception {
+        assertNull(GeneratedInvocationHandlers.create(Hidden.class.getMethod("get")));
+        assertNull(GeneratedInvocationHandlers.create(Target.class.getMethod("create")));
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        @GET
+        @Path("{value}")
+        public int increment(@PathParam("value") final int value) {
+            return value + 1;
+        }
+
+        @GET
+        @Path("sum/{a}/{b}/{c}/{d}")
+        public String sum(@PathParam("a") final int a, @PathParam("b") final int b,
+                          @PathParam("c") final int c, @PathParam("d") final int d) {
+            return Integer.toString(a + b + c + d);
+        }
+
+        @POST
+        public void post(final String entity, @QueryParam("q") final String query) {
+            if (!entity.equals(query)) {
+                throw new NotFoundException();
+            }
+        }
+    }
+
+    private static void testResource(final boolean disabled) throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.RESOURCE_METHOD_GENERATED_INVOKERS_DISABLE, disabled));
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/41", "GET").build()).get();
+        assertEquals(42, response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/sum/1/2/3/4", "GET").build()).get();
+        assertEquals("10", response.getEntity());
+
+        response = handler.apply(RequestContextBuilder.from("/?q=e", "POST").entity("e").build()).get();
+        assertEquals(204, response.getStatus());
+
+        response = handler.apply(RequestContextBuilder.from("/?q=x", "POST").entity("e").build()).get();
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    public void testResourceMethods() throws Exception {
+        testResource(false);
+    }
+
+    @Test
+    public void testResourceMethodsReflective() throws Exception {
+        testResource(true);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.GenericType;
+
+/**
+ * Immutable invocation plan of a resource interface method.
+ * <p>
+ * The plan holds everything {@link WebResourceFactory} needs to know about the method to make a request, i.e. the HTTP
+ * method, the path, the accepted and the consumed media types, the response type and the annotations of the method
+ * parameters. The plan is compiled from the method annotations once per resource interface and method and reused
+ * by all the proxies of the resource interface.
+ * </p>
+ */
+final class InvocationPlan {
+
+    private static final String[] EMPTY = {};
+
+    private static final ClassValue<ConcurrentMap<Method, InvocationPlan>> PLANS =
+            new ClassValue<ConcurrentMap<Method, InvocationPlan>>() {
+                @Override
+                protected ConcurrentMap<Method, InvocationPlan> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final String httpMethod;
+    private final String path;
+    private final Class<?> responseType;
+    private final GenericType<?> responseGenericType;
+    private final String[] accepts;
+    private final String contentType;
+    private final Parameter[] parameters;
+    private final String unsupported;
+
+    /**
+     * Get the invocation plan of a resource interface method, the plan is compiled on the first invocation
+     * of the method.
+     *
+     * @param resourceInterface interface describing the resource.
+     * @param method            invoked method of the interface.
+     * @return invocation plan of the method.
+     */
+    static InvocationPlan of(final Class<?> resourceInterface, final Method method) {
+        final ConcurrentMap<Method, InvocationPlan> plans = PLANS.get(resourceInterface);
+        final InvocationPlan plan = plans.get(method);
+        return plan != null ? plan : plans.computeIfAbsent(method, m -> new InvocationPlan(resourceInterface, m));
+    }
+
+    @SuppressWarnings("unchecked")
+    private InvocationPlan(final Class<?> resourceInterface, final Method method) {
+        // determine method name
+        String httpMethod = getHttpMethodName(method);
+        if (httpMethod == null) {
+            for (final Annotation ann : method.getAnnotations()) {
+                httpMethod = getHttpMethodName(ann.annotationType());
+                if (httpMethod != null) {
+                    break;
+                }
+            }
+        }
+        this.httpMethod = httpMethod;
+
+        final Path p = method.getAnnotation(Path.class);
+        this.path = p == null ? null : p.value();
+
+        this.responseType = method.getReturnType();
+        this.responseGenericType = new GenericType(method.getGenericReturnType());
+
+        if (httpMethod == null && path == null) {
+            // no path annotation on the method -> fail
+            this.unsupported = "Not a resource method.";
+        } else if (httpMethod == null && !responseType.isInterface()) {
+            // the method is a subresource locator, but returns class,
+            // not interface - can't help here
+            this.unsupported = "Return type not an interface";
+        } else {
+            this.unsupported = null;
+        }
+
+        // accepted media types
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceInterface.getAnnotation(Produces.class);
+        }
+        this.accepts = (produces == null) ? EMPTY : produces.value();
+
+        Consumes consumes = method.getAnnotation(Consumes.class);
+        if (consumes == null) {
+            consumes = resourceInterface.getAnnotation(Consumes.class);
+        }
+        this.contentType = (consumes != null && consumes.value().length > 0) ? consumes.value()[0] : null;
+
+        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        final Type[] paramTypes = method.getGenericParameterTypes();
+        this.parameters = new Parameter[paramAnns.length];
+        for (int i = 0; i < paramAnns.length; i++) {
+            parameters[i] = new Parameter(paramAnns[i], paramTypes[i]);
+        }
+    }
+
+    private static String getHttpMethodName(final AnnotatedElement ae) {
+        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
+        return a == null ? null : a.value();
+    }
+
+    /**
+     * Get the HTTP method of the request.
+     *
+     * @return HTTP method name or {@code null} if the method is a sub-resource locator.
+     */
+    String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * Get the value of the {@link Path} annotation of the method.
+     *
+     * @return path or {@code null} if the method is not annotated.
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the return type of the method.
+     *
+     * @return the raw return type.
+     */
+    Class<?> getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Get the generic return type of the method.
+     *
+     * @return the generic return type.
+     */
+    GenericType<?> getResponseGenericType() {
+        return responseGenericType;
+    }
+
+    /**
+     * Get the accepted media types declared by the {@link Produces} annotation of the method or the resource interface.
+     *
+     * @return accepted media types, empty if none declared.
+     */
+    String[] getAccepts() {
+        return accepts;
+    }
+
+    /**
+     * Get the first media type declared by the {@link Consumes} annotation of the method or the resource interface.
+     *
+     * @return content type or {@code null} if none declared.
+     */
+    String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Get the parameters of the method.
+     *
+     * @return method parameters.
+     */
+    Parameter[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Get the reason why the method cannot be invoked by the proxy.
+     *
+     * @return the reason or {@code null} if the method can be invoked.
+     */
+    String getUnsupported() {
+        return unsupported;
+    }
+
+    /**
+     * A parameter of a resource interface method.
+     */
+    static final class Parameter {
+
+        private final Map<Class<?>, Annotation> annotations;
+        private final Type type;
+        private final boolean entity;
+        private final String defaultValue;
+
+        private Parameter(final Annotation[] annotations, final Type type) {
+            final Map<Class<?>, Annotation> anns = new HashMap<>();
+            for (final Annotation ann : annotations) {
+                anns.put(ann.annotationType(), ann);
+            }
+            this.annotations = Collections.unmodifiableMap(anns);
+            this.type = type;
+            this.entity = !RequestParameters.hasAnyParamAnnotation(anns);
+
+            final DefaultValue defaultValue = (DefaultValue) anns.get(DefaultValue.class);
+            this.defaultValue = defaultValue == null ? null : defaultValue.value();
+        }
+
+        /**
+         * Get the annotations of the parameter mapped by the annotation type.
+         *
+         * @return parameter annotations.
+         */
+        Map<Class<?>, Annotation> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * Get the generic type of the parameter.
+         *
+         * @return parameter type.
+         */
+        Type getType() {
+            return type;
+        }
+
+        /**
+         * Check whether the parameter is the request entity, i.e. it is not annotated by any parameter annotation.
+         *
+         * @return {@code true} if the parameter is the request entity.
+         */
+        boolean isEntity() {
+            return entity;
+        }
+
+        /**
+         * Get the value of the {@link DefaultValue} annotation of the parameter.
+         *
+         * @return default value or {@code null} if the parameter is not annotated.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+    }
+}
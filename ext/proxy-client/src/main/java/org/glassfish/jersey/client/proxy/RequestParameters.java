@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,6 +60,20 @@ class RequestParameters {
     private static final List<Class<?>> PARAM_ANNOTATION_CLASSES = Arrays.asList(PathParam.class, QueryParam.class,
             HeaderParam.class, CookieParam.class, MatrixParam.class, FormParam.class, BeanParam.class);
 
+    /**
+     * Annotated properties of the bean parameter classes, the bean class is introspected only once.
+     */
+    private static final ClassValue<BeanProperties> BEAN_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(final Class<?> type) {
+            try {
+                return new BeanProperties(getBeanProperties(type), null);
+            } catch (IntrospectionException e) {
+                return new BeanProperties(null, e);
+            }
+        }
+    };
+
     RequestParameters(final WebTarget newTarget, final MultivaluedMap<String, Object> headers,
                       final List<Cookie> cookies, final Form form) {
 
@@ -143,12 +158,21 @@ class RequestParameters {
 
     private void addBeanParameter(final Object beanParam)
             throws IllegalAccessException, IntrospectionException, InvocationTargetException {
-        Class<?> beanClass = beanParam.getClass();
-        List<Field> fields = new ArrayList<>();
+
+        for (final BeanProperty property : BEAN_PROPERTIES.get(beanParam.getClass()).get()) {
+            final Object value = property.getValue(beanParam);
+            if (value != null) {
+                addParameter(value, property.annotations);
+            }
+        }
+    }
+
+    private static List<BeanProperty> getBeanProperties(final Class<?> beanClass) throws IntrospectionException {
+        final List<Field> fields = new ArrayList<>();
         getAllFields(fields, beanClass);
 
+        final List<BeanProperty> properties = new ArrayList<>();
         for (final Field field : fields) {
-            Object value = null;
             final Map<Class<?>, Annotation> anns = new HashMap<>();
 
             // get field annotations
@@ -157,7 +181,7 @@ class RequestParameters {
             }
 
             if (hasAnyParamAnnotation(anns)) {
-                value = field.get(beanParam);
+                properties.add(new BeanProperty(anns, field, null));
             } else {
                 // get getter annotations if there are no field annotations
                 for (final PropertyDescriptor pd : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
@@ -166,19 +190,16 @@ class RequestParameters {
                             anns.put(ann.annotationType(), ann);
                         }
                         if (hasAnyParamAnnotation(anns)) {
-                            value = pd.getReadMethod().invoke(beanParam);
+                            properties.add(new BeanProperty(anns, null, pd.getReadMethod()));
                         }
                     }
                 }
             }
-
-            if (value != null) {
-                addParameter(value, anns);
-            }
         }
+        return properties;
     }
 
-    private List<Field> getAllFields(List<Field> fields, Class<?> type) {
+    private static List<Field> getAllFields(List<Field> fields, Class<?> type) {
         fields.addAll(Arrays.asList(type.getDeclaredFields()));
 
         if (type.getSuperclass() != null) {
@@ -232,4 +253,44 @@ class RequestParameters {
         return form;
     }
 
+    /**
+     * Annotated properties of a bean parameter class or the failure of the bean class introspection.
+     */
+    private static final class BeanProperties {
+
+        private final List<BeanProperty> properties;
+        private final IntrospectionException failure;
+
+        private BeanProperties(final List<BeanProperty> properties, final IntrospectionException failure) {
+            this.properties = properties;
+            this.failure = failure;
+        }
+
+        private List<BeanProperty> get() throws IntrospectionException {
+            if (failure != null) {
+                throw failure;
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * Field or property of a bean parameter annotated by a parameter annotation.
+     */
+    private static final class BeanProperty {
+
+        private final Map<Class<?>, Annotation> annotations;
+        private final Field field;
+        private final Method getter;
+
+        private BeanProperty(final Map<Class<?>, Annotation> annotations, final Field field, final Method getter) {
+            this.annotations = annotations;
+            this.field = field;
+            this.getter = getter;
+        }
+
+        private Object getValue(final Object bean) throws IllegalAccessException, InvocationTargetException {
+            return field != null ? field.get(bean) : getter.invoke(bean);
+        }
+    }
 }
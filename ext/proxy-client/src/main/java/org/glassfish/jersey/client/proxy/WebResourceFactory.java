@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,6 @@
 
 package org.glassfish.jersey.client.proxy;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -26,21 +25,15 @@ import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import javax.ws.rs.BeanParam;
-import javax.ws.rs.Consumes;
 import javax.ws.rs.CookieParam;
-import javax.ws.rs.DefaultValue;
 import javax.ws.rs.FormParam;
 import javax.ws.rs.HeaderParam;
-import javax.ws.rs.HttpMethod;
 import javax.ws.rs.MatrixParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
-import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
@@ -65,8 +58,6 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
  */
 public final class WebResourceFactory implements InvocationHandler {
 
-    private static final String[] EMPTY = {};
-
     private final WebTarget target;
     private final MultivaluedMap<String, Object> headers;
     private final List<Cookie> cookies;
@@ -148,59 +139,40 @@ public final class WebResourceFactory implements InvocationHandler {
             return equals(args[0]);
         }
 
-        // get the interface describing the resource
-        final Class<?> proxyIfc = proxy.getClass().getInterfaces()[0];
+        // get the invocation plan of the method of the interface describing the resource
+        final InvocationPlan plan = InvocationPlan.of(proxy.getClass().getInterfaces()[0], method);
 
         // response type
-        final Class<?> responseType = method.getReturnType();
+        final Class<?> responseType = plan.getResponseType();
 
         // determine method name
-        String httpMethod = getHttpMethodName(method);
-        if (httpMethod == null) {
-            for (final Annotation ann : method.getAnnotations()) {
-                httpMethod = getHttpMethodName(ann.annotationType());
-                if (httpMethod != null) {
-                    break;
-                }
-            }
+        final String httpMethod = plan.getHttpMethod();
+
+        if (plan.getUnsupported() != null) {
+            throw new UnsupportedOperationException(plan.getUnsupported());
         }
 
         // create a new UriBuilder appending the @Path attached to the method
-        WebTarget newTarget = addPathFromAnnotation(method, target);
-
-        if (httpMethod == null) {
-            if (newTarget == target) {
-                // no path annotation on the method -> fail
-                throw new UnsupportedOperationException("Not a resource method.");
-            } else if (!responseType.isInterface()) {
-                // the method is a subresource locator, but returns class,
-                // not interface - can't help here
-                throw new UnsupportedOperationException("Return type not an interface");
-            }
-        }
+        WebTarget newTarget = plan.getPath() == null ? target : target.path(plan.getPath());
 
         // process method params (build maps of (Path|Form|Cookie|Matrix|Header..)Params
         // and extract entity type
         RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
-        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        final InvocationPlan.Parameter[] parameters = plan.getParameters();
         Object entity = null;
         Type entityType = null;
-        for (int i = 0; i < paramAnns.length; i++) {
-            final Map<Class<?>, Annotation> anns = new HashMap<>();
-            for (final Annotation ann : paramAnns[i]) {
-                anns.put(ann.annotationType(), ann);
-            }
+        for (int i = 0; i < parameters.length; i++) {
+            final InvocationPlan.Parameter parameter = parameters[i];
             Object value = args[i];
-            if (!RequestParameters.hasAnyParamAnnotation(anns)) {
-                entityType = method.getGenericParameterTypes()[i];
+            if (parameter.isEntity()) {
+                entityType = parameter.getType();
                 entity = value;
             } else {
-                Annotation ann;
-                if (value == null && (ann = anns.get(DefaultValue.class)) != null) {
-                    value = ((DefaultValue) ann).value();
+                if (value == null) {
+                    value = parameter.getDefaultValue();
                 }
                 if (value != null) {
-                    requestParameters.addParameter(value, anns);
+                    requestParameters.addParameter(value, parameter.getAnnotations());
                 }
             }
         }
@@ -213,11 +185,7 @@ public final class WebResourceFactory implements InvocationHandler {
         }
 
         // accepted media types
-        Produces produces = method.getAnnotation(Produces.class);
-        if (produces == null) {
-            produces = proxyIfc.getAnnotation(Produces.class);
-        }
-        final String[] accepts = (produces == null) ? EMPTY : produces.value();
+        final String[] accepts = plan.getAccepts();
 
         // determine content type
         String contentType = null;
@@ -226,13 +194,7 @@ public final class WebResourceFactory implements InvocationHandler {
             if ((contentTypeEntries != null) && (!contentTypeEntries.isEmpty())) {
                 contentType = contentTypeEntries.get(0).toString();
             } else {
-                Consumes consumes = method.getAnnotation(Consumes.class);
-                if (consumes == null) {
-                    consumes = proxyIfc.getAnnotation(Consumes.class);
-                }
-                if (consumes != null && consumes.value().length > 0) {
-                    contentType = consumes.value()[0];
-                }
+                contentType = plan.getContentType();
             }
         }
 
@@ -262,7 +224,7 @@ public final class WebResourceFactory implements InvocationHandler {
             }
         }
 
-        final GenericType<?> responseGenericType = new GenericType(method.getGenericReturnType());
+        final GenericType<?> responseGenericType = plan.getResponseGenericType();
         if (entity != null) {
             if (entityType instanceof ParameterizedType) {
                 entity = new GenericEntity(entity, entityType);
@@ -288,9 +250,4 @@ public final class WebResourceFactory implements InvocationHandler {
     public String toString() {
         return target.toString();
     }
-
-    private static String getHttpMethodName(final AnnotatedElement ae) {
-        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
-        return a == null ? null : a.value();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.client.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link InvocationPlan}.
+ */
+public class InvocationPlanTest {
+
+    @Test
+    public void testPlanIsCompiledOnce() throws Exception {
+        final Method method = MyResourceIfc.class.getMethod("getId", String.class);
+        assertSame(InvocationPlan.of(MyResourceIfc.class, method), InvocationPlan.of(MyResourceIfc.class, method));
+    }
+
+    @Test
+    public void testResourceMethod() throws Exception {
+        final InvocationPlan plan = InvocationPlan.of(MyResourceIfc.class,
+                MyResourceIfc.class.getMethod("getId", String.class));
+
+        assertEquals(HttpMethod.GET, plan.getHttpMethod());
+        assertEquals("{id}", plan.getPath());
+        assertArrayEquals(new String[] {MediaType.TEXT_PLAIN}, plan.getAccepts());
+        assertNull(plan.getContentType());
+        assertNull(plan.getUnsupported());
+
+        assertEquals(1, plan.getParameters().length);
+        final InvocationPlan.Parameter parameter = plan.getParameters()[0];
+        assertFalse(parameter.isEntity());
+        assertTrue(parameter.getAnnotations().containsKey(PathParam.class));
+        assertNull(parameter.getDefaultValue());
+    }
+
+    @Test
+    public void testEntityParameter() throws Exception {
+        final InvocationPlan plan = InvocationPlan.of(MyResourceIfc.class,
+                MyResourceIfc.class.getMethod("postIt", List.class));
+
+        assertEquals(HttpMethod.POST, plan.getHttpMethod());
+        assertNull(plan.getPath());
+        assertEquals(MediaType.APPLICATION_XML, plan.getContentType());
+        assertEquals(new GenericType<List<MyBean>>() { }, plan.getResponseGenericType());
+
+        final InvocationPlan.Parameter parameter = plan.getParameters()[0];
+        assertTrue(parameter.isEntity());
+        assertEquals(new GenericType<List<MyBean>>() { }.getType(), parameter.getType());
+    }
+
+    @Test
+    public void testNotResourceMethod() throws Exception {
+        final InvocationPlan plan = InvocationPlan.of(MyResourceIfc.class, Object.class.getMethod("getClass"));
+
+        assertNull(plan.getHttpMethod());
+        assertEquals("Not a resource method.", plan.getUnsupported());
+    }
+}
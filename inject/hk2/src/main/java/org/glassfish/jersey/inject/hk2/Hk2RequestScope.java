@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,11 @@
 
 package org.glassfish.jersey.inject.hk2;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -28,13 +30,44 @@ import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.LazyUid;
 import org.glassfish.jersey.process.internal.RequestScope;
 
+import org.glassfish.hk2.api.ActiveDescriptor;
+import org.glassfish.hk2.api.ServiceHandle;
+
 import static org.glassfish.jersey.internal.guava.Preconditions.checkState;
 
 public class Hk2RequestScope extends RequestScope {
 
+    /**
+     * Slots of the request-scoped instances, used when the request scope is switched to the scoped values.
+     */
+    private final Slots slots = new Slots();
+
     @Override
     public org.glassfish.jersey.process.internal.RequestContext createContext() {
-        return new Instance();
+        return isUsingScopedValues() ? new Instance(slots) : new Instance();
+    }
+
+    /**
+     * Assigns each request-scoped service descriptor a slot, the index of its instance in the request scope instance.
+     */
+    private static final class Slots {
+
+        private final Map<Object, Integer> slots = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private int find(Object descriptor) {
+            final Integer slot = slots.get(descriptor);
+            return slot == null ? -1 : slot;
+        }
+
+        private int assign(Object descriptor) {
+            final Integer slot = slots.get(descriptor);
+            return slot == null ? slots.computeIfAbsent(descriptor, key -> count.getAndIncrement()) : slot;
+        }
+
+        private int size() {
+            return count.get();
+        }
     }
 
     /**
@@ -53,10 +86,26 @@ public class Hk2RequestScope extends RequestScope {
         private final LazyUid id = new LazyUid();
 
         /**
-         * A map of injectable instances in this scope.
+         * A map of injectable instances in this scope, {@code null} when the instances are kept in slots.
          */
         private final Map<ForeignDescriptor, Object> store;
 
+        /**
+         * Slots of the injectable instances in this scope, {@code null} when the instances are kept in the map.
+         */
+        private final Slots slots;
+
+        /**
+         * Descriptors of the injectable instances in this scope indexed by slot, a {@code null} descriptor
+         * marks an empty slot.
+         */
+        private ForeignDescriptor[] descriptors;
+
+        /**
+         * Injectable instances in this scope indexed by slot.
+         */
+        private Object[] values;
+
         /**
          * Holds the number of snapshots of this scope.
          */
@@ -64,6 +113,15 @@ public class Hk2RequestScope extends RequestScope {
 
         private Instance() {
             this.store = new HashMap<>();
+            this.slots = null;
+            this.referenceCounter = new AtomicInteger(1);
+        }
+
+        private Instance(Slots slots) {
+            this.store = null;
+            this.slots = slots;
+            this.descriptors = new ForeignDescriptor[slots.size()];
+            this.values = new Object[descriptors.length];
             this.referenceCounter = new AtomicInteger(1);
         }
 
@@ -91,7 +149,11 @@ public class Hk2RequestScope extends RequestScope {
          */
         @SuppressWarnings("unchecked")
         public <T> T get(ForeignDescriptor descriptor) {
-            return (T) store.get(descriptor);
+            if (store != null) {
+                return (T) store.get(descriptor);
+            }
+            final int slot = slots.find(descriptor.get());
+            return slot < 0 || slot >= values.length ? null : (T) values[slot];
         }
 
         /**
@@ -105,13 +167,64 @@ public class Hk2RequestScope extends RequestScope {
          */
         @SuppressWarnings("unchecked")
         public <T> T put(ForeignDescriptor descriptor, T value) {
-            checkState(!store.containsKey(descriptor),
+            checkState(!contains(descriptor),
                     "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
                     descriptor,
-                    store.get(descriptor),
+                    get(descriptor),
                     value);
 
-            return (T) store.put(descriptor, value);
+            if (store != null) {
+                return (T) store.put(descriptor, value);
+            }
+            final int slot = slots.assign(descriptor.get());
+            ensureSlot(slot);
+            descriptors[slot] = descriptor;
+            values[slot] = value;
+            return null;
+        }
+
+        /**
+         * Get an inhabitant stored in the scope instance for the descriptor or create and store a new one.
+         *
+         * @param <T>              inhabitant type.
+         * @param activeDescriptor inhabitant descriptor.
+         * @param root             the root service handle.
+         * @return the stored or the newly created inhabitant.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T findOrCreate(ActiveDescriptor<T> activeDescriptor, ServiceHandle<?> root) {
+            if (store != null) {
+                T retVal = get(ForeignDescriptor.wrap(activeDescriptor));
+                if (retVal == null) {
+                    retVal = activeDescriptor.create(root);
+                    put(ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((T) obj)), retVal);
+                }
+                return retVal;
+            }
+
+            final int slot = slots.assign(activeDescriptor);
+            if (slot < descriptors.length && descriptors[slot] != null) {
+                return (T) values[slot];
+            }
+            // the creation may store other instances in this scope, the slot is ensured afterwards
+            final T retVal = activeDescriptor.create(root);
+            ensureSlot(slot);
+            checkState(descriptors[slot] == null,
+                    "An instance for the descriptor %s was already seeded in this scope. Old instance: %s New instance: %s",
+                    activeDescriptor,
+                    values[slot],
+                    retVal);
+            descriptors[slot] = ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((T) obj));
+            values[slot] = retVal;
+            return retVal;
+        }
+
+        private void ensureSlot(int slot) {
+            if (slot >= descriptors.length) {
+                final int length = Math.max(slot + 1, slots.size());
+                descriptors = Arrays.copyOf(descriptors, length);
+                values = Arrays.copyOf(values, length);
+            }
         }
 
         /**
@@ -121,14 +234,35 @@ public class Hk2RequestScope extends RequestScope {
          */
         @SuppressWarnings("unchecked")
         public <T> void remove(ForeignDescriptor descriptor) {
-            final T removed = (T) store.remove(descriptor);
+            if (store != null) {
+                final T removed = (T) store.remove(descriptor);
+                if (removed != null) {
+                    descriptor.dispose(removed);
+                }
+                return;
+            }
+            final int slot = slots.find(descriptor.get());
+            if (slot >= 0 && slot < descriptors.length && descriptors[slot] != null) {
+                removeSlot(slot);
+            }
+        }
+
+        private void removeSlot(int slot) {
+            final ForeignDescriptor descriptor = descriptors[slot];
+            final Object removed = values[slot];
+            descriptors[slot] = null;
+            values[slot] = null;
             if (removed != null) {
                 descriptor.dispose(removed);
             }
         }
 
         public boolean contains(ForeignDescriptor provider) {
-            return store.containsKey(provider);
+            if (store != null) {
+                return store.containsKey(provider);
+            }
+            final int slot = slots.find(provider.get());
+            return slot >= 0 && slot < descriptors.length && descriptors[slot] != null;
         }
 
         /**
@@ -140,19 +274,40 @@ public class Hk2RequestScope extends RequestScope {
         public void release() {
             if (referenceCounter.decrementAndGet() < 1) {
                 try {
-                    new HashSet<>(store.keySet()).forEach(this::remove);
+                    if (store != null) {
+                        new HashSet<>(store.keySet()).forEach(this::remove);
+                    } else {
+                        for (int slot = 0; slot < descriptors.length; slot++) {
+                            if (descriptors[slot] != null) {
+                                removeSlot(slot);
+                            }
+                        }
+                    }
                 } finally {
                     logger.debugLog("Released scope instance {0}", this);
                 }
             }
         }
 
+        private int size() {
+            if (store != null) {
+                return store.size();
+            }
+            int size = 0;
+            for (ForeignDescriptor descriptor : descriptors) {
+                if (descriptor != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
         @Override
         public String toString() {
             return "Instance{"
                     + "id=" + id
                     + ", referenceCounter=" + referenceCounter
-                    + ", store size=" + store.size()
+                    + ", store size=" + size()
                     + '}';
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,13 +53,7 @@ public class RequestContext implements Context<RequestScoped> {
     @Override
     public <U> U findOrCreate(ActiveDescriptor<U> activeDescriptor, ServiceHandle<?> root) {
         Hk2RequestScope.Instance instance = (Hk2RequestScope.Instance) requestScope.current();
-
-        U retVal = instance.get(ForeignDescriptor.wrap(activeDescriptor));
-        if (retVal == null) {
-            retVal = activeDescriptor.create(root);
-            instance.put(ForeignDescriptor.wrap(activeDescriptor, obj -> activeDescriptor.dispose((U) obj)), retVal);
-        }
-        return retVal;
+        return instance.findOrCreate(activeDescriptor, root);
     }
 
     @Override
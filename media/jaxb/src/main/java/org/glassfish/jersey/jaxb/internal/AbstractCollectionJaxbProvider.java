@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -235,15 +235,16 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
+        final Class elementType = getElementClass(type, genericType);
+        Marshaller m = null;
         try {
             final Collection c = (type.isArray())
                     ? Arrays.asList((Object[]) t)
                     : (Collection) t;
-            final Class elementType = getElementClass(type, genericType);
             final Charset charset = ReaderWriter.getCharset(mediaType);
             final String charsetName = charset.name();
 
-            final Marshaller m = getMarshaller(elementType, mediaType);
+            m = acquireMarshaller(elementType, mediaType);
             m.setProperty(Marshaller.JAXB_FRAGMENT, true);
             if (charset != StandardCharsets.UTF_8) {
                 m.setProperty(Marshaller.JAXB_ENCODING, charsetName);
@@ -252,6 +253,8 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             writeCollection(elementType, c, mediaType, charset, m, entityStream);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseMarshaller(elementType, m);
         }
     }
 
@@ -287,9 +290,10 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
         }
 
+        final Class<?> elementType = getElementClass(type, genericType);
+        Unmarshaller u = null;
         try {
-            final Class<?> elementType = getElementClass(type, genericType);
-            final Unmarshaller u = getUnmarshaller(elementType, mediaType);
+            u = acquireUnmarshaller(elementType, mediaType);
             final XMLStreamReader r = getXMLStreamReader(elementType, mediaType, u, entityStream);
             boolean jaxbElement = false;
 
@@ -360,6 +364,8 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseUnmarshaller(elementType, u);
         }
     }
 
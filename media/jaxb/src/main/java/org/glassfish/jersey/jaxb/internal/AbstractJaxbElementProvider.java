@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -111,12 +111,16 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
         final ParameterizedType pt = (ParameterizedType) genericType;
         final Class ta = (Class) pt.getActualTypeArguments()[0];
 
+        Unmarshaller u = null;
         try {
-            return readFrom(ta, mediaType, getUnmarshaller(ta, mediaType), entityStream);
+            u = acquireUnmarshaller(ta, mediaType);
+            return readFrom(ta, mediaType, u, entityStream);
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseUnmarshaller(ta, u);
         }
     }
 
@@ -145,8 +149,10 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
+        final Class<?> declaredType = t.getDeclaredType();
+        Marshaller m = null;
         try {
-            final Marshaller m = getMarshaller(t.getDeclaredType(), mediaType);
+            m = acquireMarshaller(declaredType, mediaType);
             final Charset c = ReaderWriter.getCharset(mediaType);
             if (c != StandardCharsets.UTF_8) {
                 m.setProperty(Marshaller.JAXB_ENCODING, c.name());
@@ -155,6 +161,8 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
             writeTo(t, mediaType, c, m, entityStream);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseMarshaller(declaredType, m);
         }
     }
 
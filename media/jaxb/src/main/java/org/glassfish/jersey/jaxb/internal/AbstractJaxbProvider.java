@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,9 +18,6 @@ package org.glassfish.jersey.jaxb.internal;
 
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
-import java.lang.ref.WeakReference;
-import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,8 +52,6 @@ import org.xml.sax.InputSource;
  */
 public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWriterProvider<T> {
 
-    private static final Map<Class<?>, WeakReference<JAXBContext>> jaxbContexts =
-            new WeakHashMap<Class<?>, WeakReference<JAXBContext>>();
     private final Providers jaxrsProviders;
     private final boolean fixedResolverMediaType;
     private final Value<ContextResolver<JAXBContext>> mtContext;
@@ -64,6 +59,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     private final Value<ContextResolver<Marshaller>> mtMarshaller;
     private Value<Boolean> formattedOutput = Values.of(Boolean.FALSE);
     private Value<Boolean> xmlRootElementProcessing = Values.of(Boolean.FALSE);
+    private Value<Integer> poolSize = Values.of(MessageProperties.JAXB_DEFAULT_POOL_SIZE);
 
     /**
      * Inheritance constructor.
@@ -131,6 +127,15 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
                 return PropertiesHelper.isProperty(config.getProperty(MessageProperties.JAXB_PROCESS_XML_ROOT_ELEMENT));
             }
         });
+
+        poolSize = Values.lazy(new Value<Integer>() {
+
+            @Override
+            public Integer get() {
+                return PropertiesHelper.getValue(config.getProperties(), MessageProperties.JAXB_POOL_SIZE,
+                        MessageProperties.JAXB_DEFAULT_POOL_SIZE, null);
+            }
+        });
     }
 
     /**
@@ -159,34 +164,67 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case retrieving the unmarshaller fails with a JAXB exception.
      */
     protected final Unmarshaller getUnmarshaller(Class type, MediaType mediaType) throws JAXBException {
-        if (fixedResolverMediaType) {
-            return getUnmarshaller(type);
+        final Unmarshaller u = getResolvedUnmarshaller(type, mediaType);
+        if (u != null) {
+            return u;
         }
 
-        final ContextResolver<Unmarshaller> unmarshallerResolver =
-                jaxrsProviders.getContextResolver(Unmarshaller.class, mediaType);
-        if (unmarshallerResolver != null) {
-            Unmarshaller u = unmarshallerResolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+        final JAXBContext ctx = getJAXBContextFor(type, mediaType);
+        return (ctx == null) ? null : ctx.createUnmarshaller();
+    }
+
+    /**
+     * Acquire a JAXB unmarshaller for the given class and media type.
+     * <p>
+     * Unlike {@link #getUnmarshaller(Class, MediaType)}, the unmarshaller created by this provider is taken from a pool
+     * of unmarshallers of the JAXB context, the unmarshaller MUST be {@link #releaseUnmarshaller(Class, Unmarshaller)
+     * released} when the entity is unmarshalled.
+     * </p>
+     *
+     * @param type      Java type to be unmarshalled.
+     * @param mediaType entity media type.
+     * @return JAXB unmarshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the unmarshaller fails with a JAXB exception.
+     * @see MessageProperties#JAXB_POOL_SIZE
+     * @since 2.47
+     */
+    protected final Unmarshaller acquireUnmarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final Unmarshaller u = getResolvedUnmarshaller(type, mediaType);
+        if (u != null) {
+            return u;
         }
 
-        final JAXBContext ctx = getJAXBContext(type, mediaType);
-        return (ctx == null) ? null : ctx.createUnmarshaller();
+        final JAXBContext ctx = getJAXBContextFor(type, mediaType);
+        if (ctx == null) {
+            return null;
+        }
+        final int size = poolSize.get();
+        final JaxbInstancePool<Unmarshaller> pool = size > 0 ? JaxbContextCache.unmarshallers(type, ctx, size) : null;
+        return pool != null ? pool.acquire() : ctx.createUnmarshaller();
     }
 
-    private Unmarshaller getUnmarshaller(Class type) throws JAXBException {
-        final ContextResolver<Unmarshaller> resolver = mtUnmarshaller.get();
-        if (resolver != null) {
-            Unmarshaller u = resolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+    /**
+     * Release a JAXB unmarshaller {@link #acquireUnmarshaller(Class, MediaType) acquired} for the given class.
+     *
+     * @param type         Java type the unmarshaller has been acquired for.
+     * @param unmarshaller released unmarshaller, may be {@code null}.
+     * @since 2.47
+     */
+    protected final void releaseUnmarshaller(Class type, Unmarshaller unmarshaller) {
+        if (unmarshaller == null || poolSize.get() <= 0) {
+            return;
+        }
+        final JaxbInstancePool<Unmarshaller> pool = JaxbContextCache.unmarshallers(type);
+        if (pool != null) {
+            pool.release(unmarshaller);
         }
+    }
 
-        final JAXBContext ctx = getJAXBContext(type);
-        return (ctx == null) ? null : ctx.createUnmarshaller();
+    private Unmarshaller getResolvedUnmarshaller(Class type, MediaType mediaType) {
+        final ContextResolver<Unmarshaller> resolver = fixedResolverMediaType
+                ? mtUnmarshaller.get()
+                : jaxrsProviders.getContextResolver(Unmarshaller.class, mediaType);
+        return (resolver == null) ? null : resolver.getContext(type);
     }
 
     /**
@@ -202,45 +240,80 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case retrieving the marshaller fails with a JAXB exception.
      */
     protected final Marshaller getMarshaller(Class type, MediaType mediaType) throws JAXBException {
-        if (fixedResolverMediaType) {
-            return getMarshaller(type);
+        final Marshaller m = getResolvedMarshaller(type, mediaType);
+        if (m != null) {
+            return m;
         }
 
-        final ContextResolver<Marshaller> mcr = jaxrsProviders.getContextResolver(Marshaller.class, mediaType);
-        if (mcr != null) {
-            Marshaller m = mcr.getContext(type);
-            if (m != null) {
-                return m;
-            }
+        final JAXBContext ctx = getJAXBContextFor(type, mediaType);
+        return (ctx == null) ? null : createMarshaller(ctx);
+    }
+
+    /**
+     * Acquire a JAXB marshaller for the given class and media type.
+     * <p>
+     * Unlike {@link #getMarshaller(Class, MediaType)}, the marshaller created by this provider is taken from a pool
+     * of marshallers of the JAXB context, the marshaller MUST be {@link #releaseMarshaller(Class, Marshaller) released}
+     * when the entity is marshalled. The pooled marshaller is reset to its initial properties when released.
+     * Only the marshallers of the JAXB contexts {@link #getStoredJaxbContext(Class) cached by Jersey} are pooled,
+     * a new marshaller is created for a JAXB context provided by a {@link ContextResolver}.
+     * </p>
+     *
+     * @param type      Java type to be marshalled.
+     * @param mediaType entity media type.
+     * @return JAXB marshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the marshaller fails with a JAXB exception.
+     * @see MessageProperties#JAXB_POOL_SIZE
+     * @since 2.47
+     */
+    protected final Marshaller acquireMarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final Marshaller m = getResolvedMarshaller(type, mediaType);
+        if (m != null) {
+            return m;
         }
 
-        final JAXBContext ctx = getJAXBContext(type, mediaType);
+        final JAXBContext ctx = getJAXBContextFor(type, mediaType);
         if (ctx == null) {
             return null;
         }
-
-        Marshaller m = ctx.createMarshaller();
+        final int size = poolSize.get();
+        final JaxbInstancePool<Marshaller> pool = size > 0 ? JaxbContextCache.marshallers(type, ctx, size) : null;
+        if (pool == null) {
+            return createMarshaller(ctx);
+        }
+        // the formatted output property is reset when the marshaller is released
+        final Marshaller pooled = pool.acquire();
         if (formattedOutput.get()) {
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
+            pooled.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         }
-        return m;
-
+        return pooled;
     }
 
-    private Marshaller getMarshaller(Class type) throws JAXBException {
-        final ContextResolver<Marshaller> resolver = mtMarshaller.get();
-        if (resolver != null) {
-            Marshaller u = resolver.getContext(type);
-            if (u != null) {
-                return u;
-            }
+    /**
+     * Release a JAXB marshaller {@link #acquireMarshaller(Class, MediaType) acquired} for the given class.
+     *
+     * @param type       Java type the marshaller has been acquired for.
+     * @param marshaller released marshaller, may be {@code null}.
+     * @since 2.47
+     */
+    protected final void releaseMarshaller(Class type, Marshaller marshaller) {
+        if (marshaller == null || poolSize.get() <= 0) {
+            return;
         }
-
-        final JAXBContext ctx = getJAXBContext(type);
-        if (ctx == null) {
-            return null;
+        final JaxbInstancePool<Marshaller> pool = JaxbContextCache.marshallers(type);
+        if (pool != null) {
+            pool.release(marshaller);
         }
+    }
+
+    private Marshaller getResolvedMarshaller(Class type, MediaType mediaType) {
+        final ContextResolver<Marshaller> resolver = fixedResolverMediaType
+                ? mtMarshaller.get()
+                : jaxrsProviders.getContextResolver(Marshaller.class, mediaType);
+        return (resolver == null) ? null : resolver.getContext(type);
+    }
 
+    private Marshaller createMarshaller(JAXBContext ctx) throws JAXBException {
         Marshaller m = ctx.createMarshaller();
         if (formattedOutput.get()) {
             m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
@@ -248,6 +321,10 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         return m;
     }
 
+    private JAXBContext getJAXBContextFor(Class type, MediaType mediaType) throws JAXBException {
+        return fixedResolverMediaType ? getJAXBContext(type) : getJAXBContext(type, mediaType);
+    }
+
     private JAXBContext getJAXBContext(Class type, MediaType mt) throws JAXBException {
         final ContextResolver<JAXBContext> cr = jaxrsProviders.getContextResolver(JAXBContext.class, mt);
         if (cr != null) {
@@ -280,15 +357,7 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case the JAXB context retrieval fails.
      */
     protected JAXBContext getStoredJaxbContext(Class type) throws JAXBException {
-        synchronized (jaxbContexts) {
-            final WeakReference<JAXBContext> ref = jaxbContexts.get(type);
-            JAXBContext c = (ref != null) ? ref.get() : null;
-            if (c == null) {
-                c = JAXBContext.newInstance(type);
-                jaxbContexts.put(type, new WeakReference<JAXBContext>(c));
-            }
-            return c;
-        }
+        return JaxbContextCache.get(type);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -106,16 +106,20 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             MultivaluedMap<String, String> httpHeaders,
             InputStream inputStream) throws IOException {
 
+        Unmarshaller u = null;
         try {
             final EntityInputStream entityStream = EntityInputStream.create(inputStream);
             if (entityStream.isEmpty()) {
                 throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
             }
-            return readFrom(type, mediaType, getUnmarshaller(type, mediaType), entityStream);
+            u = acquireUnmarshaller(type, mediaType);
+            return readFrom(type, mediaType, u, entityStream);
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseUnmarshaller(type, u);
         }
     }
 
@@ -150,8 +154,9 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
+        Marshaller m = null;
         try {
-            final Marshaller m = getMarshaller(type, mediaType);
+            m = acquireMarshaller(type, mediaType);
             final Charset c = ReaderWriter.getCharset(mediaType);
             if (c != StandardCharsets.UTF_8) {
                 m.setProperty(Marshaller.JAXB_ENCODING, c.name());
@@ -160,6 +165,8 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             writeTo(t, mediaType, c, m, entityStream);
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
+        } finally {
+            releaseMarshaller(type, m);
         }
     }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.lang.ref.SoftReference;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * Cache of the JAXB contexts created for the Java types.
+ * <p>
+ * The contexts are associated with the Java types using a {@link ClassValue}, the cached context is looked up without
+ * locking. The context is held by a soft reference, it does not prevent the class loader of the JAXB implementation
+ * the context has been created by from being unloaded.
+ * </p>
+ * <p>
+ * The {@link JaxbInstancePool marshaller and unmarshaller pools} of a cached context are held together with the context,
+ * they are shared by all the JAXB providers and released together with the context. The cache entries do not reference
+ * the providers, hence a cached context does not keep a client or an application reachable.
+ * </p>
+ */
+final class JaxbContextCache {
+
+    private static final ClassValue<Entry> CONTEXTS = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(final Class<?> type) {
+            return new Entry();
+        }
+    };
+
+    /**
+     * Prevents instantiation.
+     */
+    private JaxbContextCache() {
+    }
+
+    /**
+     * Get the cached JAXB context capable of handling the given Java type, the context is created if not cached.
+     *
+     * @param type Java type.
+     * @return JAXB context associated with the Java type.
+     * @throws JAXBException in case the JAXB context creation fails.
+     */
+    static JAXBContext get(final Class<?> type) throws JAXBException {
+        final Entry entry = CONTEXTS.get(type);
+        Cached cached = entry.get();
+        if (cached == null) {
+            synchronized (entry) {
+                cached = entry.get();
+                if (cached == null) {
+                    cached = new Cached(JAXBContext.newInstance(type));
+                    entry.reference = new SoftReference<>(cached);
+                }
+            }
+        }
+        return cached.context;
+    }
+
+    /**
+     * Get the marshaller pool of the given JAXB context cached for the Java type, the pool is created if it does not exist.
+     *
+     * @param type    Java type.
+     * @param context JAXB context to be used for the Java type.
+     * @param size    maximal number of pooled marshallers, used when the pool is created.
+     * @return the marshaller pool or {@code null} if the context is not the JAXB context cached for the Java type.
+     */
+    static JaxbInstancePool<Marshaller> marshallers(final Class<?> type, final JAXBContext context, final int size) {
+        final Cached cached = CONTEXTS.get(type).get();
+        if (cached == null || cached.context != context) {
+            return null;
+        }
+        JaxbInstancePool<Marshaller> pool = cached.marshallers;
+        if (pool == null) {
+            synchronized (cached) {
+                pool = cached.marshallers;
+                if (pool == null) {
+                    pool = JaxbInstancePool.marshallers(context, size);
+                    cached.marshallers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Get the unmarshaller pool of the given JAXB context cached for the Java type, the pool is created if it does not
+     * exist.
+     *
+     * @param type    Java type.
+     * @param context JAXB context to be used for the Java type.
+     * @param size    maximal number of pooled unmarshallers, used when the pool is created.
+     * @return the unmarshaller pool or {@code null} if the context is not the JAXB context cached for the Java type.
+     */
+    static JaxbInstancePool<Unmarshaller> unmarshallers(final Class<?> type, final JAXBContext context, final int size) {
+        final Cached cached = CONTEXTS.get(type).get();
+        if (cached == null || cached.context != context) {
+            return null;
+        }
+        JaxbInstancePool<Unmarshaller> pool = cached.unmarshallers;
+        if (pool == null) {
+            synchronized (cached) {
+                pool = cached.unmarshallers;
+                if (pool == null) {
+                    pool = JaxbInstancePool.unmarshallers(context, size);
+                    cached.unmarshallers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Get the existing marshaller pool of the JAXB context cached for the Java type.
+     *
+     * @param type Java type.
+     * @return the marshaller pool or {@code null} if there is no such pool.
+     */
+    static JaxbInstancePool<Marshaller> marshallers(final Class<?> type) {
+        final Cached cached = CONTEXTS.get(type).get();
+        return cached == null ? null : cached.marshallers;
+    }
+
+    /**
+     * Get the existing unmarshaller pool of the JAXB context cached for the Java type.
+     *
+     * @param type Java type.
+     * @return the unmarshaller pool or {@code null} if there is no such pool.
+     */
+    static JaxbInstancePool<Unmarshaller> unmarshallers(final Class<?> type) {
+        final Cached cached = CONTEXTS.get(type).get();
+        return cached == null ? null : cached.unmarshallers;
+    }
+
+    private static final class Entry {
+
+        private volatile SoftReference<Cached> reference;
+
+        private Cached get() {
+            final SoftReference<Cached> ref = reference;
+            return ref == null ? null : ref.get();
+        }
+    }
+
+    /**
+     * Cached JAXB context together with its marshaller and unmarshaller pools.
+     */
+    private static final class Cached {
+
+        private final JAXBContext context;
+        private volatile JaxbInstancePool<Marshaller> marshallers;
+        private volatile JaxbInstancePool<Unmarshaller> unmarshallers;
+
+        private Cached(final JAXBContext context) {
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.PropertyException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEventHandler;
+import javax.xml.bind.attachment.AttachmentMarshaller;
+import javax.xml.bind.attachment.AttachmentUnmarshaller;
+import javax.xml.validation.Schema;
+
+/**
+ * Pool of JAXB {@link Marshaller marshallers} or {@link Unmarshaller unmarshallers} created by a single JAXB context.
+ * <p>
+ * The pool creates at most {@code size} pooled instances (members), an instance acquired when all the members are in use
+ * is not pooled. The state of a member, i.e. the values of the marshaller properties modified by the JAXB providers,
+ * the schema, the validation event handler, the listener and the attachment (un)marshaller, is captured when the member
+ * is created and the member is reset to the captured state when it is released back to the pool. A member that cannot
+ * be reset is dropped from the pool.
+ * </p>
+ *
+ * @param <T> {@code Marshaller} or {@code Unmarshaller}.
+ */
+abstract class JaxbInstancePool<T> {
+
+    /**
+     * Marshaller properties set by the JAXB providers.
+     */
+    private static final String[] MARSHALLER_PROPERTIES = {
+            Marshaller.JAXB_ENCODING,
+            Marshaller.JAXB_FORMATTED_OUTPUT,
+            Marshaller.JAXB_FRAGMENT,
+            "com.sun.xml.bind.xmlHeaders",
+            "com.sun.xml.internal.bind.xmlHeaders"
+    };
+
+    private final JAXBContext context;
+    private final AtomicReferenceArray<Member<T>> members;
+    private final Queue<Member<T>> idle = new ConcurrentLinkedQueue<>();
+
+    private JaxbInstancePool(final JAXBContext context, final int size) {
+        this.context = context;
+        this.members = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Create a pool of marshallers.
+     *
+     * @param context JAXB context creating the marshallers.
+     * @param size    maximal number of pooled marshallers.
+     * @return new marshaller pool.
+     */
+    static JaxbInstancePool<Marshaller> marshallers(final JAXBContext context, final int size) {
+        return new JaxbInstancePool<Marshaller>(context, size) {
+            @Override
+            Marshaller create(final JAXBContext context) throws JAXBException {
+                return context.createMarshaller();
+            }
+
+            @Override
+            State<Marshaller> snapshot(final Marshaller instance) throws JAXBException {
+                final Map<String, Object> properties = new HashMap<>();
+                for (final String name : MARSHALLER_PROPERTIES) {
+                    try {
+                        properties.put(name, instance.getProperty(name));
+                    } catch (PropertyException e) {
+                        // property not supported by the JAXB implementation
+                    }
+                }
+                final Schema schema = instance.getSchema();
+                final ValidationEventHandler handler = instance.getEventHandler();
+                final Marshaller.Listener listener = instance.getListener();
+                final AttachmentMarshaller attachmentMarshaller = instance.getAttachmentMarshaller();
+
+                return m -> {
+                    for (final Map.Entry<String, Object> property : properties.entrySet()) {
+                        final Object value = property.getValue();
+                        if (!Objects.equals(value, m.getProperty(property.getKey()))) {
+                            if (value == null) {
+                                // the property cannot be unset
+                                throw new PropertyException(property.getKey());
+                            }
+                            m.setProperty(property.getKey(), value);
+                        }
+                    }
+                    m.setSchema(schema);
+                    m.setEventHandler(handler);
+                    m.setListener(listener);
+                    m.setAttachmentMarshaller(attachmentMarshaller);
+                };
+            }
+        };
+    }
+
+    /**
+     * Create a pool of unmarshallers.
+     *
+     * @param context JAXB context creating the unmarshallers.
+     * @param size    maximal number of pooled unmarshallers.
+     * @return new unmarshaller pool.
+     */
+    static JaxbInstancePool<Unmarshaller> unmarshallers(final JAXBContext context, final int size) {
+        return new JaxbInstancePool<Unmarshaller>(context, size) {
+            @Override
+            Unmarshaller create(final JAXBContext context) throws JAXBException {
+                return context.createUnmarshaller();
+            }
+
+            @Override
+            State<Unmarshaller> snapshot(final Unmarshaller instance) throws JAXBException {
+                final Schema schema = instance.getSchema();
+                final ValidationEventHandler handler = instance.getEventHandler();
+                final Unmarshaller.Listener listener = instance.getListener();
+                final AttachmentUnmarshaller attachmentUnmarshaller = instance.getAttachmentUnmarshaller();
+
+                return u -> {
+                    u.setSchema(schema);
+                    u.setEventHandler(handler);
+                    u.setListener(listener);
+                    u.setAttachmentUnmarshaller(attachmentUnmarshaller);
+                };
+            }
+        };
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param context JAXB context of the pool.
+     * @return new instance.
+     * @throws JAXBException when the instance creation fails.
+     */
+    abstract T create(JAXBContext context) throws JAXBException;
+
+    /**
+     * Capture the state of a newly created instance.
+     *
+     * @param instance new instance.
+     * @return captured state.
+     * @throws JAXBException when the state cannot be captured.
+     */
+    abstract State<T> snapshot(T instance) throws JAXBException;
+
+    /**
+     * Get the JAXB context of the pooled instances.
+     *
+     * @return JAXB context.
+     */
+    JAXBContext getContext() {
+        return context;
+    }
+
+    /**
+     * Acquire an instance from the pool. The instance must be {@link #release(Object) released} after use.
+     *
+     * @return idle pooled instance or a new instance.
+     * @throws JAXBException when the instance creation fails.
+     */
+    T acquire() throws JAXBException {
+        final Member<T> member = idle.poll();
+        if (member != null) {
+            return member.instance;
+        }
+
+        final T instance = create(context);
+        Member<T> newMember = null;
+        for (int i = 0; i < members.length(); i++) {
+            if (members.get(i) == null) {
+                if (newMember == null) {
+                    newMember = new Member<>(instance, snapshot(instance));
+                }
+                if (members.compareAndSet(i, null, newMember)) {
+                    break;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Release an instance back to the pool. Instances not created by the pool are ignored.
+     *
+     * @param instance instance to be released.
+     */
+    void release(final T instance) {
+        for (int i = 0; i < members.length(); i++) {
+            final Member<T> member = members.get(i);
+            if (member != null && member.instance == instance) {
+                try {
+                    member.state.restore(instance);
+                    idle.offer(member);
+                } catch (JAXBException e) {
+                    members.compareAndSet(i, member, null);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Captured state of a pooled instance.
+     *
+     * @param <T> {@code Marshaller} or {@code Unmarshaller}.
+     */
+    @FunctionalInterface
+    interface State<T> {
+
+        /**
+         * Reset the instance to the captured state.
+         *
+         * @param instance released instance.
+         * @throws JAXBException when the instance cannot be reset.
+         */
+        void restore(T instance) throws JAXBException;
+    }
+
+    private static final class Member<T> {
+
+        private final T instance;
+        private final State<T> state;
+
+        private Member(final T instance, final State<T> state) {
+            this.instance = instance;
+            this.state = state;
+        }
+    }
+}
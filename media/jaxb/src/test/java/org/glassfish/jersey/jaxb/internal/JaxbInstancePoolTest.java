@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jaxb.internal;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JaxbInstancePoolTest {
+
+    @XmlRootElement
+    public static class Bean {
+        public String value;
+    }
+
+    @Test
+    public void testContextIsCached() throws Exception {
+        assertSame(JaxbContextCache.get(Bean.class), JaxbContextCache.get(Bean.class));
+    }
+
+    @Test
+    public void testMarshallerIsReusedAndReset() throws Exception {
+        final JaxbInstancePool<Marshaller> pool =
+                JaxbInstancePool.marshallers(JaxbContextCache.get(Bean.class), 2);
+
+        final Marshaller m = pool.acquire();
+        m.setProperty(Marshaller.JAXB_ENCODING, "ISO-8859-1");
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        pool.release(m);
+
+        final Marshaller reused = pool.acquire();
+        assertSame(m, reused);
+        assertEquals("UTF-8", reused.getProperty(Marshaller.JAXB_ENCODING));
+        assertEquals(false, reused.getProperty(Marshaller.JAXB_FRAGMENT));
+    }
+
+    @Test
+    public void testFormattedOutputIsReset() throws Exception {
+        final JaxbInstancePool<Marshaller> pool =
+                JaxbInstancePool.marshallers(JaxbContextCache.get(Bean.class), 1);
+
+        final Marshaller m = pool.acquire();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        pool.release(m);
+
+        assertEquals(false, pool.acquire().getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+    }
+
+    @Test
+    public void testPoolsAreHeldByCachedContext() throws Exception {
+        final JAXBContext context = JaxbContextCache.get(Bean.class);
+        final JaxbInstancePool<Marshaller> pool = JaxbContextCache.marshallers(Bean.class, context, 2);
+
+        assertSame(pool, JaxbContextCache.marshallers(Bean.class, context, 4));
+        assertSame(pool, JaxbContextCache.marshallers(Bean.class));
+        assertSame(context, pool.getContext());
+    }
+
+    @Test
+    public void testForeignContextIsNotPooled() throws Exception {
+        final JAXBContext foreign = JAXBContext.newInstance(Bean.class);
+
+        assertNull(JaxbContextCache.unmarshallers(Bean.class, foreign, 2));
+    }
+
+    @Test
+    public void testPoolIsBounded() throws Exception {
+        final JaxbInstancePool<Unmarshaller> pool = JaxbInstancePool.unmarshallers(JaxbContextCache.get(Bean.class), 1);
+
+        final Unmarshaller pooled = pool.acquire();
+        final Unmarshaller notPooled = pool.acquire();
+        assertNotSame(pooled, notPooled);
+
+        pool.release(notPooled);
+        pool.release(pooled);
+        assertSame(pooled, pool.acquire());
+        assertNotSame(notPooled, pool.acquire());
+    }
+
+    @Test
+    public void testForeignInstanceIsIgnored() throws Exception {
+        final JAXBContext context = JaxbContextCache.get(Bean.class);
+        final JaxbInstancePool<Marshaller> pool = JaxbInstancePool.marshallers(context, 2);
+
+        final Marshaller foreign = context.createMarshaller();
+        pool.release(foreign);
+        assertNotSame(foreign, pool.acquire());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,13 +18,21 @@ package org.glassfish.jersey.media.multipart;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.media.multipart.internal.LocalizationMessages;
 
+import org.jvnet.mimepull.MIMEParsingException;
 import org.jvnet.mimepull.MIMEPart;
 
 /**
@@ -35,6 +43,9 @@ import org.jvnet.mimepull.MIMEPart;
  * However, it also transparently deals with storing the data in a temporary disk
  * file, if it is larger than a configurable size; otherwise, the data is stored
  * in memory for faster processing.
+ * <p/>
+ * A {@link #BodyPartEntity(MIMEPart, boolean) read-once} entity is not stored at all, its data can be read only once,
+ * directly from the stream of the multipart message, or {@link #moveTo(File) moved} to a file.
  *
  * @author Craig McClanahan
  * @author Paul Sandoz
@@ -44,8 +55,12 @@ public class BodyPartEntity implements Closeable {
 
     private static final Logger LOGGER = Logger.getLogger(BodyPartEntity.class.getName());
 
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
     private final MIMEPart mimePart;
+    private final boolean readOnce;
     private volatile File file;
+    private InputStream readOnceStream;
 
     /**
      * Constructs a new {@code BodyPartEntity} with a {@link MIMEPart}.
@@ -53,16 +68,72 @@ public class BodyPartEntity implements Closeable {
      * @param mimePart MIMEPart containing the input stream of this body part entity.
      */
     public BodyPartEntity(final MIMEPart mimePart) {
+        this(mimePart, false);
+    }
+
+    /**
+     * Constructs a new {@code BodyPartEntity} with a {@link MIMEPart}.
+     *
+     * @param mimePart MIMEPart containing the input stream of this body part entity.
+     * @param readOnce when {@code true}, the data of the body part are not stored and can be read only once, the entity
+     *                 {@link #getInputStream() input stream} reads the data directly from the stream of the multipart
+     *                 message.
+     * @since 2.47
+     */
+    public BodyPartEntity(final MIMEPart mimePart, final boolean readOnce) {
         this.mimePart = mimePart;
+        this.readOnce = readOnce;
     }
 
     /**
      * Gets the input stream of the raw bytes of this body part entity.
+     * <p/>
+     * The same stream is returned for every invocation on a read-once entity that has not been {@link #moveTo(File) moved}
+     * to a file.
      *
      * @return the input stream of the body part entity.
      */
     public InputStream getInputStream() {
-        return mimePart.read();
+        if (!readOnce) {
+            return mimePart.read();
+        }
+
+        final File movedTo = file;
+        if (movedTo != null) {
+            try {
+                return new FileInputStream(movedTo);
+            } catch (final IOException e) {
+                throw new MIMEParsingException(e);
+            }
+        }
+
+        synchronized (this) {
+            if (readOnceStream == null) {
+                readOnceStream = mimePart.readOnce();
+            }
+            return readOnceStream;
+        }
+    }
+
+    /**
+     * Skip the unread data of a read-once entity, so that the multipart parser can proceed with the next body part.
+     */
+    void skip() {
+        if (!readOnce || file != null) {
+            return;
+        }
+
+        try (InputStream stream = getInputStream()) {
+            final byte[] buffer = new byte[8192];
+            //noinspection StatementWithEmptyBody
+            while (stream.read(buffer) != -1) {
+                // discard
+            }
+        } catch (final IOException e) {
+            throw new MIMEParsingException(e);
+        } finally {
+            mimePart.close();
+        }
     }
 
     /**
@@ -94,10 +165,43 @@ public class BodyPartEntity implements Closeable {
      * @param file destination file.
      */
     public void moveTo(final File file) {
-        mimePart.moveTo(file);
+        if (!readOnce) {
+            mimePart.moveTo(file);
+        } else if (this.file != null) {
+            try {
+                Files.move(this.file.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                throw new MIMEParsingException(e);
+            }
+        } else {
+            transferTo(file);
+            mimePart.close();
+        }
 
         // Remember the file where the mime-part object should be stored. Mimepull would not be able to delete it after
         // it's moved.
         this.file = file;
     }
+
+    private void transferTo(final File file) {
+        try (InputStream stream = getInputStream();
+             ReadableByteChannel source = Channels.newChannel(stream);
+             FileChannel target = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        } catch (final IOException e) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            throw new MIMEParsingException(e);
+        } catch (final RuntimeException e) {
+            // e.g. the MIME parsing failures or the exceptions of the entity input stream are propagated as they are
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            throw e;
+        }
+    }
 }
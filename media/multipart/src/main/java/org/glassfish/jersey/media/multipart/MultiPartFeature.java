@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import org.glassfish.jersey.media.multipart.internal.FormDataParamInjectionFeatu
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderClientSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartReaderServerSide;
 import org.glassfish.jersey.media.multipart.internal.MultiPartWriter;
+import org.glassfish.jersey.media.multipart.internal.StreamingMultiPartReader;
 
 /**
  * Feature used to register Multipart providers.
@@ -39,6 +40,7 @@ public class MultiPartFeature implements Feature {
         if (RuntimeType.SERVER.equals(runtime)) {
             context.register(FormDataParamInjectionFeature.class);
             context.register(MultiPartReaderServerSide.class);
+            context.register(StreamingMultiPartReader.class);
         } else {
             context.register(MultiPartReaderClientSide.class);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,25 @@ public class MultiPartProperties {
      */
     public static final String MULTI_PART_CONFIG_RESOURCE = "jersey-multipart-config.properties";
 
+    /**
+     * <p>
+     *     Write the entities of the body parts with a file name in their {@code Content-Disposition} header directly
+     *     to temporary files as the body parts are being received. The entities are copied from the request entity stream
+     *     to the files using a {@link java.nio.channels.FileChannel} and neither kept in memory nor buffered to disk by the
+     *     multipart parser first. A {@code @FormDataParam} annotated {@link java.io.File} parameter then gets the file
+     *     moved, so that arbitrarily large files are uploaded in constant memory and written to disk only once.
+     * </p>
+     * <p>
+     *     The temporary files are created in the directory given by the {@code java.io.tmpdir} system property, the same
+     *     directory the files injected into the {@code @FormDataParam} annotated {@code File} parameters are moved to.
+     * </p>
+     * <p>
+     *     The default value is {@code false}.
+     * </p>
+     * @since 2.47
+     */
+    public static final String FILE_STREAMING = "jersey.config.multipart.fileStreaming";
+
     /**
      * Name of the resource property for the threshold size (in bytes) above which a body part entity will be
      * buffered to disk instead of being held in memory.
@@ -102,6 +121,11 @@ public class MultiPartProperties {
      */
     private int maxParts = Integer.MAX_VALUE;
 
+    /**
+     * Whether the file body parts are written directly to temporary files.
+     */
+    private boolean fileStreaming = false;
+
     /**
      * Load and customize (if necessary) the configuration values for the
      * {@code jersey-multipart} injection binder.
@@ -145,6 +169,17 @@ public class MultiPartProperties {
         return maxParts;
     }
 
+    /**
+     * Return whether the entities of the file body parts are written directly to temporary files.
+     *
+     * @return {@code true} if the file body parts are streamed to temporary files.
+     * @see #FILE_STREAMING
+     * @since 2.47
+     */
+    public boolean isFileStreaming() {
+        return fileStreaming;
+    }
+
     /**
      * Set the size (in bytes) of the entity of an incoming {@link BodyPart} before it will be buffered to disk.
      *
@@ -181,6 +216,19 @@ public class MultiPartProperties {
         return this;
     }
 
+    /**
+     * Set whether the entities of the file body parts are written directly to temporary files.
+     *
+     * @param fileStreaming {@code true} to stream the file body parts to temporary files.
+     * @return {@code MultiPartProperties} instance.
+     * @see #FILE_STREAMING
+     * @since 2.47
+     */
+    public MultiPartProperties fileStreaming(boolean fileStreaming) {
+        this.fileStreaming = fileStreaming;
+        return this;
+    }
+
     /**
      * Configure the values returned by this instance's getters based on
      * the contents of a properties resource, if it exists on the classpath
@@ -215,6 +263,9 @@ public class MultiPartProperties {
             if (props.contains(MAX_PARTS)) {
                 this.maxParts = Integer.parseInt(props.getProperty(MAX_PARTS));
             }
+            if (props.containsKey(FILE_STREAMING)) {
+                this.fileStreaming = Boolean.parseBoolean(props.getProperty(FILE_STREAMING));
+            }
         } catch (final IOException e) {
             throw new IllegalArgumentException(e);
         } finally {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Multipart entity whose body parts are parsed and delivered one by one, as they arrive.
+ * <p/>
+ * Unlike {@link MultiPart}, the streaming multipart entity is not read as a whole before the resource method is invoked.
+ * The body parts are obtained in order using the iterator methods, the entity of a body part is a read-once
+ * {@link BodyPartEntity} that reads the data directly from the request entity stream, without buffering them in memory
+ * or on disk. Requesting the next body part skips the unread data of the current one, so a body part must be processed
+ * before the next body part is requested.
+ * <pre>
+ * &#64;POST
+ * &#64;Consumes(MediaType.MULTIPART_FORM_DATA)
+ * public void upload(StreamingMultiPart parts) throws IOException {
+ *     while (parts.hasNext()) {
+ *         FormDataBodyPart part = (FormDataBodyPart) parts.next();
+ *         try (InputStream data = part.getEntityAs(BodyPartEntity.class).getInputStream()) {
+ *             ...
+ *         }
+ *     }
+ * }
+ * </pre>
+ * The body parts of a {@code multipart/form-data} entity are {@link FormDataBodyPart}s.
+ *
+ * @since 2.47
+ */
+public final class StreamingMultiPart implements Iterator<BodyPart>, Closeable {
+
+    private final MediaType mediaType;
+    private final Iterator<BodyPart> bodyParts;
+    private final Closeable message;
+
+    private BodyPart current;
+    private boolean closed;
+
+    /**
+     * Create a new streaming multipart entity.
+     *
+     * @param mediaType media type of the multipart entity.
+     * @param bodyParts lazily parsed body parts with read-once entities.
+     * @param message   multipart message to be closed with this entity.
+     */
+    public StreamingMultiPart(final MediaType mediaType, final Iterator<BodyPart> bodyParts, final Closeable message) {
+        this.mediaType = mediaType;
+        this.bodyParts = bodyParts;
+        this.message = message;
+    }
+
+    /**
+     * Get the media type of the multipart entity.
+     *
+     * @return multipart media type.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Check whether there is another body part. The unread data of the current body part are skipped.
+     *
+     * @return {@code true} if there is another body part.
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        skipCurrent();
+        return bodyParts.hasNext();
+    }
+
+    /**
+     * Get the next body part. The unread data of the current body part are skipped.
+     *
+     * @return next body part.
+     * @throws NoSuchElementException if there is no other body part.
+     */
+    @Override
+    public BodyPart next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        current = bodyParts.next();
+        return current;
+    }
+
+    private void skipCurrent() {
+        if (current != null) {
+            final Object entity = current.getEntity();
+            if (entity instanceof BodyPartEntity) {
+                ((BodyPartEntity) entity).skip();
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * Close the entity, the remaining body parts are not parsed.
+     *
+     * @throws IOException if the multipart message cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            if (current != null) {
+                current.cleanup();
+                current = null;
+            }
+            message.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.Response;
+
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * Iterator of the parts of a {@link MIMEMessage} that parses the message lazily, the next part is parsed only when
+ * requested. Unlike {@link MIMEMessage#getAttachments()}, the data of the parts are not parsed (and stored) upfront.
+ * The data of a part not read when the next part is requested are stored by the parser as usual.
+ *
+ * @since 2.47
+ */
+public final class MimePartIterator implements Iterator<MIMEPart> {
+
+    private final MIMEMessage message;
+    private final int maxParts;
+
+    private int index = 0;
+    private MIMEPart next;
+    private boolean finished;
+
+    /**
+     * Create a new iterator.
+     *
+     * @param message  mime message to iterate the parts of.
+     * @param maxParts maximum number of parts, the iterator throws {@link ClientErrorException} with the
+     *                 {@link Response.Status#REQUEST_ENTITY_TOO_LARGE} status when the message has more parts.
+     */
+    public MimePartIterator(final MIMEMessage message, final int maxParts) {
+        this.message = message;
+        this.maxParts = maxParts;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = parseNext();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public MIMEPart next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final MIMEPart part = next;
+        next = null;
+        return part;
+    }
+
+    private MIMEPart parseNext() {
+        final MIMEPart part;
+        try {
+            part = message.getPart(index);
+        } catch (final MIMEParsingException noMorePart) {
+            // the message has been completely parsed already
+            return null;
+        }
+
+        try {
+            // parses the message up to the headers of the part
+            part.getAllHeaders();
+        } catch (final IllegalStateException noMorePart) {
+            // the end of the message reached before the headers
+            return null;
+        }
+
+        if (++index > maxParts) {
+            throw new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+        }
+        return part;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.text.ParseException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -48,12 +50,14 @@ import javax.inject.Singleton;
 
 import org.glassfish.jersey.media.multipart.BodyPart;
 import org.glassfish.jersey.media.multipart.BodyPartEntity;
+import org.glassfish.jersey.media.multipart.ContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.multipart.MultiPart;
 import org.glassfish.jersey.media.multipart.MultiPartProperties;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.internal.MediaTypes;
+import org.glassfish.jersey.message.internal.Utils;
 
 import org.jvnet.mimepull.Header;
 import org.jvnet.mimepull.MIMEConfig;
@@ -82,6 +86,7 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
     private Provider<MessageBodyWorkers> messageBodyWorkers;
     private final MIMEConfig mimeConfig;
     private final int maxParts;
+    private final boolean fileStreaming;
 
     /**
      * Accepts constructor injection of the configuration parameters for this
@@ -102,12 +107,13 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         }
 
         maxParts = properties.getMaxParts();
+        fileStreaming = properties.isFileStreaming();
 
         this.messageBodyWorkers = messageBodyWorkers;
         mimeConfig = createMimeConfig(properties);
     }
 
-    private MIMEConfig createMimeConfig(final MultiPartProperties properties) {
+    static MIMEConfig createMimeConfig(final MultiPartProperties properties) {
         final MIMEConfig mimeConfig = new MIMEConfig();
 
         // Set values defined by user.
@@ -210,41 +216,93 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
             fileNameFix = userAgent != null && userAgent.contains(" MSIE ");
         }
 
-        final List<MIMEPart> mimeParts = getMimeParts(mimeMessage);
-        if (mimeParts.size() > maxParts) {
-            throw new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
-        }
+        try {
+            final Iterator<MIMEPart> mimeParts;
+            if (fileStreaming) {
+                mimeParts = new MimePartIterator(mimeMessage, maxParts);
+            } else {
+                final List<MIMEPart> attachments = getMimeParts(mimeMessage);
+                if (attachments.size() > maxParts) {
+                    throw new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+                }
+                mimeParts = attachments.iterator();
+            }
 
-        for (final MIMEPart mimePart : mimeParts) {
-            final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
+            while (mimeParts.hasNext()) {
+                final MIMEPart mimePart = mimeParts.next();
+                final boolean streamToFile = fileStreaming && hasFileName(mimePart);
+                final BodyPart bodyPart = createBodyPart(mimePart, formData, fileNameFix, workers, streamToFile);
 
-            // Configure providers.
-            bodyPart.setMessageBodyWorkers(workers);
+                // Add this BodyPart to our MultiPart.
+                multiPart.getBodyParts().add(bodyPart);
 
-            // Copy headers.
-            for (final Header header : mimePart.getAllHeaders()) {
-                bodyPart.getHeaders().add(header.getName(), header.getValue());
+                if (streamToFile) {
+                    // Write the data to a temporary file as they arrive.
+                    bodyPart.getEntityAs(BodyPartEntity.class).moveTo(Utils.createTempFile());
+                }
             }
+        } catch (final IOException | RuntimeException e) {
+            // Delete the temporary files of the parts read so far.
+            multiPart.cleanup();
+            mimeMessage.close();
+            throw e;
+        }
 
-            try {
-                final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
-                if (contentType != null) {
-                    bodyPart.setMediaType(MediaType.valueOf(contentType));
-                }
+        return multiPart;
+    }
 
-                bodyPart.getContentDisposition();
-            } catch (final IllegalArgumentException ex) {
-                throw new BadRequestException(ex);
-            }
+    /**
+     * Create a body part of the given mime part.
+     *
+     * @param mimePart    mime part.
+     * @param formData    {@code true} to create a form data body part.
+     * @param fileNameFix {@code true} to fix the file name sent by MS Internet Explorer.
+     * @param workers     message body workers.
+     * @param readOnce    {@code true} if the data of the part can be read only once, directly from the message stream.
+     * @return body part with the headers of the mime part.
+     */
+    static BodyPart createBodyPart(final MIMEPart mimePart,
+                                   final boolean formData,
+                                   final boolean fileNameFix,
+                                   final MessageBodyWorkers workers,
+                                   final boolean readOnce) {
+        final BodyPart bodyPart = formData ? new FormDataBodyPart(fileNameFix) : new BodyPart();
+
+        // Configure providers.
+        bodyPart.setMessageBodyWorkers(workers);
+
+        // Copy headers.
+        for (final Header header : mimePart.getAllHeaders()) {
+            bodyPart.getHeaders().add(header.getName(), header.getValue());
+        }
 
-            // Copy data into a BodyPartEntity structure.
-            bodyPart.setEntity(new BodyPartEntity(mimePart));
+        try {
+            final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
+            if (contentType != null) {
+                bodyPart.setMediaType(MediaType.valueOf(contentType));
+            }
 
-            // Add this BodyPart to our MultiPart.
-            multiPart.getBodyParts().add(bodyPart);
+            bodyPart.getContentDisposition();
+        } catch (final IllegalArgumentException ex) {
+            throw new BadRequestException(ex);
         }
 
-        return multiPart;
+        // Copy data into a BodyPartEntity structure.
+        bodyPart.setEntity(new BodyPartEntity(mimePart, readOnce));
+
+        return bodyPart;
+    }
+
+    private static boolean hasFileName(final MIMEPart mimePart) {
+        final List<String> contentDisposition = mimePart.getHeader("Content-Disposition");
+        if (contentDisposition == null || contentDisposition.isEmpty()) {
+            return false;
+        }
+        try {
+            return new ContentDisposition(contentDisposition.get(0)).getFileName() != null;
+        } catch (final ParseException e) {
+            throw new BadRequestException(e);
+        }
     }
 
     /**
@@ -267,7 +325,7 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         }
     }
 
-    private static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
+    static MediaType unquoteMediaTypeParameters(final MediaType mediaType, final String... parameters) {
         if (parameters == null || parameters.length == 0) {
             return mediaType;
         }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ConstrainedTo;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Providers;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MediaTypes;
+import org.glassfish.jersey.server.CloseableService;
+
+import org.jvnet.mimepull.MIMEConfig;
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * {@link MessageBodyReader} implementation for {@link StreamingMultiPart} entities. The body parts are parsed lazily while
+ * the resource method iterates them.
+ *
+ * @since 2.47
+ */
+@Consumes("multipart/*")
+@Singleton
+@ConstrainedTo(RuntimeType.SERVER)
+public class StreamingMultiPartReader implements MessageBodyReader<StreamingMultiPart> {
+
+    private final Provider<MessageBodyWorkers> messageBodyWorkers;
+    private final Provider<CloseableService> closeableServiceProvider;
+    private final MIMEConfig mimeConfig;
+    private final int maxParts;
+
+    /**
+     * Accepts constructor injection of the configuration parameters for this application.
+     */
+    @Inject
+    public StreamingMultiPartReader(@Context final Providers providers,
+                                    @Context final Provider<CloseableService> closeableServiceProvider,
+                                    @Context final Provider<MessageBodyWorkers> messageBodyWorkers) {
+        final ContextResolver<MultiPartProperties> contextResolver =
+                providers.getContextResolver(MultiPartProperties.class, MediaType.WILDCARD_TYPE);
+
+        MultiPartProperties properties = null;
+        if (contextResolver != null) {
+            properties = contextResolver.getContext(this.getClass());
+        }
+        if (properties == null) {
+            properties = new MultiPartProperties();
+        }
+
+        this.maxParts = properties.getMaxParts();
+        this.mimeConfig = MultiPartReaderClientSide.createMimeConfig(properties);
+        this.messageBodyWorkers = messageBodyWorkers;
+        this.closeableServiceProvider = closeableServiceProvider;
+    }
+
+    @Override
+    public boolean isReadable(final Class<?> type,
+                              final Type genericType,
+                              final Annotation[] annotations,
+                              final MediaType mediaType) {
+        return StreamingMultiPart.class == type;
+    }
+
+    @Override
+    public StreamingMultiPart readFrom(final Class<StreamingMultiPart> type,
+                                      final Type genericType,
+                                      final Annotation[] annotations,
+                                      MediaType mediaType,
+                                      final MultivaluedMap<String, String> headers,
+                                      final InputStream stream) throws IOException, WebApplicationException {
+        mediaType = MultiPartReaderClientSide.unquoteMediaTypeParameters(mediaType, "boundary");
+
+        final MIMEMessage mimeMessage = new MIMEMessage(stream, mediaType.getParameters().get("boundary"), mimeConfig);
+        final MimePartIterator mimeParts = new MimePartIterator(mimeMessage, maxParts);
+
+        final boolean formData = MediaTypes.typeEqual(mediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
+        final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
+        // see MultiPartReaderClientSide, JERSEY-759
+        final boolean fileNameFix = formData && userAgent != null && userAgent.contains(" MSIE ");
+        final MessageBodyWorkers workers = messageBodyWorkers.get();
+
+        final StreamingMultiPart multiPart = new StreamingMultiPart(mediaType, new Iterator<BodyPart>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return mimeParts.hasNext();
+                } catch (final MIMEParsingException mpe) {
+                    throw new BadRequestException(mpe);
+                }
+            }
+
+            @Override
+            public BodyPart next() {
+                final MIMEPart mimePart = mimeParts.next();
+                return MultiPartReaderClientSide.createBodyPart(mimePart, formData, fileNameFix, workers, true);
+            }
+        }, mimeMessage);
+
+        closeableServiceProvider.get().add(multiPart);
+        return multiPart;
+    }
+}
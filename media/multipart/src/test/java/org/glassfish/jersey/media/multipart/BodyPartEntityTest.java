@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.Response;
+
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test case for {@link BodyPartEntity}.
+ */
+public class BodyPartEntityTest {
+
+    private static final String BOUNDARY = "boundary";
+
+    @Test
+    public void testMoveToPropagatesRuntimeException() throws IOException {
+        final ClientErrorException failure = new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+        final File file = File.createTempFile("BodyPartEntityTest", ".tmp");
+
+        final BodyPartEntity entity = readOnceEntity(failure);
+        assertSame(failure, assertThrows(ClientErrorException.class, () -> entity.moveTo(file)));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void testMoveToWrapsIOException() throws IOException {
+        final IOException failure = new IOException("broken");
+        final File file = File.createTempFile("BodyPartEntityTest", ".tmp");
+
+        final BodyPartEntity entity = readOnceEntity(failure);
+        assertThrows(MIMEParsingException.class, () -> entity.moveTo(file));
+        assertFalse(file.exists());
+    }
+
+    /**
+     * Create a read-once entity of the first part of a multipart message whose stream fails with the given exception
+     * in the middle of the part data.
+     */
+    private static BodyPartEntity readOnceEntity(final Exception failure) {
+        final String start = "--" + BOUNDARY + "\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n"
+                + "data";
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                }
+                throw (RuntimeException) failure;
+            }
+        };
+        final MIMEMessage message = new MIMEMessage(
+                new SequenceInputStream(new ByteArrayInputStream(start.getBytes(StandardCharsets.US_ASCII)), failing),
+                BOUNDARY);
+        return new BodyPartEntity(message.getPart(0), true);
+    }
+}
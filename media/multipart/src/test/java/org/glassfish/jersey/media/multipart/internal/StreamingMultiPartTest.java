@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.BodyPartEntity;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.FormDataParam;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.media.multipart.StreamingMultiPart;
+import org.glassfish.jersey.media.multipart.file.StreamDataBodyPart;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the {@link StreamingMultiPart} entity and of the {@link MultiPartProperties#FILE_STREAMING file streaming}.
+ */
+public class StreamingMultiPartTest extends JerseyTest {
+
+    private static final long LARGE_SIZE = 32 * 1024 * 1024;
+    private static final int MAX_PARTS = 4;
+
+    @Path("/")
+    public static class StreamingResource {
+
+        @POST
+        @Path("streaming")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        public String streaming(StreamingMultiPart parts) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            while (parts.hasNext()) {
+                final FormDataBodyPart part = (FormDataBodyPart) parts.next();
+                result.append(part.getName()).append('=');
+                if (part.getContentDisposition().getFileName() != null) {
+                    result.append(count(part.getEntityAs(BodyPartEntity.class).getInputStream()));
+                } else {
+                    result.append(part.getValue());
+                }
+                result.append(';');
+            }
+            return result.toString();
+        }
+
+        @POST
+        @Path("skip")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        public String skip(StreamingMultiPart parts) {
+            String last = null;
+            while (parts.hasNext()) {
+                final BodyPart part = parts.next();
+                last = ((FormDataBodyPart) part).getName();
+            }
+            return last;
+        }
+
+        @POST
+        @Path("file")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        public String file(@FormDataParam("before") String before,
+                           @FormDataParam("file") File file,
+                           @FormDataParam("after") String after) {
+            return before + ":" + file.length() + ":" + after;
+        }
+
+        private static long count(InputStream stream) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long count = 0;
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                count += read;
+            }
+            return count;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(StreamingResource.class)
+                .register(MultiPartFeature.class)
+                .register(new MultiPartProperties().fileStreaming(true).maxParts(MAX_PARTS).resolver());
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.register(MultiPartFeature.class);
+    }
+
+    @Test
+    public void testStreamingParts() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        multiPart.field("first", "one");
+        multiPart.bodyPart(new StreamDataBodyPart("data", new GeneratedInputStream(LARGE_SIZE), "data.bin"));
+        multiPart.field("last", "two");
+
+        try (Response r = target("streaming").request().post(Entity.entity(multiPart, multiPart.getMediaType()))) {
+            assertEquals(200, r.getStatus());
+            assertEquals("first=one;data=" + LARGE_SIZE + ";last=two;", r.readEntity(String.class));
+        }
+    }
+
+    @Test
+    public void testSkipUnreadParts() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        multiPart.field("first", "one");
+        multiPart.bodyPart(new StreamDataBodyPart("data", new GeneratedInputStream(LARGE_SIZE), "data.bin"));
+        multiPart.field("last", "two");
+
+        try (Response r = target("skip").request().post(Entity.entity(multiPart, multiPart.getMediaType()))) {
+            assertEquals(200, r.getStatus());
+            assertEquals("last", r.readEntity(String.class));
+        }
+    }
+
+    @Test
+    public void testStreamingMaxParts() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        for (int i = 0; i <= MAX_PARTS; i++) {
+            multiPart.field("part" + i, "value");
+        }
+
+        try (Response r = target("skip").request().post(Entity.entity(multiPart, multiPart.getMediaType()))) {
+            assertEquals(Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(), r.getStatus());
+        }
+    }
+
+    @Test
+    public void testFileStreaming() {
+        final FormDataMultiPart multiPart = new FormDataMultiPart();
+        multiPart.field("before", "one");
+        multiPart.bodyPart(new StreamDataBodyPart("file", new GeneratedInputStream(LARGE_SIZE), "file.bin"));
+        multiPart.field("after", "two");
+
+        try (Response r = target("file").request().post(Entity.entity(multiPart, multiPart.getMediaType()))) {
+            assertEquals(200, r.getStatus());
+            assertEquals("one:" + LARGE_SIZE + ":two", r.readEntity(String.class));
+        }
+    }
+
+    /**
+     * Stream of the given number of bytes that does not keep the bytes in memory.
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        private long remaining;
+
+        GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'x';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = (int) Math.min(len, remaining);
+            for (int i = off; i < off + read; i++) {
+                b[i] = 'x';
+            }
+            remaining -= read;
+            return read;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,6 +32,7 @@ import javax.ws.rs.sse.OutboundSseEvent;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.glassfish.jersey.media.sse.internal.SerializedOutboundEvent;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 import org.glassfish.jersey.message.MessageUtils;
 
@@ -86,6 +87,14 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                         final OutputStream entityStream) throws IOException, WebApplicationException {
 
         final Charset charset = MessageUtils.getCharset(mediaType);
+        if (outboundEvent instanceof SerializedOutboundEvent) {
+            final SerializedOutboundEvent serializedEvent = (SerializedOutboundEvent) outboundEvent;
+            if (serializedEvent.getCharset().equals(charset)) {
+                serializedEvent.writeTo(entityStream);
+                return;
+            }
+        }
+
         if (outboundEvent.getComment() != null) {
             for (final String comment : outboundEvent.getComment().split("\n")) {
                 entityStream.write(COMMENT_LEAD);
@@ -137,6 +146,30 @@ class OutboundEventWriter implements MessageBodyWriter<OutboundSseEvent> {
                                 entityStream.write(DATA_LEAD);
                             }
                         }
+
+                        @Override
+                        public void write(final byte[] b, final int off, final int len) throws IOException {
+                            if (len == 0) {
+                                return;
+                            }
+                            if (start) {
+                                entityStream.write(DATA_LEAD);
+                                start = false;
+                            }
+                            // write the data between line breaks in bulk
+                            final int end = off + len;
+                            int from = off;
+                            for (int i = off; i < end; i++) {
+                                if (b[i] == '\n') {
+                                    entityStream.write(b, from, i + 1 - from);
+                                    entityStream.write(DATA_LEAD);
+                                    from = i + 1;
+                                }
+                            }
+                            if (from < end) {
+                                entityStream.write(b, from, end - from);
+                            }
+                        }
                     });
             entityStream.write(EOL);
         }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse;
+
+import javax.ws.rs.sse.SseEventSink;
+
+/**
+ * {@link javax.ws.rs.sse.SseBroadcaster Broadcaster} able to replay the recently broadcast events to a reconnecting client.
+ * <p>
+ * The broadcasters created by the Jersey implementation of {@link javax.ws.rs.sse.Sse#newBroadcaster()} implement
+ * this interface. The events are replayed only when the {@link SseFeature#BROADCAST_REPLAY_BUFFER_SIZE replay buffer}
+ * is enabled, the events are replayed from their cached serialized form.
+ * </p>
+ * <pre>
+ * &#64;GET
+ * &#64;Produces(MediaType.SERVER_SENT_EVENTS)
+ * public void subscribe(&#64;Context SseEventSink eventSink,
+ *                       &#64;HeaderParam(SseFeature.LAST_EVENT_ID_HEADER) String lastEventId) {
+ *     ((ReplayingSseBroadcaster) broadcaster).register(eventSink, lastEventId);
+ * }
+ * </pre>
+ *
+ * @since 2.47
+ */
+public interface ReplayingSseBroadcaster extends javax.ws.rs.sse.SseBroadcaster {
+
+    /**
+     * Register the event sink and send it the buffered events broadcast after the event with the given id.
+     * <p>
+     * When the {@code lastEventId} is {@code null}, the event sink is registered without replaying any event, the same way
+     * as by {@link #register(SseEventSink)}. When the event with the given id is no longer buffered, all the buffered
+     * events are replayed. The replayed events are sent to the event sink before any event broadcast after
+     * the registration, no event is sent twice.
+     * </p>
+     *
+     * @param sseEventSink event sink to be registered.
+     * @param lastEventId  value of the {@value SseFeature#LAST_EVENT_ID_HEADER} header sent by the client, may be
+     *                     {@code null}.
+     */
+    void register(SseEventSink sseEventSink, String lastEventId);
+}
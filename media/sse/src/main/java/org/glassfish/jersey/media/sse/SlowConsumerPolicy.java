@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse;
+
+/**
+ * Policy applied by a broadcaster when the queue of events waiting to be sent to an
+ * {@link javax.ws.rs.sse.SseEventSink event sink} is full, i.e. when the sink consumes the events slower than
+ * they are broadcast.
+ *
+ * @see SseFeature#BROADCAST_SLOW_CONSUMER_POLICY
+ * @since 2.47
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * Drop the oldest queued event to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drop the new event, the queued events are kept.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Close the slow event sink and notify the {@link javax.ws.rs.sse.SseBroadcaster#onError(java.util.function.BiConsumer)
+     * error listeners} of the broadcaster.
+     */
+    CLOSE
+}
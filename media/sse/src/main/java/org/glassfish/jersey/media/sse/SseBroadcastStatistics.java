@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a {@link MonitoredSseBroadcaster broadcaster}.
+ * <p>
+ * The values are collected since the broadcaster has been created, the statistics instance is live, i.e. the getters
+ * always return the current values.
+ * </p>
+ *
+ * @since 2.47
+ */
+public interface SseBroadcastStatistics {
+
+    /**
+     * Get the number of event sinks currently registered with the broadcaster.
+     *
+     * @return number of registered event sinks.
+     */
+    int getRegisteredSinks();
+
+    /**
+     * Get the number of broadcast events.
+     *
+     * @return number of broadcast events.
+     */
+    long getBroadcastCount();
+
+    /**
+     * Get the number of events sent to the event sinks.
+     *
+     * @return number of events sent to the event sinks.
+     */
+    long getDeliveredCount();
+
+    /**
+     * Get the number of buffered events replayed to the reconnecting clients.
+     *
+     * @return number of replayed events.
+     * @see ReplayingSseBroadcaster
+     */
+    long getReplayedCount();
+
+    /**
+     * Get the number of events that have not been sent to an event sink, either because the queue of the event sink
+     * was full or because the event sink has been closed before the event could be sent.
+     *
+     * @return number of dropped events.
+     */
+    long getDroppedCount();
+
+    /**
+     * Get the number of event sinks closed by the broadcaster because they were not able to keep up with the broadcast
+     * events.
+     *
+     * @return number of evicted event sinks.
+     * @see SlowConsumerPolicy#CLOSE
+     */
+    long getEvictedCount();
+
+    /**
+     * Get the average time between broadcasting an event and handing the event over to all the registered event sinks.
+     *
+     * @param unit time unit of the returned value.
+     * @return average broadcast latency.
+     */
+    long getAverageLatency(TimeUnit unit);
+
+    /**
+     * Get the maximal time between broadcasting an event and handing the event over to all the registered event sinks.
+     *
+     * @param unit time unit of the returned value.
+     * @return maximal broadcast latency.
+     */
+    long getMaxLatency(TimeUnit unit);
+}
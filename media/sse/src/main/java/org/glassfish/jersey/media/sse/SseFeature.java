@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -91,6 +91,92 @@ public class SseFeature implements Feature {
     @Property
     public static final String DISABLE_SSE_SERVER = "jersey.config.server.media.sse.disable";
 
+    /**
+     * The {@link java.util.concurrent.Executor} used by the broadcasters created by {@link javax.ws.rs.sse.Sse#newBroadcaster()}
+     * to send the broadcast events to the registered event sinks. The events are sent to different event sinks
+     * in parallel.
+     * <p>
+     * The default value is the {@link org.glassfish.jersey.server.ManagedAsyncExecutor managed asynchronous executor}
+     * of the application.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    @Property
+    public static final String BROADCAST_EXECUTOR = "jersey.config.server.media.sse.broadcast.executor";
+
+    /**
+     * The maximal number of broadcast events queued for a single event sink that is not able to keep up with the broadcast.
+     * When the queue is full, the {@link #BROADCAST_SLOW_CONSUMER_POLICY slow consumer policy} is applied.
+     * <p>
+     * The value MUST be a positive {@link Integer}. The default value is {@value #DEFAULT_BROADCAST_QUEUE_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    @Property
+    public static final String BROADCAST_QUEUE_SIZE = "jersey.config.server.media.sse.broadcast.queueSize";
+
+    /**
+     * The default value of {@link #BROADCAST_QUEUE_SIZE}.
+     *
+     * @since 2.47
+     */
+    public static final int DEFAULT_BROADCAST_QUEUE_SIZE = 256;
+
+    /**
+     * The {@link SlowConsumerPolicy policy} applied by a broadcaster when the queue of an event sink is full.
+     * <p>
+     * The value is either a {@link SlowConsumerPolicy} or its name. The default value is {@link SlowConsumerPolicy#CLOSE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 2.47
+     */
+    @Property
+    public static final String BROADCAST_SLOW_CONSUMER_POLICY = "jersey.config.server.media.sse.broadcast.slowConsumerPolicy";
+
+    /**
+     * The maximal number of recently broadcast events kept by a broadcaster to be replayed to the reconnecting clients.
+     * The events are kept in their serialized form.
+     * <p>
+     * The value MUST be a non-negative {@link Integer}. The default value is {@code 0}, the events are not kept
+     * and the replay is disabled.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see ReplayingSseBroadcaster
+     * @since 2.47
+     */
+    @Property
+    public static final String BROADCAST_REPLAY_BUFFER_SIZE = "jersey.config.server.media.sse.broadcast.replay.size";
+
+    /**
+     * The maximal time in milliseconds a broadcast event is kept by a broadcaster to be replayed to the reconnecting clients.
+     * <p>
+     * The value MUST be a non-negative {@link Long}. The default value is {@code 0}, the events are evicted only when
+     * the {@link #BROADCAST_REPLAY_BUFFER_SIZE replay buffer} is full.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see ReplayingSseBroadcaster
+     * @since 2.47
+     */
+    @Property
+    public static final String BROADCAST_REPLAY_MAX_AGE = "jersey.config.server.media.sse.broadcast.replay.maxAge";
+
     /**
      * A "reconnection not set" value for the SSE reconnect delay set via {@code retry} field.
      *
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+
+/**
+ * Bounded ring buffer of the recently broadcast events used to replay the events missed by a reconnecting client.
+ * <p>
+ * Every appended event gets a sequence number. The buffer keeps at most {@code capacity} most recent events, the events
+ * older than the maximal age are evicted as well. The events are looked up by their {@link OutboundSseEvent#getId() id},
+ * the value of the {@code Last-Event-ID} header sent by the reconnecting client.
+ * </p>
+ * <p>
+ * The buffer is thread-safe, the methods synchronize on the buffer instance.
+ * </p>
+ */
+final class EventReplayBuffer {
+
+    private final Entry[] entries;
+    private final long maxAgeNanos;
+    private final Map<String, Long> sequences = new HashMap<>();
+
+    /**
+     * Sequence number of the oldest event in the buffer.
+     */
+    private long first;
+    /**
+     * Sequence number of the next appended event.
+     */
+    private long next;
+
+    /**
+     * Create a new replay buffer.
+     *
+     * @param capacity maximal number of buffered events.
+     * @param maxAge   maximal age of buffered events, non-positive value means the age is not limited.
+     * @param unit     time unit of the maximal age.
+     */
+    EventReplayBuffer(final int capacity, final long maxAge, final TimeUnit unit) {
+        this.entries = new Entry[capacity];
+        this.maxAgeNanos = maxAge > 0 ? unit.toNanos(maxAge) : 0;
+    }
+
+    /**
+     * Append the event to the buffer, possibly evicting the oldest event.
+     *
+     * @param event event to be buffered.
+     * @return sequence number of the event.
+     */
+    synchronized long append(final OutboundSseEvent event) {
+        final long now = System.nanoTime();
+        evictExpired(now);
+        if (next - first == entries.length) {
+            evict();
+        }
+
+        final long sequence = next++;
+        entries[index(sequence)] = new Entry(event, now);
+        if (event.getId() != null) {
+            sequences.put(event.getId(), sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Collect the buffered events following the event with the given id.
+     * <p>
+     * When the event with the given id is no longer buffered, all the buffered events are collected, the client
+     * has missed more events than the buffer is able to replay.
+     * </p>
+     *
+     * @param lastEventId id of the last event received by the client.
+     * @param events      list the events to be replayed are added to.
+     * @return sequence number of the next appended event, the events with a lower sequence number are not expected
+     * to be sent to the client by the broadcaster.
+     */
+    synchronized long replay(final String lastEventId, final List<OutboundSseEvent> events) {
+        evictExpired(System.nanoTime());
+
+        final Long last = sequences.get(lastEventId);
+        for (long sequence = last == null ? first : last + 1; sequence < next; sequence++) {
+            events.add(entries[index(sequence)].event);
+        }
+        return next;
+    }
+
+    /**
+     * Get the number of buffered events.
+     *
+     * @return number of buffered events.
+     */
+    synchronized int size() {
+        return (int) (next - first);
+    }
+
+    private void evictExpired(final long now) {
+        if (maxAgeNanos > 0) {
+            while (first < next && now - entries[index(first)].timestamp > maxAgeNanos) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        final int index = index(first);
+        final String id = entries[index].event.getId();
+        if (id != null) {
+            // the id may have been reused by a later event
+            sequences.remove(id, first);
+        }
+        entries[index] = null;
+        first++;
+    }
+
+    private int index(final long sequence) {
+        return (int) (sequence % entries.length);
+    }
+
+    private static final class Entry {
+
+        private final OutboundSseEvent event;
+        private final long timestamp;
+
+        private Entry(final OutboundSseEvent event, final long timestamp) {
+            this.event = event;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,15 +16,29 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
-
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
 
+import javax.inject.Provider;
+
+import org.glassfish.jersey.media.sse.LocalizationMessages;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ServerProperties;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -33,9 +47,17 @@ import org.glassfish.jersey.media.sse.OutboundEvent;
  */
 class JerseySse implements Sse {
 
+    private static final Logger LOGGER = Logger.getLogger(JerseySse.class.getName());
+
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
+    @Context
+    private Provider<MessageBodyWorkers> workersProvider;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -43,6 +65,36 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        final Map<String, Object> properties = configuration == null
+                ? Collections.emptyMap() : configuration.getProperties();
+
+        final Object executor = properties.get(SseFeature.BROADCAST_EXECUTOR);
+        final int queueSize = ServerProperties.getValue(properties,
+                SseFeature.BROADCAST_QUEUE_SIZE, SseFeature.DEFAULT_BROADCAST_QUEUE_SIZE, Integer.class);
+        final int replaySize = ServerProperties.getValue(properties, SseFeature.BROADCAST_REPLAY_BUFFER_SIZE, 0, Integer.class);
+        final long replayMaxAge = ServerProperties.getValue(properties, SseFeature.BROADCAST_REPLAY_MAX_AGE, 0L, Long.class);
+
+        return new JerseySseBroadcaster(
+                executor instanceof Executor ? (Executor) executor
+                        : executorService == null ? ForkJoinPool.commonPool() : executorService,
+                queueSize > 0 ? queueSize : SseFeature.DEFAULT_BROADCAST_QUEUE_SIZE,
+                slowConsumerPolicy(properties.get(SseFeature.BROADCAST_SLOW_CONSUMER_POLICY)),
+                workersProvider,
+                replaySize > 0 ? new EventReplayBuffer(replaySize, replayMaxAge, TimeUnit.MILLISECONDS) : null);
+    }
+
+    private static SlowConsumerPolicy slowConsumerPolicy(final Object value) {
+        if (value == null) {
+            return SlowConsumerPolicy.CLOSE;
+        }
+        if (value instanceof SlowConsumerPolicy) {
+            return (SlowConsumerPolicy) value;
+        }
+        try {
+            return SlowConsumerPolicy.valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            LOGGER.warning(LocalizationMessages.BROADCAST_SLOW_CONSUMER_POLICY_UNKNOWN(value, SlowConsumerPolicy.CLOSE));
+            return SlowConsumerPolicy.CLOSE;
+        }
     }
 }
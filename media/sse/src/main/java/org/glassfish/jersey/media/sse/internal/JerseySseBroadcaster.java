@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,30 +16,63 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseBroadcaster;
 import javax.ws.rs.sse.SseEventSink;
 
-import org.glassfish.jersey.internal.jsr166.Flow;
-import org.glassfish.jersey.internal.util.JerseyPublisher;
+import javax.inject.Provider;
+
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.media.sse.MonitoredSseBroadcaster;
+import org.glassfish.jersey.media.sse.ReplayingSseBroadcaster;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseBroadcastStatistics;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
  * Used for broadcasting SSE to multiple {@link javax.ws.rs.sse.SseEventSink} instances.
  * <p>
  * JAX-RS 2.1 {@link SseBroadcaster} implementation.
+ * </p>
+ * <p>
+ * A broadcast event is serialized once into a {@link SerializedOutboundEvent} shared by all the event sinks. Every event
+ * sink has its own bounded queue of events and the queued events are sent to the sink in batches by a task running on the
+ * broadcaster executor, so that the event sinks are served in parallel and a slow event sink does not hold up the others.
+ * When the queue of an event sink is full, the {@link SlowConsumerPolicy slow consumer policy} is applied.
+ * </p>
+ * <p>
+ * When an {@link EventReplayBuffer event replay buffer} is set, the serialized events are kept in the buffer and replayed
+ * to the event sinks {@link #register(SseEventSink, String) registered} with the id of the last event received by the client.
+ * </p>
  *
  * @author Adam Lindenthal
  */
-class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements SseBroadcaster {
+class JerseySseBroadcaster implements MonitoredSseBroadcaster, ReplayingSseBroadcaster {
+
+    private static final Logger LOGGER = Logger.getLogger(JerseySseBroadcaster.class.getName());
 
     /**
      * Callbacks notified when {@code SseBroadcaster} is being closed.
@@ -51,14 +84,58 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * Subscriptions of the registered event sinks.
+     */
+    private final Set<SinkSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final Executor executor;
+    private final int queueSize;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final Provider<MessageBodyWorkers> workersProvider;
+    private final EventReplayBuffer replayBuffer;
+    private final Statistics statistics = new Statistics();
+
+    private volatile boolean closed;
+
     /**
      * Package-private constructor.
      * <p>
      * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
      */
     JerseySseBroadcaster() {
-        onExceptionListeners = new CopyOnWriteArrayList<>();
-        onCloseListeners = new CopyOnWriteArrayList<>();
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executor {@code Executor} the executor to use for async delivery,
+     *                 supporting creation of at least one independent thread
+     */
+    JerseySseBroadcaster(final Executor executor) {
+        this(executor, SseFeature.DEFAULT_BROADCAST_QUEUE_SIZE, SlowConsumerPolicy.CLOSE, null);
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executor           {@code Executor} the executor to use for async delivery,
+     *                           supporting creation of at least one independent thread
+     * @param queueSize          maximal number of events queued for a single event sink.
+     * @param slowConsumerPolicy policy applied when the queue of an event sink is full.
+     * @param workersProvider    provider of the message body workers used to serialize the broadcast events,
+     *                           when {@code null} the events are serialized by each event sink.
+     */
+    JerseySseBroadcaster(final Executor executor,
+                         final int queueSize,
+                         final SlowConsumerPolicy slowConsumerPolicy,
+                         final Provider<MessageBodyWorkers> workersProvider) {
+        this(executor, queueSize, slowConsumerPolicy, workersProvider, null);
     }
 
     /**
@@ -66,18 +143,67 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      * <p>
      * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
      *
-     * @param executorService {@code ExecutorService} the executor to use for async delivery,
-     *                        supporting creation of at least one independent thread
+     * @param executor           {@code Executor} the executor to use for async delivery,
+     *                           supporting creation of at least one independent thread
+     * @param queueSize          maximal number of events queued for a single event sink.
+     * @param slowConsumerPolicy policy applied when the queue of an event sink is full.
+     * @param workersProvider    provider of the message body workers used to serialize the broadcast events,
+     *                           when {@code null} the events are serialized by each event sink.
+     * @param replayBuffer       buffer of the events replayed to the reconnecting clients, {@code null} when the replay
+     *                           is disabled.
      */
-    JerseySseBroadcaster(final ExecutorService executorService) {
-        super(executorService);
+    JerseySseBroadcaster(final Executor executor,
+                         final int queueSize,
+                         final SlowConsumerPolicy slowConsumerPolicy,
+                         final Provider<MessageBodyWorkers> workersProvider,
+                         final EventReplayBuffer replayBuffer) {
+        if (executor == null) {
+            throw new NullPointerException(LocalizationMessages.PARAM_NULL("executor"));
+        }
+        this.executor = executor;
+        this.queueSize = queueSize;
+        this.slowConsumerPolicy = slowConsumerPolicy == null ? SlowConsumerPolicy.CLOSE : slowConsumerPolicy;
+        this.workersProvider = workersProvider;
+        this.replayBuffer = replayBuffer;
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
     }
 
     @Override
     public void register(SseEventSink sseEventSink) {
-        super.subscribe(new SseEventSinkWrapper(sseEventSink));
+        if (sseEventSink == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("sseEventSink"));
+        }
+
+        final SinkSubscription subscription = new SinkSubscription(sseEventSink, 0, null);
+        subscriptions.add(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+    }
+
+    @Override
+    public void register(final SseEventSink sseEventSink, final String lastEventId) {
+        if (lastEventId == null || replayBuffer == null) {
+            register(sseEventSink);
+            return;
+        }
+        if (sseEventSink == null) {
+            throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("sseEventSink"));
+        }
+
+        final List<OutboundSseEvent> replay = new ArrayList<>();
+        final SinkSubscription subscription;
+        // the broadcasts are sequenced under the same lock, the subscription gets either replayed or broadcast events
+        synchronized (replayBuffer) {
+            subscription = new SinkSubscription(sseEventSink, replayBuffer.replay(lastEventId, replay), replay);
+            subscriptions.add(subscription);
+        }
+        if (closed) {
+            subscription.complete();
+        } else if (!replay.isEmpty()) {
+            subscription.schedule();
+        }
     }
 
     @Override
@@ -98,60 +224,329 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
         onCloseListeners.add(onClose);
     }
 
+    /**
+     * Broadcast the event to all the registered event sinks.
+     * <p>
+     * The returned completion stage is completed when the event has been handed over to every event sink registered
+     * at the time of the broadcast, or dropped.
+     * </p>
+     *
+     * @param event event to be broadcast.
+     * @return completion stage completed when the broadcast is finished.
+     * @throws IllegalStateException when the broadcaster has been closed.
+     */
     @Override
     public CompletionStage<?> broadcast(final OutboundSseEvent event) {
         if (event == null) {
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
+        if (closed) {
+            throw new IllegalStateException(LocalizationMessages.BROADCASTER_CLOSED());
+        }
 
-        return CompletableFuture.completedFuture(publish(event));
+        statistics.broadcasts.increment();
+        final Broadcast broadcast;
+        if (replayBuffer == null) {
+            broadcast = new Broadcast(subscriptions.isEmpty() ? event : serialize(event), 0);
+        } else {
+            final OutboundSseEvent serialized = serialize(event);
+            synchronized (replayBuffer) {
+                broadcast = new Broadcast(serialized, replayBuffer.append(serialized));
+            }
+        }
+        for (final SinkSubscription subscription : subscriptions) {
+            broadcast.pending.incrementAndGet();
+            subscription.offer(broadcast);
+        }
+        broadcast.done();
+        return broadcast.completion;
     }
 
-    private void notifyOnCompleteHandlers(Flow.Subscriber<? super OutboundSseEvent> subscriber) {
-        if (subscriber instanceof SseEventSinkWrapper) {
-            onCloseListeners.forEach((listener) -> listener.accept(((SseEventSinkWrapper) subscriber).sseEventSink));
+    @Override
+    public void close() {
+        closed = true;
+        subscriptions.forEach(SinkSubscription::complete);
+    }
+
+    @Override
+    public SseBroadcastStatistics getStatistics() {
+        return statistics;
+    }
+
+    private OutboundSseEvent serialize(final OutboundSseEvent event) {
+        if (workersProvider == null) {
+            return event;
+        }
+        try {
+            return SerializedOutboundEvent.serialize(event, workersProvider.get());
+        } catch (final Exception e) {
+            // let the event sinks serialize the event and report the failure
+            LOGGER.log(Level.FINE, LocalizationMessages.BROADCAST_SERIALIZATION_FAILED(), e);
+            return event;
         }
     }
 
-    private void notifyOnErrorCallbacks(final Flow.Subscriber<? super OutboundSseEvent> subscriber, final Throwable throwable) {
-        if (subscriber instanceof SseEventSinkWrapper) {
-            onExceptionListeners.forEach(
-                    (listener) -> listener.accept(((SseEventSinkWrapper) subscriber).sseEventSink, throwable));
+    private void notifyOnCompleteHandlers(final SseEventSink sseEventSink) {
+        onCloseListeners.forEach((listener) -> listener.accept(sseEventSink));
+    }
+
+    private void notifyOnErrorCallbacks(final SseEventSink sseEventSink, final Throwable throwable) {
+        onExceptionListeners.forEach((listener) -> listener.accept(sseEventSink, throwable));
+    }
+
+    /**
+     * Single broadcast event shared by the queues of all the event sinks.
+     */
+    private final class Broadcast {
+
+        private final OutboundSseEvent event;
+        private final long sequence;
+        private final long started = System.nanoTime();
+        // the broadcasting thread holds one pending count until the event is offered to all the event sinks
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private Broadcast(final OutboundSseEvent event, final long sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                statistics.completed(System.nanoTime() - started);
+                completion.complete(null);
+            }
         }
     }
 
-    private class SseEventSinkWrapper implements Flow.Subscriber<OutboundSseEvent> {
+    /**
+     * Bounded queue of the events waiting to be sent to a single event sink.
+     * <p>
+     * At most one drain task per event sink is scheduled at a time, the task sends all the queued events and is the only one
+     * closing the event sink, either when the broadcaster is closed or when the subscription fails.
+     * </p>
+     */
+    private final class SinkSubscription implements Runnable {
 
         private final SseEventSink sseEventSink;
+        // broadcasts sequenced before the registration are replayed, not queued
+        private final long firstSequence;
+        private List<OutboundSseEvent> replay;
+        private final ArrayBlockingQueue<Broadcast> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean completing;
+        private volatile boolean finished;
 
-        SseEventSinkWrapper(SseEventSink sseEventSink) {
+        private SinkSubscription(final SseEventSink sseEventSink,
+                                 final long firstSequence,
+                                 final List<OutboundSseEvent> replay) {
             this.sseEventSink = sseEventSink;
+            this.firstSequence = firstSequence;
+            this.replay = replay;
+        }
+
+        private void offer(final Broadcast broadcast) {
+            if (broadcast.sequence < firstSequence) {
+                broadcast.done();
+                return;
+            }
+            if (!queue.offer(broadcast)) {
+                switch (slowConsumerPolicy) {
+                    case DROP_NEWEST:
+                        drop(broadcast);
+                        return;
+                    case DROP_OLDEST:
+                        do {
+                            final Broadcast oldest = queue.poll();
+                            if (oldest != null) {
+                                drop(oldest);
+                            }
+                        } while (!queue.offer(broadcast));
+                        break;
+                    default:
+                        drop(broadcast);
+                        if (fail(new IllegalStateException(LocalizationMessages.BROADCAST_SLOW_CONSUMER(sseEventSink)))) {
+                            statistics.evicted.increment();
+                        }
+                        return;
+                }
+            }
+
+            if (finished) {
+                // the subscription finished concurrently, nobody else is going to take the event
+                discard();
+            } else {
+                schedule();
+            }
+        }
+
+        private void complete() {
+            completing = true;
+            schedule();
+        }
+
+        private boolean fail(final Throwable throwable) {
+            if (failure.compareAndSet(null, throwable)) {
+                schedule();
+                return true;
+            }
+            return false;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (final RuntimeException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
         }
 
         @Override
-        public void onSubscribe(final Flow.Subscription subscription) {
-            // TODO JAX-RS 2.1
-            subscription.request(Long.MAX_VALUE);
+        public void run() {
+            if (replay != null) {
+                final List<OutboundSseEvent> events = replay;
+                replay = null;
+                for (final OutboundSseEvent event : events) {
+                    if (failure.get() != null || !send(event)) {
+                        break;
+                    }
+                    statistics.replayed.increment();
+                }
+            }
+
+            do {
+                Broadcast broadcast;
+                while (failure.get() == null && (broadcast = queue.poll()) != null) {
+                    send(broadcast);
+                }
+
+                final Throwable throwable = failure.get();
+                if (throwable != null || (completing && queue.isEmpty())) {
+                    finish(throwable);
+                    return;
+                }
+                scheduled.set(false);
+            } while ((!queue.isEmpty() || completing || failure.get() != null) && scheduled.compareAndSet(false, true));
+        }
+
+        private void send(final Broadcast broadcast) {
+            try {
+                if (send(broadcast.event)) {
+                    statistics.delivered.increment();
+                } else {
+                    statistics.dropped.increment();
+                }
+            } finally {
+                broadcast.done();
+            }
+        }
+
+        private boolean send(final OutboundSseEvent event) {
+            try {
+                final CompletionStage<?> sent = sseEventSink.send(event);
+                if (sent != null) {
+                    sent.whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            fail(throwable);
+                        }
+                    });
+                }
+                return true;
+            } catch (final Throwable throwable) {
+                fail(throwable);
+                return false;
+            }
+        }
+
+        private void finish(final Throwable throwable) {
+            finished = true;
+            subscriptions.remove(this);
+            discard();
+
+            try {
+                sseEventSink.close();
+            } finally {
+                if (throwable == null) {
+                    notifyOnCompleteHandlers(sseEventSink);
+                } else {
+                    notifyOnErrorCallbacks(sseEventSink, throwable);
+                }
+            }
+        }
+
+        private void discard() {
+            Broadcast broadcast;
+            while ((broadcast = queue.poll()) != null) {
+                drop(broadcast);
+            }
+        }
+
+        private void drop(final Broadcast broadcast) {
+            statistics.dropped.increment();
+            broadcast.done();
+        }
+    }
+
+    private final class Statistics implements SseBroadcastStatistics {
+
+        private final LongAdder broadcasts = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder replayed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder evicted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0L);
+
+        private void completed(final long latency) {
+            completed.increment();
+            totalLatency.add(latency);
+            maxLatency.accumulate(latency);
+        }
+
+        @Override
+        public int getRegisteredSinks() {
+            return subscriptions.size();
         }
 
         @Override
-        public void onNext(final OutboundSseEvent item) {
-            sseEventSink.send(item);
+        public long getBroadcastCount() {
+            return broadcasts.sum();
         }
 
         @Override
-        public void onError(final Throwable throwable) {
-            // TODO JAX-RS 2.1
-            sseEventSink.close();
-            notifyOnErrorCallbacks(this, throwable);
+        public long getDeliveredCount() {
+            return delivered.sum();
         }
 
         @Override
-        public void onComplete() {
-            // TODO JAX-RS 2.1
-            sseEventSink.close();
-            notifyOnCompleteHandlers(this);
+        public long getReplayedCount() {
+            return replayed.sum();
+        }
 
+        @Override
+        public long getDroppedCount() {
+            return dropped.sum();
+        }
+
+        @Override
+        public long getEvictedCount() {
+            return evicted.sum();
+        }
+
+        @Override
+        public long getAverageLatency(final TimeUnit unit) {
+            final long count = completed.sum();
+            return count == 0 ? 0 : unit.convert(totalLatency.sum() / count, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long getMaxLatency(final TimeUnit unit) {
+            return unit.convert(maxLatency.get(), TimeUnit.NANOSECONDS);
         }
     }
 }
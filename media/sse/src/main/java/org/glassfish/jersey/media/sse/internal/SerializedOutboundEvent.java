@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.sse.OutboundSseEvent;
+
+import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.MessageUtils;
+
+/**
+ * Outbound event carrying its already serialized representation.
+ * <p>
+ * The event is serialized once by {@link #serialize(OutboundSseEvent, MessageBodyWorkers)} and the serialized bytes are
+ * then written as they are to any number of event sinks using the same charset. The serialized bytes are never modified
+ * after the event has been created, the event can be shared by multiple threads.
+ * </p>
+ *
+ * @since 2.47
+ */
+public final class SerializedOutboundEvent implements OutboundSseEvent {
+
+    private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
+
+    private final OutboundSseEvent event;
+    private final Charset charset;
+    private final byte[] bytes;
+
+    private SerializedOutboundEvent(final OutboundSseEvent event, final Charset charset, final byte[] bytes) {
+        this.event = event;
+        this.charset = charset;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Serialize the event using the {@link SseFeature#SERVER_SENT_EVENTS_TYPE default SSE media type}.
+     *
+     * @param event   event to be serialized.
+     * @param workers message body workers used to look up the {@code text/event-stream} writer.
+     * @return serialized event.
+     * @throws IOException when the serialization fails.
+     */
+    @SuppressWarnings("unchecked")
+    public static SerializedOutboundEvent serialize(final OutboundSseEvent event, final MessageBodyWorkers workers)
+            throws IOException {
+        if (event instanceof SerializedOutboundEvent) {
+            return (SerializedOutboundEvent) event;
+        }
+
+        final MediaType mediaType = SseFeature.SERVER_SENT_EVENTS_TYPE;
+        final MessageBodyWriter<OutboundSseEvent> writer = (MessageBodyWriter<OutboundSseEvent>) workers.getMessageBodyWriter(
+                OutboundSseEvent.class, OutboundSseEvent.class, EMPTY_ANNOTATIONS, mediaType);
+        if (writer == null) {
+            throw new IOException(LocalizationMessages.EVENT_WRITER_NOT_FOUND());
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(event, OutboundSseEvent.class, OutboundSseEvent.class, EMPTY_ANNOTATIONS, mediaType,
+                new MultivaluedHashMap<>(), out);
+        return new SerializedOutboundEvent(event, MessageUtils.getCharset(mediaType), out.toByteArray());
+    }
+
+    /**
+     * Get the charset the event has been serialized with.
+     *
+     * @return charset of the serialized event.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Get the length of the serialized event.
+     *
+     * @return number of bytes of the serialized event.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Write the serialized event to the output stream.
+     *
+     * @param out stream to write the event to.
+     * @throws IOException when the writing fails.
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return event.getReconnectDelay();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.isReconnectDelaySet();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public Class<?> getType() {
+        return event.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return event.getGenericType();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return event.getMediaType();
+    }
+
+    @Override
+    public Object getData() {
+        return event.getData();
+    }
+
+    @Override
+    public String toString() {
+        return event.toString();
+    }
+}
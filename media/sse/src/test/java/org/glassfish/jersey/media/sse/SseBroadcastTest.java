@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseBroadcaster;
+import javax.ws.rs.sse.SseEventSink;
+import javax.ws.rs.sse.SseEventSource;
+
+import javax.inject.Singleton;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a broadcast event is serialized once for all the registered event sinks.
+ */
+public class SseBroadcastTest extends JerseyTest {
+
+    private static final int CLIENTS = 3;
+    private static final AtomicInteger SERIALIZATIONS = new AtomicInteger();
+
+    private static volatile SseBroadcaster broadcaster;
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(BroadcastResource.class, MessageWriter.class);
+    }
+
+    public static class Message {
+        private final String text;
+
+        public Message(final String text) {
+            this.text = text;
+        }
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class MessageWriter implements MessageBodyWriter<Message> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                                   final MediaType mediaType) {
+            return type == Message.class;
+        }
+
+        @Override
+        public void writeTo(final Message message, final Class<?> type, final Type genericType,
+                            final Annotation[] annotations, final MediaType mediaType,
+                            final MultivaluedMap<String, Object> httpHeaders,
+                            final OutputStream entityStream) throws IOException {
+            SERIALIZATIONS.incrementAndGet();
+            entityStream.write(message.text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Singleton
+    @Path("broadcast")
+    public static class BroadcastResource {
+
+        private final Sse sse;
+
+        public BroadcastResource(@Context final Sse sse) {
+            this.sse = sse;
+            broadcaster = sse.newBroadcaster();
+        }
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public void subscribe(@Context final SseEventSink eventSink) {
+            broadcaster.register(eventSink);
+        }
+
+        @POST
+        public void broadcast(final String text) throws Exception {
+            broadcaster.broadcast(sse.newEventBuilder()
+                    .id("1")
+                    .data(Message.class, new Message(text))
+                    .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                    .build()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBroadcastSerializedOnce() throws Exception {
+        final CountDownLatch received = new CountDownLatch(CLIENTS);
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final List<SseEventSource> sources = new CopyOnWriteArrayList<>();
+        try {
+            for (int i = 0; i < CLIENTS; i++) {
+                final SseEventSource source = SseEventSource.target(target("broadcast")).build();
+                source.register(event -> {
+                    data.add(event.readData());
+                    received.countDown();
+                });
+                source.open();
+                sources.add(source);
+            }
+
+            final SseBroadcastStatistics statistics = ((MonitoredSseBroadcaster) broadcaster).getStatistics();
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (statistics.getRegisteredSinks() < CLIENTS && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(CLIENTS, statistics.getRegisteredSinks());
+
+            target("broadcast").request().post(Entity.text("first line\nsecond line"));
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            assertEquals(1, SERIALIZATIONS.get());
+            for (final String text : data) {
+                assertEquals("first line\nsecond line", text);
+            }
+            assertEquals(1, statistics.getBroadcastCount());
+            assertEquals(CLIENTS, statistics.getDeliveredCount());
+            assertEquals(0, statistics.getDroppedCount());
+        } finally {
+            sources.forEach(SseEventSource::close);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+
+import org.glassfish.jersey.media.sse.OutboundEvent;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link EventReplayBuffer} test.
+ */
+public class EventReplayBufferTest {
+
+    @Test
+    public void testReplayAfterLastEventId() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(10, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, buffer.append(event(i)));
+        }
+
+        final List<OutboundSseEvent> events = new ArrayList<>();
+        assertEquals(5, buffer.replay("2", events));
+        assertEquals(Arrays.asList("3", "4"), ids(events));
+
+        events.clear();
+        buffer.replay("4", events);
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    public void testCapacityEviction() {
+        final EventReplayBuffer buffer = new EventReplayBuffer(3, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 7; i++) {
+            buffer.append(event(i));
+        }
+        assertEquals(3, buffer.size());
+
+        final List<OutboundSseEvent> events = new ArrayList<>();
+        buffer.replay("4", events);
+        assertEquals(Arrays.asList("5", "6"), ids(events));
+
+        // the event is no longer buffered, all the buffered events are replayed
+        events.clear();
+        buffer.replay("1", events);
+        assertEquals(Arrays.asList("4", "5", "6"), ids(events));
+    }
+
+    @Test
+    public void testAgeEviction() throws InterruptedException {
+        final EventReplayBuffer buffer = new EventReplayBuffer(10, 50, TimeUnit.MILLISECONDS);
+        buffer.append(event(0));
+        buffer.append(event(1));
+        Thread.sleep(100);
+        buffer.append(event(2));
+
+        final List<OutboundSseEvent> events = new ArrayList<>();
+        buffer.replay("0", events);
+        assertEquals(Arrays.asList("2"), ids(events));
+        assertEquals(1, buffer.size());
+    }
+
+    private static OutboundSseEvent event(final int id) {
+        return new OutboundEvent.Builder().id(Integer.toString(id)).data("event " + id).build();
+    }
+
+    private static List<String> ids(final List<OutboundSseEvent> events) {
+        return events.stream().map(OutboundSseEvent::getId).collect(Collectors.toList());
+    }
+}
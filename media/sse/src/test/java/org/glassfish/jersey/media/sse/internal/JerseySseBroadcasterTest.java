@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,13 +16,25 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.SseEventSink;
 
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SlowConsumerPolicy;
+import org.glassfish.jersey.media.sse.SseBroadcastStatistics;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -125,4 +137,127 @@ public class JerseySseBroadcasterTest {
         }
     }
 
+    @Test
+    public void testSlowConsumerDropNewest() throws Exception {
+        final SlowSink sink = new SlowSink();
+        final SseBroadcastStatistics statistics = broadcastToSlowSink(sink, SlowConsumerPolicy.DROP_NEWEST);
+
+        Assertions.assertEquals(Arrays.asList("0", "1", "2"), sink.received);
+        Assertions.assertEquals(3, statistics.getDeliveredCount());
+        Assertions.assertEquals(2, statistics.getDroppedCount());
+        Assertions.assertEquals(0, statistics.getEvictedCount());
+        Assertions.assertFalse(sink.closed);
+    }
+
+    @Test
+    public void testSlowConsumerDropOldest() throws Exception {
+        final SlowSink sink = new SlowSink();
+        final SseBroadcastStatistics statistics = broadcastToSlowSink(sink, SlowConsumerPolicy.DROP_OLDEST);
+
+        Assertions.assertEquals(Arrays.asList("0", "3", "4"), sink.received);
+        Assertions.assertEquals(3, statistics.getDeliveredCount());
+        Assertions.assertEquals(2, statistics.getDroppedCount());
+        Assertions.assertEquals(0, statistics.getEvictedCount());
+        Assertions.assertFalse(sink.closed);
+    }
+
+    @Test
+    public void testSlowConsumerClose() throws Exception {
+        final SlowSink sink = new SlowSink();
+        final SseBroadcastStatistics statistics = broadcastToSlowSink(sink, SlowConsumerPolicy.CLOSE);
+
+        Assertions.assertEquals(Arrays.asList("0"), sink.received);
+        Assertions.assertEquals(1, statistics.getDeliveredCount());
+        Assertions.assertEquals(4, statistics.getDroppedCount());
+        Assertions.assertEquals(1, statistics.getEvictedCount());
+        Assertions.assertEquals(0, statistics.getRegisteredSinks());
+        Assertions.assertTrue(sink.closed);
+        Assertions.assertTrue(sink.error.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final EventReplayBuffer replayBuffer = new EventReplayBuffer(10, 0, TimeUnit.MILLISECONDS);
+        try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster(executor, 10, SlowConsumerPolicy.CLOSE, null,
+                replayBuffer)) {
+            for (int i = 0; i < 4; i++) {
+                broadcaster.broadcast(new OutboundEvent.Builder().id(Integer.toString(i)).data("" + i).build());
+            }
+
+            final SlowSink sink = new SlowSink();
+            sink.release.countDown();
+            broadcaster.register(sink, "1");
+            broadcaster.broadcast(new OutboundEvent.Builder().id("4").data("4").build())
+                    .toCompletableFuture().get(2000, TimeUnit.MILLISECONDS);
+
+            final long deadline = System.currentTimeMillis() + 2000;
+            while (sink.received.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(Arrays.asList("2", "3", "4"), sink.received);
+            Assertions.assertEquals(2, broadcaster.getStatistics().getReplayedCount());
+            Assertions.assertEquals(1, broadcaster.getStatistics().getDeliveredCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Broadcasts five events to a sink blocked on the first event, with a queue of two events.
+     */
+    private static SseBroadcastStatistics broadcastToSlowSink(final SlowSink sink, final SlowConsumerPolicy policy)
+            throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster(executor, 2, policy, null)) {
+            broadcaster.onError((s, throwable) -> sink.error.set(throwable));
+            broadcaster.register(sink);
+
+            final JerseySse sse = new JerseySse();
+            final List<CompletableFuture<?>> broadcasts = new ArrayList<>();
+            broadcasts.add(broadcaster.broadcast(sse.newEvent("0")).toCompletableFuture());
+            Assertions.assertTrue(sink.sending.await(2000, TimeUnit.MILLISECONDS));
+            for (int i = 1; i < 5; i++) {
+                broadcasts.add(broadcaster.broadcast(sse.newEvent(Integer.toString(i))).toCompletableFuture());
+            }
+            sink.release.countDown();
+
+            CompletableFuture.allOf(broadcasts.toArray(new CompletableFuture[0])).get(2000, TimeUnit.MILLISECONDS);
+            Assertions.assertEquals(5, broadcaster.getStatistics().getBroadcastCount());
+            return broadcaster.getStatistics();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class SlowSink implements SseEventSink {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean closed;
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(final OutboundSseEvent event) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add((String) event.getData());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,10 @@ package org.glassfish.jersey.tests.e2e.common.message.internal;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,6 +31,8 @@ import javax.ws.rs.core.Configuration;
 
 import org.glassfish.jersey.CommonProperties;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.io.spi.FileRegionOutput;
+import org.glassfish.jersey.message.StripedBufferPool;
 import org.glassfish.jersey.message.internal.CommittingOutputStream;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
 import org.glassfish.jersey.model.internal.CommonConfig;
@@ -35,6 +41,7 @@ import org.glassfish.jersey.model.internal.ComponentBag;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -303,6 +310,163 @@ public class CommittingOutputStreamTest {
     }
 
 
+    @Test
+    public void testPooledBuffer() throws IOException {
+        final StripedBufferPool pool = new StripedBufferPool(3, 4);
+
+        for (int i = 0; i < 3; i++) {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final CommittingOutputStream cos = new CommittingOutputStream();
+            setupBufferedStreamProvider(passed, baos, cos, 2);
+            cos.enableBuffering(3, pool);
+
+            cos.write(new byte[] {(byte) i, 2});
+            checkNotYetCommitted(passed, baos, cos);
+            cos.close();
+            check(baos, new byte[] {(byte) i, 2});
+        }
+
+        assertEquals(1, pool.getMissCount());
+        assertEquals(2, pool.getHitCount());
+    }
+
+    @Test
+    public void testPooledBufferOverflow() throws IOException {
+        final StripedBufferPool pool = new StripedBufferPool(3, 4);
+        final Passed passed = new Passed();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final CommittingOutputStream cos = new CommittingOutputStream();
+        setupBufferedStreamProvider(passed, baos, cos, -1);
+        cos.enableBuffering(3, pool);
+
+        cos.write(1);
+        cos.write(2);
+        checkNotYetCommitted(passed, baos, cos);
+        cos.write(new byte[] {3, 4});
+        checkCommitted(passed, cos);
+        cos.write(5);
+        cos.close();
+        check(baos, new byte[] {1, 2, 3, 4, 5});
+
+        // the buffer was returned to the pool right after the overflow
+        final byte[] buffer = pool.acquire(3);
+        assertEquals(1, pool.getHitCount());
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(1));
+    }
+
+    private static class FileRegionByteArrayOutputStream extends ByteArrayOutputStream implements FileRegionOutput {
+
+        private long regionPosition = -1;
+        private long regionCount = -1;
+
+        @Override
+        public boolean writeFileRegion(FileChannel channel, long position, long count) throws IOException {
+            regionPosition = position;
+            regionCount = count;
+            return true;
+        }
+    }
+
+    private static Path createFile(byte... bytes) throws IOException {
+        final Path file = Files.createTempFile("jersey-cos", ".bin");
+        Files.write(file, bytes);
+        return file;
+    }
+
+    @Test
+    public void testBufferedFileRegion() throws IOException {
+        final Path file = createFile(new byte[] {1, 2, 3, 4});
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final CommittingOutputStream cos = new CommittingOutputStream();
+            cos.setStreamProvider(contentLength -> {
+                assertEquals(3, contentLength);
+                passed.pass();
+                return baos;
+            });
+            cos.enableBuffering(4);
+
+            cos.write(0);
+            assertTrue(cos.writeFileRegion(channel, 1, 2));
+            checkNotYetCommitted(passed, baos, cos);
+            cos.close();
+            check(baos, new byte[] {0, 2, 3});
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileRegionPassedToAdaptedStream() throws IOException {
+        final Path file = createFile(new byte[] {1, 2, 3, 4});
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final Passed passed = new Passed();
+            final FileRegionByteArrayOutputStream out = new FileRegionByteArrayOutputStream();
+            final CommittingOutputStream cos = new CommittingOutputStream();
+            cos.setStreamProvider(contentLength -> {
+                assertEquals(-1, contentLength);
+                passed.pass();
+                return out;
+            });
+            cos.enableBuffering(2);
+
+            cos.write(0);
+            assertTrue(cos.writeFileRegion(channel, 0, 4));
+            checkCommitted(passed, cos);
+            cos.write(5);
+            cos.close();
+
+            check(out, new byte[] {0, 5});
+            assertEquals(0, out.regionPosition);
+            assertEquals(4, out.regionCount);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileRegionCopiedToAdaptedStream() throws IOException {
+        final byte[] content = new byte[3 * CommittingOutputStream.DEFAULT_BUFFER_SIZE + 1];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        final Path file = createFile(content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final Passed passed = new Passed();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final CommittingOutputStream cos = new CommittingOutputStream();
+            setupStreamProvider(passed, baos, cos);
+
+            assertTrue(cos.writeFileRegion(channel, 0, content.length));
+            checkCommitted(passed, cos);
+            cos.close();
+            check(baos, content);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testBufferPoolDoesNotPoolLargeBuffers() {
+        final StripedBufferPool pool = new StripedBufferPool(16, 1);
+
+        final byte[] large = pool.acquire(17);
+        assertEquals(17, large.length);
+        pool.release(large);
+
+        final byte[] slab = pool.acquire(16);
+        assertEquals(16, slab.length);
+        assertEquals(2, pool.getMissCount());
+
+        pool.release(slab);
+        pool.release(new byte[16]); // pool is full already
+        assertSame(slab, pool.acquire(8));
+        assertEquals(1, pool.getHitCount());
+    }
+
     @Test
     public void testEnableBuffering() {
         CommittingOutputStream cos = new CommittingOutputStream();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,12 @@
 
 package org.glassfish.jersey.tests.e2e.common.process.internal;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.glassfish.jersey.inject.hk2.Hk2RequestScope;
 import org.glassfish.jersey.internal.inject.ForeignDescriptor;
@@ -27,7 +32,11 @@ import org.glassfish.hk2.utilities.AbstractActiveDescriptor;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -140,6 +149,74 @@ public class RequestScopeTest {
         assertNull(instance.get(inhab));
     }
 
+    @Test
+    public void testScopedValuesScopeWithImplicitInstance() throws Exception {
+        final RequestScope requestScope = new Hk2RequestScope();
+        requestScope.useScopedValues();
+        assertTrue(requestScope.isUsingScopedValues());
+        assertNull(requestScope.suspendCurrent());
+        ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        final Hk2RequestScope.Instance instance = requestScope.runInScope(() -> {
+            final Hk2RequestScope.Instance internalInstance = (Hk2RequestScope.Instance) requestScope.suspendCurrent();
+            assertNull(internalInstance.get(inhab));
+            internalInstance.put(inhab, "1");
+            assertEquals("1", internalInstance.get(inhab));
+            assertTrue(internalInstance.contains(inhab));
+            return internalInstance;
+        });
+        assertNull(requestScope.suspendCurrent());
+        assertEquals("1", instance.get(inhab));
+        instance.release();
+        assertNull(instance.get(inhab));
+        assertFalse(instance.contains(inhab));
+    }
+
+    @Test
+    public void testScopedValuesNestedScopes() throws Exception {
+        final RequestScope requestScope = new Hk2RequestScope();
+        requestScope.useScopedValues();
+        ForeignDescriptor inhab = ForeignDescriptor.wrap(new TestProvider("a"));
+        final Hk2RequestScope.Instance context = (Hk2RequestScope.Instance) requestScope.createContext();
+        context.put(inhab, "1");
+        requestScope.runInScope(context, () -> {
+            assertSame(context, requestScope.current());
+            requestScope.runInScope(() -> {
+                final Hk2RequestScope.Instance nested = (Hk2RequestScope.Instance) requestScope.current();
+                assertNotSame(context, nested);
+                assertNull(nested.get(inhab));
+            });
+            assertSame(context, requestScope.current());
+        });
+        assertEquals("1", context.get(inhab));
+        context.release();
+        assertNull(context.get(inhab));
+    }
+
+    @Test
+    public void testScopedValuesCallableException() {
+        final RequestScope requestScope = new Hk2RequestScope();
+        requestScope.useScopedValues();
+        final Exception exception = assertThrows(IOException.class, () -> requestScope.runInScope((Callable<Object>) () -> {
+            throw new IOException("expected");
+        }));
+        assertEquals("expected", exception.getMessage());
+        assertNull(requestScope.suspendCurrent());
+    }
+
+    @Test
+    public void testScopedValuesDisposeOnRelease() {
+        final RequestScope requestScope = new Hk2RequestScope();
+        requestScope.useScopedValues();
+        final List<Object> disposed = new ArrayList<>();
+        final Hk2RequestScope.Instance context = (Hk2RequestScope.Instance) requestScope.createContext();
+        final TestProvider another = new TestProvider("b");
+        another.setName("b");
+        context.put(ForeignDescriptor.wrap(new TestProvider("a"), disposed::add), "1");
+        context.put(ForeignDescriptor.wrap(another, disposed::add), "2");
+        context.release();
+        assertEquals(Arrays.asList("1", "2"), disposed);
+    }
+
     /**
      * Test request scope inhabitant.
      */
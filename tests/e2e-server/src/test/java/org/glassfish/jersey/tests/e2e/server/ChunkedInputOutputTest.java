@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -55,6 +58,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public class ChunkedInputOutputTest extends JerseyTest {
     private static final Logger LOGGER = Logger.getLogger(ChunkedInputOutputTest.class.getName());
 
+    private static final int PRODUCERS = 4;
+    private static final int CHUNKS_PER_PRODUCER = 250;
+    private static final AtomicBoolean BACKPRESSURED_BEFORE_THRESHOLD = new AtomicBoolean(true);
+    private static final AtomicBoolean BACKPRESSURED_AT_THRESHOLD = new AtomicBoolean(false);
+
     /**
      * Test resource.
      */
@@ -72,6 +80,84 @@ public class ChunkedInputOutputTest extends JerseyTest {
                              .chunkDelimiter("\r\n".getBytes()).build());
         }
 
+        /**
+         * Get chunk stream written in the batched mode.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/batched")
+        public ChunkedOutput<String> getBatched() {
+            return getOutput(ChunkedOutput.<String>builder(String.class).batched(0, 0, TimeUnit.MILLISECONDS)
+                             .chunkDelimiter("\r\n".getBytes()).build());
+        }
+
+        /**
+         * Get chunk stream written in the batched mode, flushed by the batching latency.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/batchedLatency")
+        public ChunkedOutput<String> getBatchedLatency() {
+            return getOutput(ChunkedOutput.<String>builder(String.class).batched(1024, 50, TimeUnit.MILLISECONDS)
+                             .chunkDelimiter("\r\n".getBytes()).build());
+        }
+
+        /**
+         * Get chunk stream written in the batched mode by concurrent producers.
+         *
+         * @return chunk stream.
+         */
+        @GET
+        @Path("/batchedConcurrent")
+        public ChunkedOutput<String> getBatchedConcurrent() {
+            final ChunkedOutput<String> output = ChunkedOutput.<String>builder(String.class).batched(64, 1, TimeUnit.MILLISECONDS)
+                    .chunkDelimiter("\r\n".getBytes()).build();
+            final CountDownLatch done = new CountDownLatch(PRODUCERS);
+            for (int i = 0; i < PRODUCERS; i++) {
+                new Thread(() -> {
+                    try {
+                        for (int j = 0; j < CHUNKS_PER_PRODUCER; j++) {
+                            output.write("test");
+                        }
+                    } catch (final IOException e) {
+                        LOGGER.log(Level.SEVERE, "Error writing chunk.", e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            new Thread(() -> {
+                try {
+                    done.await();
+                    output.close();
+                } catch (final InterruptedException | IOException e) {
+                    LOGGER.log(Level.INFO, "Error closing chunked output.", e);
+                }
+            }).start();
+            return output;
+        }
+
+        /**
+         * Get chunk stream with chunks queued over the backpressure threshold.
+         *
+         * @return chunk stream.
+         * @throws IOException in case of a failure writing the chunks.
+         */
+        @GET
+        @Path("/backpressured")
+        public ChunkedOutput<String> getBackpressured() throws IOException {
+            final ChunkedOutput<String> output = ChunkedOutput.<String>builder(String.class).batched(0, 0, TimeUnit.MILLISECONDS)
+                    .backpressureThreshold(2).chunkDelimiter("\r\n".getBytes()).build();
+            output.write("test");
+            BACKPRESSURED_BEFORE_THRESHOLD.set(output.isBackpressured());
+            output.write("test");
+            BACKPRESSURED_AT_THRESHOLD.set(output.isBackpressured());
+            output.close();
+            return output;
+        }
+
         /**
          * Get chunk stream.
          *
@@ -215,6 +301,52 @@ public class ChunkedInputOutputTest extends JerseyTest {
                 "Unexpected value of chunked response unmarshalled as a single string.");
     }
 
+    /**
+     * Test retrieving chunked response stream written in the batched mode.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testBatchedChunkedOutputToSingleString() throws Exception {
+        assertEquals("test\r\ntest\r\ntest\r\n", target().path("test/batched").request().get(String.class),
+                "Unexpected value of chunked response unmarshalled as a single string.");
+        assertEquals("test\r\ntest\r\ntest\r\n", target().path("test/batchedLatency").request().get(String.class),
+                "Unexpected value of chunked response unmarshalled as a single string.");
+    }
+
+    /**
+     * Test retrieving chunked response stream written in the batched mode by concurrent producers.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testBatchedConcurrentChunkedOutputToChunkInput() throws Exception {
+        final ChunkedInput<String> input = target().path("test/batchedConcurrent").request()
+                .get(new GenericType<ChunkedInput<String>>() {
+                });
+
+        int counter = 0;
+        String chunk;
+        while ((chunk = input.read()) != null) {
+            assertEquals("test", chunk, "Unexpected value of chunk " + counter);
+            counter++;
+        }
+
+        assertEquals(PRODUCERS * CHUNKS_PER_PRODUCER, counter, "Unexpected numbed of received chunks.");
+    }
+
+    /**
+     * Test the backpressure signal of the chunked output.
+     *
+     * @throws Exception in case of a failure during the test execution.
+     */
+    @Test
+    public void testBackpressure() throws Exception {
+        assertEquals("test\r\ntest\r\n", target().path("test/backpressured").request().get(String.class));
+        assertEquals(false, BACKPRESSURED_BEFORE_THRESHOLD.get());
+        assertEquals(true, BACKPRESSURED_AT_THRESHOLD.get());
+    }
+
     /**
      * Test retrieving chunked response stream sequentially as individual chunks using chunked input.
      *
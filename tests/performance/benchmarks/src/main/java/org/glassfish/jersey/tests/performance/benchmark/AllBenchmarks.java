@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,15 @@ public class AllBenchmarks {
                 .include(LocatorBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
                 .include(HeadersServerBenchmark.class.getName())
+                .include(PipelineRoutingBenchmark.class.getSimpleName())
+                .include(PipelineParamBenchmark.class.getSimpleName())
+                .include(PipelineFilterBenchmark.class.getSimpleName())
+                .include(PipelineExceptionBenchmark.class.getSimpleName())
+                .include(PipelineAsyncBenchmark.class.getSimpleName())
+                .include(PipelineEntityBenchmark.class.getSimpleName())
+                .include(JaxbBenchmark.class.getSimpleName())
+                .include(NettyTransportBenchmark.class.getSimpleName())
+                .include(VirtualThreadDispatchBenchmark.class.getSimpleName())
                 // Measure throughput in seconds (ops/s).
                 .mode(Mode.Throughput)
                 .timeUnit(TimeUnit.SECONDS)
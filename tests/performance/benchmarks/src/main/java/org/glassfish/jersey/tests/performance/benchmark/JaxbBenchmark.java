@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.EntityResource;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JAXB entity reading and writing in the server request pipeline (the {@code mbw-xml-jaxb} case) with the JAXB
+ * marshaller and unmarshaller pooling disabled ({@code poolSize} {@code 0}) and enabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JaxbBenchmark {
+
+    private static final byte[] XML = ("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<item><id>42</id><name>item</name><price>4.2</price>"
+            + "<tags>pipeline</tags><tags>benchmark</tags><tags>entity</tags></item>").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"0", "16"})
+    private int poolSize;
+
+    private volatile Pipeline pipeline;
+
+    @Setup
+    public void start() {
+        pipeline = new Pipeline(new ResourceConfig(EntityResource.class)
+                .property(MessageProperties.JAXB_POOL_SIZE, poolSize));
+    }
+
+    @Benchmark
+    public int write() throws Exception {
+        return pipeline.status(pipeline.request("entity/item", "GET")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML));
+    }
+
+    @Benchmark
+    public int readWrite() throws Exception {
+        return pipeline.status(pipeline.request("entity/item", "POST", MediaType.APPLICATION_XML, XML)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(JaxbBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,13 @@
 
 package org.glassfish.jersey.tests.performance.benchmark;
 
+import java.net.URI;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.MatchResult;
 
+import org.glassfish.jersey.uri.PathPattern;
+import org.glassfish.jersey.uri.PathTemplate;
+import org.glassfish.jersey.uri.UriTemplate;
 import org.glassfish.jersey.uri.internal.JerseyUriBuilder;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -36,7 +41,7 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * {@link JerseyUriBuilder} benchmark for parsing templates.
+ * {@link JerseyUriBuilder} benchmark for parsing, matching and expanding templates.
  *
  * @author David Schlosnagle
  */
@@ -48,14 +53,24 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @State(Scope.Benchmark)
 public class JerseyUriBuilderBenchmark {
 
-    @Param(value = {"http://localhost:8080/a/b/c", "https://localhost:443/{a}/{b}/{c:.+}"})
+    private static final String[] VALUES = new String[] {"x", "y", "z/w"};
+
+    @Param(value = {"http://localhost:8080/a/b/c", "https://localhost:443/{a}/{b}/{c:.+}", "http://localhost:8080/{a}/{b}/{c}"})
     private String uriTemplate;
 
     private volatile JerseyUriBuilder uriBuilder;
+    private volatile UriTemplate template;
+    private volatile PathPattern pathPattern;
+    private volatile String path;
 
     @Setup
     public void start() throws Exception {
         uriBuilder = new JerseyUriBuilder();
+        template = new UriTemplate(uriTemplate);
+
+        final String pathTemplate = uriTemplate.substring(uriTemplate.indexOf('/', "https://".length()));
+        pathPattern = new PathPattern(new PathTemplate(pathTemplate));
+        path = new UriTemplate(pathTemplate).createURI(VALUES) + "/d";
     }
 
     @Benchmark
@@ -63,6 +78,21 @@ public class JerseyUriBuilderBenchmark {
         return uriBuilder.uri(uriTemplate);
     }
 
+    @Benchmark
+    public URI build() throws Exception {
+        return new JerseyUriBuilder().uri(uriTemplate).build((Object[]) VALUES);
+    }
+
+    @Benchmark
+    public String createUri() throws Exception {
+        return template.createURI(VALUES);
+    }
+
+    @Benchmark
+    public MatchResult match() throws Exception {
+        return pathPattern.match(path);
+    }
+
     public static void main(final String[] args) throws Exception {
         final Options opt = new OptionsBuilder()
                 // Register our benchmarks.
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.netty.connector.NettyClientProperties;
+import org.glassfish.jersey.netty.connector.NettyConnectorProvider;
+import org.glassfish.jersey.netty.httpserver.NettyHttpContainerProvider;
+import org.glassfish.jersey.netty.httpserver.NettyServerProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.netty.channel.Channel;
+
+/**
+ * Netty container and connector throughput over the NIO and the native Netty transports.
+ * <p>
+ * The native transports are available on Linux only, NIO is used as a fallback elsewhere.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class NettyTransportBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost:9010/");
+
+    @Param({"nio", "epoll"})
+    private String transport;
+
+    @Param({"1", "4"})
+    private int acceptors;
+
+    private volatile Channel server;
+    private volatile Client client;
+    private volatile WebTarget target;
+
+    @Path("transport")
+    public static class TransportResource {
+
+        @GET
+        public String get() {
+            return "transport";
+        }
+    }
+
+    @Setup
+    public void start() throws Exception {
+        final ResourceConfig config = new ResourceConfig(TransportResource.class)
+                .property(NettyServerProperties.TRANSPORT, transport)
+                .property(NettyServerProperties.ACCEPTORS, acceptors);
+        server = NettyHttpContainerProvider.createServer(BASE_URI, config, false);
+
+        client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new NettyConnectorProvider())
+                .property(NettyClientProperties.TRANSPORT, transport));
+        target = client.target(BASE_URI).path("transport");
+    }
+
+    @TearDown
+    public void shutdown() throws Exception {
+        client.close();
+        server.close().sync();
+    }
+
+    @Benchmark
+    public String get() {
+        return target.request().get(String.class);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(NettyTransportBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the server request pipeline benchmarks with the {@link GCProfiler allocation profiler}.
+ * <p>
+ * The results are written in CSV format to the file given as the first argument ({@code target/pipeline.csv}
+ * by default) to be compared with the {@code baselines/pipeline-gc.csv} baseline, see README.md.
+ * Additional arguments are passed to the JMH as regular expressions of the benchmarks to be run.
+ * </p>
+ */
+public class PipelineBenchmarks {
+
+    private static final String[] BENCHMARKS = {
+            PipelineRoutingBenchmark.class.getSimpleName(),
+            PipelineParamBenchmark.class.getSimpleName(),
+            PipelineFilterBenchmark.class.getSimpleName(),
+            PipelineExceptionBenchmark.class.getSimpleName(),
+            PipelineAsyncBenchmark.class.getSimpleName(),
+            PipelineEntityBenchmark.class.getSimpleName()
+    };
+
+    public static void main(final String[] args) throws Exception {
+        final OptionsBuilder builder = new OptionsBuilder();
+        if (args.length > 1) {
+            for (int i = 1; i < args.length; i++) {
+                builder.include(args[i]);
+            }
+        } else {
+            for (final String benchmark : BENCHMARKS) {
+                builder.include(benchmark);
+            }
+        }
+
+        final Options opt = builder
+                // Measure allocations per operation (gc.alloc.rate.norm).
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(args.length > 0 ? args[0] : "target/pipeline.csv")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.EntityResource;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entity reading and writing in the server request pipeline, per media type and entity provider:
+ * {@code String}, {@code byte[]}, a bean serialized by Jackson and a bean serialized by JAXB.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineEntityBenchmark {
+
+    private static final String JSON = "{\"id\":42,\"name\":\"item\",\"price\":4.2,"
+            + "\"tags\":[\"pipeline\",\"benchmark\",\"entity\"]}";
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<item><id>42</id><name>item</name><price>4.2</price>"
+            + "<tags>pipeline</tags><tags>benchmark</tags><tags>entity</tags></item>";
+
+    @Param({MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    private String mediaType;
+
+    private volatile Pipeline pipeline;
+    private String path;
+    private byte[] entity;
+
+    @Setup
+    public void start() {
+        pipeline = new Pipeline(new PipelineApplication());
+
+        switch (mediaType) {
+            case MediaType.TEXT_PLAIN:
+                path = "entity/text";
+                entity = EntityResource.TEXT.getBytes(StandardCharsets.UTF_8);
+                break;
+            case MediaType.APPLICATION_OCTET_STREAM:
+                path = "entity/bytes";
+                entity = EntityResource.BYTES;
+                break;
+            case MediaType.APPLICATION_JSON:
+                path = "entity/item";
+                entity = JSON.getBytes(StandardCharsets.UTF_8);
+                break;
+            case MediaType.APPLICATION_XML:
+                path = "entity/item";
+                entity = XML.getBytes(StandardCharsets.UTF_8);
+                break;
+            default:
+                throw new IllegalArgumentException(mediaType);
+        }
+    }
+
+    @Benchmark
+    public int write() throws Exception {
+        return pipeline.status(pipeline.request(path, "GET").header(HttpHeaders.ACCEPT, mediaType));
+    }
+
+    @Benchmark
+    public int readWrite() throws Exception {
+        return pipeline.status(pipeline.request(path, "POST", mediaType, entity).header(HttpHeaders.ACCEPT, mediaType));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(PipelineEntityBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
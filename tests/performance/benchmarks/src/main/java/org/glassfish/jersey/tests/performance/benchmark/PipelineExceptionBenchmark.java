@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Exception mapping stage of the server request pipeline: a {@link javax.ws.rs.WebApplicationException} thrown
+ * by a resource method, an exception mapped by an {@link javax.ws.rs.ext.ExceptionMapper} and a request
+ * not matched by any resource.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineExceptionBenchmark {
+
+    private volatile Pipeline pipeline;
+
+    @Setup
+    public void start() {
+        pipeline = new Pipeline(new PipelineApplication());
+    }
+
+    @Benchmark
+    public int webApplicationException() throws Exception {
+        return pipeline.status(pipeline.request("exception/webapp", "GET"));
+    }
+
+    @Benchmark
+    public int mappedException() throws Exception {
+        return pipeline.status(pipeline.request("exception/mapped", "GET"));
+    }
+
+    @Benchmark
+    public int notFound() throws Exception {
+        return pipeline.status(pipeline.request("exception/missing", "GET"));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(PipelineExceptionBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.BenchmarkFilters;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Filter and interceptor stage of the server request pipeline: the same resource methods invoked
+ * without and with name bound request filter, response filter and reader/writer interceptor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineFilterBenchmark {
+
+    private static final byte[] ENTITY = "Hello World!".getBytes(StandardCharsets.UTF_8);
+
+    private volatile Pipeline pipeline;
+
+    @Setup
+    public void start() {
+        pipeline = new Pipeline(new PipelineApplication());
+    }
+
+    @Benchmark
+    public int get() throws Exception {
+        return pipeline.status(pipeline.request("filtered/none", "GET"));
+    }
+
+    @Benchmark
+    public int getFiltered() throws Exception {
+        return pipeline.status(pipeline.request("filtered", "GET")
+                .header(BenchmarkFilters.REQUEST_HEADER, "pipeline"));
+    }
+
+    @Benchmark
+    public int post() throws Exception {
+        return pipeline.status(pipeline.request("filtered/none", "POST", MediaType.TEXT_PLAIN, ENTITY));
+    }
+
+    @Benchmark
+    public int postFiltered() throws Exception {
+        return pipeline.status(pipeline.request("filtered", "POST", MediaType.TEXT_PLAIN, ENTITY)
+                .header(BenchmarkFilters.REQUEST_HEADER, "pipeline"));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(PipelineFilterBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parameter injection stage of the server request pipeline: {@code @PathParam}, {@code @QueryParam}
+ * and {@code @BeanParam} injected resource method parameters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineParamBenchmark {
+
+    private volatile Pipeline pipeline;
+
+    @Setup
+    public void start() {
+        pipeline = new Pipeline(new PipelineApplication());
+    }
+
+    @Benchmark
+    public int pathParam() throws Exception {
+        return pipeline.status(pipeline.request("params/42/path", "GET"));
+    }
+
+    @Benchmark
+    public int queryParam() throws Exception {
+        return pipeline.status(pipeline.request("params/42/query?q=jersey&page=3", "GET"));
+    }
+
+    @Benchmark
+    public int beanParam() throws Exception {
+        return pipeline.status(pipeline.request("params/42/bean?q=jersey&page=3", "GET")
+                .header("X-Request-Id", "pipeline"));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(PipelineParamBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
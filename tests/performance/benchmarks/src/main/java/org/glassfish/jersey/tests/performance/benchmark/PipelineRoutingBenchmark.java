@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.Pipeline;
+import org.glassfish.jersey.tests.performance.benchmark.pipeline.PipelineApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Routing stage of the server request pipeline: matching among many sibling resources (breadth)
+ * and through a chain of sub-resource locators (depth).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class PipelineRoutingBenchmark {
+
+    /**
+     * Application with a configurable number of sibling resources.
+     */
+    @State(Scope.Benchmark)
+    public static class Broad {
+
+        @Param({"1", "16", "256"})
+        private int breadth;
+
+        private Pipeline pipeline;
+        private String path;
+
+        @Setup
+        public void start() {
+            pipeline = new Pipeline(new PipelineApplication(breadth));
+            // the last registered sibling
+            path = "routing/broad/r" + (breadth - 1);
+        }
+    }
+
+    /**
+     * Request path matched through a configurable number of sub-resource locators.
+     */
+    @State(Scope.Benchmark)
+    public static class Deep {
+
+        @Param({"1", "4", "16"})
+        private int depth;
+
+        private Pipeline pipeline;
+        private String path;
+
+        @Setup
+        public void start() {
+            pipeline = new Pipeline(new PipelineApplication());
+
+            final StringBuilder sb = new StringBuilder("routing/deep");
+            for (int i = 0; i < depth; i++) {
+                sb.append("/s").append(i);
+            }
+            path = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public int broad(final Broad state) throws Exception {
+        return state.pipeline.status(state.pipeline.request(state.path, "GET"));
+    }
+
+    @Benchmark
+    public int deep(final Deep state) throws Exception {
+        return state.pipeline.status(state.pipeline.request(state.path, "GET"));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(PipelineRoutingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+
+import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * JDK HTTP container throughput of a blocking resource method with the requests dispatched to the platform threads
+ * and to a new virtual thread per request ({@link ServerProperties#VIRTUAL_THREAD_PER_REQUEST}).
+ * <p>
+ * The virtual threads are used on JDK 21+ only, both variants dispatch to the platform threads otherwise.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class VirtualThreadDispatchBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost:9011/");
+
+    @Param({"false", "true"})
+    private boolean virtual;
+
+    private volatile HttpServer server;
+    private volatile Client client;
+    private volatile WebTarget target;
+
+    @Path("blocking")
+    public static class BlockingResource {
+
+        @GET
+        public String get() throws InterruptedException {
+            // simulates a call to a slow backend service
+            Thread.sleep(5);
+            return "blocking";
+        }
+    }
+
+    @Setup
+    public void start() throws Exception {
+        final ResourceConfig config = new ResourceConfig(BlockingResource.class)
+                .property(ServerProperties.VIRTUAL_THREAD_PER_REQUEST, virtual);
+        server = JdkHttpServerFactory.createHttpServer(BASE_URI, config);
+
+        client = ClientBuilder.newClient();
+        target = client.target(BASE_URI).path("blocking");
+    }
+
+    @TearDown
+    public void shutdown() throws Exception {
+        client.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String get() {
+        return target.request().get(String.class);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(VirtualThreadDispatchBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
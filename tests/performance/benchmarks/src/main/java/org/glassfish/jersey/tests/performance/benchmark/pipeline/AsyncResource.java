@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ManagedAsync;
+
+/**
+ * Asynchronous resource methods.
+ */
+@Path("async")
+@Produces(MediaType.TEXT_PLAIN)
+public class AsyncResource {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "pipeline-benchmark-async");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @GET
+    @Path("resume")
+    public void resume(@Suspended final AsyncResponse asyncResponse) {
+        asyncResponse.resume("resume");
+    }
+
+    @GET
+    @Path("executor")
+    public void executor(@Suspended final AsyncResponse asyncResponse) {
+        EXECUTOR.execute(() -> asyncResponse.resume("executor"));
+    }
+
+    @GET
+    @Path("managed")
+    @ManagedAsync
+    public String managed() {
+        return "managed";
+    }
+
+    @GET
+    @Path("stage")
+    public CompletionStage<String> stage() {
+        return CompletableFuture.completedFuture("stage");
+    }
+}
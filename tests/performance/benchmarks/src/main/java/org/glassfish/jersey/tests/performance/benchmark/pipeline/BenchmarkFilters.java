@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.IOException;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Lightweight {@link Filtered name bound} filters and interceptors so that a benchmark measures the cost
+ * of the filter and interceptor chains rather than of the filter logic.
+ */
+public final class BenchmarkFilters {
+
+    /**
+     * Request header inspected by the request filter.
+     */
+    public static final String REQUEST_HEADER = "X-Request-Id";
+
+    /**
+     * Response header added by the response filter.
+     */
+    public static final String RESPONSE_HEADER = "X-Filtered";
+
+    private BenchmarkFilters() {
+    }
+
+    /**
+     * Request filter copying a request header to a request property.
+     */
+    @Filtered
+    public static class RequestFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) {
+            requestContext.setProperty(REQUEST_HEADER, requestContext.getHeaderString(REQUEST_HEADER));
+        }
+    }
+
+    /**
+     * Response filter adding a response header.
+     */
+    @Filtered
+    public static class ResponseFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+            responseContext.getHeaders().putSingle(RESPONSE_HEADER, "true");
+        }
+    }
+
+    /**
+     * Reader and writer interceptor passing the entity through.
+     */
+    @Filtered
+    public static class EntityInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+        @Override
+        public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+            return context.proceed();
+        }
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+            context.proceed();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Resource matching an arbitrary number of path segments using a chain of sub-resource locators.
+ */
+@Path("routing/deep")
+public class DeepResource {
+
+    private final int depth;
+
+    public DeepResource() {
+        this(0);
+    }
+
+    private DeepResource(final int depth) {
+        this.depth = depth;
+    }
+
+    @Path("{segment}")
+    public DeepResource child() {
+        return new DeepResource(depth + 1);
+    }
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String get() {
+        return Integer.toString(depth);
+    }
+}
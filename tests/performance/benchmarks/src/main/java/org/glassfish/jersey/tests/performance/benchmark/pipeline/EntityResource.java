@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.util.Arrays;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Resource reading and writing entities of various media types.
+ */
+@Path("entity")
+public class EntityResource {
+
+    /**
+     * Returned text entity.
+     */
+    public static final String TEXT = "Hello World!";
+
+    /**
+     * Returned binary entity.
+     */
+    public static final byte[] BYTES = new byte[1024];
+
+    /**
+     * Returned bean entity.
+     */
+    public static final Item ITEM = new Item(42, "item", 4.2, Arrays.asList("pipeline", "benchmark", "entity"));
+
+    @GET
+    @Path("text")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String getText() {
+        return TEXT;
+    }
+
+    @POST
+    @Path("text")
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.TEXT_PLAIN)
+    public String postText(final String entity) {
+        return entity;
+    }
+
+    @GET
+    @Path("bytes")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public byte[] getBytes() {
+        return BYTES;
+    }
+
+    @POST
+    @Path("bytes")
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public byte[] postBytes(final byte[] entity) {
+        return entity;
+    }
+
+    @GET
+    @Path("item")
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Item getItem() {
+        return ITEM;
+    }
+
+    @POST
+    @Path("item")
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Item postItem(final Item entity) {
+        return entity;
+    }
+}
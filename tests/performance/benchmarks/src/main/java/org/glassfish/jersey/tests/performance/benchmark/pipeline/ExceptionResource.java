@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+/**
+ * Resource throwing exceptions which are turned into responses.
+ */
+@Path("exception")
+@Produces(MediaType.TEXT_PLAIN)
+public class ExceptionResource {
+
+    /**
+     * Exception mapped by the {@link MappedExceptionMapper}.
+     */
+    public static class MappedException extends RuntimeException {
+
+        public MappedException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Mapper of the {@link MappedException}.
+     */
+    public static class MappedExceptionMapper implements ExceptionMapper<MappedException> {
+
+        @Override
+        public Response toResponse(final MappedException exception) {
+            return Response.status(Response.Status.CONFLICT).entity(exception.getMessage()).build();
+        }
+    }
+
+    @GET
+    @Path("webapp")
+    public String webApplicationException() {
+        throw new NotFoundException();
+    }
+
+    @GET
+    @Path("mapped")
+    public String mappedException() {
+        throw new MappedException("mapped");
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.glassfish.jersey.server.ContainerException;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+
+/**
+ * In-memory {@link ContainerResponseWriter} which discards the response entity and only counts the written bytes,
+ * so that a benchmark measures the Jersey request pipeline rather than any I/O.
+ * <p>
+ * Suspend timeouts are not supported, the writer is expected to be used with resources resuming the response
+ * on their own.
+ * </p>
+ */
+public final class InMemoryResponseWriter implements ContainerResponseWriter {
+
+    private final EntityStream entityStream = new EntityStream();
+
+    private volatile int status;
+    private volatile Throwable error;
+    private volatile boolean completed;
+
+    @Override
+    public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse response)
+            throws ContainerException {
+        status = response.getStatus();
+        return entityStream;
+    }
+
+    @Override
+    public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+        return true;
+    }
+
+    @Override
+    public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) throws IllegalStateException {
+    }
+
+    @Override
+    public void commit() {
+        complete();
+    }
+
+    @Override
+    public void failure(final Throwable error) {
+        this.error = error;
+        complete();
+    }
+
+    @Override
+    public boolean enableResponseBuffering() {
+        return true;
+    }
+
+    private void complete() {
+        completed = true;
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Wait until the response is committed or the processing fails.
+     *
+     * @param timeout maximum time to wait in milliseconds.
+     * @return response status code.
+     * @throws Exception if the request processing failed or the response has not been committed in time.
+     */
+    public int await(final long timeout) throws Exception {
+        if (!completed) {
+            final long deadline = System.currentTimeMillis() + timeout;
+            synchronized (this) {
+                long remaining = timeout;
+                while (!completed && remaining > 0) {
+                    wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            }
+            if (!completed) {
+                throw new TimeoutException("Response has not been committed within " + timeout + " ms.");
+            }
+        }
+        if (error != null) {
+            throw new IllegalStateException("Request processing failed.", error);
+        }
+        return status;
+    }
+
+    /**
+     * Get the number of the response entity bytes written by the pipeline.
+     *
+     * @return number of the entity bytes.
+     */
+    public long getEntitySize() {
+        return entityStream.size;
+    }
+
+    private static final class EntityStream extends OutputStream {
+
+        private volatile long size;
+
+        @Override
+        public void write(final int b) {
+            size++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            size += len;
+        }
+    }
+}
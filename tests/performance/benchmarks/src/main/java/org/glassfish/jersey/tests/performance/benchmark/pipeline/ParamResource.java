@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import javax.ws.rs.BeanParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Resource injecting request parameters.
+ */
+@Path("params/{id}")
+@Produces(MediaType.TEXT_PLAIN)
+public class ParamResource {
+
+    /**
+     * Parameter aggregating bean.
+     */
+    public static class Bean {
+
+        @PathParam("id")
+        private int id;
+
+        @QueryParam("q")
+        private String query;
+
+        @QueryParam("page")
+        @DefaultValue("1")
+        private int page;
+
+        @HeaderParam("X-Request-Id")
+        private String requestId;
+    }
+
+    @GET
+    @Path("path")
+    public String path(@PathParam("id") final int id) {
+        return Integer.toString(id);
+    }
+
+    @GET
+    @Path("query")
+    public String query(@PathParam("id") final int id,
+                        @QueryParam("q") final String query,
+                        @QueryParam("page") @DefaultValue("1") final int page) {
+        return query + id + page;
+    }
+
+    @GET
+    @Path("bean")
+    public String bean(@BeanParam final Bean bean) {
+        return bean.query + bean.id + bean.page + bean.requestId;
+    }
+}
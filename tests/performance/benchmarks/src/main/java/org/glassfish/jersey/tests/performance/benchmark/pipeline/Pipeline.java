@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.security.Principal;
+
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.SecurityContext;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+/**
+ * Drives requests through {@link ApplicationHandler#handle(ContainerRequest)} with an {@link InMemoryResponseWriter},
+ * the same way a container does, but without any network or container I/O.
+ */
+public final class Pipeline {
+
+    /**
+     * Maximum time in milliseconds to wait for a (possibly asynchronous) response.
+     */
+    public static final long RESPONSE_TIMEOUT = 10_000;
+
+    private static final SecurityContext SECURITY_CONTEXT = new SecurityContext() {
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(final String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    };
+
+    private final ApplicationHandler handler;
+
+    /**
+     * Create the pipeline for the application.
+     *
+     * @param application application to be processed by the pipeline.
+     */
+    public Pipeline(final Application application) {
+        this.handler = new ApplicationHandler(application);
+    }
+
+    /**
+     * Create a request builder.
+     *
+     * @param path   request path relative to the application root.
+     * @param method request method.
+     * @return new request builder.
+     */
+    public ContainerRequestBuilder request(final String path, final String method) {
+        return ContainerRequestBuilder.from(path, method, handler.getConfiguration());
+    }
+
+    /**
+     * Create a request builder of a request with an entity.
+     *
+     * @param path        request path relative to the application root.
+     * @param method      request method.
+     * @param contentType request content type.
+     * @param entity      serialized request entity.
+     * @return new request builder.
+     */
+    public ContainerRequestBuilder request(final String path, final String method, final String contentType,
+                                           final byte[] entity) {
+        return request(path, method).type(contentType).entity(new ByteArrayInputStream(entity));
+    }
+
+    /**
+     * Process the request and wait for the response.
+     *
+     * @param builder request builder.
+     * @return writer of the committed response.
+     * @throws Exception if the request processing failed.
+     */
+    public InMemoryResponseWriter process(final ContainerRequestBuilder builder) throws Exception {
+        final ContainerRequest request = builder.build();
+        final InMemoryResponseWriter writer = new InMemoryResponseWriter();
+
+        request.setSecurityContext(SECURITY_CONTEXT);
+        request.setWriter(writer);
+        handler.handle(request);
+
+        writer.await(RESPONSE_TIMEOUT);
+        return writer;
+    }
+
+    /**
+     * Process the request and return the response status.
+     *
+     * @param builder request builder.
+     * @return response status code.
+     * @throws Exception if the request processing failed.
+     */
+    public int status(final ContainerRequestBuilder builder) throws Exception {
+        return process(builder).await(RESPONSE_TIMEOUT);
+    }
+
+    /**
+     * Get the underlying application handler.
+     *
+     * @return application handler.
+     */
+    public ApplicationHandler getHandler() {
+        return handler;
+    }
+}
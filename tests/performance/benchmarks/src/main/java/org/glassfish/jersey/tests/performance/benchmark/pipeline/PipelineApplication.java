@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+
+/**
+ * Application exercising the individual stages of the server request pipeline. Each stage is served
+ * by its own resource so that a benchmark of one stage is not affected by providers of another one:
+ * <ul>
+ * <li>{@code routing/broad/r{n}} - {@code breadth} sibling programmatic resources,</li>
+ * <li>{@code routing/deep/{segment}/...} - chain of sub-resource locators of an arbitrary depth,</li>
+ * <li>{@code params/{id}/...} - parameter injection ({@link ParamResource}),</li>
+ * <li>{@code filtered/...} - name bound filters and interceptors ({@link FilteredResource}),</li>
+ * <li>{@code exception/...} - exception mapping ({@link ExceptionResource}),</li>
+ * <li>{@code async/...} - asynchronous resources ({@link AsyncResource}),</li>
+ * <li>{@code entity/...} - entity reading and writing per media type ({@link EntityResource}).</li>
+ * </ul>
+ */
+public class PipelineApplication extends ResourceConfig {
+
+    /**
+     * Default number of the sibling routing resources.
+     */
+    public static final int DEFAULT_BREADTH = 16;
+
+    /**
+     * Create the application with the {@link #DEFAULT_BREADTH default} number of the sibling routing resources.
+     */
+    public PipelineApplication() {
+        this(DEFAULT_BREADTH);
+    }
+
+    /**
+     * Create the application.
+     *
+     * @param breadth number of the sibling routing resources.
+     */
+    public PipelineApplication(final int breadth) {
+        register(DeepResource.class);
+        register(ParamResource.class);
+        register(FilteredResource.class);
+        register(BenchmarkFilters.RequestFilter.class);
+        register(BenchmarkFilters.ResponseFilter.class);
+        register(BenchmarkFilters.EntityInterceptor.class);
+        register(ExceptionResource.class);
+        register(ExceptionResource.MappedExceptionMapper.class);
+        register(AsyncResource.class);
+        register(EntityResource.class);
+        register(JacksonFeature.class);
+
+        for (int i = 0; i < breadth; i++) {
+            final String entity = "r" + i;
+            final Resource.Builder resource = Resource.builder("routing/broad/" + entity);
+            resource.addMethod(HttpMethod.GET)
+                    .produces(MediaType.TEXT_PLAIN_TYPE)
+                    .handledBy(new ConstantInflector(entity));
+            registerResources(resource.build());
+        }
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+
+        property(ServerProperties.WADL_FEATURE_DISABLE, true);
+    }
+
+    private static class ConstantInflector implements Inflector<ContainerRequestContext, String> {
+
+        private final String entity;
+
+        private ConstantInflector(final String entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public String apply(final ContainerRequestContext requestContext) {
+            return entity;
+        }
+    }
+}
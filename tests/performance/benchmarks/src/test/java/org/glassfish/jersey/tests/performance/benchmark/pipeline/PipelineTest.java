@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.pipeline;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the requests issued by the pipeline benchmarks produce the expected responses.
+ */
+public class PipelineTest {
+
+    private final Pipeline pipeline = new Pipeline(new PipelineApplication(4));
+
+    private int status(final String path) throws Exception {
+        return pipeline.status(pipeline.request(path, "GET"));
+    }
+
+    private ContainerResponse response(final ContainerRequestBuilder builder) throws Exception {
+        final ContainerRequest request = builder.build();
+        return pipeline.getHandler().apply(request).get();
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        assertEquals(200, status("routing/broad/r0"));
+        assertEquals(200, status("routing/broad/r3"));
+        assertEquals(404, status("routing/broad/r4"));
+
+        final ContainerResponse response = response(pipeline.request("routing/deep/a/b/c", "GET"));
+        assertEquals("3", response.getEntity());
+    }
+
+    @Test
+    public void testParams() throws Exception {
+        assertEquals("42", response(pipeline.request("params/42/path", "GET")).getEntity());
+        assertEquals("jersey423", response(pipeline.request("params/42/query?q=jersey&page=3", "GET")).getEntity());
+        assertEquals("jersey421id", response(pipeline.request("params/42/bean?q=jersey", "GET")
+                .header("X-Request-Id", "id")).getEntity());
+    }
+
+    @Test
+    public void testFilters() throws Exception {
+        final byte[] entity = "entity".getBytes(StandardCharsets.UTF_8);
+
+        ContainerResponse response = response(pipeline.request("filtered/none", "POST", MediaType.TEXT_PLAIN, entity));
+        assertEquals("entity", response.getEntity());
+        assertEquals(null, response.getHeaderString(BenchmarkFilters.RESPONSE_HEADER));
+
+        response = response(pipeline.request("filtered", "POST", MediaType.TEXT_PLAIN, entity));
+        assertEquals("entity", response.getEntity());
+        assertEquals("true", response.getHeaderString(BenchmarkFilters.RESPONSE_HEADER));
+    }
+
+    @Test
+    public void testExceptions() throws Exception {
+        assertEquals(404, status("exception/webapp"));
+        assertEquals(409, status("exception/mapped"));
+        assertEquals(404, status("exception/missing"));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        assertEquals(200, status("async/resume"));
+        assertEquals(200, status("async/executor"));
+        assertEquals(200, status("async/managed"));
+        assertEquals(200, status("async/stage"));
+    }
+
+    @Test
+    public void testEntities() throws Exception {
+        final InMemoryResponseWriter text = pipeline.process(pipeline.request("entity/text", "GET"));
+        assertEquals(200, text.await(Pipeline.RESPONSE_TIMEOUT));
+        assertEquals(EntityResource.TEXT.length(), text.getEntitySize());
+
+        final InMemoryResponseWriter bytes = pipeline.process(pipeline.request("entity/bytes", "POST",
+                MediaType.APPLICATION_OCTET_STREAM, EntityResource.BYTES));
+        assertEquals(200, bytes.await(Pipeline.RESPONSE_TIMEOUT));
+        assertEquals(EntityResource.BYTES.length, bytes.getEntitySize());
+
+        for (final String mediaType : new String[] {MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML}) {
+            final ContainerResponse response = response(pipeline.request("entity/item", "GET")
+                    .header(HttpHeaders.ACCEPT, mediaType));
+            assertEquals(200, response.getStatus());
+            assertEquals(MediaType.valueOf(mediaType), response.getMediaType());
+
+            final InMemoryResponseWriter writer = pipeline.process(pipeline.request("entity/item", "GET")
+                    .header(HttpHeaders.ACCEPT, mediaType));
+            assertEquals(200, writer.await(Pipeline.RESPONSE_TIMEOUT));
+            assertTrue(writer.getEntitySize() > 0);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test of the JDK connector connection pool. An increasing number of threads sends requests to a single
+ * destination for a fixed time. The resource responds with a fixed latency, so the throughput is expected to scale with the
+ * number of threads up to the connection limit, and not to drop when more threads compete for the connections.
+ */
+public class DestinationConnectionPoolStressTest extends JerseyTest {
+
+    private static final Logger LOGGER = Logger.getLogger(DestinationConnectionPoolStressTest.class.getName());
+
+    private static final int MAX_CONNECTIONS = 20;
+    private static final int LATENCY_MILLIS = 50;
+    private static final long ROUND_MILLIS = 2000;
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64, 256};
+    // ideally 4x between the thread counts up to the connection limit
+    private static final double MIN_SCALING = 1.5;
+    // throughput kept by the thread counts above the connection limit
+    private static final double MIN_RETAINED = 0.5;
+
+    @Path("/pool")
+    public static class PoolResource {
+
+        // the response is delayed without blocking a server thread, so that the server does not limit the throughput
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).build());
+
+        @GET
+        public void get(@Suspended final AsyncResponse response) {
+            SCHEDULER.schedule(() -> response.resume("pool"), LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(PoolResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.connectorProvider(new JdkConnectorProvider());
+        config.property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, MAX_CONNECTIONS);
+    }
+
+    @Test
+    public void testScaling() throws Exception {
+        final WebTarget target = target("pool");
+        // warm-up, also opens the pool
+        runRequests(target, MAX_CONNECTIONS);
+
+        int previousThreads = 0;
+        double previous = 0;
+        double best = 0;
+        for (int threads : THREAD_COUNTS) {
+            final double throughput = runRequests(target, threads);
+
+            final ConnectionPoolStatistics statistics = statistics();
+            LOGGER.info(String.format("%d threads: %.0f requests/s, %s", threads, throughput, statistics));
+
+            assertTrue(statistics.getOpenConnections() <= MAX_CONNECTIONS, statistics.toString());
+            assertEquals(0, statistics.getPendingRequests(), statistics.toString());
+            if (threads <= MAX_CONNECTIONS && previousThreads > 0) {
+                assertTrue(throughput >= previous * MIN_SCALING, String.format(
+                        "%d threads: %.0f requests/s, %d threads: %.0f requests/s", previousThreads, previous, threads,
+                        throughput));
+            } else if (threads > MAX_CONNECTIONS) {
+                assertTrue(throughput >= best * MIN_RETAINED, String.format(
+                        "%d threads: %.0f requests/s, best: %.0f requests/s", threads, throughput, best));
+            }
+            previousThreads = threads;
+            previous = throughput;
+            best = Math.max(best, throughput);
+        }
+    }
+
+    /**
+     * Send the requests from the given number of threads for {@link #ROUND_MILLIS}.
+     *
+     * @return the number of requests per second.
+     */
+    private double runRequests(final WebTarget target, final int threads) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setDaemon(true).build());
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(ROUND_MILLIS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if ("pool".equals(target.request().get(String.class))) {
+                            completed.incrementAndGet();
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, failures.get());
+        return completed.get() / ((System.nanoTime() - start) / 1e9);
+    }
+    private ConnectionPoolStatistics statistics() {
+        final JdkConnector connector = (JdkConnector) ((ClientConfig) client().getConfiguration()).getConnector();
+        return connector.getConnectionPoolStatistics().get("http://localhost:" + getBaseUri().getPort());
+    }
+}